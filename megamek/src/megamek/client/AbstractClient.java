@@ -64,6 +64,7 @@ import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.preference.PreferenceManager;
@@ -140,7 +141,20 @@ public abstract class AbstractClient implements IClient {
     /** Attempt to connect to the specified host */
     @Override
     public boolean connect() {
-        connection = ConnectionFactory.getInstance().createClientConnection(host, port, 1);
+        return connect(ConnectionFactory.getInstance().createClientConnection(host, port, 1));
+    }
+
+    /**
+     * Connects using the given client connection instead of connecting to this client's host and port, e.g. a
+     * {@link megamek.common.net.connections.LoopbackConnection} to a server in the same JVM (see
+     * {@link megamek.server.Server#createLoopbackConnection()}).
+     *
+     * @param clientConnection the client connection to use; it is opened here
+     *
+     * @return true when the connection could be opened
+     */
+    public boolean connect(AbstractConnection clientConnection) {
+        connection = clientConnection;
         boolean result = connection.open();
         if (result) {
             connection.addConnectionListener(connectionListener);
@@ -466,6 +480,12 @@ public abstract class AbstractClient implements IClient {
             switch (packet.command()) {
                 case SERVER_GREETING:
                     connected = true;
+                    if ((connection != null) && (packet.getObject(0) instanceof Integer marshallingType)) {
+                        connection.setMarshallingType(marshallingType);
+                    }
+                    if ((connection != null) && (packet.getObject(1) instanceof Boolean streamCompression)) {
+                        connection.setStreamCompression(streamCompression);
+                    }
                     send(new Packet(PacketCommand.CLIENT_NAME, name, isBot()));
                     break;
                 case SERVER_CORRECT_NAME:
@@ -475,7 +495,10 @@ public abstract class AbstractClient implements IClient {
                     disconnected();
                     break;
                 case SERVER_VERSION_CHECK:
-                    send(new Packet(PacketCommand.CLIENT_VERSIONS, SuiteConstants.VERSION));
+                    send(new Packet(PacketCommand.CLIENT_VERSIONS,
+                          SuiteConstants.VERSION,
+                          PacketMarshallerFactory.getInstance().getPreferredMarshallingType(),
+                          true));
                     break;
                 case ILLEGAL_CLIENT_VERSION:
                     final Version serverVersion = (Version) packet.getObject(0);
@@ -146,6 +146,7 @@ public class Client extends AbstractClient {
 
     private Set<BoardDimensions> availableSizes = new TreeSet<>();
     private AbstractSkillGenerator skillGenerator;
+    private final EntityDeltaReceiver entityDeltaReceiver = new EntityDeltaReceiver();
 
     // FIXME: Should ideally be located elsewhere; the client should handle data, not gfx or UI-related stuff:
     private TilesetManager tilesetManager;
@@ -491,6 +492,13 @@ public class Client extends AbstractClient {
         send(new Packet(PacketCommand.ENTITY_UPDATE, entity));
     }
 
+    /**
+     * Asks the server to resend the given unit in full because a delta update of it could not be applied.
+     */
+    public void sendEntityUpdateResync(int entityId) {
+        send(new Packet(PacketCommand.ENTITY_UPDATE_RESYNC, entityId));
+    }
+
     /**
      * Sends a packet containing multiple entity updates. Should only be used in the lobby phase.
      */
@@ -569,6 +577,8 @@ public class Client extends AbstractClient {
         }
 
         game.setEntitiesVector(newEntities);
+        // Units that are gone will not be updated again
+        entityDeltaReceiver.retainEntities(game::hasEntity);
 
         // CRITICAL FIX: Reconstruct C3 networks from UUIDs (matches server-side handling)
         // This is necessary for lobby-configured networks (Naval C3, Nova CEWS, C3i)
@@ -664,6 +674,21 @@ public class Client extends AbstractClient {
         }
     }
 
+    /**
+     * Loads entity update data from a delta update; when the delta cannot be applied, a full update is requested.
+     */
+    protected void receiveEntityUpdateDelta(Packet packet) throws InvalidPacketDataException {
+        int entityIndex = packet.getIntValue(0);
+        Entity entity = entityDeltaReceiver.receive(packet);
+
+        if (entity != null) {
+            Vector<UnitLocation> movePath = packet.getUnitLocationVector(4);
+            getGame().setEntity(entityIndex, entity, movePath);
+        } else {
+            sendEntityUpdateResync(entityIndex);
+        }
+    }
+
     /**
      * Update multiple entities from the server. Used only in the lobby phase.
      */
@@ -690,6 +715,7 @@ public class Client extends AbstractClient {
 
         // Move the unit to its final resting place.
         game.removeEntities(entityIds, condition);
+        entityDeltaReceiver.remove(entityIds);
     }
 
     protected void receiveEntityVisibilityIndicator(Packet packet) throws InvalidPacketDataException {
@@ -1037,6 +1063,8 @@ public class Client extends AbstractClient {
         try {
             switch (packet.command()) {
                 case SERVER_GREETING:
+                    // The server starts over with the baselines of a (re-)connecting player
+                    entityDeltaReceiver.clear();
                     sendBotSettingsToServer();
                     break;
                 case PRINCESS_SETTINGS:
@@ -1045,6 +1073,9 @@ public class Client extends AbstractClient {
                 case ENTITY_UPDATE:
                     receiveEntityUpdate(packet);
                     break;
+                case ENTITY_UPDATE_DELTA:
+                    receiveEntityUpdateDelta(packet);
+                    break;
                 case ENTITY_MULTI_UPDATE:
                     receiveEntitiesUpdate(packet);
                     break;
@@ -1604,7 +1635,8 @@ public class Client extends AbstractClient {
             }
 
             game.reset();
-            send(new Packet(PacketCommand.LOAD_GAME, SerializationHelper.getLoadSaveGameXStream().fromXML(gzi)));
+            entityDeltaReceiver.clear();
+            send(new Packet(PacketCommand.LOAD_GAME, SerializationHelper.loadSaveGame(gzi)));
         } catch (Exception ex) {
             String message = String.format("Can't find the local savegame %s", f);
             LOGGER.error(ex, message);
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.net.marshalling.SanityInputFilter;
+import megamek.common.net.packets.InvalidPacketDataException;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Entity;
+import megamek.common.util.BinaryDelta;
+import megamek.logging.MMLogger;
+
+/**
+ * Client side of the delta unit updates ({@link megamek.common.net.enums.PacketCommand#ENTITY_UPDATE_DELTA}). Keeps
+ * the serialized state of each unit as last received, which is the baseline the server computes the next delta
+ * against, and restores units from the received deltas. The owner drops the baselines when it connects to a server
+ * or resets its game and drops those of units that leave the game, as the server does.
+ */
+public class EntityDeltaReceiver {
+    private static final MMLogger LOGGER = MMLogger.create(EntityDeltaReceiver.class);
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private final Map<Integer, byte[]> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * Restores the unit carried by the given ENTITY_UPDATE_DELTA packet. When this returns null, the delta could not be
+     * applied (missing baseline, checksum mismatch or a unit that cannot be read). The baseline of that unit is then
+     * dropped and the caller should request a resync from the server.
+     *
+     * @param packet the ENTITY_UPDATE_DELTA packet
+     *
+     * @return the updated unit or null if it could not be restored
+     */
+    public @Nullable Entity receive(Packet packet) throws InvalidPacketDataException {
+        int entityId = packet.getIntValue(0);
+        boolean isFull = packet.getBooleanValue(1);
+        byte[] data = (byte[]) packet.getObject(2);
+        int checksum = packet.getIntValue(3);
+
+        try {
+            byte[] serializedEntity;
+            if (isFull) {
+                serializedEntity = data;
+            } else {
+                byte[] baseline = baselines.get(entityId);
+                if (baseline == null) {
+                    LOGGER.warn("Received a delta update for unit {} without a baseline", entityId);
+                    return null;
+                }
+                serializedEntity = BinaryDelta.apply(baseline, data);
+            }
+
+            if (BinaryDelta.checksum(serializedEntity) != checksum) {
+                LOGGER.warn("Checksum mismatch in the delta update for unit {}", entityId);
+                baselines.remove(entityId);
+                return null;
+            }
+            baselines.put(entityId, serializedEntity);
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedEntity))) {
+                in.setObjectInputFilter(SANITY_INPUT_FILTER);
+                return (Entity) in.readObject();
+            }
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Failed to apply the delta update for unit {}", entityId);
+            baselines.remove(entityId);
+            return null;
+        }
+    }
+
+    /**
+     * Drops the baselines of the given units, e.g. when they have been removed from the game.
+     *
+     * @param entityIds the unit IDs
+     */
+    public void remove(Collection<Integer> entityIds) {
+        baselines.keySet().removeAll(entityIds);
+    }
+
+    /**
+     * Drops the baselines of all units that the given test rejects, e.g. units that are missing from a newly received
+     * list of all units.
+     *
+     * @param keepEntity the test of a unit ID; true to keep the baseline of that unit
+     */
+    public void retainEntities(IntPredicate keepEntity) {
+        baselines.keySet().removeIf(entityId -> !keepEntity.test(entityId));
+    }
+
+    /**
+     * @return the number of baselines kept
+     */
+    public int baselineCount() {
+        return baselines.size();
+    }
+
+    /** Drops all baselines, e.g. when connecting to a server or when the game is reset. */
+    public void clear() {
+        baselines.clear();
+    }
+}
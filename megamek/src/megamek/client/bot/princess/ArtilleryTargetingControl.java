@@ -535,10 +535,8 @@ public class ArtilleryTargetingControl {
             return 0;
         }
         int count = 0;
-        for (Iterator<Entity> enemies = game.getAllEnemyEntities(shooter); enemies.hasNext(); ) {
-            Entity enemy = enemies.next();
-            if (enemy.isDeployed() && !enemy.isOffBoard() && (enemy.getPosition() != null)
-                  && (centre.distance(enemy.getPosition()) <= MAX_ARTILLERY_BLAST_RADIUS)) {
+        for (Entity enemy : game.getEntitiesWithin(centre, MAX_ARTILLERY_BLAST_RADIUS)) {
+            if (enemy.isTargetable() && enemy.isEnemyOf(shooter) && enemy.isDeployed() && !enemy.isOffBoard()) {
                 count++;
             }
         }
@@ -906,11 +904,9 @@ public class ArtilleryTargetingControl {
                   && fireInfo.getAmmo().getType().getMunitionType().contains(Munitions.M_HOMING);
             int blastRadius = homing ? 0 : Math.max(0, (int) Math.ceil(weaponType.getRackSize() / 10.0) - 1);
             Coords impactHex = target.getPosition();
-            for (Iterator<Entity> enemies = game.getAllEnemyEntities(shooter); enemies.hasNext(); ) {
-                Entity enemy = enemies.next();
-                if (enemy.isDeployed() && !enemy.isOffBoard() && (enemy.getPosition() != null)
-                      && !enemy.isAirborne() && !enemy.isAirborneVTOLorWIGE()
-                      && (impactHex.distance(enemy.getPosition()) <= blastRadius)) {
+            for (Entity enemy : game.getEntitiesWithin(impactHex, blastRadius)) {
+                if (enemy.isTargetable() && enemy.isEnemyOf(shooter) && enemy.isDeployed() && !enemy.isOffBoard()
+                      && !enemy.isAirborne() && !enemy.isAirborneVTOLorWIGE()) {
                     coveredSetGrew |= volleyCoveredEnemyIds.add(enemy.getId());
                 }
             }
@@ -42,7 +42,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
@@ -114,14 +113,18 @@ public class BasicPathRanker extends PathRanker {
 
     private final FacingDiffCalculator facingDiffCalculator;
     private final UnitsMedianCoordinateCalculator unitsMedianCoordinateCalculator;
-    protected final DecimalFormat LOG_DECIMAL = new DecimalFormat("0.00", new DecimalFormatSymbols(Locale.US));
-    protected final NumberFormat LOG_PERCENT = NumberFormat.getPercentInstance();
+    // Formats are not thread-safe, and paths may be ranked on several threads at once, so each thread has its own
+    protected static final ThreadLocal<DecimalFormat> LOG_DECIMAL = ThreadLocal.withInitial(
+          () -> new DecimalFormat("0.00", new DecimalFormatSymbols(Locale.US)));
+    protected static final ThreadLocal<NumberFormat> LOG_PERCENT = ThreadLocal.withInitial(
+          NumberFormat::getPercentInstance);
 
     private PathEnumerator pathEnumerator;
 
     // The best damage enemies could expect were I not here. Used to determine whether they would focus on me.
     protected final Map<Integer, Double> bestDamageByEnemies;
 
+    // Whether black ice may form (1) or not (0); set by rankPaths before the paths may be ranked on several threads
     protected int blackIce = -1;
 
     // Per-spotter memory of the last priority target it positioned for, keyed by the spotter's entity id. Drives the
@@ -775,9 +778,27 @@ public class BasicPathRanker extends PathRanker {
         // avoids O(paths x enemies) Battle Value recalculations - each of which, for C3/C3i/Nova units, also
         // rescans the whole network and its ECM state (issue #8443).
         rankingPassBattleValueCache.clear();
-        rankingPassClusterAnchor = highestBvClusterPosition(enemies);
+        rankingPassClusterAnchor = highestBvClusterPosition(enemies, game);
+        rankingPassEnemyIds = entityIds(enemies);
+        rankingPassFriendIds = entityIds(getOwner().getFriendEntities());
         rankingPassSpotterPriority = null;
-        return super.rankPaths(movePaths, game, maxRange, fallTolerance, enemies, friends);
+        // State that rankPath would otherwise set up lazily is prepared here, before the paths may be ranked on
+        // several threads
+        checkBlackIce(game);
+        if (!movePaths.isEmpty()) {
+            getOwner().getUnitBehaviorTracker().getBehaviorType(movePaths.getFirst().getEntity(), getOwner());
+        }
+        try {
+            return super.rankPaths(movePaths, game, maxRange, fallTolerance, enemies, friends);
+        } finally {
+            rankingPassEnemyIds = null;
+            rankingPassFriendIds = null;
+        }
+    }
+
+    @Override
+    protected boolean supportsParallelRanking() {
+        return true;
     }
 
     /**
@@ -791,7 +812,7 @@ public class BasicPathRanker extends PathRanker {
      *
      * @return The cluster anchor position, or {@code null} if there are no deployed on-board enemies
      */
-    private @Nullable Coords highestBvClusterPosition(List<Entity> enemies) {
+    @Nullable Coords highestBvClusterPosition(List<Entity> enemies, Game game) {
         // Battle Value is expensive to compute (for C3 units it scans the whole network), so look it up in the
         // per-pass cache instead of recalculating per enemy.
         List<Entity> deployedEnemies = new ArrayList<>();
@@ -806,20 +827,38 @@ public class BasicPathRanker extends PathRanker {
         Coords clusterAnchor = null;
         double bestClusterValue = -1.0;
         for (Entity center : deployedEnemies) {
-            double clusterValue = 0.0;
-            for (Entity other : deployedEnemies) {
-                if (center.getPosition().distance(other.getPosition()) <= Compute.HOMING_RADIUS) {
-                    clusterValue += battleValueByEntityId.get(other.getId());
+            // The position index only visits the units near the center; those that are not deployed enemies have no
+            // cached Battle Value
+            double[] clusterValue = { 0.0 };
+            game.forEachEntityWithin(center.getPosition(), center.getBoardId(), Compute.HOMING_RADIUS, other -> {
+                Double battleValue = battleValueByEntityId.get(other.getId());
+                if (battleValue != null) {
+                    clusterValue[0] += battleValue;
                 }
-            }
-            if (clusterValue > bestClusterValue) {
-                bestClusterValue = clusterValue;
+            });
+            if (clusterValue[0] > bestClusterValue) {
+                bestClusterValue = clusterValue[0];
                 clusterAnchor = center.getPosition();
             }
         }
         return clusterAnchor;
     }
 
+    /**
+     * The ids of the enemies and friends of the current ranking pass, or null outside a ranking pass. Per-path scans
+     * for the units near a hex look these units up in the game's position index instead of going through all of them.
+     */
+    private Set<Integer> rankingPassEnemyIds;
+    private Set<Integer> rankingPassFriendIds;
+
+    private static Set<Integer> entityIds(List<Entity> entities) {
+        Set<Integer> ids = new HashSet<>();
+        for (Entity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
     /** Battle Values cached for the current ranking pass; see {@link #cachedBattleValue(Entity)}. */
     private final Map<Integer, Double> rankingPassBattleValueCache = new HashMap<>();
 
@@ -921,8 +960,10 @@ public class BasicPathRanker extends PathRanker {
      * @param game    The current game
      *
      * @return The {@link #determineSpotterPriorityTarget(Entity, List, Game)} result, computed once per ranking pass
+     *       (synchronized, as the paths of one pass may be ranked on several threads)
      */
-    private SpotterPriority spotterPriorityForThisPass(Entity spotter, List<Entity> enemies, Game game) {
+    private synchronized SpotterPriority spotterPriorityForThisPass(Entity spotter, List<Entity> enemies,
+          Game game) {
         if (rankingPassSpotterPriority == null) {
             rankingPassSpotterPriority = determineSpotterPriorityTarget(spotter, enemies, game);
         }
@@ -1420,10 +1461,6 @@ public class BasicPathRanker extends PathRanker {
           Coords friendsCoords) {
         Entity movingUnit = path.getEntity();
 
-        if (blackIce == -1) {
-            checkBlackIce(game);
-        }
-
         Map<String, Double> scores = new HashMap<>();
         // Copy the path to avoid inadvertent changes.
         MovePath pathCopy = path.clone();
@@ -1625,7 +1662,7 @@ public class BasicPathRanker extends PathRanker {
         var formula = new StringBuilder(256);
         var crowdingToleranceFormula = new StringBuilder(64);
 
-        double crowdingTolerance = calculateCrowdingTolerance(pathCopy, enemies, maxRange, crowdingToleranceFormula);
+        double crowdingTolerance = calculateCrowdingTolerance(pathCopy, maxRange, crowdingToleranceFormula);
 
         double selfPreservationMod = calculateSelfPreservationMod(movingUnit, pathCopy, game);
 
@@ -1648,46 +1685,46 @@ public class BasicPathRanker extends PathRanker {
         utility -= utility * offBoardMod;
 
         formula.append("Calculation: {fall mod [")
-              .append(LOG_DECIMAL.format(fallMod))
+              .append(LOG_DECIMAL.get().format(fallMod))
               .append(" = ")
-              .append(LOG_DECIMAL.format(1 - successProbability))
+              .append(LOG_DECIMAL.get().format(1 - successProbability))
               .append(" * ")
-              .append(LOG_DECIMAL.format(getOwner().getBehaviorSettings().getFallShameValue()))
+              .append(LOG_DECIMAL.get().format(getOwner().getBehaviorSettings().getFallShameValue()))
               .append("] + braveryMod [")
-              .append(LOG_DECIMAL.format(braveryMod))
+              .append(LOG_DECIMAL.get().format(braveryMod))
               .append(" = ")
-              .append(LOG_PERCENT.format(successProbability))
+              .append(LOG_PERCENT.get().format(successProbability))
               .append(" * ((")
-              .append(LOG_DECIMAL.format(damageEstimate.getMaximumDamageEstimate()))
+              .append(LOG_DECIMAL.get().format(damageEstimate.getMaximumDamageEstimate()))
               .append(" * ")
-              .append(LOG_DECIMAL.format(getOwner().getBehaviorSettings().getBraveryValue()))
+              .append(LOG_DECIMAL.get().format(getOwner().getBehaviorSettings().getBraveryValue()))
               .append(") - ")
-              .append(LOG_DECIMAL.format(expectedDamageTaken))
+              .append(LOG_DECIMAL.get().format(expectedDamageTaken))
               .append(")] - aggressionMod [")
-              .append(LOG_DECIMAL.format(aggressionMod))
+              .append(LOG_DECIMAL.get().format(aggressionMod))
               .append(" = ")
-              .append(LOG_DECIMAL.format(distanceToClosestEnemy(movingUnit, path.getFinalCoords(), game)))
+              .append(LOG_DECIMAL.get().format(distanceToClosestEnemy(movingUnit, path.getFinalCoords(), game)))
               .append(" * ")
-              .append(LOG_DECIMAL.format(getOwner().getBehaviorSettings().getHyperAggressionValue()))
+              .append(LOG_DECIMAL.get().format(getOwner().getBehaviorSettings().getHyperAggressionValue()))
               .append("; standoff: ").append(standoffBranch)
               .append(" standoffDist=").append(standoffDistance)
-              .append(" distToEnemy=").append(LOG_DECIMAL.format(distToEnemy))
-              .append(" curDist=").append(LOG_DECIMAL.format(standoffCurrentDist))
-              .append(" deficit=").append(LOG_DECIMAL.format(standoffDeficit));
+              .append(" distToEnemy=").append(LOG_DECIMAL.get().format(distToEnemy))
+              .append(" curDist=").append(LOG_DECIMAL.get().format(standoffCurrentDist))
+              .append(" deficit=").append(LOG_DECIMAL.get().format(standoffDeficit));
         if (!"none".equals(prioritySource)) {
             formula.append(" [TagPos] priority=").append(priorityTargetName)
                   .append("/").append(prioritySource)
-                  .append(" distToPriority=").append(LOG_DECIMAL.format(distToPriority))
-                  .append(" distToCluster=").append(LOG_DECIMAL.format(distToCluster))
+                  .append(" distToPriority=").append(LOG_DECIMAL.get().format(distToPriority))
+                  .append(" distToCluster=").append(LOG_DECIMAL.get().format(distToCluster))
                   .append(" losPriority=").append(losToPriority);
         }
         formula.append("] - herdingMod [");
         if (friendsCoords != null) {
-            formula.append(LOG_DECIMAL.format(herdingMod))
+            formula.append(LOG_DECIMAL.get().format(herdingMod))
                   .append(" = ")
-                  .append(LOG_DECIMAL.format(friendsCoords.distance(path.getFinalCoords())))
+                  .append(LOG_DECIMAL.get().format(friendsCoords.distance(path.getFinalCoords())))
                   .append(" * ")
-                  .append(LOG_DECIMAL.format(getOwner().getBehaviorSettings().getHerdMentalityValue()));
+                  .append(LOG_DECIMAL.get().format(getOwner().getBehaviorSettings().getHerdMentalityValue()));
         } else {
             formula.append("0 no friends");
         }
@@ -1858,8 +1895,8 @@ public class BasicPathRanker extends PathRanker {
      * <p>The crowding penalty is only applied to Meks and Tanks, as other unit types have different
      * tactical positioning requirements.
      *
-     * @param movePath The movement path being evaluated
-     * @param enemies  List of enemy units visible
+     * @param movePath The movement path being evaluated; the friends and enemies counted are those of the current
+     *                 ranking pass, or the owner's current ones when no ranking pass is under way
      * @param maxRange Entity's maximum weapon range
      * @param formula  StringBuilder to append the formula explanation for logging
      *
@@ -1867,8 +1904,7 @@ public class BasicPathRanker extends PathRanker {
      *
      * @author Luana Coppio
      */
-    protected double calculateCrowdingTolerance(MovePath movePath, List<Entity> enemies, double maxRange,
-          StringBuilder formula) {
+    protected double calculateCrowdingTolerance(MovePath movePath, double maxRange, StringBuilder formula) {
         var self = movePath.getEntity();
         formula.append(" crowdingTolerance ");
         if (!(self instanceof Mek) && !(self instanceof Tank)) {
@@ -1886,24 +1922,31 @@ public class BasicPathRanker extends PathRanker {
         final double herdingDistance = Math.ceil(antiCrowding * 1.3);
         final double closingDistance = Math.ceil(Math.max(3.0, maxRange * 0.6));
 
-        var crowdingFriends = getOwner().getFriendEntities()
-              .stream()
-              .filter(e -> movePath.getFinalBoardId() == e.getBoardId())
-              .filter(e -> e instanceof Mek || e instanceof Tank)
-              .filter(Entity::isDeployed)
-              .map(Entity::getPosition)
-              .filter(Objects::nonNull)
-              .filter(c -> c.distance(movePath.getFinalCoords()) <= herdingDistance)
-              .count();
-
-        var crowdingEnemies = enemies.stream()
-              .filter(e -> movePath.getFinalBoardId() == e.getBoardId())
-              .filter(e -> e instanceof Mek || e instanceof Tank)
-              .filter(Entity::isDeployed)
-              .map(Entity::getPosition)
-              .filter(Objects::nonNull)
-              .filter(c -> c.distance(movePath.getFinalCoords()) <= closingDistance)
-              .count();
+        // Only the units near the final position are looked at, via the game's position index
+        final Coords finalCoords = movePath.getFinalCoords();
+        final int scanDistance = (int) Math.max(herdingDistance, closingDistance);
+        // Outside a ranking pass, e.g. when a single path is ranked, the ids are collected for this path
+        final Set<Integer> friendIds = (rankingPassFriendIds != null)
+              ? rankingPassFriendIds
+              : entityIds(getOwner().getFriendEntities());
+        final Set<Integer> enemyIds = (rankingPassEnemyIds != null)
+              ? rankingPassEnemyIds
+              : entityIds(getOwner().getEnemyEntities());
+        int[] crowding = new int[2];
+        movePath.getGame().forEachEntityWithin(finalCoords, movePath.getFinalBoardId(), scanDistance, unit -> {
+            if (!(unit instanceof Mek || unit instanceof Tank) || !unit.isDeployed()) {
+                return;
+            }
+            int distance = finalCoords.distance(unit.getPosition());
+            if (friendIds.contains(unit.getId()) && (distance <= herdingDistance)) {
+                crowding[0]++;
+            }
+            if (enemyIds.contains(unit.getId()) && (distance <= closingDistance)) {
+                crowding[1]++;
+            }
+        });
+        final int crowdingFriends = crowding[0];
+        final int crowdingEnemies = crowding[1];
 
         double friendsCrowdingTolerance = antiCrowdingFactor * crowdingFriends;
         double enemiesCrowdingTolerance = antiCrowdingFactor * crowdingEnemies;
@@ -131,6 +131,7 @@ public class BehaviorSettings implements Serializable {
     public static final int MAX_ALLOW_FACING_TOLERANCE = 2;
     public static final int MIN_ALLOW_FACING_TOLERANCE = 0;
     public static final int DEFAULT_ALLOW_FACING_TOLERANCE = 1;
+    public static final int MAX_MOVEMENT_TIME_BUDGET = 600;
 
     private String description = BehaviorSettingsFactory.DEFAULT_BEHAVIOR_DESCRIPTION;
 
@@ -154,6 +155,7 @@ public class BehaviorSettings implements Serializable {
     private boolean iAmAPirate = false; // Am I a pirate?
     private boolean ignoreDamageOutput = false;
     private boolean experimental = false; // running experimental features?
+    private int movementTimeBudget = 0; // How many seconds may I spend planning a unit's move? 0 = no limit
     private final Set<Integer> ignoredUnitTargets = new HashSet<>();
     // endregion Variable Declarations
 
@@ -185,6 +187,7 @@ public class BehaviorSettings implements Serializable {
         copy.setIAmAPirate(iAmAPirate());
         copy.setIgnoreDamageOutput(isIgnoreDamageOutput());
         copy.setExperimental(isExperimental());
+        copy.setMovementTimeBudget(getMovementTimeBudget());
         getStrategicBuildingTargets().forEach(copy::addStrategicTarget);
         getPriorityUnitTargets().forEach(copy::addPriorityUnit);
         getIgnoredUnitTargets().forEach(copy::addIgnoredUnitTarget);
@@ -802,6 +805,30 @@ public class BehaviorSettings implements Serializable {
         }
     }
 
+    /**
+     * @return The wall-clock time in seconds that the movement planning of a single unit may take, 0 if there is no
+     *       limit. When the budget runs out, the unit takes the best of the paths evaluated so far, which are the
+     *       most promising ones.
+     */
+    public int getMovementTimeBudget() {
+        return movementTimeBudget;
+    }
+
+    /**
+     * @param movementTimeBudget The time in seconds the movement planning of a single unit may take, 0 for no limit
+     */
+    public void setMovementTimeBudget(int movementTimeBudget) {
+        this.movementTimeBudget = MathUtility.clamp(movementTimeBudget, 0, MAX_MOVEMENT_TIME_BUDGET);
+    }
+
+    public void setMovementTimeBudget(String movementTimeBudget) throws PrincessException {
+        try {
+            setMovementTimeBudget(Integer.parseInt(movementTimeBudget));
+        } catch (final NumberFormatException ex) {
+            throw new PrincessException(ex);
+        }
+    }
+
     /**
      * How close to I want to get to my enemies?
      *
@@ -914,6 +941,8 @@ public class BehaviorSettings implements Serializable {
                 setIgnoreDamageOutput(Boolean.parseBoolean(child.getTextContent()));
             } else if ("experimental".equalsIgnoreCase(child.getNodeName())) {
                 setExperimental(child.getTextContent());
+            } else if ("movementTimeBudget".equalsIgnoreCase(child.getNodeName())) {
+                setMovementTimeBudget(child.getTextContent());
             } else if ("strategicTargets".equalsIgnoreCase(child.getNodeName())) {
                 final NodeList targets = child.getChildNodes();
                 for (int j = 0; j < targets.getLength(); j++) {
@@ -1025,6 +1054,10 @@ public class BehaviorSettings implements Serializable {
             ignoreDamageOutput.setTextContent("" + isIgnoreDamageOutput());
             behavior.appendChild(ignoreDamageOutput);
 
+            final Element movementTimeBudgetNode = doc.createElement("movementTimeBudget");
+            movementTimeBudgetNode.setTextContent("" + getMovementTimeBudget());
+            behavior.appendChild(movementTimeBudgetNode);
+
             final Element targetsNode = doc.createElement("strategicBuildingTargets");
             if (includeTargets) {
                 for (final String t : getStrategicBuildingTargets()) {
@@ -1079,6 +1112,7 @@ public class BehaviorSettings implements Serializable {
         out.append("\n\t I am a Pirate: ").append(iAmAPirate());
         out.append("\n\t I Ignore Damage Output: ").append(isIgnoreDamageOutput());
         out.append("\n\t Experimental: ").append(isExperimental());
+        out.append("\n\t Movement Time Budget: ").append(getMovementTimeBudget());
         out.append("\n\t Targets:");
         out.append("\n\t\t Priority Coords: ");
         for (final String t : getStrategicBuildingTargets()) {
@@ -1144,6 +1178,8 @@ public class BehaviorSettings implements Serializable {
             return false;
         } else if (ignoreDamageOutput != that.ignoreDamageOutput) {
             return false;
+        } else if (movementTimeBudget != that.movementTimeBudget) {
+            return false;
         }
         return experimental == that.experimental;
     }
@@ -1171,6 +1207,7 @@ public class BehaviorSettings implements Serializable {
         result = 31 * result + (iAmAPirate ? 1 : 0);
         result = 31 * result + (experimental ? 1 : 0);
         result = 31 * result + (ignoreDamageOutput ? 1 : 0);
+        result = 31 * result + movementTimeBudget;
         return result;
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import megamek.common.compute.Compute;
+import megamek.server.Server;
+
+/**
+ * The fork/join pool shared by the parallel parts of Princess's move planning, such as path enumeration and path
+ * ranking. It is shared by all bots in this JVM and has one worker per core, less one that is left to the game and
+ * network threads.
+ */
+final class BotWorkerPool {
+
+    static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static volatile ForkJoinPool pool;
+
+    private BotWorkerPool() {
+    }
+
+    private static ForkJoinPool get() {
+        ForkJoinPool result = pool;
+        if (result == null) {
+            synchronized (BotWorkerPool.class) {
+                result = pool;
+                if (result == null) {
+                    // ForkJoinPool worker threads are daemon threads, so the pool never keeps the JVM alive
+                    result = new ForkJoinPool(PARALLELISM, WorkerThread::new, null, false);
+                    pool = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs the given tasks on the pool and waits for them to finish, see {@link ForkJoinPool#invokeAll(Collection)}.
+     * Each task runs with the server instance of the calling thread and with its own RNG, seeded from the calling
+     * thread's RNG, so that tasks of concurrently running games stay apart and a seeded game draws the same numbers
+     * however its tasks are scheduled.
+     *
+     * @param tasks the tasks
+     *
+     * @return the futures of the tasks, in the order of the tasks, all done
+     */
+    static <T> List<Future<T>> invokeAll(List<Callable<T>> tasks) {
+        List<Callable<T>> gameTasks = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            gameTasks.add(Server.withCurrentServerInstance(Compute.withThreadRNG(task)));
+        }
+        return get().invokeAll(gameTasks);
+    }
+
+    /**
+     * A worker that does not inherit the inheritable thread locals of the thread that happens to start it, such as the
+     * per-game RNG and server instance of concurrently running games. The pool is shared by the bots of all games; see
+     * {@link #invokeAll(List)} for how tasks get the RNG and server instance of their game.
+     */
+    private static final class WorkerThread extends ForkJoinWorkerThread {
+        WorkerThread(ForkJoinPool pool) {
+            super(null, pool, false);
+        }
+    }
+}
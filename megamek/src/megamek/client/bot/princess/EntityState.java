@@ -53,6 +53,7 @@ public class EntityState {
     private Coords position;
     private int facing;
     private int secondaryFacing; // to account for torso twists
+    private boolean armsFlipped;
     private int heat;
     private final int hexesMoved;
     private final boolean prone;
@@ -94,6 +95,7 @@ public class EntityState {
         jumping = (entity.moved == EntityMovementType.MOVE_JUMP);
         movementType = entity.moved;
         setSecondaryFacing(entity.getSecondaryFacing());
+        armsFlipped = entity.getArmsFlipped();
         building = false;
         aero = entity.isAero();
         airborne = entity.isAirborne() || entity.isAirborneVTOLorWIGE();
@@ -101,6 +103,27 @@ public class EntityState {
         naturalAptPilot = entity.hasAbility(OptionsConstants.PILOT_APTITUDE_PILOTING);
     }
 
+    /**
+     * Copies another entity state, so that its facing or arm position can be changed without affecting the original.
+     */
+    EntityState(EntityState other) {
+        position = other.position;
+        facing = other.facing;
+        secondaryFacing = other.secondaryFacing;
+        armsFlipped = other.armsFlipped;
+        heat = other.heat;
+        hexesMoved = other.hexesMoved;
+        prone = other.prone;
+        immobile = other.immobile;
+        jumping = other.jumping;
+        movementType = other.movementType;
+        building = other.building;
+        aero = other.aero;
+        airborne = other.airborne;
+        naturalAptGun = other.naturalAptGun;
+        naturalAptPilot = other.naturalAptPilot;
+    }
+
     /**
      * Initialize an entity state from a movement path
      */
@@ -179,6 +202,14 @@ public class EntityState {
         this.secondaryFacing = secondaryFacing;
     }
 
+    public boolean isArmsFlipped() {
+        return armsFlipped;
+    }
+
+    public void setArmsFlipped(boolean armsFlipped) {
+        this.armsFlipped = armsFlipped;
+    }
+
     public boolean isBuilding() {
         return building;
     }
@@ -340,6 +340,29 @@ public class FireControl {
             targetState = new EntityState(target);
         }
 
+        final FireControlCache cache = getFireControlCache();
+        if (null == cache) {
+            return calculateToHitModifierHelperForAnyAttack(shooter, shooterState, target, targetState, distance, game);
+        }
+        final EntityState finalShooterState = shooterState;
+        final EntityState finalTargetState = targetState;
+        final ToHitData cached = cache.getShotModifiers(
+              new FireControlCache.ShotKey(shooter.getId(), target, shooterState, targetState, distance),
+              () -> calculateToHitModifierHelperForAnyAttack(shooter, finalShooterState, target, finalTargetState,
+                    distance, game));
+        // Callers add their own modifiers to the result, so they get a copy of the shared entry
+        final ToHitData toHitData = new ToHitData();
+        toHitData.append(cached);
+        return toHitData;
+    }
+
+    private ToHitData calculateToHitModifierHelperForAnyAttack(final Entity shooter,
+          final EntityState shooterState,
+          final Targetable target,
+          final EntityState targetState,
+          final int distance,
+          final Game game) {
+
         // Can't shoot if one of us has not got a position (n.b.: off-board units have positions, but not hexes).
         if ((null == shooterState.getPosition()) || (null == targetState.getPosition())) {
             return new ToHitData(TH_NULL_POSITION);
@@ -751,6 +774,34 @@ public class FireControl {
               (Mek.COCKPIT_SUPERHEAVY_TRIPOD == targetMek.getCockpitType());
     }
 
+    /**
+     * Returns the line of sight modifiers for a weapon attack from the given shooter position on the target at the
+     * given position, including the partial cover of a Mek standing in depth 1 water.
+     */
+    private ToHitData guessLosModifiers(final Game game, final Entity shooter, final Targetable target,
+          final Coords shooterPosition, final Coords targetPosition) {
+        // There is kindly already a class that will calculate line of sight for me
+        // todo take into account spotting for indirect fire.
+        final LosEffects losEffects = getLosEffects(game, shooter, target, shooterPosition, targetPosition, false);
+
+        // water is a separate los effect
+        final Hex targetHex = game.getBoard(target).getHex(targetPosition);
+        if ((target instanceof Entity targetEntity) && targetHex.containsTerrain(Terrains.WATER)
+              && (1 == targetHex.terrainLevel(Terrains.WATER))
+              && (0 < targetEntity.height())) {
+            losEffects.setTargetCover(losEffects.getTargetCover() | LosEffects.COVER_HORIZONTAL);
+        }
+        return losEffects.losModifiers(game);
+    }
+
+    /**
+     * @return The memoized attack estimates of the owning bot, or null when there are none (e.g. in tests)
+     */
+    private @Nullable FireControlCache getFireControlCache() {
+        final FireControlState fireControlState = owner.getFireControlState();
+        return (null == fireControlState) ? null : fireControlState.getFireControlCache();
+    }
+
     /**
      * Makes an educated guess as to the to hit modifier with a weapon attack. Does not actually place unit into desired
      * position, because that is exceptionally slow. Most of this is copied from WeaponAttack.
@@ -826,7 +877,7 @@ public class FireControl {
         final boolean inArc = (bayWeapon)
               ? ComputeArc.isInArc(game, shooter.getId(), weapon.getBayWeapons().getFirst().getEquipmentNum(), target)
               : isInArc(shooterState.getPosition(), shooterFacing, targetState.getPosition(),
-              shooter.getWeaponArc(shooter.getEquipmentNum(weapon)));
+              getWeaponArc(shooter, shooterState, weapon));
         if (!inArc) {
             return new ToHitData(TH_WEAPON_NO_ARC);
         }
@@ -890,25 +941,21 @@ public class FireControl {
         final ToHitData toHit = new ToHitData(shooter.getCrew().getGunnery(), TH_GUNNERY);
         toHit.append(baseMods);
 
-        // There is kindly already a class that will calculate line of sight for me
-        // todo take into account spotting for indirect fire.
-        final LosEffects losEffects = getLosEffects(game, shooter, target, shooterState.getPosition(),
-              targetState.getPosition(), false);
+        final Coords shooterPosition = shooterState.getPosition();
+        final Coords targetPosition = targetState.getPosition();
+        final FireControlCache cache = getFireControlCache();
+        final ToHitData losModifiers = (null == cache)
+              ? guessLosModifiers(game, shooter, target, shooterPosition, targetPosition)
+              : cache.getLosModifiers(new FireControlCache.LosKey(shooter.getId(), target, shooterPosition,
+                    targetPosition), () -> guessLosModifiers(game, shooter, target, shooterPosition, targetPosition));
 
-        // water is a separate los effect
-        final Hex targetHex = game.getBoard(target).getHex(targetState.getPosition());
         Entity targetEntity = null;
         if (target instanceof Entity) {
             targetEntity = (Entity) target;
         }
-        if (null != targetEntity && targetHex.containsTerrain(Terrains.WATER)
-              && (1 == targetHex.terrainLevel(Terrains.WATER))
-              && (0 < targetEntity.height())) {
-            losEffects.setTargetCover(losEffects.getTargetCover() | LosEffects.COVER_HORIZONTAL);
-        }
 
         // Can we still hit after taking into account LoS?
-        toHit.append(losEffects.losModifiers(game));
+        toHit.append(losModifiers);
         if ((TargetRoll.IMPOSSIBLE == toHit.getValue()) || (TargetRoll.AUTOMATIC_FAIL == toHit.getValue())) {
             return toHit; // you can't hit what you can't see
         }
@@ -2556,15 +2603,16 @@ public class FireControl {
               target, targetState, game);
 
         if (shooter.canFlipArms()) {
-            shooter.setArmsFlipped(true, false);
-            FiringPlan betaStrike = guessFullFiringPlan(shooter, shooterState,
+            // Flip the arms of a copy of the state; the shooter itself may be planned for on other threads
+            final EntityState flippedState = new EntityState((null == shooterState)
+                  ? new EntityState(shooter) : shooterState);
+            flippedState.setArmsFlipped(true);
+            FiringPlan betaStrike = guessFullFiringPlan(shooter, flippedState,
                   target, targetState, game);
             betaStrike.setFlipArms(true);
             if (betaStrike.getUtility() > alphaStrike.getUtility()) {
                 alphaStrike = betaStrike;
             }
-
-            shooter.setArmsFlipped(false, false);
         }
 
         // Infantry and BA may have alternative options, so we need to consider
@@ -2778,6 +2826,19 @@ public class FireControl {
         return flips;
     }
 
+    /**
+     * Returns the arc the weapon fires into, treating arm-mounted weapons as rear-firing when the given state has the
+     * arms flipped. This lets guessed plans consider flipped arms without flipping the shooter's arms.
+     */
+    private static int getWeaponArc(Entity shooter, EntityState shooterState, WeaponMounted weapon) {
+        final int arc = shooter.getWeaponArc(shooter.getEquipmentNum(weapon));
+        if (shooterState.isArmsFlipped() && !shooter.getArmsFlipped()
+              && ((Compute.ARC_LEFT_ARM == arc) || (Compute.ARC_RIGHT_ARM == arc))) {
+            return Compute.ARC_REAR;
+        }
+        return arc;
+    }
+
     FiringPlan determineBestFiringPlan(final FiringPlanCalculationParameters params) {
         // unpack parameters for easier reference
         final Entity shooter = params.getShooter();
@@ -2819,6 +2880,9 @@ public class FireControl {
 
         // Keep track of our original facing so we can go back to it.
         final int originalFacing = shooter.getSecondaryFacing();
+        // Guessed plans twist a copy of the shooter's state rather than the shooter, since path ranking may guess
+        // plans for the same shooter on several threads at once.
+        final EntityState guessState = (null == shooterState) ? new EntityState(shooter) : shooterState;
 
         final List<Integer> validFacingChanges = getValidFacingChanges(shooter);
 
@@ -2828,19 +2892,24 @@ public class FireControl {
         // twist" as default.
         FiringPlan bestFiringPlan = noTwistPlan;
         for (final int currentTwist : validFacingChanges) {
-            shooter.setSecondaryFacing(correctFacing(originalFacing + currentTwist), false);
-
-            Map<Integer, Boolean> twistMountFlips = orientMounts
-                  ? orientDirectionalMountsAtTarget(shooter, target, originalMountFacings) : Map.of();
-            FiringPlan twistPlan = switch (params.getCalculationType()) {
-                case GET -> getBestFiringPlan(shooter, target, owner.getGame(), ammoConservation);
-                case GUESS -> guessBestFiringPlanUnderHeat(shooter,
-                      shooterState,
+            final FiringPlan twistPlan;
+            Map<Integer, Boolean> twistMountFlips = Map.of();
+            if (params.getCalculationType() == FiringPlanCalculationParameters.FiringPlanCalculationType.GET) {
+                shooter.setSecondaryFacing(correctFacing(originalFacing + currentTwist), false);
+                if (orientMounts) {
+                    twistMountFlips = orientDirectionalMountsAtTarget(shooter, target, originalMountFacings);
+                }
+                twistPlan = getBestFiringPlan(shooter, target, owner.getGame(), ammoConservation);
+            } else {
+                final EntityState twistedState = new EntityState(guessState);
+                twistedState.setSecondaryFacing(correctFacing(guessState.getSecondaryFacing() + currentTwist));
+                twistPlan = guessBestFiringPlanUnderHeat(shooter,
+                      twistedState,
                       target,
                       targetState,
                       maxHeat,
                       owner.getGame());
-            };
+            }
             twistPlan.setTwist(currentTwist);
             twistPlan.setDirectionalMountFacings(twistMountFlips);
 
@@ -2850,7 +2919,9 @@ public class FireControl {
         }
 
         // Back to where we started.
-        shooter.setSecondaryFacing(originalFacing, false);
+        if (shooter.getSecondaryFacing() != originalFacing) {
+            shooter.setSecondaryFacing(originalFacing, false);
+        }
         if (orientMounts) {
             restoreDirectionalMountFacings(shooter, originalMountFacings);
         }
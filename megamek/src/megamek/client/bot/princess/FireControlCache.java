@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import megamek.common.ToHitData;
+import megamek.common.board.Coords;
+import megamek.common.units.EntityMovementType;
+import megamek.common.units.Targetable;
+import megamek.logging.MMLogger;
+
+/**
+ * Memoizes the expensive parts of Princess' attack estimates: the to-hit modifiers that depend only on the positions
+ * and movement of shooter and target (movement, terrain, line of sight) and the expected damage of a weapon when it
+ * hits. Path ranking evaluates the same shooter/target situations over and over for thousands of candidate paths,
+ * and the firing phase evaluates them once more.
+ * <p>
+ * The entries are derived from the current game state and must be dropped with {@link #invalidate()} whenever that
+ * changes; Princess does so on unit, board and phase changes. Lookups are thread-safe, as path ranking runs in
+ * parallel.
+ */
+public class FireControlCache {
+    private static final MMLogger LOGGER = MMLogger.create(FireControlCache.class);
+
+    private volatile Map<ShotKey, ToHitData> shotModifiers = new ConcurrentHashMap<>();
+    private volatile Map<LosKey, ToHitData> losModifiers = new ConcurrentHashMap<>();
+    private volatile Map<DamageKey, Float> expectedDamage = new ConcurrentHashMap<>();
+
+    private final LongAdder toHitHits = new LongAdder();
+    private final LongAdder toHitMisses = new LongAdder();
+    private final LongAdder damageHits = new LongAdder();
+    private final LongAdder damageMisses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * The parts of an {@link EntityState} that the situational to-hit modifiers depend on.
+     */
+    record StateKey(Coords position, int hexesMoved, EntityMovementType movementType, boolean prone,
+          boolean immobile, boolean jumping, boolean aero, boolean airborne) {
+
+        static StateKey of(EntityState state) {
+            return new StateKey(state.getPosition(), state.getHexesMoved(), state.getMovementType(), state.isProne(),
+                  state.isImmobile(), state.isJumping(), state.isAero(), state.isAirborne());
+        }
+    }
+
+    /**
+     * Key of the to-hit modifiers common to all attacks of a shooter on a target, see
+     * {@link FireControl#guessToHitModifierHelperForAnyAttack}.
+     */
+    record ShotKey(int shooterId, int targetType, int targetId, StateKey shooterState, StateKey targetState,
+          int distance, boolean targetHexBombed) {
+
+        ShotKey(int shooterId, Targetable target, EntityState shooterState, EntityState targetState, int distance) {
+            this(shooterId, target.getTargetType(), target.getId(), StateKey.of(shooterState),
+                  StateKey.of(targetState), distance, target.isHexBeingBombed());
+        }
+    }
+
+    /**
+     * Key of the line of sight modifiers between a shooter and a target at the given positions.
+     */
+    record LosKey(int shooterId, int targetType, int targetId, Coords shooterPosition, Coords targetPosition) {
+
+        LosKey(int shooterId, Targetable target, Coords shooterPosition, Coords targetPosition) {
+            this(shooterId, target.getTargetType(), target.getId(), shooterPosition, targetPosition);
+        }
+    }
+
+    /**
+     * Key of the expected damage of a weapon (with the given ammo and mode) when it hits the target.
+     */
+    record DamageKey(int shooterId, int targetType, int targetId, int weaponId, int ammoId, String weaponMode) {
+
+        DamageKey(int shooterId, Targetable target, int weaponId, int ammoId, String weaponMode) {
+            this(shooterId, target.getTargetType(), target.getId(), weaponId, ammoId, weaponMode);
+        }
+    }
+
+    /**
+     * Returns the memoized to-hit modifiers common to all attacks, calculating them if necessary. The returned object
+     * is shared and must not be modified.
+     */
+    ToHitData getShotModifiers(ShotKey key, Supplier<ToHitData> calculation) {
+        return lookup(shotModifiers, key, calculation, toHitHits, toHitMisses);
+    }
+
+    /**
+     * Returns the memoized line of sight modifiers, calculating them if necessary. The returned object is shared and
+     * must not be modified.
+     */
+    ToHitData getLosModifiers(LosKey key, Supplier<ToHitData> calculation) {
+        return lookup(losModifiers, key, calculation, toHitHits, toHitMisses);
+    }
+
+    /**
+     * Returns the memoized expected damage on a hit, calculating it if necessary.
+     */
+    float getExpectedDamage(DamageKey key, Supplier<Float> calculation) {
+        return lookup(expectedDamage, key, calculation, damageHits, damageMisses);
+    }
+
+    private static <K, V> V lookup(Map<K, V> cache, K key, Supplier<V> calculation, LongAdder hits,
+          LongAdder misses) {
+        V result = cache.get(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        // Not computeIfAbsent: the calculation can be slow and must not block other threads' lookups
+        result = calculation.get();
+        V existing = cache.putIfAbsent(key, result);
+        return (existing != null) ? existing : result;
+    }
+
+    /**
+     * Drops all entries. Calculations still running keep writing to the dropped maps, so no stale result can enter
+     * the cache afterward.
+     */
+    public void invalidate() {
+        shotModifiers = new ConcurrentHashMap<>();
+        losModifiers = new ConcurrentHashMap<>();
+        expectedDamage = new ConcurrentHashMap<>();
+        invalidations.increment();
+    }
+
+    /**
+     * Writes the hit/miss statistics gathered since the last call to the log and resets them.
+     *
+     * @param context Describes the period the statistics cover, such as the bot's name and the game phase
+     */
+    public void logStatistics(String context) {
+        long toHitLookups = toHitHits.sum() + toHitMisses.sum();
+        long damageLookups = damageHits.sum() + damageMisses.sum();
+        if (toHitLookups + damageLookups > 0) {
+            LOGGER.info("Fire control cache for {}: to-hit {} of {} lookups cached ({}%), expected damage {} of {} "
+                        + "lookups cached ({}%), {} invalidations",
+                  context,
+                  toHitHits.sum(), toHitLookups, percentage(toHitHits.sum(), toHitLookups),
+                  damageHits.sum(), damageLookups, percentage(damageHits.sum(), damageLookups),
+                  invalidations.sum());
+        }
+        toHitHits.reset();
+        toHitMisses.reset();
+        damageHits.reset();
+        damageMisses.reset();
+        invalidations.reset();
+    }
+
+    private static long percentage(long part, long total) {
+        return (total == 0) ? 0 : Math.round(100.0 * part / total);
+    }
+}
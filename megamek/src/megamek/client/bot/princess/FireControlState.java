@@ -33,10 +33,10 @@
 package megamek.client.bot.princess;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.common.units.Entity;
 import megamek.common.units.Targetable;
@@ -53,15 +53,17 @@ public class FireControlState {
     private final Map<Integer, Integer> airborneTargetWeaponRanges;
     private final Map<Integer, Boolean> isCommander;
     private final Map<Integer, Boolean> isSubCommander;
+    private final FireControlCache fireControlCache = new FireControlCache();
 
     public FireControlState() {
         additionalTargets = new ArrayList<>();
-        entityIDFStates = new HashMap<>();
+        // The caches are concurrent, as path ranking may evaluate firing plans on several threads at once
+        entityIDFStates = new ConcurrentHashMap<>();
         orderedFiringEntities = new LinkedList<>();
-        weaponRanges = new HashMap<>();
-        airborneTargetWeaponRanges = new HashMap<>();
-        isCommander = new HashMap<>();
-        isSubCommander = new HashMap<>();
+        weaponRanges = new ConcurrentHashMap<>();
+        airborneTargetWeaponRanges = new ConcurrentHashMap<>();
+        isCommander = new ConcurrentHashMap<>();
+        isSubCommander = new ConcurrentHashMap<>();
     }
 
     /**
@@ -138,6 +140,13 @@ public class FireControlState {
         isCommander.put(entity.getId(), value);
     }
 
+    /**
+     * The memoized to-hit modifiers and expected damage of the attack estimates.
+     */
+    public FireControlCache getFireControlCache() {
+        return fireControlCache;
+    }
+
     /**
      * Clears data that shouldn't persist phase-to-phase
      */
@@ -148,5 +157,6 @@ public class FireControlState {
         airborneTargetWeaponRanges.clear();
         isCommander.clear();
         isSubCommander.clear();
+        fireControlCache.invalidate();
     }
 }
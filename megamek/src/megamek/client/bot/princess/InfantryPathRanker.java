@@ -129,14 +129,14 @@ public class InfantryPathRanker extends BasicPathRanker {
         utility -= selfPreservationMod;
 
         formula.append("Calculation: {braveryMod [")
-              .append(LOG_DECIMAL.format(braveryMod))
+              .append(LOG_DECIMAL.get().format(braveryMod))
               .append(" = ")
               .append("((")
-              .append(LOG_DECIMAL.format(maximumDamageDone))
+              .append(LOG_DECIMAL.get().format(maximumDamageDone))
               .append(" * ")
-              .append(LOG_DECIMAL.format(braveryValue))
+              .append(LOG_DECIMAL.get().format(braveryValue))
               .append(") - ")
-              .append(LOG_DECIMAL.format(expectedDamageTaken))
+              .append(LOG_DECIMAL.get().format(expectedDamageTaken))
               .append("]")
               .append(")] - aggressionMod [")
               .append(aggressionMod)
@@ -156,10 +156,10 @@ public class InfantryPathRanker extends BasicPathRanker {
 
         logger.trace(
               "Calculation: {braveryMod [{}] = (({} * {}) - {})] - aggressionMod [{}] = {} * {}] - herdingMod [{}] = {} * {}] + selfPreservationMod [{}]}",
-              LOG_DECIMAL.format(braveryMod),
-              LOG_DECIMAL.format(maximumDamageDone),
-              LOG_DECIMAL.format(braveryValue),
-              LOG_DECIMAL.format(expectedDamageTaken),
+              LOG_DECIMAL.get().format(braveryMod),
+              LOG_DECIMAL.get().format(maximumDamageDone),
+              LOG_DECIMAL.get().format(braveryValue),
+              LOG_DECIMAL.get().format(expectedDamageTaken),
               aggressionMod,
               distanceToClosestEnemy(movingUnit, path.getFinalCoords(), game),
               getOwner().getBehaviorSettings().getHyperAggressionValue(),
@@ -34,12 +34,17 @@
 package megamek.client.bot.princess;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import megamek.client.bot.BotClient;
@@ -48,6 +53,7 @@ import megamek.client.bot.princess.geometry.CoordFacingCombo;
 import megamek.common.BulldozerMovePath;
 import megamek.common.Hex;
 import megamek.common.MPCalculationSetting;
+import megamek.common.annotations.Nullable;
 import megamek.common.board.Coords;
 import megamek.common.compute.Compute;
 import megamek.common.enums.MoveStepType;
@@ -72,6 +78,8 @@ import megamek.logging.MMLogger;
 public class PathEnumerator {
     private final static MMLogger logger = MMLogger.create(PathEnumerator.class);
 
+    private static volatile boolean parallelEnumerationEnabled = true;
+
     private final Princess owner;
     private final Game game;
     private final Map<Integer, List<MovePath>> unitPaths = new ConcurrentHashMap<>();
@@ -79,15 +87,33 @@ public class PathEnumerator {
     private final Map<Integer, ConvexBoardArea> unitMovableAreas = new ConcurrentHashMap<>();
     private final Map<Integer, Set<CoordFacingCombo>> unitPotentialLocations = new ConcurrentHashMap<>();
     private final Map<Integer, CoordFacingCombo> lastKnownLocations = new ConcurrentHashMap<>();
+    // The hexes each unit's paths pass through, and the reverse index: the units whose paths pass through each hex
+    private final Map<Integer, Set<Coords>> unitReachableHexes = new ConcurrentHashMap<>();
+    private final Map<Coords, Set<Integer>> hexDependents = new ConcurrentHashMap<>();
 
     private AtomicBoolean mapHasBridges = null;
     private final Object BRIDGE_LOCK = new Object();
 
+    /** The paths found for a unit and whether long-range paths should be generated for it as well. */
+    private record EnumeratedPaths(List<MovePath> paths, boolean needsLongRangePaths) {}
+
     public PathEnumerator(Princess owningPrincess, Game game) {
         owner = owningPrincess;
         this.game = game;
     }
 
+    /**
+     * Enables or disables the parallel path enumeration of {@link #recalculateMovesFor(Collection)}. When disabled,
+     * the units are recalculated one after another on the calling thread. Enabled by default.
+     */
+    public static void setParallelEnumerationEnabled(boolean enabled) {
+        parallelEnumerationEnabled = enabled;
+    }
+
+    public static boolean isParallelEnumerationEnabled() {
+        return parallelEnumerationEnabled;
+    }
+
     private Princess getOwner() {
         return owner;
     }
@@ -97,6 +123,20 @@ public class PathEnumerator {
         getUnitPotentialLocations().clear();
         getLastKnownLocations().clear();
         getLongRangePaths().clear();
+        unitReachableHexes.clear();
+        hexDependents.clear();
+    }
+
+    /**
+     * Removes everything stored about the given unit, e.g. when it has left the game.
+     */
+    void forgetUnit(int entityId) {
+        getLastKnownLocations().remove(entityId);
+        getUnitMovableAreas().remove(entityId);
+        getUnitPaths().remove(entityId);
+        getLongRangePaths().remove(entityId);
+        getUnitPotentialLocations().remove(entityId);
+        removeReachableHexes(entityId);
     }
 
     Coords getLastKnownCoords(Integer entityId) {
@@ -142,6 +182,61 @@ public class PathEnumerator {
         return returnSet;
     }
 
+    /**
+     * Returns the units whose calculated paths enter or pass through any of the given hexes. These are the units whose
+     * paths may change when something changes in those hexes, such as a unit moving into or out of them.
+     *
+     * @param hexes      The changed hexes
+     * @param groundOnly Set TRUE to ignore {@link Aero} units.
+     *
+     * @return The IDs of the units depending on the given hexes
+     */
+    public Set<Integer> getEntitiesReaching(Collection<Coords> hexes, boolean groundOnly) {
+        Set<Integer> returnSet = new TreeSet<>();
+        for (Coords hex : hexes) {
+            Set<Integer> dependents = (hex == null) ? null : hexDependents.get(hex);
+            if (dependents != null) {
+                returnSet.addAll(dependents);
+            }
+        }
+        if (groundOnly) {
+            returnSet.removeIf(id -> {
+                Entity entity = getGame().getEntity(id);
+                return (entity != null) && entity.isAero();
+            });
+        }
+        return returnSet;
+    }
+
+    /**
+     * Records the hexes that the given paths pass through, replacing those previously recorded for the unit.
+     */
+    private void updateReachableHexes(Entity entity, List<MovePath> paths) {
+        removeReachableHexes(entity.getId());
+        Set<Coords> reachableHexes = new HashSet<>();
+        for (MovePath path : paths) {
+            reachableHexes.add(path.getStartCoords());
+            path.getStepVector().forEach(step -> reachableHexes.add(step.getPosition()));
+        }
+        reachableHexes.remove(null);
+        unitReachableHexes.put(entity.getId(), reachableHexes);
+        for (Coords hex : reachableHexes) {
+            hexDependents.computeIfAbsent(hex, key -> ConcurrentHashMap.newKeySet()).add(entity.getId());
+        }
+    }
+
+    private void removeReachableHexes(int entityId) {
+        Set<Coords> previousHexes = unitReachableHexes.remove(entityId);
+        if (previousHexes != null) {
+            for (Coords hex : previousHexes) {
+                Set<Integer> dependents = hexDependents.get(hex);
+                if (dependents != null) {
+                    dependents.remove(entityId);
+                }
+            }
+        }
+    }
+
     /**
      * From a list of potential moves, make a potential ending location chart
      */
@@ -184,175 +279,69 @@ public class PathEnumerator {
         }
     }
 
+    /**
+     * Calculates the possible moves of all the given units at once. When parallel enumeration is enabled, the path
+     * finding of the units runs concurrently on the {@link BotWorkerPool}; the results are stored in the order
+     * of the unit IDs, so they are the same as when each unit is recalculated on its own. Path finding only reads the
+     * game. Anything that touches the bot's own bookkeeping (waypoints, behavior, board clusters, long-range paths) is
+     * done on the calling thread before or after the parallel part. A unit whose parallel calculation fails is
+     * recalculated with {@link #recalculateMovesFor(Entity)}, which retries.
+     *
+     * @param movers the units to recalculate
+     */
+    public synchronized void recalculateMovesFor(final Collection<Entity> movers) {
+        List<Entity> sortedMovers = new ArrayList<>(movers);
+        sortedMovers.sort(Comparator.comparingInt(Entity::getId));
+        if (!isParallelEnumerationEnabled() || (sortedMovers.size() < 2)) {
+            sortedMovers.forEach(this::recalculateMovesFor);
+            return;
+        }
+
+        List<Entity> activeMovers = new ArrayList<>();
+        List<Callable<EnumeratedPaths>> tasks = new ArrayList<>();
+        for (Entity mover : sortedMovers) {
+            if (prepareRecalculation(mover)) {
+                Coords wayPoint = owner.getUnitBehaviorTracker().getWaypointForEntity(mover).orElse(null);
+                activeMovers.add(mover);
+                tasks.add(() -> computePaths(mover, wayPoint));
+            }
+        }
+
+        List<Future<EnumeratedPaths>> results = BotWorkerPool.invokeAll(tasks);
+
+        for (int index = 0; index < activeMovers.size(); index++) {
+            Entity mover = activeMovers.get(index);
+            try {
+                EnumeratedPaths enumeratedPaths = results.get(index).get();
+                if (enumeratedPaths.needsLongRangePaths()) {
+                    updateLongRangePaths(mover);
+                }
+                storePaths(mover, enumeratedPaths.paths());
+            } catch (ExecutionException e) {
+                logger.debug(e.getCause(), "Parallel path enumeration failed for {}, recalculating", mover);
+                recalculateMovesFor(mover);
+            } catch (InterruptedException e) {
+                logger.error(e, "recalculateMovesFor");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
     /**
      * calculates all moves for a given unit, keeping the shortest (or longest, depending) path to each facing/pair
      */
     private boolean recalculateMovesForWorker(final Entity mover) {
         try {
-            // Record it's current position.
-            getLastKnownLocations().put(
-                  mover.getId(),
-                  CoordFacingCombo.createCoordFacingCombo(
-                        mover.getPosition(), mover.getFacing()));
-
-            // Clear out any already calculated paths.
-            getUnitPaths().remove(mover.getId());
-            getLongRangePaths().remove(mover.getId());
-
-            // if the entity does not exist in the game for any reason, let's cut out safely
-            // otherwise, we'll run into problems calculating paths
-            if (getGame().getEntity(mover.getId()) == null) {
-                // clean up orphaned entries in local storage
-                getUnitMovableAreas().remove(mover.getId());
-                getUnitPotentialLocations().remove(mover.getId());
-                getLastKnownLocations().remove(mover.getId());
+            if (!prepareRecalculation(mover)) {
                 return true;
             }
-
-            // Start constructing the new list of paths.
-            List<MovePath> paths = new ArrayList<>();
             Coords wayPoint = owner.getUnitBehaviorTracker().getWaypointForEntity(mover).orElse(null);
-            // Aero movement on atmospheric ground maps
-            // currently only applies to a) conventional aircraft, b) AeroTek units, c) lams
-            // in air mode
-            if (mover.isAirborneAeroOnGroundMap() && !((IAero) mover).isSpheroid()) {
-                AeroGroundPathFinder apf = AeroGroundPathFinder.getInstance(getGame());
-                MovePath startPath = new MovePath(getGame(), mover, wayPoint);
-                apf.run(startPath);
-                paths.addAll(apf.getAllComputedPathsUncategorized());
-
-                // Remove illegal paths.
-                Filter<MovePath> filter = new Filter<>() {
-                    @Override
-                    public boolean shouldStay(MovePath movePath) {
-                        return isLegalAeroMove(movePath);
-                    }
-                };
-
-                logger.debug("Unfiltered paths: {}", paths.size());
-                paths = new ArrayList<>(filter.doFilter(paths));
-                logger.debug("Filtered out illegal paths: {}", paths.size());
-                AeroGroundOffBoardFilter offBoardFilter = new AeroGroundOffBoardFilter();
-                paths = new ArrayList<>(offBoardFilter.doFilter(paths));
-
-                MovePath offBoardPath = offBoardFilter.getShortestPath();
-                if (offBoardPath != null) {
-                    paths.add(offBoardFilter.getShortestPath());
-                }
-
-                logger.debug("Filtered out off board paths: {}", paths.size());
-
-                // This is code useful for debugging, but puts out a lot of log entries, which
-                // slows things down.
-                // disabled
-                // logAllPaths(paths);
-                // this handles the case of the mover being an aerospace unit and "advances
-                // space flight" rules being on
-            } else if (mover.isAero() && game.useVectorMove()) {
-                NewtonianAerospacePathFinder npf = NewtonianAerospacePathFinder.getInstance(getGame());
-                npf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(npf.getAllComputedPathsUncategorized());
-                // this handles the case of the mover being an aerospace unit on a space map
-            } else if (mover.isAero() && game.getBoard(mover).isSpace()) {
-                AeroSpacePathFinder apf = AeroSpacePathFinder.getInstance(getGame());
-                apf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(apf.getAllComputedPathsUncategorized());
-                // this handles the case of the mover being a winged aerospace unit on a
-                // low-atmosphere map
-            } else if (mover.isAero() && game.getBoard(mover).isLowAltitude()
-                  && !Compute.useSpheroidAtmosphere(game, mover)) {
-                AeroLowAltitudePathFinder apf = AeroLowAltitudePathFinder.getInstance(getGame());
-                apf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(apf.getAllComputedPathsUncategorized());
-                // this handles the case of the mover acting like a spheroid aerospace unit in
-                // an atmosphere
-            } else if (Compute.useSpheroidAtmosphere(game, mover)) {
-                int dir = AeroPathUtil.getSpheroidDir(game, mover);
-                SpheroidPathFinder spf = SpheroidPathFinder.getInstance(game, dir);
-                spf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(spf.getAllComputedPathsUncategorized());
-                // this handles the case of the mover being an infantry unit of some kind,
-                // that's not airborne.
-            } else if (mover.hasETypeFlag(Entity.ETYPE_INFANTRY) && !mover.isAirborne()) {
-                InfantryPathFinder ipf = InfantryPathFinder.getInstance(getGame());
-                ipf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(ipf.getAllComputedPathsUncategorized());
-
-                // generate long-range paths appropriate to the bot's current state
-                updateLongRangePaths(mover);
-                // this handles situations where a unit is high up in the air, but is not an
-                // aircraft
-                // such as an ejected pilot or a unit hot dropping from a DropShip, as these
-                // cannot move
-            } else if (!mover.isAero() && mover.isAirborne()) {
-                paths.add(new MovePath(game, mover, wayPoint));
-            } else { // Non-Aero movement
-                // TODO: Will this cause Princess to never use MASC?
-                int maxMove = Math.min(mover.getRunMPWithoutMASC(), mover.getRunMP(MPCalculationSetting.NO_GRAVITY));
-
-                LongestPathFinder lpf = LongestPathFinder.newInstanceOfLongestPath(maxMove,
-                      MoveStepType.FORWARDS, getGame());
-                lpf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
-                lpf.run(new MovePath(game, mover, wayPoint));
-                paths.addAll(lpf.getLongestComputedPaths());
-
-                // add walking moves
-                lpf = LongestPathFinder.newInstanceOfLongestPath(
-                      mover.getWalkMP(), MoveStepType.BACKWARDS, getGame());
-                lpf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
-                lpf.run(new MovePath(getGame(), mover, wayPoint));
-                paths.addAll(lpf.getLongestComputedPaths());
-
-                // add all moves that involve the entity remaining prone
-                PronePathFinder ppf = new PronePathFinder();
-                ppf.run(new MovePath(getGame(), mover, wayPoint));
-                paths.addAll(ppf.getPronePaths());
-
-                // add jumping moves
-                if (mover.getAnyTypeMaxJumpMP() > 0) {
-                    ShortestPathFinder spf = ShortestPathFinder.newInstanceOfOneToAll(mover.getAnyTypeMaxJumpMP(),
-                          MoveStepType.FORWARDS, getGame());
-                    spf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
-                    spf.run(new MovePath(game, mover, wayPoint).addStep(MoveStepType.START_JUMP));
-                    paths.addAll(spf.getAllComputedPathsUncategorized());
-                }
-
-                // calling .debug is expensive even if we don't actually log anything
-                // so let's not do this unless we're debugging
-                /*
-                 * for (MovePath path : paths) {
-                 * getOwner().getLogger().debug(path.toString());
-                 * }
-                 */
-
-                // Try climbing over obstacles and onto bridges
-                adjustPathsForBridges(paths);
-
-                // filter those paths that end in illegal state
-                Filter<MovePath> filter = new Filter<>() {
-                    @Override
-                    public boolean shouldStay(MovePath movePath) {
-                        return movePath.isMoveLegal()
-                              && (Compute.stackingViolation(getGame(), mover.getId(), movePath.getFinalCoords(),
-                              mover.climbMode()) == null);
-                    }
-                };
-                paths = new ArrayList<>(filter.doFilter(paths));
-
-                // generate long-range paths appropriate to the bot's current state
+            EnumeratedPaths enumeratedPaths = computePaths(mover, wayPoint);
+            if (enumeratedPaths.needsLongRangePaths()) {
                 updateLongRangePaths(mover);
             }
-
-            // Update our locations and add the computed paths.
-            updateUnitLocations(mover, paths);
-            getUnitPaths().put(mover.getId(), paths);
-
-            // calculate bounding area for move
-            ConvexBoardArea myArea = new ConvexBoardArea();
-            myArea.addCoordFacingCombos(getUnitPotentialLocations().get(
-                  mover.getId()).iterator(), owner.getGame().getBoard(mover));
-            getUnitMovableAreas().put(mover.getId(), myArea);
-
+            storePaths(mover, enumeratedPaths.paths());
             return true;
         } catch (IllegalArgumentException ex) {
             logger.debug(ex, "Lost sight of a unit while plotting predicted paths");
@@ -363,6 +352,190 @@ public class PathEnumerator {
         }
     }
 
+    /**
+     * Records the current position of the given unit and clears its previously calculated paths.
+     *
+     * @return false if the unit is no longer in the game, in which case all its entries have been removed
+     */
+    private boolean prepareRecalculation(final Entity mover) {
+        // Record it's current position.
+        getLastKnownLocations().put(
+              mover.getId(),
+              CoordFacingCombo.createCoordFacingCombo(
+                    mover.getPosition(), mover.getFacing()));
+
+        // Clear out any already calculated paths.
+        getUnitPaths().remove(mover.getId());
+        getLongRangePaths().remove(mover.getId());
+
+        // if the entity does not exist in the game for any reason, let's cut out safely
+        // otherwise, we'll run into problems calculating paths
+        if (getGame().getEntity(mover.getId()) == null) {
+            // clean up orphaned entries in local storage
+            forgetUnit(mover.getId());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the path finders that fit the given unit. This only reads the game, so it may run on any thread.
+     */
+    private EnumeratedPaths computePaths(final Entity mover, @Nullable Coords wayPoint) {
+        // Start constructing the new list of paths.
+        List<MovePath> paths = new ArrayList<>();
+        boolean needsLongRangePaths = false;
+        // Aero movement on atmospheric ground maps
+        // currently only applies to a) conventional aircraft, b) AeroTek units, c) lams
+        // in air mode
+        if (mover.isAirborneAeroOnGroundMap() && !((IAero) mover).isSpheroid()) {
+            AeroGroundPathFinder apf = AeroGroundPathFinder.getInstance(getGame());
+            MovePath startPath = new MovePath(getGame(), mover, wayPoint);
+            apf.run(startPath);
+            paths.addAll(apf.getAllComputedPathsUncategorized());
+
+            // Remove illegal paths.
+            Filter<MovePath> filter = new Filter<>() {
+                @Override
+                public boolean shouldStay(MovePath movePath) {
+                    return isLegalAeroMove(movePath);
+                }
+            };
+
+            logger.debug("Unfiltered paths: {}", paths.size());
+            paths = new ArrayList<>(filter.doFilter(paths));
+            logger.debug("Filtered out illegal paths: {}", paths.size());
+            AeroGroundOffBoardFilter offBoardFilter = new AeroGroundOffBoardFilter();
+            paths = new ArrayList<>(offBoardFilter.doFilter(paths));
+
+            MovePath offBoardPath = offBoardFilter.getShortestPath();
+            if (offBoardPath != null) {
+                paths.add(offBoardFilter.getShortestPath());
+            }
+
+            logger.debug("Filtered out off board paths: {}", paths.size());
+
+            // This is code useful for debugging, but puts out a lot of log entries, which
+            // slows things down.
+            // disabled
+            // logAllPaths(paths);
+            // this handles the case of the mover being an aerospace unit and "advances
+            // space flight" rules being on
+        } else if (mover.isAero() && game.useVectorMove()) {
+            NewtonianAerospacePathFinder npf = NewtonianAerospacePathFinder.getInstance(getGame());
+            npf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(npf.getAllComputedPathsUncategorized());
+            // this handles the case of the mover being an aerospace unit on a space map
+        } else if (mover.isAero() && game.getBoard(mover).isSpace()) {
+            AeroSpacePathFinder apf = AeroSpacePathFinder.getInstance(getGame());
+            apf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(apf.getAllComputedPathsUncategorized());
+            // this handles the case of the mover being a winged aerospace unit on a
+            // low-atmosphere map
+        } else if (mover.isAero() && game.getBoard(mover).isLowAltitude()
+              && !Compute.useSpheroidAtmosphere(game, mover)) {
+            AeroLowAltitudePathFinder apf = AeroLowAltitudePathFinder.getInstance(getGame());
+            apf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(apf.getAllComputedPathsUncategorized());
+            // this handles the case of the mover acting like a spheroid aerospace unit in
+            // an atmosphere
+        } else if (Compute.useSpheroidAtmosphere(game, mover)) {
+            int dir = AeroPathUtil.getSpheroidDir(game, mover);
+            SpheroidPathFinder spf = SpheroidPathFinder.getInstance(game, dir);
+            spf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(spf.getAllComputedPathsUncategorized());
+            // this handles the case of the mover being an infantry unit of some kind,
+            // that's not airborne.
+        } else if (mover.hasETypeFlag(Entity.ETYPE_INFANTRY) && !mover.isAirborne()) {
+            InfantryPathFinder ipf = InfantryPathFinder.getInstance(getGame());
+            ipf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(ipf.getAllComputedPathsUncategorized());
+
+            // generate long-range paths appropriate to the bot's current state
+            needsLongRangePaths = true;
+            // this handles situations where a unit is high up in the air, but is not an
+            // aircraft
+            // such as an ejected pilot or a unit hot dropping from a DropShip, as these
+            // cannot move
+        } else if (!mover.isAero() && mover.isAirborne()) {
+            paths.add(new MovePath(game, mover, wayPoint));
+        } else { // Non-Aero movement
+            // TODO: Will this cause Princess to never use MASC?
+            int maxMove = Math.min(mover.getRunMPWithoutMASC(), mover.getRunMP(MPCalculationSetting.NO_GRAVITY));
+
+            LongestPathFinder lpf = LongestPathFinder.newInstanceOfLongestPath(maxMove,
+                  MoveStepType.FORWARDS, getGame());
+            lpf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
+            lpf.run(new MovePath(game, mover, wayPoint));
+            paths.addAll(lpf.getLongestComputedPaths());
+
+            // add walking moves
+            lpf = LongestPathFinder.newInstanceOfLongestPath(
+                  mover.getWalkMP(), MoveStepType.BACKWARDS, getGame());
+            lpf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
+            lpf.run(new MovePath(getGame(), mover, wayPoint));
+            paths.addAll(lpf.getLongestComputedPaths());
+
+            // add all moves that involve the entity remaining prone
+            PronePathFinder ppf = new PronePathFinder();
+            ppf.run(new MovePath(getGame(), mover, wayPoint));
+            paths.addAll(ppf.getPronePaths());
+
+            // add jumping moves
+            if (mover.getAnyTypeMaxJumpMP() > 0) {
+                ShortestPathFinder spf = ShortestPathFinder.newInstanceOfOneToAll(mover.getAnyTypeMaxJumpMP(),
+                      MoveStepType.FORWARDS, getGame());
+                spf.setComparator(new MovePathMinefieldAvoidanceMinMPMaxDistanceComparator());
+                spf.run(new MovePath(game, mover, wayPoint).addStep(MoveStepType.START_JUMP));
+                paths.addAll(spf.getAllComputedPathsUncategorized());
+            }
+
+            // calling .debug is expensive even if we don't actually log anything
+            // so let's not do this unless we're debugging
+            /*
+             * for (MovePath path : paths) {
+             * getOwner().getLogger().debug(path.toString());
+             * }
+             */
+
+            // Try climbing over obstacles and onto bridges
+            adjustPathsForBridges(paths);
+
+            // filter those paths that end in illegal state
+            Filter<MovePath> filter = new Filter<>() {
+                @Override
+                public boolean shouldStay(MovePath movePath) {
+                    return movePath.isMoveLegal()
+                          && (Compute.stackingViolation(getGame(), mover.getId(), movePath.getFinalCoords(),
+                          mover.climbMode()) == null);
+                }
+            };
+            paths = new ArrayList<>(filter.doFilter(paths));
+
+            // generate long-range paths appropriate to the bot's current state
+            needsLongRangePaths = true;
+        }
+
+
+        return new EnumeratedPaths(paths, needsLongRangePaths);
+    }
+
+    /**
+     * Stores the given paths of the given unit along with its potential locations and movable area.
+     */
+    private void storePaths(final Entity mover, List<MovePath> paths) {
+        // Update our locations and add the computed paths.
+        updateUnitLocations(mover, paths);
+        updateReachableHexes(mover, paths);
+        getUnitPaths().put(mover.getId(), paths);
+
+        // calculate bounding area for move
+        ConvexBoardArea myArea = new ConvexBoardArea();
+        myArea.addCoordFacingCombos(getUnitPotentialLocations().get(
+              mover.getId()).iterator(), owner.getGame().getBoard(mover));
+        getUnitMovableAreas().put(mover.getId(), myArea);
+    }
+
     /**
      * Worker function that updates the long-range path collection for a particular entity
      */
@@ -42,11 +42,17 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import megamek.client.bot.BotLogger;
 import megamek.client.bot.princess.UnitBehavior.BehaviorType;
@@ -71,6 +77,11 @@ import org.apache.logging.log4j.Level;
 public abstract class PathRanker implements IPathRanker {
     private final static MMLogger logger = MMLogger.create(PathRanker.class);
     private static final BotLogger botLogger = new BotLogger();
+    /** Below this number of candidate paths, ranking them in parallel does not pay off. */
+    private static final int PARALLEL_RANKING_THRESHOLD = 64;
+    private static volatile boolean parallelRankingEnabled = true;
+    /** Passed as the ranking deadline when there is no time budget. */
+    private static final long NO_DEADLINE = 0;
     // TODO: Introduce PathRankerCacheHelper class that contains "global" path
     // ranker state
     // TODO: Introduce FireControlCacheHelper class that contains "global" Fire
@@ -103,6 +114,21 @@ public abstract class PathRanker implements IPathRanker {
     public TreeSet<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange,
           double fallTolerance, List<Entity> enemies,
           List<Entity> friends) {
+        BehaviorSettings behaviorSettings = owner.getBehaviorSettings();
+        int timeBudget = (behaviorSettings == null) ? 0 : behaviorSettings.getMovementTimeBudget();
+        long deadline = (timeBudget > 0) ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeBudget) : NO_DEADLINE;
+        return rankPaths(movePaths, game, maxRange, fallTolerance, enemies, friends, deadline);
+    }
+
+    /**
+     * Ranks the given paths as {@link #rankPaths(List, Game, int, double, List, List)} does, against the given
+     * deadline. A retry with other paths passes on the deadline of the first attempt, so that the time budget covers
+     * the whole decision.
+     *
+     * @param deadline the {@link System#nanoTime()} after which no more paths are ranked, or {@link #NO_DEADLINE}
+     */
+    private TreeSet<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange,
+          double fallTolerance, List<Entity> enemies, List<Entity> friends, long deadline) {
         // No point in ranking an empty list.
         if (movePaths.isEmpty()) {
             return new TreeSet<>();
@@ -116,6 +142,12 @@ public abstract class PathRanker implements IPathRanker {
         List<MovePath> validPaths = validatePaths(movePaths, game, maxRange, fallTolerance);
         logger.debug("Validated {} out of {} possible paths.", validPaths.size(), movePaths.size());
 
+        // With a time budget, the most promising paths are ranked first, so that the best path found when the budget
+        // runs out is a good one
+        if (deadline != NO_DEADLINE) {
+            validPaths = orderByPromise(validPaths, enemies);
+        }
+
         // If the heat map of friendly activity has sufficient data, use the nearest hot
         // spot as
         // the anchor point
@@ -131,11 +163,16 @@ public abstract class PathRanker implements IPathRanker {
             BigDecimal count = BigDecimal.ZERO;
             BigDecimal interval = new BigDecimal(5);
             boolean pathsHaveExpectedDamage = false;
-            for (MovePath path : validPaths) {
+            // The ranked paths are added in the order of the candidates, in both the serial and the parallel mode, so
+            // that paths of equal rank are resolved in the same way
+            List<RankedPath> rankedPaths = rankValidPaths(validPaths, game, maxRange, fallTolerance, enemies,
+                  allyCenter, deadline);
+            for (RankedPath rankedPath : rankedPaths) {
                 try {
                     count = count.add(BigDecimal.ONE);
-
-                    RankedPath rankedPath = rankPath(path, game, maxRange, fallTolerance, enemies, allyCenter);
+                    if (rankedPath == null) {
+                        continue;
+                    }
 
                     returnPaths.add(rankedPath);
 
@@ -152,7 +189,7 @@ public abstract class PathRanker implements IPathRanker {
                         interval = percent.add(new BigDecimal(5));
                     }
                 } catch (Exception e) {
-                    logger.error(e, "{} while processing {}", e.getMessage(), path);
+                    logger.error(e, "{} while processing {}", e.getMessage(), rankedPath);
                 }
             }
             Entity mover = movePaths.getFirst().getEntity();
@@ -167,7 +204,7 @@ public abstract class PathRanker implements IPathRanker {
                   && (behaviorTracker.getBehaviorType(mover, getOwner()) == BehaviorType.Engaged)) {
                 behaviorTracker.overrideBehaviorType(mover, BehaviorType.MoveToContact);
                 return rankPaths(getOwner().getMovePathsAndSetNecessaryTargets(mover, true),
-                      game, maxRange, fallTolerance, enemies, friends);
+                      game, maxRange, fallTolerance, enemies, friends, deadline);
             }
         } catch (Exception exception) {
             logger.error(exception, exception.getMessage());
@@ -190,6 +227,165 @@ public abstract class PathRanker implements IPathRanker {
         return returnPaths;
     }
 
+    /**
+     * Returns the given paths ordered by how promising their destinations are: for a unit that wants to fall back,
+     * the farther from the enemies the better, otherwise the closer to an enemy or to a hot spot of enemy activity the
+     * better. Paths to equally promising destinations keep their order.
+     */
+    List<MovePath> orderByPromise(List<MovePath> paths, List<Entity> enemies) {
+        if (paths.isEmpty()) {
+            return paths;
+        }
+        Entity mover = paths.getFirst().getEntity();
+        List<Coords> pointsOfInterest = new ArrayList<>();
+        for (Entity enemy : enemies) {
+            if ((enemy.getPosition() != null) && (enemy.getBoardId() == mover.getBoardId())) {
+                pointsOfInterest.add(enemy.getPosition());
+            }
+        }
+        List<Coords> enemyHotSpots = owner.getEnemyHotSpots();
+        if (enemyHotSpots != null) {
+            pointsOfInterest.addAll(enemyHotSpots);
+        }
+        if (pointsOfInterest.isEmpty()) {
+            return paths;
+        }
+
+        int direction = owner.wantsToFallBack(mover) ? -1 : 1;
+        Map<Coords, Integer> destinationScores = new HashMap<>();
+        List<MovePath> orderedPaths = new ArrayList<>(paths);
+        orderedPaths.sort(Comparator.comparingInt(path -> destinationScores.computeIfAbsent(path.getFinalCoords(),
+              destination -> direction * distanceToNearest(destination, pointsOfInterest))));
+        return orderedPaths;
+    }
+
+    private static int distanceToNearest(@Nullable Coords destination, List<Coords> pointsOfInterest) {
+        if (destination == null) {
+            return Integer.MAX_VALUE / 2;
+        }
+        int nearest = Integer.MAX_VALUE / 2;
+        for (Coords pointOfInterest : pointsOfInterest) {
+            nearest = Math.min(nearest, destination.distance(pointOfInterest));
+        }
+        return nearest;
+    }
+
+    /**
+     * Ranks the given paths, in parallel on the {@link BotWorkerPool} when parallel ranking is enabled, this ranker
+     * {@link #supportsParallelRanking() supports it} and there are enough paths to make it worthwhile. When a deadline
+     * is given, paths are skipped once it has passed, except for the first one. Logs how long the ranking took and how
+     * many of the paths it covered.
+     *
+     * @param deadline the {@link System#nanoTime()} after which no more paths are ranked, or {@link #NO_DEADLINE}
+     *
+     * @return the ranked paths in the order of the given paths, with null for any path that could not be ranked or
+     *       was skipped
+     */
+    private List<RankedPath> rankValidPaths(List<MovePath> validPaths, Game game, int maxRange,
+          double fallTolerance, List<Entity> enemies, @Nullable Coords allyCenter, long deadline) {
+        long start = System.nanoTime();
+        boolean parallel = isParallelRankingEnabled() && supportsParallelRanking()
+              && (validPaths.size() >= PARALLEL_RANKING_THRESHOLD);
+
+        List<RankedPath> rankedPaths;
+        if (parallel) {
+            // A few chunks per worker, so that a chunk of expensive paths does not leave the other workers idle
+            int chunkSize = Math.max(1, validPaths.size() / (BotWorkerPool.PARALLELISM * 4));
+            List<Callable<List<RankedPath>>> chunks = new ArrayList<>();
+            for (int from = 0; from < validPaths.size(); from += chunkSize) {
+                List<MovePath> chunk = validPaths.subList(from, Math.min(from + chunkSize, validPaths.size()));
+                boolean firstChunk = (from == 0);
+                chunks.add(() -> rankChunk(chunk, game, maxRange, fallTolerance, enemies, allyCenter, deadline,
+                      firstChunk));
+            }
+            rankedPaths = new ArrayList<>(validPaths.size());
+            for (Future<List<RankedPath>> result : BotWorkerPool.invokeAll(chunks)) {
+                try {
+                    rankedPaths.addAll(result.get());
+                } catch (InterruptedException | ExecutionException e) {
+                    // rankChunk does not throw, so this does not happen
+                    throw new IllegalStateException(e);
+                }
+            }
+            for (RankedPath rankedPath : rankedPaths) {
+                if (rankedPath != null) {
+                    rankedPath.renewCreationOrder();
+                }
+            }
+        } else {
+            rankedPaths = rankChunk(validPaths, game, maxRange, fallTolerance, enemies, allyCenter, deadline, true);
+        }
+
+        if (validPaths.isEmpty()) {
+            return rankedPaths;
+        }
+        long end = System.nanoTime();
+        boolean deadlinePassed = (deadline != NO_DEADLINE) && (end - deadline > 0);
+        if (deadlinePassed || logger.isDebugEnabled()) {
+            int covered = 0;
+            for (RankedPath rankedPath : rankedPaths) {
+                if (rankedPath != null) {
+                    covered++;
+                }
+            }
+            boolean deadlineHit = deadlinePassed && (covered < validPaths.size());
+            long elapsedMillis = (end - start) / 1_000_000;
+            String mode = parallel ? "parallel" : "serial";
+            int unitId = validPaths.getFirst().getEntity().getId();
+            if (deadlineHit) {
+                // Worth seeing without debug logging, as the unit may have missed its best move
+                logger.info("Round {}: ranked {} of {} paths ({}%) for unit {} in {} ms ({}, time budget exceeded)",
+                      game.getCurrentRound(), covered, validPaths.size(), covered * 100 / validPaths.size(), unitId,
+                      elapsedMillis, mode);
+            } else {
+                logger.debug("Round {}: ranked {} of {} paths for unit {} in {} ms ({})", game.getCurrentRound(),
+                      covered, validPaths.size(), unitId, elapsedMillis, mode);
+            }
+        }
+        return rankedPaths;
+    }
+
+    private List<RankedPath> rankChunk(List<MovePath> paths, Game game, int maxRange, double fallTolerance,
+          List<Entity> enemies, @Nullable Coords allyCenter, long deadline, boolean firstChunk) {
+        List<RankedPath> rankedPaths = new ArrayList<>(paths.size());
+        for (MovePath path : paths) {
+            // The most promising path is always ranked, so that there is a result even with a tiny budget
+            boolean mustRank = firstChunk && rankedPaths.isEmpty();
+            if ((deadline != NO_DEADLINE) && !mustRank && (System.nanoTime() - deadline > 0)) {
+                rankedPaths.add(null);
+                continue;
+            }
+            try {
+                rankedPaths.add(rankPath(path, game, maxRange, fallTolerance, enemies, allyCenter));
+            } catch (Exception e) {
+                logger.error(e, "{} while processing {}", e.getMessage(), path);
+                rankedPaths.add(null);
+            }
+        }
+        return rankedPaths;
+    }
+
+    /**
+     * Returns true when {@link #rankPath} may be called for several paths of the same unit at once from different
+     * threads. Rankers that keep per-pass state must prepare it before the paths are ranked, e.g. in an override of
+     * {@link #rankPaths}. False by default.
+     */
+    protected boolean supportsParallelRanking() {
+        return false;
+    }
+
+    /**
+     * Enables or disables the parallel path ranking in {@link #rankPaths}. When disabled, all paths are ranked on the
+     * calling thread. Enabled by default.
+     */
+    public static void setParallelRankingEnabled(boolean enabled) {
+        parallelRankingEnabled = enabled;
+    }
+
+    public static boolean isParallelRankingEnabled() {
+        return parallelRankingEnabled;
+    }
+
     /**
      * Logs a one-line, debug-level summary of the sprint decision for a unit's move: whether the best-ranked path
      * sprints, how many candidate paths end in a sprint, how many of those were penalized for ending inside enemy
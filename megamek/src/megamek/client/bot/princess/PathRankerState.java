@@ -33,8 +33,8 @@
 
 package megamek.client.bot.princess;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.common.board.Coords;
 import megamek.common.moves.Key;
@@ -44,8 +44,9 @@ import megamek.common.moves.Key;
  * intended to be basically stateless.
  */
 public class PathRankerState {
-    private final Map<Key, Double> pathSuccessProbabilities = new HashMap<>();
-    private final Map<Coords, Double> incomingFriendlyArtilleryDamage = new HashMap<>();
+    // Concurrent, as the paths of a unit may be ranked on several threads at once
+    private final Map<Key, Double> pathSuccessProbabilities = new ConcurrentHashMap<>();
+    private final Map<Coords, Double> incomingFriendlyArtilleryDamage = new ConcurrentHashMap<>();
 
     /**
      * The map of success probabilities for given move paths. The calculation of a move success probability is pretty
@@ -39,7 +39,9 @@ import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
+import megamek.client.EntityDeltaReceiver;
 import megamek.client.bot.princess.geometry.CoordFacingCombo;
 import megamek.common.ECMInfo;
 import megamek.common.Hex;
@@ -47,6 +49,7 @@ import megamek.common.Player;
 import megamek.common.Report;
 import megamek.common.SpecialHexDisplay;
 import megamek.common.TagInfo;
+import megamek.common.TemporaryECMField;
 import megamek.common.actions.ArtilleryAttackAction;
 import megamek.common.actions.AttackAction;
 import megamek.common.actions.ClubAttackAction;
@@ -81,6 +84,7 @@ import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.GameOptions;
+import megamek.common.options.OptionsConstants;
 import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.common.units.Entity;
 import megamek.common.units.IBuilding;
@@ -110,6 +114,17 @@ public class Precognition implements Runnable {
      */
     private List<ECMInfo> ecmInfo;
 
+    /** Everything the cached ecmInfo was computed from; it is only recomputed when these change. */
+    private List<Object> ecmSources;
+
+    /**
+     * Game events tend to arrive in bursts (a single move sends several unit updates). After the first event, the
+     * thread waits until no new event has arrived for this long (but at most {@link #MAX_EVENT_BURST_MILLIS}) so that
+     * the whole burst is handled by a single recalculation.
+     */
+    private static final long EVENT_BURST_QUIET_MILLIS = 50;
+    private static final long MAX_EVENT_BURST_MILLIS = 500;
+
     private PathEnumerator pathEnumerator;
     private final ReentrantReadWriteLock PATH_ENUMERATOR_LOCK = new ReentrantReadWriteLock();
 
@@ -123,6 +138,9 @@ public class Precognition implements Runnable {
     private final AtomicBoolean waiting = new AtomicBoolean(false);
     private final AtomicBoolean done = new AtomicBoolean(false);
 
+    // baselines of the delta unit updates; resyncs are requested by the owner's client
+    private final EntityDeltaReceiver entityDeltaReceiver = new EntityDeltaReceiver();
+
     public Precognition(Princess owner) {
         this.owner = owner;
         this.game = new Game();
@@ -141,6 +159,7 @@ public class Precognition implements Runnable {
         });
         setPathEnumerator(new PathEnumerator(owner, getGame()));
         // Initialize ECM Info, especially important if Princess added mid-game
+        ecmSources = collectECMSources();
         ecmInfo = ComputeECM.computeAllEntitiesECMInfo(
               getGame().getEntitiesVector());
     }
@@ -162,6 +181,11 @@ public class Precognition implements Runnable {
         GAME_LOCK.lock();
         try {
             switch (c.command()) {
+                case MULTI_PACKET:
+                    for (Packet includedPacket : (List<Packet>) c.getObject(0)) {
+                        handlePacket(includedPacket);
+                    }
+                    break;
                 case PLAYER_UPDATE, PLAYER_ADD:
                     receivePlayerInfo(c);
                     break;
@@ -185,6 +209,9 @@ public class Precognition implements Runnable {
                 case ENTITY_UPDATE:
                     receiveEntityUpdate(c);
                     break;
+                case ENTITY_UPDATE_DELTA:
+                    receiveEntityUpdateDelta(c);
+                    break;
                 case ENTITY_REMOVE:
                     receiveEntityRemove(c);
                     break;
@@ -331,6 +358,9 @@ public class Precognition implements Runnable {
                     receiveUpdateGroundObjects(c);
                     break;
                 case SERVER_GREETING:
+                    // The server starts over with the baselines of a (re-)connecting player
+                    entityDeltaReceiver.clear();
+                    break;
                 case SERVER_CORRECT_NAME:
                 case CLOSE_CONNECTION:
                 case SERVER_VERSION_CHECK:
@@ -410,6 +440,7 @@ public class Precognition implements Runnable {
     void ensureUpToDate() {
         try {
             pause();
+            List<Integer> movedUnits = new ArrayList<>();
             for (Entity entity : getGame().getEntitiesVector()) {
                 // If PreCog is done, just exit
                 if (getDone().get()) {
@@ -421,26 +452,21 @@ public class Precognition implements Runnable {
                 if (((!getPathEnumerator().getLastKnownLocations().containsKey(entity.getId()))
                       || (!getPathEnumerator().getLastKnownLocations().get(entity.getId())
                       .equals(CoordFacingCombo.createCoordFacingCombo(entity))))) {
-                    markUnitAsDirty(entity.getId());
+                    movedUnits.add(entity.getId());
                 }
             }
+            markUnitsAsDirty(movedUnits);
             while (!getDirtyUnits().isEmpty()) {
                 // If Precog is done, just exit
                 if (getDone().get()) {
                     return;
                 }
 
-                Integer entityId = getDirtyUnits().pollFirst();
-
-                if (entityId != null) {
-                    Entity entity = getGame().getEntity(entityId);
-                    if (entity != null) {
-                        // Pass the entity itself: log4j only calls toString() when DEBUG is enabled, whereas
-                        // getDisplayName() would build the string eagerly on every pass of this hot loop.
-                        LOGGER.debug("ensureToDate = recalculating paths for {}", entity);
-                        getPathEnumerator().recalculateMovesFor(entity);
-                        LOGGER.debug("ensureToDate = finished recalculating paths for {}", entity);
-                    }
+                List<Entity> dirtyEntities = pollDirtyEntities(false);
+                if (!dirtyEntities.isEmpty()) {
+                    LOGGER.debug("ensureToDate = recalculating paths for {} units", dirtyEntities.size());
+                    getPathEnumerator().recalculateMovesFor(dirtyEntities);
+                    LOGGER.debug("ensureToDate = finished recalculating paths for {} units", dirtyEntities.size());
                 }
             }
         } catch (Exception ignored) {
@@ -448,6 +474,23 @@ public class Precognition implements Runnable {
         }
     }
 
+    /**
+     * Removes all units from the dirty list and returns those that are still in the game.
+     *
+     * @param onMapOnly true to also leave out units that are not on the map
+     */
+    private List<Entity> pollDirtyEntities(boolean onMapOnly) {
+        List<Entity> dirtyEntities = new ArrayList<>();
+        Integer entityId;
+        while ((entityId = getDirtyUnits().pollFirst()) != null) {
+            Entity entity = getGame().getEntity(entityId);
+            if ((entity != null) && (!onMapOnly || isEntityOnMap(entity))) {
+                dirtyEntities.add(entity);
+            }
+        }
+        return dirtyEntities;
+    }
+
     @Override
     public void run() {
         try {
@@ -455,21 +498,18 @@ public class Precognition implements Runnable {
             // on an error.
             while (!getDone().get()) {
                 if (!getEventsToProcess().isEmpty()) {
+                    awaitEndOfEventBurst();
                     processGameEvents();
-                    ecmInfo = ComputeECM.computeAllEntitiesECMInfo(
-                          getGame().getEntitiesVector());
+                    updateECMInfo();
                 } else if (!getDirtyUnits().isEmpty()) {
-                    Integer entityId = getDirtyUnits().pollFirst();
-                    if (entityId != null) {
-                        Entity entity = getGame().getEntity(entityId);
-                        if ((entity != null) && isEntityOnMap(entity)) {
-                            unPause();
-                            // Entity toString() is only evaluated when DEBUG is enabled; see ensureUpToDate.
-                            LOGGER.debug("run = recalculating paths for {}", entity);
-                            getPathEnumerator().recalculateMovesFor(entity);
-                            LOGGER.debug("run = finished recalculating paths for {}", entity);
-                        }
-
+                    // All dirty units are recalculated together, so that the path enumerator can work on them in
+                    // parallel, e.g. at the start of the movement phase when every unit is dirty
+                    List<Entity> dirtyEntities = pollDirtyEntities(true);
+                    if (!dirtyEntities.isEmpty()) {
+                        unPause();
+                        LOGGER.debug("run = recalculating paths for {} units", dirtyEntities.size());
+                        getPathEnumerator().recalculateMovesFor(dirtyEntities);
+                        LOGGER.debug("run = finished recalculating paths for {} units", dirtyEntities.size());
                     }
                 } else if (getWaitWhenDone().get()) {
                     waitForUnpause(); // paused for a reason
@@ -511,6 +551,69 @@ public class Precognition implements Runnable {
         }
     }
 
+    /**
+     * Waits until no new game event has arrived for {@link #EVENT_BURST_QUIET_MILLIS}, at most
+     * {@link #MAX_EVENT_BURST_MILLIS}, or until the thread is paused or done. New events wake the thread up early
+     * through {@link #wakeUp()}.
+     */
+    private synchronized void awaitEndOfEventBurst() {
+        long deadline = System.currentTimeMillis() + MAX_EVENT_BURST_MILLIS;
+        int eventCount = getEventsToProcess().size();
+        while (!getDone().get() && !getWaitWhenDone().get()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                wait(Math.min(EVENT_BURST_QUIET_MILLIS, remaining));
+            } catch (InterruptedException ignored) {
+                return;
+            }
+            int newEventCount = getEventsToProcess().size();
+            if (newEventCount == eventCount) {
+                return;
+            }
+            eventCount = newEventCount;
+        }
+    }
+
+    /**
+     * Recomputes the cached ECMInfo, but only if any ECM or ECCM field it depends on has changed since it was last
+     * computed. Most game events (such as a unit without ECM moving) leave it unchanged.
+     */
+    private void updateECMInfo() {
+        List<Object> currentSources = collectECMSources();
+        if (!currentSources.equals(ecmSources)) {
+            ecmSources = currentSources;
+            ecmInfo = ComputeECM.computeAllEntitiesECMInfo(getGame().getEntitiesVector());
+        }
+    }
+
+    /**
+     * @return The inputs of {@link ComputeECM#computeAllEntitiesECMInfo(List)}: the ECM and ECCM fields of the units,
+     *       chaff, temporary ECM fields, units affected by IMP and the ECCM game option
+     */
+    private List<Object> collectECMSources() {
+        List<Object> sources = new ArrayList<>();
+        for (Entity entity : getGame().getEntitiesVector()) {
+            sources.add(entity.getECMInfo());
+            sources.add(entity.getECCMInfo());
+            if (entity.isImpEcmAffected()) {
+                sources.add(entity.getPosition());
+            }
+        }
+        for (SmokeCloud cloud : getGame().getSmokeCloudList()) {
+            if (cloud.getSmokeLevel() == SmokeCloud.SMOKE_CHAFF_LIGHT) {
+                sources.addAll(cloud.getCoordsList());
+            }
+        }
+        for (TemporaryECMField temporaryECMField : getGame().getTemporaryECMFields()) {
+            sources.add(temporaryECMField.toECMInfo());
+        }
+        sources.add(getGame().getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_ECCM));
+        return sources;
+    }
+
     /**
      * Process game events that have happened since the thread last checked i.e. if a unit has moved, my precaculated
      * paths are no longer valid
@@ -519,6 +622,9 @@ public class Precognition implements Runnable {
         // We don't want Game to change while this is happening
         GAME_LOCK.lock();
         try {
+            // Units that moved during the whole burst of events are marked dirty together, so that units depending on
+            // several of the changed hexes are only recalculated once
+            Set<Integer> movedUnits = new LinkedHashSet<>();
             LinkedList<GameEvent> eventsToProcessIterator = new LinkedList<>(getEventsToProcess());
             int numEvents = eventsToProcessIterator.size();
             for (int count = 0; count < numEvents; count++) {
@@ -558,12 +664,13 @@ public class Precognition implements Runnable {
                     LOGGER.debug("Received entity change event for {} (ID {})",
                           changeEvent.getEntity(),
                           entity.getId());
-                    markUnitAsDirty(changeEvent.getEntity().getId());
+                    movedUnits.add(changeEvent.getEntity().getId());
                 } else if (event instanceof GamePhaseChangeEvent phaseChange) {
                     LOGGER.debug("Phase change detected: {}", phaseChange.getNewPhase().name());
                     // this marks when I can all I can start recalculating paths.
                     // All units are dirty
                     if (phaseChange.getNewPhase().isMovement()) {
+                        movedUnits.clear();
                         getPathEnumerator().clear();
                         for (Entity entity : getGame().getEntitiesVector()) {
                             if (entity.isActive() && entity.isDeployed() && entity.getPosition() != null) {
@@ -573,6 +680,7 @@ public class Precognition implements Runnable {
                     }
                 }
             }
+            markUnitsAsDirty(movedUnits);
             LOGGER.debug("Events still to process: {}", getEventsToProcess().size());
         } finally {
             GAME_LOCK.unlock();
@@ -580,79 +688,70 @@ public class Precognition implements Runnable {
     }
 
     /**
-     * Called when a unit has moved and should be put on the dirty list, as well as any units who's moves contain that
-     * unit
+     * Called when units have moved. They are put on the dirty list, as well as any units whose paths pass through the
+     * hexes these units moved from or to. Other units keep their calculated paths.
      */
-    private void markUnitAsDirty(int id) {
+    private void markUnitsAsDirty(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
         // Prevent Game from changing while processing
         GAME_LOCK.lock();
         try {
-            // first of all, if a unit has been removed, remove it from the list and
-            // stop
-            if (getGame().getEntity(id) == null) {
-                getPathEnumerator().getLastKnownLocations().remove(id);
-                getPathEnumerator().getUnitMovableAreas().remove(id);
-                getPathEnumerator().getUnitPaths().remove(id);
-                getPathEnumerator().getUnitPotentialLocations().remove(id);
-                return;
-            }
-            // if a unit has moved or deployed, then it becomes dirty, and any units with its initial or final position
-            // in their list become dirty
-            Entity entity = getGame().getEntity(id);
-            if (entity != null) {
+            Set<Coords> changedHexes = new HashSet<>();
+            List<Entity> movedEntities = new ArrayList<>();
+            for (int id : ids) {
+                Entity entity = getGame().getEntity(id);
+                // first of all, if a unit has been removed, remove it from the list
+                if (entity == null) {
+                    getPathEnumerator().forgetUnit(id);
+                    continue;
+                }
+                movedEntities.add(entity);
+                // if a unit has moved or deployed, the units with paths through its initial or final position depend
+                // on it
                 if (!entity.isAero()) {
-                    TreeSet<Integer> toDirty = new TreeSet<>(
-                          getPathEnumerator().getEntitiesWithLocation(entity.getPosition(), true));
-                    if (getPathEnumerator().getLastKnownLocations()
-                          .containsKey(id)) {
-                        if (entity.isSelectableThisTurn()) {
-                            toDirty.addAll(getPathEnumerator()
-                                  .getEntitiesWithLocation(getPathEnumerator()
-                                        .getLastKnownLocations().get(id)
-                                        .getCoords(), true));
-                        }
-                    }
-                    // no need to dirty units that aren't selectable this turn
-                    List<Integer> toRemove = new ArrayList<>();
-                    for (Integer index : toDirty) {
-                        Entity dirtyEntity = getGame().getEntity(index);
-                        if ((dirtyEntity == null)
-                              || (!dirtyEntity.isSelectableThisTurn()
-                              && getGame().getPhase().isMovement())) {
-                            toRemove.add(index);
-                        }
-                    }
-
-                    for (Integer i : toRemove) {
-                        toDirty.remove(i);
+                    changedHexes.add(entity.getPosition());
+                    if (entity.isSelectableThisTurn()) {
+                        changedHexes.add(getPathEnumerator().getLastKnownCoords(id));
                     }
-
-                    if (!toDirty.isEmpty()) {
-                        StringBuilder msg = new StringBuilder("The following units have become dirty");
-                        msg.append(" as a result of a nearby move of ")
-                              .append(entity.getDisplayName());
-
-                        Iterator<Integer> dirtyIterator = toDirty.descendingIterator();
-                        while (dirtyIterator.hasNext()) {
-                            Integer i = dirtyIterator.next();
-                            Entity e = getGame().getEntity(i);
-                            if (e != null) {
-                                msg.append("\n  ").append(e.getDisplayName());
-                            }
-                        }
-                        LOGGER.debug(msg.toString());
+                }
+            }
+            changedHexes.remove(null);
+
+            TreeSet<Integer> toDirty = new TreeSet<>(getPathEnumerator().getEntitiesReaching(changedHexes, true));
+            // no need to dirty units that aren't selectable this turn
+            toDirty.removeIf(index -> {
+                Entity dirtyEntity = getGame().getEntity(index);
+                return (dirtyEntity == null)
+                      || (!dirtyEntity.isSelectableThisTurn() && getGame().getPhase().isMovement());
+            });
+            toDirty.removeAll(ids);
+
+            if (!toDirty.isEmpty()) {
+                StringBuilder msg = new StringBuilder("The following units have become dirty");
+                msg.append(" as a result of a nearby move of ")
+                      .append(movedEntities.stream().map(Entity::getDisplayName).collect(Collectors.joining(", ")));
+
+                Iterator<Integer> dirtyIterator = toDirty.descendingIterator();
+                while (dirtyIterator.hasNext()) {
+                    Integer i = dirtyIterator.next();
+                    Entity e = getGame().getEntity(i);
+                    if (e != null) {
+                        msg.append("\n  ").append(e.getDisplayName());
                     }
-                    getDirtyUnits().addAll(toDirty);
                 }
-
+                LOGGER.debug(msg.toString());
             }
+            getDirtyUnits().addAll(toDirty);
 
-            if (((entity != null) && entity.isSelectableThisTurn())
-                  || !getGame().getPhase().isMovement()) {
-                getDirtyUnits().add(id);
-            } else if (entity != null) {
-                getPathEnumerator().getLastKnownLocations().put(id,
-                      CoordFacingCombo.createCoordFacingCombo(entity));
+            for (Entity entity : movedEntities) {
+                if (entity.isSelectableThisTurn() || !getGame().getPhase().isMovement()) {
+                    getDirtyUnits().add(entity.getId());
+                } else {
+                    getPathEnumerator().getLastKnownLocations().put(entity.getId(),
+                          CoordFacingCombo.createCoordFacingCombo(entity));
+                }
             }
         } finally {
             GAME_LOCK.unlock();
@@ -670,7 +769,7 @@ public class Precognition implements Runnable {
         }
     }
 
-    private void setPathEnumerator(PathEnumerator pathEnumerator) {
+    void setPathEnumerator(PathEnumerator pathEnumerator) {
         PATH_ENUMERATOR_LOCK.writeLock().lock();
         try {
             LOGGER.debug("PATH_ENUMERATOR_LOCK write locked.");
@@ -714,13 +813,14 @@ public class Precognition implements Runnable {
         try {
             LOGGER.debug("GAME_LOCK write locked.");
             game.reset();
+            entityDeltaReceiver.clear();
         } finally {
             GAME_LOCK.unlock();
             LOGGER.debug("GAME_LOCK write unlocked.");
         }
     }
 
-    private Game getGame() {
+    Game getGame() {
         GAME_LOCK.lock();
         try {
             LOGGER.debug("GAME_LOCK read locked.");
@@ -769,6 +869,8 @@ public class Precognition implements Runnable {
 
         // Replace the entities in the game.
         getGame().setEntitiesVector(newEntities);
+        // Units that are gone will not be updated again
+        entityDeltaReceiver.retainEntities(getGame()::hasEntity);
         if (newOutOfGame != null) {
             getGame().setOutOfGameEntitiesVector(newOutOfGame);
         }
@@ -786,6 +888,19 @@ public class Precognition implements Runnable {
         getGame().setEntity(entityIndex, entity, movePath);
     }
 
+    /**
+     * Loads entity update data from a delta update; when the delta cannot be applied, a full update is requested.
+     */
+    private void receiveEntityUpdateDelta(Packet packet) throws InvalidPacketDataException {
+        int entityIndex = packet.getIntValue(0);
+        Entity entity = entityDeltaReceiver.receive(packet);
+        if (entity != null) {
+            getGame().setEntity(entityIndex, entity, packet.getUnitLocationVector(4));
+        } else {
+            getOwner().sendEntityUpdateResync(entityIndex);
+        }
+    }
+
     private void receiveEntityAdd(Packet packet) throws InvalidPacketDataException {
         @SuppressWarnings(value = "unchecked")
         List<Entity> entities = (List<Entity>) packet.getObject(0);
@@ -798,6 +913,7 @@ public class Precognition implements Runnable {
         int condition = packet.getIntValue(1);
         // Move the unit to its final resting place.
         getGame().removeEntities(entityIds, condition);
+        entityDeltaReceiver.remove(entityIds);
     }
 
     @SuppressWarnings("unchecked")
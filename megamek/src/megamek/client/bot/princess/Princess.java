@@ -81,6 +81,14 @@ import megamek.common.equipment.WeaponMounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.equipment.enums.BombType.BombTypeEnum;
 import megamek.common.event.GameCFREvent;
+import megamek.common.event.GameListenerAdapter;
+import megamek.common.event.GamePhaseChangeEvent;
+import megamek.common.event.GameSettingsChangeEvent;
+import megamek.common.event.board.GameBoardChangeEvent;
+import megamek.common.event.board.GameBoardNewEvent;
+import megamek.common.event.entity.GameEntityChangeEvent;
+import megamek.common.event.entity.GameEntityNewEvent;
+import megamek.common.event.entity.GameEntityRemoveEvent;
 import megamek.common.event.player.GamePlayerChatEvent;
 import megamek.common.game.IGame;
 import megamek.common.game.InitiativeRoll;
@@ -265,6 +273,52 @@ public class Princess extends BotClient {
         // and it will stay up-to date.
         precognition = new Precognition(this);
         precognitionThread = new Thread(precognition, "Princess-precognition (" + getName() + ")");
+
+        game.addGameListener(new FireControlCacheInvalidator());
+    }
+
+    /**
+     * Drops the memoized attack estimates whenever the game state they were derived from changes and logs the cache
+     * statistics at the end of each phase.
+     */
+    private class FireControlCacheInvalidator extends GameListenerAdapter {
+
+        @Override
+        public void gamePhaseChange(GamePhaseChangeEvent e) {
+            FireControlCache cache = fireControlState.getFireControlCache();
+            cache.logStatistics(getName() + " in phase " + e.getOldPhase());
+            cache.invalidate();
+        }
+
+        @Override
+        public void gameEntityNew(GameEntityNewEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
+
+        @Override
+        public void gameEntityRemove(GameEntityRemoveEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
+
+        @Override
+        public void gameEntityChange(GameEntityChangeEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
+
+        @Override
+        public void gameBoardNew(GameBoardNewEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
+
+        @Override
+        public void gameBoardChanged(GameBoardChangeEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
+
+        @Override
+        public void gameSettingsChange(GameSettingsChangeEvent e) {
+            fireControlState.getFireControlCache().invalidate();
+        }
     }
 
     /**
@@ -59,7 +59,7 @@ public class RankedPath implements Comparable<RankedPath> {
      * Creation-order id, used only to break {@link #compareTo} ties in favour of the earliest-created path so the
      * ordering is a valid total order. Not part of {@link #equals(Object)}/{@link #hashCode()} identity.
      */
-    private final long creationId = ID_GENERATOR.getAndIncrement();
+    private long creationId = ID_GENERATOR.getAndIncrement();
 
     // the expected damage resulting from the calculation of this ranked path
     private double expectedDamage;
@@ -88,6 +88,15 @@ public class RankedPath implements Comparable<RankedPath> {
         return scores;
     }
 
+    /**
+     * Gives this path a new creation-order id, later than that of every path created so far. Paths ranked in parallel
+     * are created in no particular order; renewing their ids in the order of the candidate paths restores the
+     * tie-breaking of {@link #compareTo} to what it is when they are ranked one after another.
+     */
+    void renewCreationOrder() {
+        creationId = ID_GENERATOR.getAndIncrement();
+    }
+
     public RankedPath(double r, MovePath p, String reason) {
         rank = r;
         path = p;
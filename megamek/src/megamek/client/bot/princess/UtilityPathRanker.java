@@ -47,7 +47,6 @@ import megamek.common.compute.Compute;
 import megamek.common.game.Game;
 import megamek.common.moves.MovePath;
 import megamek.common.options.OptionsConstants;
-import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.common.units.EjectedCrew;
 import megamek.common.units.Entity;
 import megamek.common.units.UnitRole;
@@ -90,7 +89,6 @@ public class UtilityPathRanker extends BasicPathRanker {
     protected RankedPath rankPath(MovePath path, Game game, int maxRange, double fallTolerance, List<Entity> enemies,
           Coords friendsCoords) {
         Entity movingUnit = path.getEntity();
-        checkBlackIcePresence(game);
         MovePath pathCopy = path.clone();
 
         // Worry about failed piloting rolls (weighted by Fall Shame).
@@ -215,14 +213,6 @@ public class UtilityPathRanker extends BasicPathRanker {
     }
 
 
-    private void checkBlackIcePresence(Game game) {
-        if (blackIce == -1) {
-            blackIce = ((game.getOptions().booleanOption(OptionsConstants.ADVANCED_BLACK_ICE)
-                  && game.getPlanetaryConditions().getTemperature() <= PlanetaryConditions.BLACK_ICE_TEMP)
-                  || game.getPlanetaryConditions().getWeather().isIceStorm()) ? 1 : 0;
-        }
-    }
-
     /**
      * When playing Double Blind, we want to move towards strategic goals.
      *
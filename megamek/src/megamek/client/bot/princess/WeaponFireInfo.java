@@ -610,8 +610,7 @@ public class WeaponFireInfo {
         }
 
         if (getTarget() instanceof Entity) {
-            double dmg = Compute.getExpectedDamage(getGame(), getAction(),
-                  true, owner.getPrecognition().getECMInfo());
+            double dmg = computeExpectedDamageOnHit();
             if (weaponType.hasFlag(WeaponType.F_PLASMA)) {
                 dmg += 3; // Account for potential plasma heat.
             }
@@ -621,6 +620,28 @@ public class WeaponFireInfo {
         return new double[] { weaponType.getDamage(), 0D, 0D };
     }
 
+    /**
+     * Returns the expected damage of this weapon on a hit, as calculated by
+     * {@link Compute#getExpectedDamage(Game, WeaponAttackAction, boolean, List)}. That value depends only on the
+     * actual unit positions, the weapon, its mode and ammo; as it involves a full to-hit calculation, it is memoized in
+     * the owner's {@link FireControlCache}.
+     */
+    private double computeExpectedDamageOnHit() {
+        final FireControlState fireControlState = owner.getFireControlState();
+        final FireControlCache cache = (null == fireControlState) ? null : fireControlState.getFireControlCache();
+        if (null == cache) {
+            return Compute.getExpectedDamage(getGame(), getAction(), true, owner.getPrecognition().getECMInfo());
+        }
+        final FireControlCache.DamageKey key = new FireControlCache.DamageKey(getShooter().getId(), getTarget(),
+              getAction().getWeaponId(), getAction().getAmmoId(), getWeapon().curMode().getName());
+        final float damage = cache.getExpectedDamage(key,
+              () -> Compute.getExpectedDamage(getGame(), getAction(), true, owner.getPrecognition().getECMInfo()));
+        // Leave the attack action in the same state as the calculation would
+        getAction().setAssumedHit(true);
+        getAction().setExpectedDamage(damage);
+        return damage;
+    }
+
     /**
      * Aerospace units need to think carefully before firing TAGs at ground targets, because this precludes firing _any_
      * other weapons this turn.
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ratgenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * A lightweight, immutable element of a RAT generator era file. Era files are read into a tree of these nodes, either
+ * from the XML or from the binary {@link EraSnapshot}, so that the availability data can be processed the same way
+ * regardless of its source. Only elements are kept; an element that has no child elements keeps its text content
+ * unchanged (untrimmed), an element with child elements has empty text.
+ */
+final class EraNode {
+
+    private final String name;
+    private final Map<String, String> attributes;
+    private final String text;
+    private final List<EraNode> children;
+
+    EraNode(String name, Map<String, String> attributes, String text, List<EraNode> children) {
+        this.name = name;
+        this.attributes = attributes.isEmpty() ? Map.of() : Collections.unmodifiableMap(attributes);
+        this.text = text;
+        this.children = children.isEmpty() ? List.of() : Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Converts the given DOM element and its child elements.
+     *
+     * @param node the DOM element
+     *
+     * @return the converted element
+     */
+    static EraNode of(Node node) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        NamedNodeMap domAttributes = node.getAttributes();
+        if (domAttributes != null) {
+            for (int i = 0; i < domAttributes.getLength(); i++) {
+                Node attribute = domAttributes.item(i);
+                attributes.put(attribute.getNodeName(), attribute.getTextContent());
+            }
+        }
+        List<EraNode> children = new ArrayList<>();
+        for (int i = 0; i < node.getChildNodes().getLength(); i++) {
+            Node child = node.getChildNodes().item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                children.add(of(child));
+            }
+        }
+        String text = children.isEmpty() ? node.getTextContent() : "";
+        return new EraNode(node.getNodeName(), attributes, text, children);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @param attributeName the attribute name
+     *
+     * @return the value of the given attribute or null if this element does not have it
+     */
+    @Nullable String getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    String getText() {
+        return text;
+    }
+
+    List<EraNode> getChildren() {
+        return children;
+    }
+}
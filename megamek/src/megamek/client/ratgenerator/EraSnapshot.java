@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ratgenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * A compiled binary snapshot of the RAT generator era files, kept as {@value #FILE_NAME} in the force generator
+ * directory. It stores the element tree of each era file ({@link EraNode}) with a shared string table, so that eras
+ * can be loaded without parsing the XML. Each era is stored with the length and modification time of the era file it
+ * was compiled from; an era whose file has changed since is not used and is compiled again from the XML.
+ */
+final class EraSnapshot {
+    private static final MMLogger LOGGER = MMLogger.create(EraSnapshot.class);
+
+    static final String FILE_NAME = "ratgen.cache";
+
+    private static final int MAGIC = 0x4D4D5247;
+    private static final int FORMAT_VERSION = 1;
+
+    private record Era(long sourceLength, long sourceModified, EraNode root) {
+        boolean isCompiledFrom(File source) {
+            return (source.length() == sourceLength) && (source.lastModified() == sourceModified);
+        }
+    }
+
+    private final File file;
+    private final Map<Integer, Era> eras = new HashMap<>();
+    private final Set<Integer> usedEras = new HashSet<>();
+    private boolean changed;
+
+    private EraSnapshot(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the snapshot in the given force generator directory. When there is no snapshot or it cannot be read, the
+     * returned snapshot is empty.
+     *
+     * @param dir the force generator directory
+     *
+     * @return the snapshot
+     */
+    static EraSnapshot load(File dir) {
+        EraSnapshot snapshot = new EraSnapshot(new File(dir, FILE_NAME));
+        if (snapshot.file.exists()) {
+            try {
+                snapshot.read();
+            } catch (Exception ex) {
+                LOGGER.warn(ex, "Unable to read the RAT generator snapshot {}; it will be rebuilt", snapshot.file);
+                snapshot.eras.clear();
+                snapshot.changed = true;
+            }
+        }
+        return snapshot;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * @param era    the era
+     * @param source the era file
+     *
+     * @return the compiled era or null if it is not in the snapshot or the era file has changed since it was compiled
+     */
+    @Nullable EraNode getEra(int era, File source) {
+        Era stored = eras.get(era);
+        if ((stored == null) || !stored.isCompiledFrom(source)) {
+            return null;
+        }
+        usedEras.add(era);
+        return stored.root();
+    }
+
+    /**
+     * Stores the given era, compiled from the given era file. It is written with the next
+     * {@link #saveIfChanged()}.
+     *
+     * @param era    the era
+     * @param source the era file
+     * @param root   the root element of the era file
+     */
+    void putEra(int era, File source, EraNode root) {
+        eras.put(era, new Era(source.length(), source.lastModified(), root));
+        usedEras.add(era);
+        changed = true;
+    }
+
+    /**
+     * Writes the snapshot if eras were compiled since it was read. Only the eras that were requested or stored since
+     * then are written, so eras whose files were removed are dropped.
+     */
+    void saveIfChanged() {
+        if (!changed) {
+            return;
+        }
+        try {
+            write();
+            changed = false;
+        } catch (Exception ex) {
+            LOGGER.warn(ex, "Unable to write the RAT generator snapshot {}", file);
+        }
+    }
+
+    private void read() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+        if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+            throw new IOException("Unknown RAT generator snapshot format");
+        }
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] encoded = new byte[in.readInt()];
+            in.readFully(encoded);
+            strings[i] = new String(encoded, StandardCharsets.UTF_8);
+        }
+        int eraCount = in.readInt();
+        for (int i = 0; i < eraCount; i++) {
+            int era = in.readInt();
+            long sourceLength = in.readLong();
+            long sourceModified = in.readLong();
+            eras.put(era, new Era(sourceLength, sourceModified, readNode(in, strings)));
+        }
+    }
+
+    private static EraNode readNode(DataInputStream in, String[] strings) throws IOException {
+        String name = strings[in.readInt()];
+        int attributeCount = in.readInt();
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put(strings[in.readInt()], strings[in.readInt()]);
+        }
+        String text = strings[in.readInt()];
+        int childCount = in.readInt();
+        List<EraNode> children = new ArrayList<>(childCount);
+        for (int i = 0; i < childCount; i++) {
+            children.add(readNode(in, strings));
+        }
+        return new EraNode(name, attributes, text, children);
+    }
+
+    private void write() throws IOException {
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> stringList = new ArrayList<>();
+        ByteArrayOutputStream eraBytes = new ByteArrayOutputStream();
+        DataOutputStream eraOut = new DataOutputStream(eraBytes);
+        Map<Integer, Era> writtenEras = new TreeMap<>(eras);
+        writtenEras.keySet().retainAll(usedEras);
+        eraOut.writeInt(writtenEras.size());
+        for (Map.Entry<Integer, Era> entry : writtenEras.entrySet()) {
+            eraOut.writeInt(entry.getKey());
+            eraOut.writeLong(entry.getValue().sourceLength());
+            eraOut.writeLong(entry.getValue().sourceModified());
+            writeNode(eraOut, entry.getValue().root(), stringIds, stringList);
+        }
+
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(stringList.size());
+            for (String string : stringList) {
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            eraBytes.writeTo(out);
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeNode(DataOutputStream out, EraNode node, Map<String, Integer> stringIds,
+          List<String> stringList) throws IOException {
+        out.writeInt(stringId(node.getName(), stringIds, stringList));
+        out.writeInt(node.getAttributes().size());
+        for (Map.Entry<String, String> attribute : node.getAttributes().entrySet()) {
+            out.writeInt(stringId(attribute.getKey(), stringIds, stringList));
+            out.writeInt(stringId(attribute.getValue(), stringIds, stringList));
+        }
+        out.writeInt(stringId(node.getText(), stringIds, stringList));
+        out.writeInt(node.getChildren().size());
+        for (EraNode child : node.getChildren()) {
+            writeNode(out, child, stringIds, stringList);
+        }
+    }
+
+    private static int stringId(String string, Map<String, Integer> stringIds, List<String> stringList) {
+        return stringIds.computeIfAbsent(string, s -> {
+            stringList.add(s);
+            return stringList.size() - 1;
+        });
+    }
+}
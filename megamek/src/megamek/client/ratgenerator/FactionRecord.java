@@ -611,57 +611,55 @@ public class FactionRecord {
     }
 
     public void loadEra(Node node, int era) {
-        for (int i = 0; i < node.getChildNodes().getLength(); i++) {
-            Node wn = node.getChildNodes().item(i);
-            switch (wn.getNodeName()) {
+        loadEra(EraNode.of(node), era);
+    }
+
+    void loadEra(EraNode node, int era) {
+        for (EraNode wn : node.getChildren()) {
+            switch (wn.getName()) {
                 case "pctOmni":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                          && wn.getAttributes().getNamedItem("unitType").getTextContent()
-                          .equalsIgnoreCase("AeroSpaceFighter")) {
-                        setPctTech(TechCategory.OMNI_AERO, era, wn.getTextContent());
+                    if ((wn.getAttribute("unitType") != null)
+                          && wn.getAttribute("unitType").equalsIgnoreCase("AeroSpaceFighter")) {
+                        setPctTech(TechCategory.OMNI_AERO, era, wn.getText());
                     } else {
-                        setPctTech(TechCategory.OMNI, era, wn.getTextContent());
+                        setPctTech(TechCategory.OMNI, era, wn.getText());
                     }
                     break;
                 case "pctClan":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                          && wn.getAttributes().getNamedItem("unitType").getTextContent()
-                          .equalsIgnoreCase("AeroSpaceFighter")) {
-                        setPctTech(TechCategory.CLAN_AERO, era, wn.getTextContent());
-                    } else if ((wn.getAttributes().getNamedItem("unitType") != null)
-                          && wn.getAttributes().getNamedItem("unitType").getTextContent()
-                          .equalsIgnoreCase("Vehicle")) {
-                        setPctTech(TechCategory.CLAN_VEE, era, wn.getTextContent());
+                    if ((wn.getAttribute("unitType") != null)
+                          && wn.getAttribute("unitType").equalsIgnoreCase("AeroSpaceFighter")) {
+                        setPctTech(TechCategory.CLAN_AERO, era, wn.getText());
+                    } else if ((wn.getAttribute("unitType") != null)
+                          && wn.getAttribute("unitType").equalsIgnoreCase("Vehicle")) {
+                        setPctTech(TechCategory.CLAN_VEE, era, wn.getText());
                     } else {
-                        setPctTech(TechCategory.CLAN, era, wn.getTextContent());
+                        setPctTech(TechCategory.CLAN, era, wn.getText());
                     }
                     break;
                 case "pctSL":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                          && wn.getAttributes().getNamedItem("unitType").getTextContent()
-                          .equalsIgnoreCase("AeroSpaceFighter")) {
-                        setPctTech(TechCategory.IS_ADVANCED_AERO, era, wn.getTextContent());
-                    } else if ((wn.getAttributes().getNamedItem("unitType") != null)
-                          && wn.getAttributes().getNamedItem("unitType").getTextContent()
-                          .equalsIgnoreCase("Vehicle")) {
-                        setPctTech(TechCategory.IS_ADVANCED_VEE, era, wn.getTextContent());
+                    if ((wn.getAttribute("unitType") != null)
+                          && wn.getAttribute("unitType").equalsIgnoreCase("AeroSpaceFighter")) {
+                        setPctTech(TechCategory.IS_ADVANCED_AERO, era, wn.getText());
+                    } else if ((wn.getAttribute("unitType") != null)
+                          && wn.getAttribute("unitType").equalsIgnoreCase("Vehicle")) {
+                        setPctTech(TechCategory.IS_ADVANCED_VEE, era, wn.getText());
                     } else {
-                        setPctTech(TechCategory.IS_ADVANCED, era, wn.getTextContent());
+                        setPctTech(TechCategory.IS_ADVANCED, era, wn.getText());
                     }
                     break;
                 case "omniMargin":
-                    omniMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    omniMargin.put(era, Integer.parseInt(wn.getText()));
                     break;
                 case "techMargin":
-                    techMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    techMargin.put(era, Integer.parseInt(wn.getText()));
                     break;
                 case "upgradeMargin":
-                    upgradeMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    upgradeMargin.put(era, Integer.parseInt(wn.getText()));
                     break;
                 case "salvage":
-                    pctSalvage.put(era, Integer.parseInt(wn.getAttributes().getNamedItem("pct").getTextContent()));
+                    pctSalvage.put(era, Integer.parseInt(wn.getAttribute("pct")));
                     salvage.put(era, new HashMap<>());
-                    String[] fields = wn.getTextContent().trim().split(",");
+                    String[] fields = wn.getText().trim().split(",");
                     for (String field : fields) {
                         if (!field.isBlank()) {
                             String[] subfields = field.split(":");
@@ -673,9 +671,8 @@ public class FactionRecord {
                     break;
                 case "weightDistribution":
                     try {
-                        int unitType = ModelRecord
-                              .parseUnitType(wn.getAttributes().getNamedItem("unitType").getTextContent());
-                        setWeightDistribution(era, unitType, wn.getTextContent());
+                        int unitType = ModelRecord.parseUnitType(wn.getAttribute("unitType"));
+                        setWeightDistribution(era, unitType, wn.getText());
                     } catch (Exception ex) {
                         logger.error(ex,
                               "RATGenerator: error parsing weight distributions for {}, {}", key, era);
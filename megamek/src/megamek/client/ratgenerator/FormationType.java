@@ -441,6 +441,39 @@ public class FormationType {
         return generateFormation(params, numUnits, networkMask, bestEffort, -1, -1);
     }
 
+    /**
+     * Returns the parameters of the tables that {@link #generateFormation(List, List, int, boolean, int, int)} draws
+     * from for the given parameter groups, that is copies of them with this formation's weight classes and mission
+     * roles applied. This allows pre-generating those tables.
+     *
+     * @param params one {@link Parameters} per unit-type group; these are not changed
+     *
+     * @return the parameters of the tables, in the order of the given parameters
+     */
+    public List<Parameters> getTableParameters(List<Parameters> params) {
+        List<Integer> weightClasses = getGroundWeightClasses();
+        List<Integer> airWeightClasses = getAirWeightClasses(weightClasses);
+        List<Parameters> tableParameters = new ArrayList<>();
+        for (Parameters parameters : params) {
+            Parameters copy = parameters.copy();
+            applyFormationWeightClasses(copy, weightClasses, airWeightClasses);
+            tableParameters.add(copy);
+        }
+        return tableParameters;
+    }
+
+    private List<Integer> getGroundWeightClasses() {
+        return IntStream.rangeClosed(minWeightClass, Math.min(maxWeightClass, EntityWeightClass.WEIGHT_SUPER_HEAVY))
+              .boxed()
+              .collect(Collectors.toList());
+    }
+
+    private static List<Integer> getAirWeightClasses(List<Integer> groundWeightClasses) {
+        return groundWeightClasses.stream()
+              .filter(weightClass -> weightClass < EntityWeightClass.WEIGHT_ASSAULT)
+              .collect(Collectors.toList());
+    }
+
     /**
      * Resolves the weight classes one parameter set will draw from. Starts from this formation's own min/max range (the
      * air range drops Assault for fighters), then intersects it with any weight classes the caller requested (the Force
@@ -529,11 +562,8 @@ public class FormationType {
             }
         }
 
-        List<Integer> weightClasses = IntStream.rangeClosed(minWeightClass,
-              Math.min(maxWeightClass, EntityWeightClass.WEIGHT_SUPER_HEAVY)).boxed().collect(Collectors.toList());
-        List<Integer> airWeightClasses = weightClasses.stream()
-              .filter(weightClass -> weightClass < EntityWeightClass.WEIGHT_ASSAULT)
-              .collect(Collectors.toList());
+        List<Integer> weightClasses = getGroundWeightClasses();
+        List<Integer> airWeightClasses = getAirWeightClasses(weightClasses);
 
         params.forEach(parameters -> applyFormationWeightClasses(parameters, weightClasses, airWeightClasses));
 
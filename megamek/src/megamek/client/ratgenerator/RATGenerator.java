@@ -39,7 +39,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
@@ -64,10 +63,7 @@ import megamek.common.universe.Factions2;
 import megamek.common.util.fileUtils.MegaMekFile;
 import megamek.logging.MMLogger;
 import megamek.utilities.xml.MMXMLUtility;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * Generates a random assignment table (RAT) dynamically based on a variety of criteria, including faction, era, unit
@@ -91,6 +87,9 @@ public class RATGenerator {
     /** Feeds in units that declare their own availability in their unit file, rather than in the era files. */
     private final UnitFileAvailabilityLoader unitFileAvailabilityLoader;
 
+    /** Compiled copy of the era files, read on the first era load; null until then */
+    private EraSnapshot eraSnapshot;
+
     private static RATGenerator ratGenerator = null;
     private static boolean interrupted = false;
     private static boolean dispose = false;
@@ -169,12 +168,14 @@ public class RATGenerator {
         chassisIndex.clear();
         modelIndex.clear();
         eraSet.clear();
+        UnitTable.clearCache();
         initialized = false;
         initializing = false;
         initialize(dir);
     }
 
-    public AvailabilityRating findChassisAvailabilityRecord(int era, String unit, String faction, int year) {
+    public synchronized AvailabilityRating findChassisAvailabilityRecord(int era, String unit, String faction,
+          int year) {
         FactionRecord factionRecord = getFaction(faction);
         if (factionRecord != null) {
             return findChassisAvailabilityRecord(era, unit, factionRecord, year);
@@ -202,8 +203,8 @@ public class RATGenerator {
      *
      * @return chassis availability rating, relative to other chassis in a collection
      */
-    public @Nullable AvailabilityRating findChassisAvailabilityRecord(int era, String unit, FactionRecord factionRecord,
-          int year) {
+    public synchronized @Nullable AvailabilityRating findChassisAvailabilityRecord(int era, String unit,
+          FactionRecord factionRecord, int year) {
 
         if (factionRecord == null) {
             return null;
@@ -262,7 +263,8 @@ public class RATGenerator {
         return null;
     }
 
-    public @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit, String faction) {
+    public synchronized @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
+          String faction) {
         FactionRecord factionRecord = getFaction(faction);
         if (factionRecord != null) {
             return findModelAvailabilityRecord(era, unit, factionRecord);
@@ -288,7 +290,7 @@ public class RATGenerator {
      *
      * @return the availability value relative to other models of the same chassis
      */
-    public @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
+    public synchronized @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
           @Nullable FactionRecord factionRecord) {
 
         ModelRecord modelRecord = models.get(unit);
@@ -355,7 +357,7 @@ public class RATGenerator {
      *
      * @return the availability rating, or {@code null} if the faction does not have this model yet in this year
      */
-    public @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
+    public synchronized @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
           @Nullable FactionRecord factionRecord, int year) {
 
         AvailabilityRating availabilityRating = findModelAvailabilityRecord(era, unit, factionRecord);
@@ -373,7 +375,8 @@ public class RATGenerator {
      *
      * @return the availability rating, or {@code null} if the faction does not have this model yet in this year
      */
-    public @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit, String faction, int year) {
+    public synchronized @Nullable AvailabilityRating findModelAvailabilityRecord(int era, String unit,
+          String faction, int year) {
         AvailabilityRating availabilityRating = findModelAvailabilityRecord(era, unit, faction);
 
         return isAvailableYet(availabilityRating, year) ? availabilityRating : null;
@@ -502,7 +505,7 @@ public class RATGenerator {
         return models.values();
     }
 
-    public ModelRecord getModelRecord(String key) {
+    public synchronized ModelRecord getModelRecord(String key) {
         return models.get(key);
     }
 
@@ -510,7 +513,7 @@ public class RATGenerator {
         return chassis.values();
     }
 
-    public ChassisRecord getChassisRecord(String key) {
+    public synchronized ChassisRecord getChassisRecord(String key) {
         return chassis.get(key);
     }
 
@@ -556,7 +559,7 @@ public class RATGenerator {
         }
     }
 
-    public boolean eraIsLoaded(int era) {
+    public synchronized boolean eraIsLoaded(int era) {
         return chassisIndex.containsKey(era);
     }
 
@@ -644,7 +647,8 @@ public class RATGenerator {
      *
      * @return list of entries suitable for building a random generation table, may be empty
      */
-    public List<UnitTable.TableEntry> generateTable(FactionRecord fRec,
+    // Synchronized since it loads eras into the shared indexes and reads them; tables are generated one at a time
+    public synchronized List<UnitTable.TableEntry> generateTable(FactionRecord fRec,
           int unitType,
           int year,
           String rating,
@@ -1516,6 +1520,9 @@ public class RATGenerator {
             // isInitialized() start iterating chassis/model/faction collections on another thread while this loop was
             // still adding to them, which threw ConcurrentModificationException.
             ratGenerator.getEraSet().forEach(e -> ratGenerator.loadEra(e, dir));
+            if (ratGenerator.eraSnapshot != null) {
+                ratGenerator.eraSnapshot.saveIfChanged();
+            }
             ratGenerator.initialized = true;
             ratGenerator.notifyListenersOfInitialization();
         }
@@ -1528,9 +1535,10 @@ public class RATGenerator {
 
     /**
      * If the year is equal to one of the era marks, it loads that era. If it is between two, it loads eras on both
-     * sides. Otherwise, just load the closest era.
+     * sides. Otherwise, just load the closest era. Synchronized so that a table generated on another thread never
+     * sees the indexes half loaded.
      */
-    public void loadYear(final int year) {
+    public synchronized void loadYear(final int year) {
         if (getEraSet().isEmpty()) {
             return;
         } else if (getEraSet().contains(year)) {
@@ -1599,6 +1607,11 @@ public class RATGenerator {
         }
     }
 
+    /**
+     * Loads the availability of the given era. Synchronized, as are the record and availability lookups, so that a
+     * lookup on another thread, e.g. while generating a force, waits for the era to be loaded completely instead of
+     * finding its indexes still empty or half filled.
+     */
     private synchronized void loadEra(int era, File dir) {
         if (eraIsLoaded(era)) {
             return;
@@ -1606,11 +1619,8 @@ public class RATGenerator {
         chassisIndex.put(era, new HashMap<>());
         modelIndex.put(era, new HashMap<>());
         File file = new MegaMekFile(dir, era + ".xml").getFile();
-        FileInputStream fis;
-        try {
-            fis = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
-            LOGGER.error(e, "Unable to read RAT generator file for era {}", era);
+        if (!file.isFile()) {
+            LOGGER.error("Unable to read RAT generator file {} for era {}", file, era);
             return;
         }
         while (!MekSummaryCache.getInstance().isInitialized()) {
@@ -1621,28 +1631,16 @@ public class RATGenerator {
             }
         }
 
-        Document xmlDoc;
-
-        try {
-            DocumentBuilder db = MMXMLUtility.newSafeDocumentBuilder();
-            xmlDoc = db.parse(fis);
-        } catch (Exception ex) {
-            LOGGER.error(ex, "loadEra");
+        EraNode root = readEraFile(era, file, dir);
+        if (root == null) {
             return;
         }
 
-        Element element = xmlDoc.getDocumentElement();
-        NodeList nl = element.getChildNodes();
-
-        element.normalize();
-
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node mainNode = nl.item(x);
-            if (mainNode.getNodeName().equalsIgnoreCase("factions")) {
-                for (int i = 0; i < mainNode.getChildNodes().getLength(); i++) {
-                    Node wn = mainNode.getChildNodes().item(i);
-                    if (wn.getNodeName().equalsIgnoreCase("faction")) {
-                        String fKey = wn.getAttributes().getNamedItem("key").getTextContent();
+        for (EraNode mainNode : root.getChildren()) {
+            if (mainNode.getName().equalsIgnoreCase("factions")) {
+                for (EraNode wn : mainNode.getChildren()) {
+                    if (wn.getName().equalsIgnoreCase("faction")) {
+                        String fKey = wn.getAttribute("key");
                         if (fKey != null) {
                             FactionRecord rec = factions.get(fKey);
                             if (rec != null) {
@@ -1655,10 +1653,9 @@ public class RATGenerator {
                         }
                     }
                 }
-            } else if (mainNode.getNodeName().equalsIgnoreCase("units")) {
-                for (int i = 0; i < mainNode.getChildNodes().getLength(); i++) {
-                    Node wn = mainNode.getChildNodes().item(i);
-                    if (wn.getNodeName().equalsIgnoreCase("chassis")) {
+            } else if (mainNode.getName().equalsIgnoreCase("units")) {
+                for (EraNode wn : mainNode.getChildren()) {
+                    if (wn.getName().equalsIgnoreCase("chassis")) {
                         parseChassisNode(era, wn);
                     }
                 }
@@ -1670,6 +1667,32 @@ public class RATGenerator {
         notifyListenersEraLoaded();
     }
 
+    /**
+     * Returns the element tree of the given era file. It is taken from the {@link EraSnapshot} when the snapshot holds
+     * an up-to-date copy; otherwise the XML is parsed and the result is added to the snapshot.
+     *
+     * @return the root element or null if the era file cannot be parsed
+     */
+    private @Nullable EraNode readEraFile(int era, File file, File dir) {
+        if ((eraSnapshot == null) || !eraSnapshot.getFile().getParentFile().equals(dir)) {
+            eraSnapshot = EraSnapshot.load(dir);
+        }
+        EraNode root = eraSnapshot.getEra(era, file);
+        if (root == null) {
+            try (FileInputStream fis = new FileInputStream(file)) {
+                DocumentBuilder db = MMXMLUtility.newSafeDocumentBuilder();
+                Element element = db.parse(fis).getDocumentElement();
+                element.normalize();
+                root = EraNode.of(element);
+            } catch (Exception ex) {
+                LOGGER.error(ex, "loadEra");
+                return null;
+            }
+            eraSnapshot.putEra(era, file, root);
+        }
+        return root;
+    }
+
     /**
      * Creates model and chassis records for all units that don't already have entries. This should only be called after
      * all availability records are loaded, otherwise they will be overwritten. Used for editing.
@@ -1703,14 +1726,14 @@ public class RATGenerator {
         }
     }
 
-    private void parseChassisNode(int era, Node wn) {
+    private void parseChassisNode(int era, EraNode wn) {
         boolean omni = false;
-        String chassisName = wn.getAttributes().getNamedItem("name").getTextContent();
-        String unitType = wn.getAttributes().getNamedItem("unitType").getTextContent();
+        String chassisName = wn.getAttribute("name");
+        String unitType = wn.getAttribute("unitType");
         String chassisKey = chassisName + '[' + unitType + ']';
-        if (wn.getAttributes().getNamedItem("omni") != null) {
+        if (wn.getAttribute("omni") != null) {
             omni = true;
-            if (wn.getAttributes().getNamedItem("omni").getTextContent().equalsIgnoreCase("IS")) {
+            if (wn.getAttribute("omni").equalsIgnoreCase("IS")) {
                 chassisKey += "ISOmni";
             } else {
                 chassisKey += "ClanOmni";
@@ -1725,11 +1748,10 @@ public class RATGenerator {
             chassis.put(chassisKey, cr);
         }
 
-        for (int j = 0; j < wn.getChildNodes().getLength(); j++) {
-            Node wn2 = wn.getChildNodes().item(j);
-            if (wn2.getNodeName().equalsIgnoreCase("availability")) {
+        for (EraNode wn2 : wn.getChildren()) {
+            if (wn2.getName().equalsIgnoreCase("availability")) {
                 chassisIndex.get(era).put(chassisKey, new HashMap<>());
-                String[] codes = wn2.getTextContent().trim().split(",");
+                String[] codes = wn2.getText().trim().split(",");
                 // Create a separate availability rating for each provided faction
                 for (String code : codes) {
 
@@ -1754,16 +1776,14 @@ public class RATGenerator {
                     }
 
                 }
-            } else if (wn2.getNodeName().equalsIgnoreCase("model")) {
+            } else if (wn2.getName().equalsIgnoreCase("model")) {
                 parseModelNode(era, cr, wn2);
             }
         }
     }
 
-    private void parseModelNode(int era, ChassisRecord chassisRecord, Node node) {
-        String modelKey = (chassisRecord.getChassis() + ' ' + node.getAttributes()
-              .getNamedItem("name")
-              .getTextContent()).trim();
+    private void parseModelNode(int era, ChassisRecord chassisRecord, EraNode node) {
+        String modelKey = (chassisRecord.getChassis() + ' ' + node.getAttribute("name")).trim();
         boolean newEntry = false;
         ModelRecord modelRecord = models.get(modelKey);
         if (modelRecord == null) {
@@ -1784,28 +1804,23 @@ public class RATGenerator {
             }
 
             if (modelRecord == null) {
-                LOGGER.error("{} {} not found.",
-                      chassisRecord.getChassis(),
-                      node.getAttributes().getNamedItem("name").getTextContent());
+                LOGGER.error("{} {} not found.", chassisRecord.getChassis(), node.getAttribute("name"));
                 return;
             }
         }
         chassisRecord.addModel(modelRecord);
-        if (node.getAttributes().getNamedItem("mechanized") != null) {
-            modelRecord.setMechanizedBA(Boolean.parseBoolean(node.getAttributes()
-                  .getNamedItem("mechanized")
-                  .getTextContent()));
-        }
-
-        for (int k = 0; k < node.getChildNodes().getLength(); k++) {
-            Node wn2 = node.getChildNodes().item(k);
-            if (wn2.getNodeName().equalsIgnoreCase("roles") && newEntry) {
-                modelRecord.addRoles(wn2.getTextContent().trim());
-            } else if (wn2.getNodeName().equalsIgnoreCase("deployedWith") && newEntry) {
-                modelRecord.setRequiredUnits(wn2.getTextContent().trim());
-            } else if (wn2.getNodeName().equalsIgnoreCase("availability")) {
+        if (node.getAttribute("mechanized") != null) {
+            modelRecord.setMechanizedBA(Boolean.parseBoolean(node.getAttribute("mechanized")));
+        }
+
+        for (EraNode wn2 : node.getChildren()) {
+            if (wn2.getName().equalsIgnoreCase("roles") && newEntry) {
+                modelRecord.addRoles(wn2.getText().trim());
+            } else if (wn2.getName().equalsIgnoreCase("deployedWith") && newEntry) {
+                modelRecord.setRequiredUnits(wn2.getText().trim());
+            } else if (wn2.getName().equalsIgnoreCase("availability")) {
                 modelIndex.get(era).put(modelRecord.getKey(), new HashMap<>());
-                String[] codes = wn2.getTextContent().trim().split(",");
+                String[] codes = wn2.getText().trim().split(",");
                 // Create a separate availability rating for each provided faction
                 for (String code : codes) {
 
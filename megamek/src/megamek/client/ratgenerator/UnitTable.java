@@ -36,10 +36,18 @@ import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
@@ -63,19 +71,77 @@ public class UnitTable {
         boolean include(MekSummary ms);
     }
 
-    private static final int CACHE_SIZE = 32;
+    public static final int DEFAULT_CACHE_SIZE = 256;
 
-    private static final LinkedHashMap<Parameters, UnitTable> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+    /**
+     * The {@link RATGenerator} generates one table at a time, so a single warm-up thread is enough; more would only
+     * wait for each other.
+     */
+    private static final int WARM_UP_THREADS = 1;
+
+    /**
+     * Generates the tables requested by {@link #warmUp(Collection)}. Its thread is a daemon thread that ends when
+     * idle, and it does not inherit the thread locals of the thread that happens to start it.
+     */
+    private static final ThreadPoolExecutor WARM_UP_EXECUTOR = createWarmUpExecutor();
+
+    private static volatile int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /**
+     * The generated tables by their parameters, in access order. A table is entered as a pending task before it is
+     * generated, so that concurrent requests for the same table wait for one generation instead of generating it
+     * again. Guarded by its own monitor; tables are never generated while holding it, so cached tables are returned
+     * while another table is being generated. The generation itself is serialized by the {@link RATGenerator}.
+     */
+    private static final LinkedHashMap<Parameters, FutureTask<UnitTable>> cache =
+          new LinkedHashMap<>(DEFAULT_CACHE_SIZE, 0.75f, true) {
 
         @Serial
         private static final long serialVersionUID = -8016095510116134800L;
 
         @Override
-        protected boolean removeEldestEntry(Map.Entry<Parameters, UnitTable> entry) {
-            return size() >= CACHE_SIZE;
+        protected boolean removeEldestEntry(Map.Entry<Parameters, FutureTask<UnitTable>> entry) {
+            return size() > cacheSize;
         }
     };
 
+    /**
+     * Sets the number of generated tables that are kept for reuse. Tables beyond this number are discarded, the
+     * least recently used first. Generating whole formations or regiments requests many different tables, so a larger
+     * cache avoids generating them again.
+     *
+     * @param size the maximum number of cached tables, at least 1
+     */
+    public static void setCacheSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The table cache size must be at least 1");
+        }
+        synchronized (cache) {
+            cacheSize = size;
+            Iterator<Parameters> keys = cache.keySet().iterator();
+            while ((cache.size() > size) && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of cached tables
+     */
+    public static int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Discards all cached tables, e.g. after the availability data has been reloaded or edited.
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
     /**
      * Checks the cache for a previously generated table meeting the criteria. If none is found, generates it and adds
      * it to the cache. This method is provided as a convenience for when there are no excluded roles.
@@ -174,25 +240,114 @@ public class UnitTable {
 
     /**
      * Checks cache for a unit table with the given parameters. If none is found, generates one and adds to the cache
-     * using a copy of the Parameters object as a key.
+     * using a copy of the Parameters object as a key. This may be called from several threads; a table that is being
+     * generated by another thread is waited for rather than generated again.
      *
      * @param params - the parameters to use in generating the table.
      *
      * @return a generated table matching the parameters
      */
-    public static synchronized UnitTable findTable(Parameters params) {
+    public static UnitTable findTable(Parameters params) {
         Objects.requireNonNull(params);
-        UnitTable retVal = cache.get(params);
-        if (retVal == null) {
-            retVal = new UnitTable(params);
-            if (retVal.hasUnits()) {
+        FutureTask<UnitTable> task;
+        boolean generateHere = false;
+        synchronized (cache) {
+            task = cache.get(params);
+            if (task == null) {
                 // Use a copy of the params for the cache key to prevent changing it.
-                cache.put(params.copy(), retVal);
+                Parameters key = params.copy();
+                task = new FutureTask<>(() -> new UnitTable(key));
+                cache.put(key, task);
+                generateHere = true;
             }
         }
+        if (generateHere) {
+            task.run();
+        }
+
+        UnitTable retVal;
+        try {
+            retVal = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new UnitTable(params.copy());
+        } catch (ExecutionException e) {
+            removeFromCache(params, task);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to generate the unit table", e.getCause());
+        }
+        if (!retVal.hasUnits()) {
+            // Empty tables are not kept
+            removeFromCache(params, task);
+        }
         return retVal;
     }
 
+    /**
+     * @return true if the table for the given parameters is cached or being generated
+     */
+    static boolean isCached(Parameters params) {
+        synchronized (cache) {
+            return cache.containsKey(params);
+        }
+    }
+
+    private static void removeFromCache(Parameters params, FutureTask<UnitTable> task) {
+        synchronized (cache) {
+            cache.remove(params, task);
+        }
+    }
+
+    /**
+     * Generates the tables for the given parameters in the background, one at a time, and adds them to the cache, so that later calls
+     * to {@link #findTable(Parameters)} with the same parameters return immediately. Tables that are already cached
+     * are not generated again, and no more tables are generated than the cache has room for, so that pre-generated
+     * tables never evict tables that were actually used. Nothing is generated before the {@link RATGenerator} has
+     * finished loading.
+     *
+     * @param params the parameters of the tables to generate
+     *
+     * @return a future that completes when all tables have been generated
+     */
+    public static CompletableFuture<Void> warmUp(Collection<Parameters> params) {
+        if (params.isEmpty() || !RATGenerator.getInstance().isInitialized()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Parameters> toGenerate;
+        synchronized (cache) {
+            toGenerate = params.stream()
+                  .distinct()
+                  .filter(p -> !cache.containsKey(p))
+                  .limit(Math.max(0, cacheSize - cache.size()))
+                  .map(Parameters::copy)
+                  .toList();
+        }
+        CompletableFuture<?>[] tasks = toGenerate.stream()
+              .map(p -> CompletableFuture.runAsync(() -> findTable(p), WARM_UP_EXECUTOR)
+                    .exceptionally(ex -> {
+                        LOGGER.warn(ex, "Failed to pre-generate the unit table for {}", p.getFaction());
+                        return null;
+                    }))
+              .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks);
+    }
+
+    private static ThreadPoolExecutor createWarmUpExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(WARM_UP_THREADS, WARM_UP_THREADS, 30, TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(), runnable -> {
+                  Thread thread = new Thread(null, runnable, "RAT Table Warm-Up " + threadCount.incrementAndGet(), 0,
+                        false);
+                  thread.setDaemon(true);
+                  thread.setPriority(Thread.NORM_PRIORITY - 1);
+                  return thread;
+              });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private final Parameters key;
     private final List<TableEntry> salvageTable = new ArrayList<>();
     private final List<TableEntry> unitTable = new ArrayList<>();
@@ -439,14 +594,14 @@ public class UnitTable {
      * Selects a faction from the salvage list and generates a table using the same parameters as this table, but from
      * five years earlier. Generated tables are cached for later use. If the generated table contains no units, it is
      * discarded and the selected entry is deleted. This continues until either a unit is generated or there are no
-     * remaining entries.
+     * remaining entries. Synchronized since cached tables are shared between threads.
      *
      * @param filter - passed to generateUnit() in the generated table.
      *
      * @return - a unit generated from another faction, or null if none of the factions in the salvage list contain any
      *       units that meet the parameters.
      */
-    private @Nullable MekSummary generateSalvage(UnitFilter filter) {
+    private synchronized @Nullable MekSummary generateSalvage(UnitFilter filter) {
         while (salvageTotal > 0) {
             int roll = Compute.randomInt(salvageTotal);
             TableEntry salvageEntry = null;
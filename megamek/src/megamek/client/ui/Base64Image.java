@@ -37,6 +37,7 @@ import java.awt.Image;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Base64;
 import java.util.Objects;
@@ -55,6 +56,8 @@ import megamek.logging.MMLogger;
  * Thread-safe; Immutable. The displayable Image is created only when needed and uses synchronized access
  */
 public class Base64Image implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2251643254335211859L;
     private static final MMLogger logger = MMLogger.create(Base64Image.class);
 
     /** The base64 representation of the image. */
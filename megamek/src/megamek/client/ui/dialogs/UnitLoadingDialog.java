@@ -133,10 +133,22 @@ public class UnitLoadingDialog extends JDialog {
     private void startMonitoring() {
         updateCounts();
 
-        mekSummaryCacheListener = () -> {
-            loadingDone = true;
-            unregisterListener();
-            SwingUtilities.invokeLater(() -> setVisible(false));
+        mekSummaryCacheListener = new MekSummaryCache.Listener() {
+            @Override
+            public void doneLoading() {
+                loadingDone = true;
+                unregisterListener();
+                SwingUtilities.invokeLater(() -> setVisible(false));
+            }
+
+            @Override
+            public void loadingProgress(int parsedFiles, int foundFiles) {
+                SwingUtilities.invokeLater(() -> {
+                    progressBar.setIndeterminate(false);
+                    progressBar.setMaximum(foundFiles);
+                    progressBar.setValue(parsedFiles);
+                });
+            }
         };
         mekSummaryCache.addListener(mekSummaryCacheListener);
 
@@ -395,8 +395,24 @@ public class MekSearchFilter {
         return list.stream().anyMatch(search::contains);
     }
 
+    /**
+     * Checks the given unit against the given filter. To filter many units, {@link MekSearchIndex} is faster.
+     *
+     * @param mek the unit
+     * @param f   the filter, may be null
+     *
+     * @return true if the unit matches the filter or the filter is null or disabled
+     */
     public static boolean isMatch(MekSummary mek, MekSearchFilter f) {
-        if (f == null || f.isDisabled) {
+        return (f == null) || isMatch(mek, f, f.checkEquipment);
+    }
+
+    /**
+     * Checks the given unit against the given filter, leaving out the equipment expression unless checkEquipment is
+     * true. {@link MekSearchIndex} evaluates the equipment expression on its own.
+     */
+    static boolean isMatch(MekSummary mek, MekSearchFilter f, boolean checkEquipment) {
+        if (f.isDisabled) {
             return true;
         }
 
@@ -427,7 +443,7 @@ public class MekSearchFilter {
         List<String> eqNames = mek.getEquipmentNames();
         List<Integer> qty = mek.getEquipmentQuantities();
         // Evaluate the expression tree, if there's not a match, return false
-        if (f.checkEquipment && !f.evaluate(eqNames, qty)) {
+        if (checkEquipment && !f.evaluate(eqNames, qty)) {
             return false;
         }
 
@@ -805,167 +821,101 @@ public class MekSearchFilter {
 
         long entityType = mek.getEntityType();
 
-        long entityTypes = 0;
-
-        if (f.filterMek == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_MEK;
-        }
-        if (f.filterBipedMek == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_BIPED_MEK;
-        }
-        if (f.filterProtomek == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_PROTOMEK;
-        }
-        if (f.filterLAM == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_LAND_AIR_MEK;
-        }
-        if (f.filterTripod == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_TRIPOD_MEK;
-        }
-        if (f.filterQuad == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_QUAD_MEK;
-        }
-        if (f.filterQuadVee == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_QUADVEE;
-        }
-        if (f.filterAero == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_AERO;
-        }
-        if (f.filterFixedWingSupport == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_FIXED_WING_SUPPORT;
-        }
-        if (f.filterConvFighter == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_CONV_FIGHTER;
-        }
-        if (f.filterSmallCraft == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_SMALL_CRAFT;
-        }
-        if (f.filterDropship == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_DROPSHIP;
-        }
-        if (f.filterJumpship == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_JUMPSHIP;
-        }
-        if (f.filterWarship == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_WARSHIP;
-        }
-        if (f.filterSpaceStation == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_SPACE_STATION;
-        }
-        if (f.filterInfantry == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_INFANTRY;
-        }
-        if (f.filterBattleArmor == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_BATTLEARMOR;
-        }
-        if (f.filterTank == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_TANK;
-        }
-        if (f.filterVTOL == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_VTOL;
-        }
-        if (f.filterSupportVTOL == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_SUPPORT_VTOL;
-        }
-        if (f.filterGunEmplacement == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_GUN_EMPLACEMENT;
-        }
-        if (f.filterSupportTank == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_SUPPORT_TANK;
-        }
-        if (f.filterLargeSupportTank == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_LARGE_SUPPORT_TANK;
-        }
-        if (f.filterSuperHeavyTank == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_SUPER_HEAVY_TANK;
-        }
-        if (f.iAerospaceFighter == 1) {
-            entityTypes = entityTypes | Entity.ETYPE_AEROSPACE_FIGHTER;
-        }
-
+        long entityTypes = entityTypeMask(f, 1);
         if ((!((entityType & entityTypes) > 0) && (entityTypes != 0))) {
             return false;
         }
 
-        entityTypes = 0;
+        entityTypes = entityTypeMask(f, 2);
+        return ((entityType & entityTypes) <= 0) || (entityTypes == 0);
+    }
+
+    /**
+     * @param f         the filter
+     * @param selection 1 for the unit types the filter requires, 2 for those it excludes
+     *
+     * @return the entity type flags of the unit types with the given selection in the filter
+     */
+    static long entityTypeMask(MekSearchFilter f, int selection) {
+        long entityTypes = 0;
 
-        if (f.filterMek == 2) {
+        if (f.filterMek == selection) {
             entityTypes = entityTypes | Entity.ETYPE_MEK;
         }
-        if (f.filterBipedMek == 2) {
+        if (f.filterBipedMek == selection) {
             entityTypes = entityTypes | Entity.ETYPE_BIPED_MEK;
         }
-        if (f.filterProtomek == 2) {
+        if (f.filterProtomek == selection) {
             entityTypes = entityTypes | Entity.ETYPE_PROTOMEK;
         }
-        if (f.filterLAM == 2) {
+        if (f.filterLAM == selection) {
             entityTypes = entityTypes | Entity.ETYPE_LAND_AIR_MEK;
         }
-        if (f.filterTripod == 2) {
+        if (f.filterTripod == selection) {
             entityTypes = entityTypes | Entity.ETYPE_TRIPOD_MEK;
         }
-        if (f.filterQuad == 2) {
+        if (f.filterQuad == selection) {
             entityTypes = entityTypes | Entity.ETYPE_QUAD_MEK;
         }
-        if (f.filterQuadVee == 2) {
+        if (f.filterQuadVee == selection) {
             entityTypes = entityTypes | Entity.ETYPE_QUADVEE;
         }
-        if (f.filterAero == 2) {
+        if (f.filterAero == selection) {
             entityTypes = entityTypes | Entity.ETYPE_AERO;
         }
-        if (f.filterFixedWingSupport == 2) {
+        if (f.filterFixedWingSupport == selection) {
             entityTypes = entityTypes | Entity.ETYPE_FIXED_WING_SUPPORT;
         }
-        if (f.filterConvFighter == 2) {
+        if (f.filterConvFighter == selection) {
             entityTypes = entityTypes | Entity.ETYPE_CONV_FIGHTER;
         }
-        if (f.filterSmallCraft == 2) {
+        if (f.filterSmallCraft == selection) {
             entityTypes = entityTypes | Entity.ETYPE_SMALL_CRAFT;
         }
-        if (f.filterDropship == 2) {
+        if (f.filterDropship == selection) {
             entityTypes = entityTypes | Entity.ETYPE_DROPSHIP;
         }
-        if (f.filterJumpship == 2) {
+        if (f.filterJumpship == selection) {
             entityTypes = entityTypes | Entity.ETYPE_JUMPSHIP;
         }
-        if (f.filterWarship == 2) {
+        if (f.filterWarship == selection) {
             entityTypes = entityTypes | Entity.ETYPE_WARSHIP;
         }
-        if (f.filterSpaceStation == 2) {
+        if (f.filterSpaceStation == selection) {
             entityTypes = entityTypes | Entity.ETYPE_SPACE_STATION;
         }
-        if (f.filterInfantry == 2) {
+        if (f.filterInfantry == selection) {
             entityTypes = entityTypes | Entity.ETYPE_INFANTRY;
         }
-        if (f.filterBattleArmor == 2) {
+        if (f.filterBattleArmor == selection) {
             entityTypes = entityTypes | Entity.ETYPE_BATTLEARMOR;
         }
-        if (f.filterTank == 2) {
+        if (f.filterTank == selection) {
             entityTypes = entityTypes | Entity.ETYPE_TANK;
         }
-        if (f.filterVTOL == 2) {
+        if (f.filterVTOL == selection) {
             entityTypes = entityTypes | Entity.ETYPE_VTOL;
         }
-        if (f.filterSupportVTOL == 2) {
+        if (f.filterSupportVTOL == selection) {
             entityTypes = entityTypes | Entity.ETYPE_SUPPORT_VTOL;
         }
-        if (f.filterGunEmplacement == 2) {
+        if (f.filterGunEmplacement == selection) {
             entityTypes = entityTypes | Entity.ETYPE_GUN_EMPLACEMENT;
         }
-        if (f.filterSupportTank == 2) {
+        if (f.filterSupportTank == selection) {
             entityTypes = entityTypes | Entity.ETYPE_SUPPORT_TANK;
         }
-        if (f.filterLargeSupportTank == 2) {
+        if (f.filterLargeSupportTank == selection) {
             entityTypes = entityTypes | Entity.ETYPE_LARGE_SUPPORT_TANK;
         }
-        if (f.filterSuperHeavyTank == 2) {
+        if (f.filterSuperHeavyTank == selection) {
             entityTypes = entityTypes | Entity.ETYPE_SUPER_HEAVY_TANK;
         }
-        if (f.iAerospaceFighter == 2) {
+        if (f.iAerospaceFighter == selection) {
             entityTypes = entityTypes | Entity.ETYPE_AEROSPACE_FIGHTER;
         }
 
-        return ((entityType & entityTypes) <= 0) || (entityTypes == 0);
+        return entityTypes;
     }
 
     /**
@@ -0,0 +1,429 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ui.dialogs.advancedsearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import megamek.common.Messages;
+import megamek.common.loaders.MekSummary;
+import megamek.common.util.StringUtil;
+
+/**
+ * Answers {@link MekSearchFilter} queries over a fixed set of units with precomputed indexes instead of checking every
+ * unit with {@link MekSearchFilter#isMatch(MekSummary, MekSearchFilter)}. It keeps a bitmap per tri-state trait (omni,
+ * military, doomed flags, ...), a bitmap per value of the enumerated fields (unit type, tech base, tech level, engine,
+ * armor, ...), sorted indexes for the common numeric ranges (walk and jump MP, year, tonnage, BV) and an inverted index
+ * from equipment names to the units and quantities, which evaluates the equipment expression of the filter with bitmap
+ * operations.
+ * <p>
+ * The indexes narrow the units down to candidates; the criteria without an index (such as source, quirks and
+ * transport bays) are then checked on the candidates only, using the same code as isMatch(). A unit whose data the
+ * indexes cannot represent, such as a missing equipment name, is always checked in full, so the result is the same as
+ * filtering every unit with isMatch().
+ * </p>
+ * The index is immutable and can be queried from several threads.
+ */
+public final class MekSearchIndex {
+
+    private static final int INCLUDE = 1;
+    private static final int EXCLUDE = 2;
+
+    private static volatile MekSearchIndex lastIndex;
+
+    private final MekSummary[] units;
+    private final BitSet irregularUnits = new BitSet();
+    private final List<TraitIndex> traitIndexes = new ArrayList<>();
+    private final Map<Long, BitSet> byEntityType = new HashMap<>();
+    private final Map<String, BitSet> byTechBase = new HashMap<>();
+    private final Map<String, BitSet> byMoveMode = new HashMap<>();
+    private final Map<Integer, BitSet> byTechLevel = new HashMap<>();
+    private final Map<Integer, BitSet> byInternalsType = new HashMap<>();
+    private final Map<Integer, BitSet> byCockpitType = new HashMap<>();
+    private final Map<Integer, BitSet> byEngineType = new HashMap<>();
+    private final Map<Integer, BitSet> byGyroType = new HashMap<>();
+    private final Map<Integer, BitSet> byArmorType = new HashMap<>();
+    private final RangeIndex walkIndex;
+    private final RangeIndex jumpIndex;
+    private final RangeIndex yearIndex;
+    private final RangeIndex tonnageIndex;
+    private final RangeIndex battleValueIndex;
+    private final Map<String, Postings> equipmentIndex = new HashMap<>();
+
+    /** The units that have a trait, for one of the tri-state criteria of the filter. */
+    private record TraitIndex(ToIntFunction<MekSearchFilter> selection, Predicate<MekSummary> trait, BitSet units) {
+    }
+
+    /** The units that mount a piece of equipment and how many of it. */
+    private static final class Postings {
+        private int[] units = new int[4];
+        private int[] quantities = new int[4];
+        private int size;
+
+        void add(int unit, int quantity) {
+            if (size == units.length) {
+                units = Arrays.copyOf(units, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+            }
+            units[size] = unit;
+            quantities[size] = quantity;
+            size++;
+        }
+    }
+
+    /** The units sorted by one numeric value, for range queries. */
+    private static final class RangeIndex {
+        private final double[] values;
+        private final int[] units;
+
+        RangeIndex(MekSummary[] summaries, BitSet irregularUnits, ToIntFunction<MekSummary> value) {
+            List<double[]> entries = new ArrayList<>(summaries.length);
+            for (int i = 0; i < summaries.length; i++) {
+                if (!irregularUnits.get(i)) {
+                    entries.add(new double[] { value.applyAsInt(summaries[i]), i });
+                }
+            }
+            entries.sort((first, second) -> Double.compare(first[0], second[0]));
+            values = new double[entries.size()];
+            units = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                values[i] = entries.get(i)[0];
+                units[i] = (int) entries.get(i)[1];
+            }
+        }
+
+        /**
+         * Narrows the candidates to the units inside the range, using the same bounds as
+         * {@link StringUtil#isBetween(double, String, String)}.
+         */
+        void retain(BitSet candidates, String start, String end) {
+            if (start.isEmpty() && end.isEmpty()) {
+                return;
+            }
+            int from = lowerBound(StringUtil.toInt(start, Integer.MIN_VALUE));
+            int to = upperBound(StringUtil.toInt(end, Integer.MAX_VALUE));
+            BitSet inRange = new BitSet();
+            for (int i = from; i < to; i++) {
+                inRange.set(units[i]);
+            }
+            candidates.and(inRange);
+        }
+
+        private int lowerBound(double bound) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < bound) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(double bound) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] <= bound) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private MekSearchIndex(MekSummary[] units) {
+        this.units = units;
+        String clanEngine = Messages.getString("Engine.Clan");
+        addTrait(filter -> filter.iInvalid, MekSummary::getInvalid);
+        addTrait(filter -> filter.iFailedToLoadEquipment, MekSummary::getFailedToLoadEquipment);
+        addTrait(filter -> filter.iOmni, MekSummary::getOmni);
+        addTrait(filter -> filter.iMilitary, MekSummary::getMilitary);
+        addTrait(filter -> filter.iIndustrial, MekSummary::isIndustrialMek);
+        addTrait(filter -> filter.iFrankenMek, MekSummary::isFrankenMek);
+        addTrait(filter -> filter.iMountedInfantry, MekSummary::getMountedInfantry);
+        addTrait(filter -> filter.iWaterOnly,
+              mek -> mek.hasWaterMovement() && !mek.hasAirMovement() && !mek.hasGroundMovement());
+        addTrait(filter -> filter.iDoomedOnGround, MekSummary::isDoomedOnGround);
+        addTrait(filter -> filter.iDoomedInAtmosphere, MekSummary::isDoomedInAtmosphere);
+        addTrait(filter -> filter.iDoomedInSpace, MekSummary::isDoomedInSpace);
+        addTrait(filter -> filter.iDoomedInExtremeTemp, MekSummary::isDoomedInExtremeTemp);
+        addTrait(filter -> filter.iDoomedInVacuum, MekSummary::isDoomedInVacuum);
+        addTrait(filter -> filter.iSupportVehicle, MekSummary::isSupportVehicle);
+        addTrait(filter -> filter.iOfficial, mek -> mek.getMulId() != -1);
+        addTrait(filter -> filter.iCanon, MekSummary::isCanon);
+        addTrait(filter -> filter.iPatchwork, MekSummary::isPatchwork);
+        addTrait(filter -> filter.iClanEngine, mek -> mek.getEngineName().contains(clanEngine));
+
+        for (int i = 0; i < units.length; i++) {
+            try {
+                indexUnit(i, units[i]);
+            } catch (RuntimeException ex) {
+                // Such as missing data; isMatch() decides on this unit as it would without the index
+                irregularUnits.set(i);
+            }
+        }
+
+        walkIndex = new RangeIndex(units, irregularUnits, MekSummary::getWalkMp);
+        jumpIndex = new RangeIndex(units, irregularUnits, MekSummary::getJumpMp);
+        yearIndex = new RangeIndex(units, irregularUnits, MekSummary::getYear);
+        tonnageIndex = new RangeIndex(units, irregularUnits, mek -> (int) mek.getTons());
+        battleValueIndex = new RangeIndex(units, irregularUnits, MekSummary::getBV);
+    }
+
+    /**
+     * Returns the index of the given units. The index of the most recently indexed array is kept, so passing the array
+     * returned by {@link megamek.common.loaders.MekSummaryCache#getAllMeks()} again reuses the index.
+     *
+     * @param units the units to index; the array must not be changed afterwards
+     *
+     * @return the index
+     */
+    public static MekSearchIndex of(MekSummary[] units) {
+        MekSearchIndex index = lastIndex;
+        if ((index == null) || (index.units != units)) {
+            index = new MekSearchIndex(units);
+            lastIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return the positions in the indexed array of all units that match the given filter
+     */
+    public BitSet query(MekSearchFilter filter) {
+        BitSet candidates = new BitSet(units.length);
+        candidates.set(0, units.length);
+        if ((filter == null) || filter.isDisabled) {
+            return candidates;
+        }
+
+        for (TraitIndex traitIndex : traitIndexes) {
+            int selection = traitIndex.selection().applyAsInt(filter);
+            if (selection == INCLUDE) {
+                candidates.and(traitIndex.units());
+            } else if (selection == EXCLUDE) {
+                candidates.andNot(traitIndex.units());
+            }
+        }
+
+        walkIndex.retain(candidates, filter.sStartWalk, filter.sEndWalk);
+        jumpIndex.retain(candidates, filter.sStartJump, filter.sEndJump);
+        yearIndex.retain(candidates, filter.sStartYear, filter.sEndYear);
+        tonnageIndex.retain(candidates, filter.sStartTons, filter.sEndTons);
+        battleValueIndex.retain(candidates, filter.sStartBV, filter.sEndBV);
+
+        retainValues(candidates, byInternalsType, filter.internalsType, filter.internalsTypeExclude);
+        retainValues(candidates, byCockpitType, filter.cockpitType, filter.cockpitTypeExclude);
+        retainValues(candidates, byArmorType, filter.armorType, filter.armorTypeExclude);
+        retainValues(candidates, byEngineType, filter.engineType, filter.engineTypeExclude);
+        retainValues(candidates, byGyroType, filter.gyroType, filter.gyroTypeExclude);
+        retainValues(candidates, byTechLevel, filter.techLevel, filter.techLevelExclude);
+        retainContaining(candidates, byTechBase, filter.techBase, filter.techBaseExclude);
+        retainContaining(candidates, byMoveMode, filter.moveModes, filter.moveModeExclude);
+        retainEntityTypes(candidates, filter);
+
+        if (filter.checkEquipment) {
+            candidates.and(evaluate(filter.equipmentCriteria.getRoot()));
+        }
+
+        // Units the indexes do not cover are always checked in full below
+        candidates.or(irregularUnits);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            boolean isIrregular = irregularUnits.get(i);
+            if (!MekSearchFilter.isMatch(units[i], filter, isIrregular && filter.checkEquipment)) {
+                candidates.clear(i);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return all units that match the given filter, in the order of the indexed array
+     */
+    public List<MekSummary> findMatches(MekSearchFilter filter) {
+        BitSet matches = query(filter);
+        List<MekSummary> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(units[i]);
+        }
+        return result;
+    }
+
+    private void addTrait(ToIntFunction<MekSearchFilter> selection, Predicate<MekSummary> trait) {
+        traitIndexes.add(new TraitIndex(selection, trait, new BitSet()));
+    }
+
+    private void indexUnit(int unit, MekSummary mek) {
+        for (TraitIndex traitIndex : traitIndexes) {
+            if (traitIndex.trait().test(mek)) {
+                traitIndex.units().set(unit);
+            }
+        }
+        addValue(byEntityType, mek.getEntityType(), unit);
+        addValue(byTechBase, Objects.toString(mek.getTechBase(), ""), unit);
+        addValue(byMoveMode, String.valueOf(mek.getMoveMode()), unit);
+        addValue(byTechLevel, mek.getTechLevelCode(), unit);
+        addValue(byInternalsType, mek.getInternalsType(), unit);
+        addValue(byCockpitType, mek.getCockpitType(), unit);
+        addValue(byEngineType, mek.getEngineType(), unit);
+        addValue(byGyroType, mek.getGyroType(), unit);
+        for (Integer armorType : mek.getArmorType()) {
+            addValue(byArmorType, armorType, unit);
+        }
+
+        List<String> equipmentNames = mek.getEquipmentNames();
+        List<Integer> quantities = mek.getEquipmentQuantities();
+        if ((equipmentNames.size() != quantities.size()) || equipmentNames.contains(null)) {
+            // MekSearchFilter.evaluate() gives special results for these lists
+            throw new IllegalStateException("Irregular equipment list");
+        }
+        for (int i = 0; i < equipmentNames.size(); i++) {
+            equipmentIndex.computeIfAbsent(equipmentNames.get(i), name -> new Postings()).add(unit, quantities.get(i));
+        }
+    }
+
+    private static <T> void addValue(Map<T, BitSet> index, T value, int unit) {
+        index.computeIfAbsent(value, v -> new BitSet()).set(unit);
+    }
+
+    private static void retainValues(BitSet candidates, Map<Integer, BitSet> index, Collection<Integer> include,
+          Collection<Integer> exclude) {
+        if (!include.isEmpty()) {
+            candidates.and(union(index, include::contains));
+        }
+        if (!exclude.isEmpty()) {
+            candidates.andNot(union(index, exclude::contains));
+        }
+    }
+
+    /** For the criteria that match when the unit's value contains any of the filter's strings. */
+    private static void retainContaining(BitSet candidates, Map<String, BitSet> index, List<String> include,
+          List<String> exclude) {
+        if (!include.isEmpty()) {
+            candidates.and(union(index, value -> include.stream().anyMatch(value::contains)));
+        }
+        if (!exclude.isEmpty()) {
+            candidates.andNot(union(index, value -> exclude.stream().anyMatch(value::contains)));
+        }
+    }
+
+    private void retainEntityTypes(BitSet candidates, MekSearchFilter filter) {
+        long included = MekSearchFilter.entityTypeMask(filter, INCLUDE);
+        if (included != 0) {
+            candidates.and(union(byEntityType, entityType -> (entityType & included) > 0));
+        }
+        long excluded = MekSearchFilter.entityTypeMask(filter, EXCLUDE);
+        if (excluded != 0) {
+            candidates.andNot(union(byEntityType, entityType -> (entityType & excluded) > 0));
+        }
+    }
+
+    private static <T> BitSet union(Map<T, BitSet> index, Predicate<T> keyFilter) {
+        BitSet result = new BitSet();
+        for (Map.Entry<T, BitSet> entry : index.entrySet()) {
+            if (keyFilter.test(entry.getKey())) {
+                result.or(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates an equipment expression node on all units; the bitmap counterpart of
+     * {@link MekSearchFilter#evaluate(List, List)}.
+     */
+    private BitSet evaluate(ExpNode expNode) {
+        if (expNode.children.isEmpty()) {
+            BitSet reaching = new BitSet(units.length);
+            if (expNode.equipmentClass != null) {
+                // Weapon classes match several equipment names, so the quantities are summed per unit
+                int[] totals = new int[units.length];
+                for (Map.Entry<String, Postings> entry : equipmentIndex.entrySet()) {
+                    if (expNode.equipmentClass.matches(entry.getKey())) {
+                        Postings postings = entry.getValue();
+                        for (int i = 0; i < postings.size; i++) {
+                            totals[postings.units[i]] += postings.quantities[i];
+                        }
+                    }
+                }
+                for (int unit = 0; unit < units.length; unit++) {
+                    if (expNode.atLeast ? (totals[unit] >= expNode.qty) : (totals[unit] < expNode.qty)) {
+                        reaching.set(unit);
+                    }
+                }
+                return reaching;
+            }
+            Postings postings = (expNode.name == null) ? null : equipmentIndex.get(expNode.name);
+            if (postings != null) {
+                for (int i = 0; i < postings.size; i++) {
+                    if (postings.quantities[i] >= expNode.qty) {
+                        reaching.set(postings.units[i]);
+                    }
+                }
+            }
+            if (!expNode.atLeast) {
+                // Matches the units that do not have this equipment in that quantity
+                reaching.flip(0, units.length);
+            }
+            return reaching;
+        }
+
+        BitSet result = null;
+        for (ExpNode child : expNode.children) {
+            BitSet childResult = evaluate(child);
+            if (result == null) {
+                result = childResult;
+            } else if (expNode.operation == MekSearchFilter.BoolOp.AND) {
+                result.and(childResult);
+            } else {
+                result.or(childResult);
+            }
+        }
+        return result;
+    }
+}
@@ -100,11 +100,17 @@ public class ForceGenerationOptionsPanel extends JPanel implements ActionListene
                                               UnitType.JUMPSHIP, UnitType.WARSHIP, UnitType.SPACE_STATION };
     private static final int EARLIEST_YEAR = 2398;
     private static final int LATEST_YEAR = 3160;
+
+    /** How long the options must stay unchanged before the tables they need are pre-generated */
+    private static final int WARM_UP_DELAY_MILLIS = 750;
+
+    private final javax.swing.Timer warmUpTimer = new javax.swing.Timer(WARM_UP_DELAY_MILLIS, e -> warmUpTables());
     // endregion Variable Declarations
 
     // region Constructors
     public ForceGenerationOptionsPanel(Use use) {
         setLayout(new GridBagLayout());
+        warmUpTimer.setRepeats(false);
 
         GridBagConstraints c = new GridBagConstraints();
         c.gridx = 0;
@@ -428,6 +434,72 @@ public class ForceGenerationOptionsPanel extends JPanel implements ActionListene
         } else {
             cbRating.setSelectedIndex(Math.min(current, cbRating.getItemCount() - 1));
         }
+        scheduleWarmUp();
+    }
+
+    /**
+     * Pre-generates the tables needed by the current options once they have stayed unchanged for a moment, so that
+     * quickly going through factions or unit types does not generate tables for each of them.
+     */
+    private void scheduleWarmUp() {
+        warmUpTimer.restart();
+    }
+
+    /**
+     * Pre-generates the tables needed by the current options in the background, so that the first generation does
+     * not have to wait for them.
+     */
+    private void warmUpTables() {
+        FactionRecord fRec = getFaction();
+        if ((fRec != null) && (panUnitTypeOptions != null)) {
+            UnitTable.warmUp(getWarmUpParameters(fRec));
+        }
+    }
+
+    /**
+     * @return the parameters of the tables that generating with the current options looks up first
+     */
+    @SuppressWarnings(value = "unchecked")
+    private List<Parameters> getWarmUpParameters(FactionRecord fRec) {
+        if (panUnitTypeOptions instanceof RATGenUnitTypeOptions) {
+            // The same table as RandomArmyRatGenTab generates
+            return List.of(new Parameters(fRec,
+                  getUnitType(),
+                  getYear(),
+                  getRating(),
+                  (List<Integer>) getListOption("weightClasses"),
+                  getIntegerOption("networkMask"),
+                  (List<EntityMovementMode>) getListOption("motiveTypes"),
+                  (List<MissionRole>) getListOption("roles"),
+                  getIntegerOption("roleStrictness"),
+                  fRec));
+        }
+        FormationType formationType = FormationType.getFormationType(getStringOption("formationType"));
+        if (formationType == null) {
+            return List.of();
+        }
+        List<Parameters> params = new ArrayList<>();
+        params.add(formationParameters(fRec, getUnitType()));
+        if ((getIntegerOption("numOtherUnits") > 0) && (getIntegerOption("otherUnitType") >= 0)) {
+            params.add(formationParameters(fRec, getIntegerOption("otherUnitType")));
+        }
+        return formationType.getTableParameters(params);
+    }
+
+    /**
+     * @return the parameters of one unit type group of a formation, before the formation type adds its own
+     */
+    private Parameters formationParameters(FactionRecord fRec, int unitType) {
+        return new Parameters(fRec,
+              unitType,
+              getYear(),
+              getRating(),
+              null,
+              ModelRecord.NETWORK_NONE,
+              EnumSet.noneOf(EntityMovementMode.class),
+              EnumSet.noneOf(MissionRole.class),
+              0,
+              fRec);
     }
 
     @Override
@@ -442,6 +514,7 @@ public class ForceGenerationOptionsPanel extends JPanel implements ActionListene
             if (panUnitTypeOptions != null) {
                 panUnitTypeOptions.optionsChanged();
             }
+            scheduleWarmUp();
         } else if (ev.getActionCommand().equals("ratGenInitialized")) {
             updateFactionChoice();
             RATGenerator.getInstance().removeListener(this);
@@ -1307,31 +1380,13 @@ public class ForceGenerationOptionsPanel extends JPanel implements ActionListene
         FormationType ft = FormationType.getFormationType(getStringOption(
               "formationType"));
         List<Parameters> params = new ArrayList<>();
-        params.add(new Parameters(fRec,
-              getUnitType(),
-              getYear(),
-              getRating(),
-              null,
-              ModelRecord.NETWORK_NONE,
-              EnumSet.noneOf(EntityMovementMode.class),
-              EnumSet.noneOf(MissionRole.class),
-              0,
-              fRec));
+        params.add(formationParameters(fRec, getUnitType()));
         List<Integer> numUnits = new ArrayList<>();
         numUnits.add(getNumUnits());
 
         if (getIntegerOption("numOtherUnits") > 0) {
             if (getIntegerOption("otherUnitType") >= 0) {
-                params.add(new Parameters(fRec,
-                      getIntegerOption("otherUnitType"),
-                      getYear(),
-                      getRating(),
-                      null,
-                      ModelRecord.NETWORK_NONE,
-                      EnumSet.noneOf(EntityMovementMode.class),
-                      EnumSet.noneOf(MissionRole.class),
-                      0,
-                      fRec));
+                params.add(formationParameters(fRec, getIntegerOption("otherUnitType")));
                 numUnits.add(getIntegerOption("numOtherUnits"));
             } else if (getBooleanOption("mekBA")) {
                 // Make sure at least a number of units equals to the number of BA points/squads
@@ -46,10 +46,13 @@ import java.awt.event.WindowEvent;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
@@ -74,6 +77,7 @@ import megamek.client.ui.dialogs.UnitLoadingDialog;
 import megamek.client.ui.dialogs.abstractDialogs.BVDisplayDialog;
 import megamek.client.ui.dialogs.advancedsearch.AdvancedSearchDialog;
 import megamek.client.ui.dialogs.advancedsearch.MekSearchFilter;
+import megamek.client.ui.dialogs.advancedsearch.MekSearchIndex;
 import megamek.client.ui.models.XTableColumnModel;
 import megamek.common.TechConstants;
 import megamek.common.annotations.Nullable;
@@ -655,6 +659,7 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
         final int nUnit = comboUnitType.getSelectedIndex() - 1;
         final boolean checkSupportVee = Messages.getString("MekSelectorDialog.SupportVee")
               .equals(comboUnitType.getSelectedItem());
+        final Set<MekSummary> advancedSearchMatches = findAdvancedSearchMatches();
         // If current expression doesn't parse, don't update.
         try {
             unitTypeFilter = new RowFilter<>() {
@@ -689,7 +694,9 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
                                 /* Additional caller-specific restrictions */
                                 && unitSelectionScopeFilter.test(mek)
                                 /* Advanced Search */
-                                && ((searchFilter == null) || MekSearchFilter.isMatch(mek, searchFilter))
+                                && ((advancedSearchMatches == null)
+                                ? MekSearchFilter.isMatch(mek, searchFilter)
+                                : advancedSearchMatches.contains(mek))
                                 && advancedSearchDialog.getASAdvancedSearch().matches(mek)) {
                         return matchesTextFilter(mek);
                     }
@@ -702,6 +709,18 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
         sorter.setRowFilter(unitTypeFilter);
     }
 
+    /**
+     * @return the units that match the TW advanced search, or null when it is not active or the units are not loaded
+     */
+    protected @Nullable Set<MekSummary> findAdvancedSearchMatches() {
+        if ((searchFilter == null) || searchFilter.isDisabled || (meks == null)) {
+            return null;
+        }
+        Set<MekSummary> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(MekSearchIndex.of(meks).findMatches(searchFilter));
+        return matches;
+    }
+
     protected void updateUnitCount() {
         lblCount.setText(Messages.getString("MekSelectorDialog.UnitCount", sorter.getViewRowCount()));
     }
@@ -33,6 +33,8 @@
 
 package megamek.common;
 
+import java.io.Serial;
+
 import megamek.common.board.BoardLocation;
 import megamek.common.board.Coords;
 import megamek.common.game.Game;
@@ -40,6 +42,8 @@ import megamek.common.moves.MovePath;
 import megamek.common.units.Entity;
 
 public class AtmosphericLandingMovePath extends MovePath {
+    @Serial
+    private static final long serialVersionUID = 578189802560597369L;
 
     private final BoardLocation groundMapLandingLocation;
 
@@ -34,6 +34,10 @@
 
 package megamek.common;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -44,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import megamek.common.annotations.Nullable;
@@ -60,6 +65,11 @@ import megamek.common.units.Terrains;
 
 /**
  * Hex represents a single hex on the board.
+ * <p>
+ * The terrains are stored compactly: a bit mask of the terrain types present, the Terrain objects ordered by type and
+ * their levels in a parallel array. The index of a terrain in the arrays is the number of present types below it, so
+ * presence and level lookups need neither hashing nor boxing. The serialized form is unchanged and still holds the
+ * terrains as a map, see {@link #writeObject(ObjectOutputStream)}.
  *
  * @author Ben
  */
@@ -69,10 +79,47 @@ public class Hex implements Serializable {
     private static final long serialVersionUID = 82483704768044698L;
     private Coords coords;
     private int level;
-    private final Map<Integer, Terrain> terrains = new HashMap<>(1);
     private String theme;
-    private final String originalTheme;
+    private String originalTheme;
     private int fireTurn;
+
+    /** The fields of the serialized form, which has always stored the terrains as a map of type to Terrain */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+          new ObjectStreamField("coords", Coords.class),
+          new ObjectStreamField("level", int.class),
+          new ObjectStreamField("terrains", Map.class),
+          new ObjectStreamField("theme", String.class),
+          new ObjectStreamField("originalTheme", String.class),
+          new ObjectStreamField("fireTurn", int.class)
+    };
+
+    private static final Terrain[] NO_TERRAINS = new Terrain[0];
+    private static final int[] NO_LEVELS = new int[0];
+
+    static {
+        // The terrain mask has one bit per terrain type. Should the terrain types outgrow it, it must become a long[]
+        // or BitSet; failing here makes sure that is noticed at once rather than terrains going missing.
+        if (Terrains.SIZE > Long.SIZE) {
+            throw new ExceptionInInitializerError("Hex stores at most " + Long.SIZE + " terrain types in its mask but "
+                  + "there are " + Terrains.SIZE);
+        }
+    }
+
+    /** One bit for each terrain type present in this hex; see the check of Terrains.SIZE above */
+    private transient long terrainMask;
+
+    /** The terrains of this hex, ordered by type */
+    private transient Terrain[] terrains = NO_TERRAINS;
+
+    /** The levels of the terrains, parallel to terrains; a Terrain's level never changes */
+    private transient int[] terrainLevels = NO_LEVELS;
+
+    /** Source of terrain revisions; each revision is unique among all hexes */
+    private static final AtomicLong TERRAIN_REVISIONS = new AtomicLong();
+
+    /** Changes whenever the terrains of this hex change; 0 until first requested */
+    private transient volatile long terrainRevision;
     //endregion Variable Declarations
 
     //region Constructors
@@ -88,7 +135,7 @@ public class Hex implements Serializable {
      * Constructs a clean, plain hex at specified level.
      */
     public Hex(int level) {
-        this(level, new Terrain[Terrains.SIZE], null, new Coords(0, 0));
+        this(level, NO_TERRAINS, null, new Coords(0, 0));
     }
 
     public Hex(int level, Terrain[] terrains, String theme) {
@@ -103,7 +150,7 @@ public class Hex implements Serializable {
         coords = c;
         for (final Terrain t : terrains) {
             if (t != null) {
-                this.terrains.put(t.getType(), t);
+                putTerrain(t);
             }
         }
 
@@ -123,7 +170,7 @@ public class Hex implements Serializable {
      * Constructs a Hex from a combined string terrains format
      */
     public Hex(int level, String terrain, String theme, Coords c) {
-        this(level, new Terrain[Terrains.SIZE], theme, c);
+        this(level, NO_TERRAINS, theme, c);
         for (StringTokenizer st = new StringTokenizer(terrain, ";", false); st.hasMoreTokens(); ) {
             addTerrain(new Terrain(st.nextToken()));
         }
@@ -155,16 +202,24 @@ public class Hex implements Serializable {
     public void setTheme(String theme) {
         this.theme = theme;
     }
+
+    /**
+     * @return the theme name as specified in the board file, see {@link #resetTheme()}
+     */
+    public String getOriginalTheme() {
+        return originalTheme;
+    }
     //endregion Getters/Setters
 
     /**
-     * @return An array that contains an id for each terrain present in this hex.
+     * @return An array that contains an id for each terrain present in this hex, in ascending order.
      */
     public int[] getTerrainTypes() {
-        int[] result = new int[terrains.size()];
-        int i = 0;
-        for (Integer key : terrains.keySet()) {
-            result[i++] = key;
+        int[] result = new int[terrains.length];
+        long remaining = terrainMask;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
         }
         return result;
     }
@@ -173,7 +228,11 @@ public class Hex implements Serializable {
      * @return A HashSet that contains an id for each terrain present in this hex.
      */
     public Set<Integer> getTerrainTypesSet() {
-        return new HashSet<>(terrains.keySet());
+        Set<Integer> result = new HashSet<>();
+        for (Terrain terrain : terrains) {
+            result.add(terrain.getType());
+        }
+        return result;
     }
 
     /**
@@ -187,9 +246,8 @@ public class Hex implements Serializable {
      * Clears the "exits" flag for all terrains in the hex where it is not manually specified.
      */
     public void clearExits() {
-        for (Integer i : terrains.keySet()) {
-            Terrain t = terrains.get(i);
-            if ((t != null) && !t.hasExitsSpecified()) {
+        for (Terrain t : terrains) {
+            if (!t.hasExitsSpecified()) {
                 t.setExits(0);
             }
         }
@@ -222,16 +280,15 @@ public class Hex implements Serializable {
      * @see Hex#setExits(Hex, int)
      */
     public void setExits(Hex other, int direction, boolean roadsAutoExit) {
-        for (Integer i : terrains.keySet()) {
-            Terrain cTerr = getTerrain(i);
+        for (Terrain cTerr : terrains) {
             Terrain oTerr;
 
-            if ((cTerr == null) || cTerr.hasExitsSpecified()) {
+            if (cTerr.hasExitsSpecified()) {
                 continue;
             }
 
             if (other != null) {
-                oTerr = other.getTerrain(i);
+                oTerr = other.getTerrain(cTerr.getType());
             } else {
                 oTerr = null;
             }
@@ -306,22 +363,27 @@ public class Hex implements Serializable {
      * @see Hex#setExits(Hex, int, boolean)
      */
     public boolean containsExit(int direction) {
-        boolean rv = false;
-        for (Integer terrType : terrains.keySet()) {
-            rv |= containsTerrainExit(terrType, direction);
+        if ((direction < 0) || (direction > 5)) {
+            return false;
         }
-        return rv;
+        for (Terrain terrain : terrains) {
+            if ((terrain.getExits() & (1 << direction)) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * @return if this hex contains a terrain type that can have exits
      */
     public boolean hasExitableTerrain() {
-        boolean rv = false;
-        for (Integer terrType : terrains.keySet()) {
-            rv |= Terrains.exitableTerrain(terrType);
+        for (Terrain terrain : terrains) {
+            if (Terrains.exitableTerrain(terrain.getType())) {
+                return true;
+            }
         }
-        return rv;
+        return false;
     }
 
     /**
@@ -368,8 +430,8 @@ public class Hex implements Serializable {
     public int maxTerrainFeatureElevation(boolean inAtmosphere) {
         int maxFeature = 0;
         int featureElev;
-        for (Integer terrainType : terrains.keySet()) {
-            featureElev = terrains.get(terrainType).getTerrainElevation(inAtmosphere);
+        for (Terrain terrain : terrains) {
+            featureElev = terrain.getTerrainElevation(inAtmosphere);
             if (featureElev > maxFeature) {
                 maxFeature = featureElev;
             }
@@ -417,8 +479,8 @@ public class Hex implements Serializable {
      * @return true if this hex has a terrain with a non-zero terrain factor
      */
     public boolean hasTerrainFactor() {
-        for (int type : terrains.keySet()) {
-            if (terrains.get(type).getTerrainFactor() > 0) {
+        for (Terrain terrain : terrains) {
+            if (terrain.getTerrainFactor() > 0) {
                 return true;
             }
         }
@@ -435,7 +497,7 @@ public class Hex implements Serializable {
      * @see Hex#containsAnyTerrainOf(int...)
      */
     public boolean containsTerrain(int type) {
-        return getTerrain(type) != null;
+        return isStorableType(type) && ((terrainMask & (1L << type)) != 0);
     }
 
     /**
@@ -449,11 +511,8 @@ public class Hex implements Serializable {
      * @see Hex#containsAnyTerrainOf(int...)
      */
     public boolean containsTerrain(int type, int level) {
-        Terrain terrain = getTerrain(type);
-        if (terrain != null) {
-            return terrain.getLevel() == level;
-        }
-        return false;
+        int index = terrainIndex(type);
+        return (index >= 0) && (terrainLevels[index] == level);
     }
 
     /**
@@ -484,9 +543,12 @@ public class Hex implements Serializable {
      * @see Hex#containsAllTerrainsOf(int...)
      */
     public boolean containsAnyTerrainOf(Set<Integer> types) {
-        Set<Integer> keys = new HashSet<>(terrains.keySet());
-        keys.retainAll(types);
-        return !keys.isEmpty();
+        for (Terrain terrain : terrains) {
+            if (types.contains(terrain.getType())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -570,11 +632,8 @@ public class Hex implements Serializable {
      * @return the level of the terrain specified, or Terrain.LEVEL_NONE if the terrain is not present in the hex
      */
     public int terrainLevel(int type) {
-        Terrain terrain = getTerrain(type);
-        if (terrain != null) {
-            return terrain.getLevel();
-        }
-        return Terrain.LEVEL_NONE;
+        int index = terrainIndex(type);
+        return (index >= 0) ? terrainLevels[index] : Terrain.LEVEL_NONE;
     }
 
     /**
@@ -583,7 +642,8 @@ public class Hex implements Serializable {
      * @return the terrain of the specified type, or <code>null</code> if the terrain is not present in the hex
      */
     public @Nullable Terrain getTerrain(int type) {
-        return terrains.get(type);
+        int index = terrainIndex(type);
+        return (index >= 0) ? terrains[index] : null;
     }
 
     /**
@@ -595,12 +655,12 @@ public class Hex implements Serializable {
      */
     public @Nullable Terrain getAnyTerrainOf(int type, int... types) {
         if (containsTerrain(type)) {
-            return terrains.get(type);
+            return getTerrain(type);
         }
 
         for (int moreTypes : types) {
             if (containsTerrain(moreTypes)) {
-                return terrains.get(moreTypes);
+                return getTerrain(moreTypes);
             }
         }
 
@@ -611,28 +671,108 @@ public class Hex implements Serializable {
      * @param terrain the terrain to add to this hex
      */
     public void addTerrain(Terrain terrain) {
-        terrains.put(terrain.getType(), terrain);
+        putTerrain(terrain);
+        terrainRevision = 0;
     }
 
     /**
      * @param type the terrain type to remove
      */
     public void removeTerrain(int type) {
-        terrains.remove(type);
+        int index = terrainIndex(type);
+        if (index >= 0) {
+            if (terrains.length == 1) {
+                terrains = NO_TERRAINS;
+                terrainLevels = NO_LEVELS;
+            } else {
+                Terrain[] newTerrains = new Terrain[terrains.length - 1];
+                int[] newLevels = new int[terrains.length - 1];
+                System.arraycopy(terrains, 0, newTerrains, 0, index);
+                System.arraycopy(terrains, index + 1, newTerrains, index, newTerrains.length - index);
+                System.arraycopy(terrainLevels, 0, newLevels, 0, index);
+                System.arraycopy(terrainLevels, index + 1, newLevels, index, newLevels.length - index);
+                terrains = newTerrains;
+                terrainLevels = newLevels;
+            }
+            terrainMask &= ~(1L << type);
+        }
+        terrainRevision = 0;
     }
 
     /**
      * Removes all Terrains from the hex.
      */
     public void removeAllTerrains() {
-        terrains.clear();
+        terrainMask = 0;
+        terrains = NO_TERRAINS;
+        terrainLevels = NO_LEVELS;
+        terrainRevision = 0;
+    }
+
+    /**
+     * Stores the given terrain, replacing any terrain of the same type. Does not change the terrain revision.
+     */
+    private void putTerrain(Terrain terrain) {
+        int type = terrain.getType();
+        if (!isStorableType(type)) {
+            throw new IllegalArgumentException("Invalid terrain type " + type);
+        }
+        int index = Long.bitCount(terrainMask & ((1L << type) - 1));
+        if ((terrainMask & (1L << type)) != 0) {
+            terrains[index] = terrain;
+            terrainLevels[index] = terrain.getLevel();
+            return;
+        }
+        Terrain[] newTerrains = new Terrain[terrains.length + 1];
+        int[] newLevels = new int[terrains.length + 1];
+        System.arraycopy(terrains, 0, newTerrains, 0, index);
+        System.arraycopy(terrains, index, newTerrains, index + 1, terrains.length - index);
+        System.arraycopy(terrainLevels, 0, newLevels, 0, index);
+        System.arraycopy(terrainLevels, index, newLevels, index + 1, terrainLevels.length - index);
+        newTerrains[index] = terrain;
+        newLevels[index] = terrain.getLevel();
+        terrains = newTerrains;
+        terrainLevels = newLevels;
+        terrainMask |= 1L << type;
+    }
+
+    /**
+     * @return the position of the terrain of the given type in the terrain arrays, or -1 if it is not present
+     */
+    private int terrainIndex(int type) {
+        if (containsTerrain(type)) {
+            return Long.bitCount(terrainMask & ((1L << type) - 1));
+        }
+        return -1;
+    }
+
+    /**
+     * @return True when the given terrain type fits the terrain mask. All terrain types of {@link Terrains} do.
+     */
+    private static boolean isStorableType(int type) {
+        return (type >= 0) && (type < Long.SIZE);
+    }
+
+    /**
+     * Returns a number that identifies the current terrains of this hex. It is different for every hex and changes
+     * whenever a terrain is added or removed, so it can be used to validate values cached for this hex's terrain.
+     *
+     * @return the terrain revision of this hex, never 0
+     */
+    public long getTerrainRevision() {
+        long revision = terrainRevision;
+        if (revision == 0) {
+            revision = TERRAIN_REVISIONS.incrementAndGet();
+            terrainRevision = revision;
+        }
+        return revision;
     }
 
     /**
      * @return the number of terrain attributes present
      */
     public int terrainsPresent() {
-        return terrains.size();
+        return terrains.length;
     }
 
     /**
@@ -641,9 +781,9 @@ public class Hex implements Serializable {
      * @return new hex which is equal to this
      */
     public Hex duplicate() {
-        Terrain[] terrainCopy = new Terrain[Terrains.SIZE];
-        for (Integer i : terrains.keySet()) {
-            terrainCopy[i] = new Terrain(terrains.get(i));
+        Terrain[] terrainCopy = new Terrain[terrains.length];
+        for (int i = 0; i < terrains.length; i++) {
+            terrainCopy[i] = new Terrain(terrains[i]);
         }
         return new Hex(level, terrainCopy, theme, coords);
     }
@@ -653,7 +793,9 @@ public class Hex implements Serializable {
      */
     public void applyTerrainPilotingModifiers(EntityMovementMode moveMode, PilotingRollData roll,
           boolean enteringRubble) {
-        terrains.values().forEach(t -> t.applyPilotingModifier(moveMode, roll, enteringRubble));
+        for (Terrain terrain : terrains) {
+            terrain.applyPilotingModifier(moveMode, roll, enteringRubble);
+        }
     }
 
     /**
@@ -661,7 +803,7 @@ public class Hex implements Serializable {
      */
     public int movementCost(Entity entity) {
         int rv = 0;
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrains) {
             rv += terrain.movementCost(entity);
         }
         return rv;
@@ -672,10 +814,8 @@ public class Hex implements Serializable {
      */
     public int getIgnitionModifier() {
         int mod = 0;
-        for (final Terrain terrain : terrains.values()) {
-            if (terrain != null) {
-                mod += terrain.ignitionModifier();
-            }
+        for (final Terrain terrain : terrains) {
+            mod += terrain.ignitionModifier();
         }
         return mod;
     }
@@ -707,9 +847,9 @@ public class Hex implements Serializable {
      * Returns the "Base Terrain" for the hex, or 0 if it is clear
      */
     public int getBaseTerrainType() {
-        for (int terrain : terrains.keySet()) {
-            if (Terrains.isBaseTerrain(terrain)) {
-                return terrain;
+        for (Terrain terrain : terrains) {
+            if (Terrains.isBaseTerrain(terrain.getType())) {
+                return terrain.getType();
             }
         }
         return 0;
@@ -727,14 +867,18 @@ public class Hex implements Serializable {
         fireTurn = 0;
     }
 
+    public void setFireTurn(int fireTurn) {
+        this.fireTurn = fireTurn;
+    }
+
     /**
      * get any modifiers to a bog-down roll in this hex. Takes the worst modifier. If there is no bog-down chance in
      * this hex, then it returns TargetRoll.AUTOMATIC_SUCCESS
      */
     public int getBogDownModifier(EntityMovementMode moveMode, boolean largeVee) {
         int mod = TargetRoll.AUTOMATIC_SUCCESS;
-        for (final Terrain terrain : terrains.values()) {
-            if ((terrain != null) && (mod < terrain.getBogDownModifier(moveMode, largeVee))) {
+        for (final Terrain terrain : terrains) {
+            if (mod < terrain.getBogDownModifier(moveMode, largeVee)) {
                 mod = terrain.getBogDownModifier(moveMode, largeVee);
             }
         }
@@ -745,7 +889,7 @@ public class Hex implements Serializable {
      * get any modifiers to an unstuck roll in this hex.
      */
     public void getUnstuckModifier(int elev, PilotingRollData rollTarget) {
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrains) {
             terrain.getUnstuckModifier(elev, rollTarget);
         }
     }
@@ -816,12 +960,8 @@ public class Hex implements Serializable {
         List<String> newErrors = new ArrayList<>();
 
         // Check individual terrains for validity
-        for (final Terrain terrain : terrains.values()) {
-            if (terrain == null) {
-                newErrors.add("Hex contains a null terrain.");
-            } else {
-                terrain.isValid(newErrors);
-            }
+        for (final Terrain terrain : terrains) {
+            terrain.isValid(newErrors);
         }
 
         // Rapids
@@ -897,46 +1037,44 @@ public class Hex implements Serializable {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Level: ").append(getLevel()).append("  Features: ");
-        for (final Terrain terrain : terrains.values()) {
-            if (terrain != null) {
-                switch (terrain.getType()) {
-                    case Terrains.WOODS:
-                        if (terrain.getLevel() == 2) {
-                            sb.append("Heavy Woods");
-                        } else if (terrain.getLevel() == 1) {
-                            sb.append("Light Woods");
-                        } else {
-                            sb.append("??? Woods");
-                        }
-                        break;
-                    case Terrains.WATER:
-                        sb.append("Water, depth: ").append(terrain.getLevel());
-                        break;
-                    case Terrains.ROAD:
-                        sb.append("Road");
-                        break;
-                    case Terrains.ROUGH:
-                        sb.append("Rough");
-                        break;
-                    case Terrains.RUBBLE:
-                        sb.append("Rubble");
-                        break;
-                    case Terrains.SWAMP:
-                        sb.append("Swamp");
-                        break;
-                    case Terrains.ARMS:
-                        sb.append("Arm");
-                        break;
-                    case Terrains.LEGS:
-                        sb.append("Leg");
-                        break;
-                    default:
-                        sb.append(Terrains.getName(terrain.getType())).append("(")
-                              .append(terrain.getLevel()).append(", ")
-                              .append(terrain.getTerrainFactor()).append(")");
-                }
-                sb.append("; ");
+        for (final Terrain terrain : terrains) {
+            switch (terrain.getType()) {
+                case Terrains.WOODS:
+                    if (terrain.getLevel() == 2) {
+                        sb.append("Heavy Woods");
+                    } else if (terrain.getLevel() == 1) {
+                        sb.append("Light Woods");
+                    } else {
+                        sb.append("??? Woods");
+                    }
+                    break;
+                case Terrains.WATER:
+                    sb.append("Water, depth: ").append(terrain.getLevel());
+                    break;
+                case Terrains.ROAD:
+                    sb.append("Road");
+                    break;
+                case Terrains.ROUGH:
+                    sb.append("Rough");
+                    break;
+                case Terrains.RUBBLE:
+                    sb.append("Rubble");
+                    break;
+                case Terrains.SWAMP:
+                    sb.append("Swamp");
+                    break;
+                case Terrains.ARMS:
+                    sb.append("Arm");
+                    break;
+                case Terrains.LEGS:
+                    sb.append("Leg");
+                    break;
+                default:
+                    sb.append(Terrains.getName(terrain.getType())).append("(")
+                          .append(terrain.getLevel()).append(", ")
+                          .append(terrain.getTerrainFactor()).append(")");
             }
+            sb.append("; ");
         }
 
         return sb.toString();
@@ -1003,4 +1141,43 @@ public class Hex implements Serializable {
         }
         return new Hex(hexLevel, terrainString, theme, new Coords(0, 0));
     }
+
+    /**
+     * Writes the terrains as the map of type to Terrain that earlier versions of this class stored, so that saved
+     * games and network data remain readable in both directions.
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        Map<Integer, Terrain> terrainMap = new HashMap<>();
+        for (Terrain terrain : terrains) {
+            terrainMap.put(terrain.getType(), terrain);
+        }
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("coords", coords);
+        fields.put("level", level);
+        fields.put("terrains", terrainMap);
+        fields.put("theme", theme);
+        fields.put("originalTheme", originalTheme);
+        fields.put("fireTurn", fireTurn);
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        coords = (Coords) fields.get("coords", null);
+        level = fields.get("level", 0);
+        theme = (String) fields.get("theme", null);
+        originalTheme = (String) fields.get("originalTheme", null);
+        fireTurn = fields.get("fireTurn", 0);
+        terrains = NO_TERRAINS;
+        terrainLevels = NO_LEVELS;
+        if (fields.get("terrains", null) instanceof Map<?, ?> terrainMap) {
+            for (Object terrain : terrainMap.values()) {
+                if (terrain instanceof Terrain) {
+                    putTerrain((Terrain) terrain);
+                }
+            }
+        }
+    }
 }
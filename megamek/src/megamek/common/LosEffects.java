@@ -44,6 +44,8 @@ import megamek.common.board.BoardLocation;
 import megamek.common.board.Coords;
 import megamek.common.board.CrossBoardAttackHelper;
 import megamek.common.board.FloorTarget;
+import megamek.common.board.LosTerrainCache;
+import megamek.common.board.LosTerrainCache.HexTerrain;
 import megamek.common.compute.Compute;
 import megamek.common.equipment.MiscType;
 import megamek.common.game.Game;
@@ -1092,7 +1094,8 @@ public class LosEffects {
      * coordinates, we just add the effects of all those hexes.
      */
     private static LosEffects losStraight(Game game, AttackInfo ai, boolean diagramLoS, boolean partialCover) {
-        List<Coords> in = Coords.intervening(ai.attackPos, ai.targetPos);
+        List<Coords> in = losTerrainCache(game.getBoard(ai.boardId))
+              .getIntervening(ai.attackPos, ai.targetPos, false);
         LosEffects los = new LosEffects();
         boolean targetInBuilding = false;
         if (ai.targetEntity) {
@@ -1146,7 +1149,8 @@ public class LosEffects {
      * sequence regardless of what weapon is attacking.
      */
     private static LosEffects losDivided(Game game, AttackInfo ai, boolean diagramLoS, boolean partialCover) {
-        ArrayList<Coords> in = Coords.intervening(ai.attackPos, ai.targetPos, true);
+        List<Coords> in = losTerrainCache(game.getBoard(ai.boardId))
+              .getIntervening(ai.attackPos, ai.targetPos, true);
         LosEffects los = new LosEffects();
         boolean targetInBuilding = false;
         if (ai.targetEntity) {
@@ -1405,15 +1409,17 @@ public class LosEffects {
         }
 
         Hex hex = game.getBoard(ai.boardId).getHex(coords);
+        // The terrain of the hex itself is cached per board; smoke, units and the hex level are read here
+        HexTerrain terrain = losTerrainCache(game.getBoard(ai.boardId)).getHexTerrain(coords, hex);
         int hexEl = ai.underWaterCombat ? hex.floor() : hex.getLevel();
 
         // Handle minimum water depth.
         // Applies to Torpedoes.
-        if (!(hex.containsTerrain(Terrains.WATER))) {
+        if (!terrain.hasWater()) {
             ai.minimumWaterDepth = 0;
-        } else if ((hex.terrainLevel(Terrains.WATER) >= 0) &&
-              ((ai.minimumWaterDepth == -1) || (hex.terrainLevel(Terrains.WATER) < ai.minimumWaterDepth))) {
-            ai.minimumWaterDepth = hex.terrainLevel(Terrains.WATER);
+        } else if ((terrain.waterLevel() >= 0) &&
+              ((ai.minimumWaterDepth == -1) || (terrain.waterLevel() < ai.minimumWaterDepth))) {
+            ai.minimumWaterDepth = terrain.waterLevel();
         }
 
         // Handle building elevation.
@@ -1423,14 +1429,14 @@ public class LosEffects {
         boolean coveredByDropship = false;
         Entity coveringDropship = null;
 
-        if ((null == los.getThruBldg()) && hex.containsTerrain(Terrains.BLDG_ELEV)) {
-            bldgEl = hex.terrainLevel(Terrains.BLDG_ELEV);
+        if ((null == los.getThruBldg()) && (terrain.buildingElevation() != Terrain.LEVEL_NONE)) {
+            bldgEl = terrain.buildingElevation();
         }
 
         if ((null == los.getThruBldg()) &&
-              hex.containsTerrain(Terrains.FUEL_TANK_ELEV) &&
-              hex.terrainLevel(Terrains.FUEL_TANK_ELEV) > bldgEl) {
-            bldgEl = hex.terrainLevel(Terrains.FUEL_TANK_ELEV);
+              (terrain.fuelTankElevation() != Terrain.LEVEL_NONE) &&
+              terrain.fuelTankElevation() > bldgEl) {
+            bldgEl = terrain.fuelTankElevation();
         }
 
         // check for grounded dropships - treat like a building 10 elevations tall
@@ -1485,7 +1491,7 @@ public class LosEffects {
         }
         if (affectsLos) {
             los.blocked = true;
-            if (hex.terrainLevel(Terrains.BLDG_CF) > 90) {
+            if (terrain.buildingCF() > 90) {
                 los.hardBuildings++;
             } else if (bldgEl > 0) {
                 los.softBuildings++;
@@ -1497,21 +1503,21 @@ public class LosEffects {
         // check if there's a clear hex between the targets that's higher than
         // one of them, if we're in underwater combat
         if (ai.underWaterCombat &&
-              (hex.terrainLevel(Terrains.WATER) == Terrain.LEVEL_NONE) &&
+              (terrain.waterLevel() == Terrain.LEVEL_NONE) &&
               ((totalEl > ai.attackAbsHeight) || (totalEl > ai.targetAbsHeight))) {
             los.blocked = true;
         }
 
         // check for woods or smoke only if not underwater
         if (!ai.underWaterCombat) {
-            if (hex.containsTerrain(Terrains.SCREEN)) {
+            if (terrain.hasScreen()) {
                 // number of screens doesn't matter. One is enough to block
                 los.screen++;
             }
 
             // heavy industrial zones can vary in height up to 10 levels, so lets
             // put all of this into a for loop
-            int industrialLevel = hex.terrainLevel(Terrains.INDUSTRIAL);
+            int industrialLevel = terrain.industrialLevel();
             if (industrialLevel != Terrain.LEVEL_NONE) {
                 for (int level = 1; level < 11; level++) {
                     if ((hexEl + level > maxUnitHeight) ||
@@ -1525,7 +1531,7 @@ public class LosEffects {
                 }
             }
             // planted fields only rise one level above the terrain
-            if (hex.containsTerrain(Terrains.FIELDS)) {
+            if (terrain.hasFields()) {
                 int terrainEl = hexEl + 1;
                 if (diagramLoS) {
                     affectsLos = terrainEl >= losElevation;
@@ -1540,13 +1546,11 @@ public class LosEffects {
             }
 
             // Intervening Smoke and Woods
-            int woodsLevel = hex.terrainLevel(Terrains.WOODS);
-            int jungleLevel = hex.terrainLevel(Terrains.JUNGLE);
-            int foliageElev = Terrains.getTerrainElevation(Terrains.FOLIAGE_ELEV,
-                  hex.terrainLevel(Terrains.FOLIAGE_ELEV),
-                  false);
+            int woodsLevel = terrain.woodsLevel();
+            int jungleLevel = terrain.jungleLevel();
+            int foliageElev = terrain.foliageElevation();
             int smokeLevel = hex.terrainLevel(Terrains.SMOKE);
-            boolean hasFoliage = (woodsLevel != Terrain.LEVEL_NONE) || (jungleLevel != Terrain.LEVEL_NONE);
+            boolean hasFoliage = terrain.hasFoliage();
 
             if (hasFoliage || smokeLevel != Terrain.LEVEL_NONE) {
                 logger.debug("  Hex {} (elev:{}) terrain: woods:{} jungle:{} foliageElev:{} smoke:{} | "
@@ -1595,7 +1599,7 @@ public class LosEffects {
                 }
                 if (affectsLos) {
                     // smoke and woods stack for LOS so check them both
-                    switch (hex.terrainLevel(Terrains.SMOKE)) {
+                    switch (smokeLevel) {
                         case SmokeCloud.SMOKE_LIGHT:
                         case SmokeCloud.SMOKE_LI_LIGHT:
                         case SmokeCloud.SMOKE_LI_HEAVY:
@@ -1641,7 +1645,7 @@ public class LosEffects {
 
             // TacOps: an erupting geyser blocks LOS through its hex, treated as ultra-heavy woods.
             // The plume rises three levels above the hex level.
-            if (hex.terrainLevel(Terrains.GEYSER) == Terrains.GEYSER_LVL_ACTIVE) {
+            if (terrain.geyserLevel() == Terrains.GEYSER_LVL_ACTIVE) {
                 int geyserPlumeEl = hexEl + GEYSER_PLUME_HEIGHT;
                 if (diagramLoS) {
                     affectsLos = geyserPlumeEl >= losElevation;
@@ -1703,6 +1707,15 @@ public class LosEffects {
         return los;
     }
 
+    /**
+     * @return the line of sight terrain cache of the given board, or an unregistered, empty one for boards that do not
+     *       provide one (such as mocked boards)
+     */
+    private static LosTerrainCache losTerrainCache(Board board) {
+        LosTerrainCache cache = board.getLosTerrainCache();
+        return (cache != null) ? cache : new LosTerrainCache(board);
+    }
+
     /**
      * Returns a LosEffects object representing the LOS effects of anything at the specified coordinate on a Low
      * Altitude map.
@@ -73,6 +73,14 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Gives you a SunRandom with the given seed, so the same sequence of numbers can be generated again, e.g. for
+     * reproducible simulations.
+     */
+    public static MMRandom generateSeeded(long seed) {
+        return new SunRandom(seed);
+    }
+
     /**
      * Simulates six-sided die rolls.
      *
@@ -139,7 +147,15 @@ public abstract class MMRandom {
      * Uses com.sun.java.util.collections.Random
      */
     static class SunRandom extends MMRandom {
-        Random random = new Random();
+        Random random;
+
+        SunRandom() {
+            random = new Random();
+        }
+
+        SunRandom(long seed) {
+            random = new Random(seed);
+        }
 
         @Override
         public int randomInt(int maxValue) {
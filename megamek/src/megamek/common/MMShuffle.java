@@ -35,6 +35,8 @@
 
 package megamek.common;
 
+import java.io.Serial;
+
 import megamek.common.rolls.Roll;
 
 /**
@@ -44,6 +46,8 @@ import megamek.common.rolls.Roll;
  * @since July 21, 2004, 7:49 AM
  */
 public class MMShuffle extends Roll {
+    @Serial
+    private static final long serialVersionUID = 4133222772329487136L;
 
     /**
      * Record the two "dice" of this "roll".
@@ -33,6 +33,7 @@
 
 package megamek.common;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,8 @@ import megamek.common.strategicBattleSystems.SBFReportEntry;
  * This class gathers the full game report for an SBF game.
  */
 public class SBFFullGameReport implements FullGameReport<SBFReportEntry> {
+    @Serial
+    private static final long serialVersionUID = -2211940525094801541L;
 
     private final Map<Integer, List<SBFReportEntry>> fullReport = new HashMap<>();
 
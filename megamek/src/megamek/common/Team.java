@@ -36,6 +36,7 @@ package megamek.common;
 
 import static java.util.stream.Collectors.toList;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,8 @@ import megamek.common.turns.TurnVectors;
  * of Game, Entity, AlphaStrikeElement etc., instead using IGame and InGameObject if necessary.
  */
 public final class Team extends TurnOrdered {
+    @Serial
+    private static final long serialVersionUID = 538138844506476498L;
 
     private final List<Player> players = new ArrayList<>();
     private final int id;
@@ -34,10 +34,14 @@
 
 package megamek.common.actions;
 
+import java.io.Serial;
+
 /**
  * Contains information necessary to carry out a "blood stalker" action
  */
 public class ActivateBloodStalkerAction extends AbstractEntityAction {
+    @Serial
+    private static final long serialVersionUID = 3153821542410915791L;
     private int targetID;
 
     public int getTargetID() {
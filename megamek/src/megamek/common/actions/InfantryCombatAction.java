@@ -33,6 +33,8 @@
 
 package megamek.common.actions;
 
+import java.io.Serial;
+
 import megamek.common.game.Game;
 import megamek.common.units.Entity;
 
@@ -48,6 +50,8 @@ import megamek.common.units.Entity;
  * <p>Uses TOAR Infantry vs. Infantry rules with Marine Points Score calculations.</p>
  */
 public class InfantryCombatAction extends AbstractEntityAction {
+    @Serial
+    private static final long serialVersionUID = 788387112804559551L;
 
     /**
      * The target entity ID (AbstractBuildingEntity or vessel).
@@ -33,6 +33,8 @@
 package megamek.common.actions;
 
 
+import java.io.Serial;
+
 import megamek.common.game.Game;
 import megamek.common.units.Entity;
 
@@ -41,6 +43,8 @@ import megamek.common.units.Entity;
  * target building.
  */
 public class InitiateInfantryCombatAction extends InfantryCombatAction {
+    @Serial
+    private static final long serialVersionUID = -7692493441873048072L;
 
     /**
      * Creates a new initiate infantry combat action.
@@ -33,12 +33,16 @@
 
 package megamek.common.actions;
 
+import java.io.Serial;
+
 import megamek.common.compute.Compute;
 import megamek.common.equipment.WeaponType;
 import megamek.common.game.Game;
 
 @Deprecated(since = "0.51.0", forRemoval = true)
 public class OrbitToSurfaceAttackAction extends ArtilleryAttackAction {
+    @Serial
+    private static final long serialVersionUID = -3271474795921882134L;
 
     public OrbitToSurfaceAttackAction(int entityId, int targetType, int targetId, int weaponId, Game game) {
         super(entityId, targetType, targetId, weaponId, game);
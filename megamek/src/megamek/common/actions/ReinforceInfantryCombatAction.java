@@ -33,6 +33,8 @@
 
 package megamek.common.actions;
 
+import java.io.Serial;
+
 import megamek.common.game.Game;
 import megamek.common.units.Entity;
 
@@ -41,6 +43,8 @@ import megamek.common.units.Entity;
  * target building.
  */
 public class ReinforceInfantryCombatAction extends InfantryCombatAction {
+    @Serial
+    private static final long serialVersionUID = -4180848457124368693L;
 
     /**
      * Creates a new reinforce infantry combat action.
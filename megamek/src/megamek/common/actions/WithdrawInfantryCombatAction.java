@@ -33,6 +33,8 @@
 
 package megamek.common.actions;
 
+import java.io.Serial;
+
 import megamek.common.game.Game;
 import megamek.common.units.Entity;
 
@@ -40,6 +42,8 @@ import megamek.common.units.Entity;
  * Action to WITHDRAW from infantry vs. infantry combat (attackers only).
  */
 public class WithdrawInfantryCombatAction extends InfantryCombatAction {
+    @Serial
+    private static final long serialVersionUID = 1672433454955567404L;
 
     /**
      * Creates a new withdraw from infantry combat action.
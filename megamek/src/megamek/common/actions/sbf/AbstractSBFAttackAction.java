@@ -33,9 +33,12 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 public abstract class AbstractSBFAttackAction implements SBFAttackAction, Serializable {
+    @Serial
+    private static final long serialVersionUID = -733734699914632088L;
 
     private final int entityId;
     private final int targetId;
@@ -33,6 +33,8 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
+
 import megamek.common.alphaStrike.BattleForceSUA;
 import megamek.common.strategicBattleSystems.SBFGame;
 import megamek.logging.MMLogger;
@@ -42,6 +44,8 @@ import megamek.logging.MMLogger;
  * p.203
  */
 public abstract class SBFArtilleryAttack extends AbstractSBFAttackAction {
+    @Serial
+    private static final long serialVersionUID = 2124481159138623127L;
     private static final MMLogger logger = MMLogger.create(SBFArtilleryAttack.class);
 
     private final BattleForceSUA artilleryType;
@@ -34,12 +34,16 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
+
 import megamek.common.alphaStrike.BattleForceSUA;
 import megamek.server.sbf.SBFActionHandler;
 import megamek.server.sbf.SBFGameManager;
 
 @Deprecated(since = "0.51.0", forRemoval = true)
 public class SBFDirectArtilleryAttack extends SBFArtilleryAttack {
+    @Serial
+    private static final long serialVersionUID = 5431334441450216467L;
 
     public SBFDirectArtilleryAttack(int entityId, int targetId, BattleForceSUA artilleryType) {
         super(entityId, targetId, artilleryType);
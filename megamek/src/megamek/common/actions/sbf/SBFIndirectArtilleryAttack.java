@@ -33,12 +33,16 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
+
 import megamek.common.alphaStrike.BattleForceSUA;
 import megamek.server.sbf.SBFActionHandler;
 import megamek.server.sbf.SBFGameManager;
 
 @Deprecated(since = "0.51.0", forRemoval = true)
 public class SBFIndirectArtilleryAttack extends SBFArtilleryAttack {
+    @Serial
+    private static final long serialVersionUID = 6220327209958046553L;
 
     public SBFIndirectArtilleryAttack(int entityId, int targetId, BattleForceSUA artilleryType) {
         super(entityId, targetId, artilleryType);
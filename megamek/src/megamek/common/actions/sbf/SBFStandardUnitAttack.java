@@ -33,6 +33,7 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
 import java.util.Optional;
 
 import megamek.common.alphaStrike.ASRange;
@@ -44,6 +45,8 @@ import megamek.server.sbf.SBFGameManager;
 import megamek.server.sbf.SBFStandardUnitAttackHandler;
 
 public class SBFStandardUnitAttack extends AbstractSBFAttackAction {
+    @Serial
+    private static final long serialVersionUID = 1459359213742659085L;
     private static final MMLogger logger = MMLogger.create(SBFStandardUnitAttack.class);
 
     private final int unitNumber;
@@ -33,6 +33,8 @@
 
 package megamek.common.actions.sbf;
 
+import java.io.Serial;
+
 import megamek.common.board.BoardLocation;
 import megamek.common.strategicBattleSystems.SBFGame;
 import megamek.server.sbf.SBFActionHandler;
@@ -40,6 +42,8 @@ import megamek.server.sbf.SBFGameManager;
 
 @Deprecated(since = "0.51.0", forRemoval = true)
 public class SBFUnitToHexAttack extends AbstractSBFAttackAction {
+    @Serial
+    private static final long serialVersionUID = -8032015969009701803L;
 
     private final int unitNumber;
 
@@ -38,6 +38,7 @@ import static megamek.common.alphaStrike.BattleForceSUA.MSL;
 import static megamek.common.alphaStrike.BattleForceSUA.SCAP;
 import static megamek.common.alphaStrike.BattleForceSUA.STD;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -53,6 +54,8 @@ import megamek.common.strategicBattleSystems.BattleForceSUAFormatter;
  * @author Simon (Juliez)
  */
 public class ASArcSummary extends ASSpecialAbilityCollection {
+    @Serial
+    private static final long serialVersionUID = 2469706558821314232L;
 
     /** @return A string formatted for export (listing the damage values of STD, SCAP, MSL and CAP for arcs). */
     public String getSpecialsExportString(String delimiter, BattleForceSUAFormatter element) {
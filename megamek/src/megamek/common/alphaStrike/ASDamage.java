@@ -33,6 +33,7 @@
 
 package megamek.common.alphaStrike;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -45,6 +46,8 @@ import megamek.common.alphaStrike.conversion.ASDamageConverter;
  * ASDamage is immutable.
  */
 public class ASDamage implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4365234807406277229L;
 
     /**
      * The value of this damage. Is 0 for both zero damage and minimal damage. When using this for damage resolution,
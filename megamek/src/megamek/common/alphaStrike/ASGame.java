@@ -33,6 +33,7 @@
 
 package megamek.common.alphaStrike;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.common.Player;
@@ -52,6 +53,8 @@ import megamek.common.options.OptionsConstants;
  * intended to see how to work with MM's interfaces. In the future, it could be completed to support AS games.
  */
 public class ASGame extends AbstractGame {
+    @Serial
+    private static final long serialVersionUID = -8972228011633011835L;
 
     private final GamePhase phase = GamePhase.UNKNOWN;
     private Board board = new Board();
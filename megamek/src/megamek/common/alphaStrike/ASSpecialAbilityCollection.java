@@ -33,6 +33,7 @@
 
 package megamek.common.alphaStrike;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.EnumMap;
 import java.util.stream.Collectors;
@@ -46,6 +47,8 @@ import megamek.common.strategicBattleSystems.BattleForceSUAFormatter;
  * more such blocks as part of the ASTurretSummary representing the turret(s).
  */
 public class ASSpecialAbilityCollection implements Serializable, ASSpecialAbilityCollector {
+    @Serial
+    private static final long serialVersionUID = -7861459150609626923L;
 
     /** The map holding all the Special Unit Abilities and their associated objects (or null). */
     protected final EnumMap<BattleForceSUA, Object> specialAbilities = new EnumMap<>(BattleForceSUA.class);
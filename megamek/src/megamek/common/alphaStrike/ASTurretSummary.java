@@ -33,6 +33,7 @@
 
 package megamek.common.alphaStrike;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.stream.Collectors;
 
@@ -45,6 +46,8 @@ import megamek.common.strategicBattleSystems.BattleForceSUAFormatter;
  * @author Simon (Juliez)
  */
 public class ASTurretSummary extends ASSpecialAbilityCollection implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4988975912802795138L;
 
     @Override
     public String getSpecialsDisplayString(String delimiter, BattleForceSUAFormatter element) {
@@ -34,6 +34,7 @@
 package megamek.common.alphaStrike;
 
 import java.awt.Image;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -70,6 +71,8 @@ import megamek.common.units.UnitRole;
 @JsonDeserialize(using = ASElementDeserializer.class)
 public class AlphaStrikeElement implements Serializable, ASCardDisplayable, ASSpecialAbilityCollector,
                                            BattleForceSUAFormatter, ForceAssignable, Deployable {
+    @Serial
+    private static final long serialVersionUID = 5914205054559363037L;
 
     static final int RANGE_BANDS_SML = 3;
     static final int RANGE_BANDS_SMLE = 4;
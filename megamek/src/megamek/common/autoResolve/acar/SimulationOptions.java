@@ -33,6 +33,8 @@
 
 package megamek.common.autoResolve.acar;
 
+import java.io.Serial;
+
 import megamek.common.options.AbstractOptions;
 import megamek.common.options.AbstractOptionsInfo;
 import megamek.common.options.OptionsConstants;
@@ -41,6 +43,8 @@ import megamek.common.options.OptionsConstants;
  * @author Luana Coppio
  */
 public class SimulationOptions extends AbstractOptions {
+    @Serial
+    private static final long serialVersionUID = -8347094040651615369L;
 
     public static final SimulationOptions EMPTY = empty();
 
@@ -33,6 +33,7 @@
 
 package megamek.common.autoResolve.acar.action;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.common.autoResolve.acar.SimulationContext;
@@ -43,6 +44,8 @@ import megamek.common.rolls.TargetRoll;
 import megamek.common.strategicBattleSystems.SBFUnit;
 
 public class AttackToHitData extends TargetRoll {
+    @Serial
+    private static final long serialVersionUID = -5872890133552829776L;
 
     public AttackToHitData(int value, String desc) {
         super(value, desc);
@@ -33,6 +33,8 @@
 
 package megamek.common.autoResolve.acar.action;
 
+import java.io.Serial;
+
 import megamek.common.autoResolve.component.EngagementControl;
 import megamek.common.autoResolve.component.Formation;
 import megamek.common.internationalization.I18n;
@@ -40,6 +42,8 @@ import megamek.common.rolls.TargetRoll;
 
 @Deprecated(since = "0.51.0", forRemoval = true)
 public class ManeuverToHitData extends TargetRoll {
+    @Serial
+    private static final long serialVersionUID = -4889628084402737595L;
 
     public ManeuverToHitData(int value, String desc) {
         super(value, desc);
@@ -33,12 +33,16 @@
 
 package megamek.common.autoResolve.acar.action;
 
+import java.io.Serial;
+
 import megamek.common.autoResolve.acar.SimulationContext;
 import megamek.common.autoResolve.component.Formation;
 import megamek.common.internationalization.I18n;
 import megamek.common.rolls.TargetRoll;
 
 public class RecoveringNerveActionToHitData extends TargetRoll {
+    @Serial
+    private static final long serialVersionUID = 1160174091615404987L;
 
     public RecoveringNerveActionToHitData(int value, String desc) {
         super(value, desc);
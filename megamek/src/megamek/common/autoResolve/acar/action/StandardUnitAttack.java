@@ -33,6 +33,7 @@
 
 package megamek.common.autoResolve.acar.action;
 
+import java.io.Serial;
 import java.util.Optional;
 
 import megamek.common.alphaStrike.ASRange;
@@ -43,6 +44,8 @@ import megamek.common.autoResolve.component.Formation;
 import megamek.logging.MMLogger;
 
 public class StandardUnitAttack extends AbstractAttackAction {
+    @Serial
+    private static final long serialVersionUID = -5775170205230386784L;
     private static final MMLogger logger = MMLogger.create(StandardUnitAttack.class);
 
     private final int unitNumber;
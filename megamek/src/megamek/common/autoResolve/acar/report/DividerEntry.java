@@ -33,9 +33,13 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.UIUtil;
 
 public class DividerEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = -6635952058781798138L;
 
     public DividerEntry() {
         super(null);
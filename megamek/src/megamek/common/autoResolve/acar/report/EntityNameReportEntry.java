@@ -33,11 +33,15 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.PlayerColour;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.units.Entity;
 
 public class EntityNameReportEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = -3897363423348843793L;
 
     private final String name;
     private final String playerColorHex;
@@ -33,12 +33,16 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.clientGUI.tooltip.SBFInGameObjectTooltip;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.autoResolve.component.Formation;
 import megamek.common.game.IGame;
 
 public class FormationReportEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = 4098827138693099166L;
 
     private final String formationName;
     private final String playerColorHex;
@@ -33,9 +33,13 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.UIUtil;
 
 public class LinkEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = 1401631546387290086L;
 
     private final String anchor;
 
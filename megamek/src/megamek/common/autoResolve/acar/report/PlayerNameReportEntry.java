@@ -33,11 +33,15 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.PlayerColour;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.Player;
 
 public class PlayerNameReportEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = 905725194129276572L;
 
     private final String playerName;
     private final String playerColorHex;
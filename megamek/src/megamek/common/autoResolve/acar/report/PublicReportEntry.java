@@ -33,6 +33,7 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,6 +44,8 @@ import megamek.common.rolls.Roll;
 
 
 public class PublicReportEntry implements ReportEntry {
+    @Serial
+    private static final long serialVersionUID = 2329872276623900555L;
 
     record DataEntry(String data, boolean isObscured) implements Serializable {}
 
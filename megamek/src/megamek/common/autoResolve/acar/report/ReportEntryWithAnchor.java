@@ -33,9 +33,13 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.UIUtil;
 
 public class ReportEntryWithAnchor extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = -9075173968945068914L;
 
     private final String anchor;
 
@@ -33,10 +33,14 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.UIUtil;
 import megamek.common.rolls.Roll;
 
 public class RollReportEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = -2497808074717982920L;
 
     private enum Die {
         ONE(1, "\u2680"),
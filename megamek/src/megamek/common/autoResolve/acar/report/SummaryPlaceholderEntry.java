@@ -33,7 +33,11 @@
 
 package megamek.common.autoResolve.acar.report;
 
+import java.io.Serial;
+
 public class SummaryPlaceholderEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = 3912290614000170258L;
 
     public static final String PLACEHOLDER = "@@@@@@@@@@";
 
@@ -34,12 +34,15 @@
 package megamek.common.autoResolve.acar.report;
 
 import java.awt.Color;
+import java.io.Serial;
 
 import megamek.client.ui.util.UIUtil;
 import megamek.common.autoResolve.component.Formation;
 import megamek.common.strategicBattleSystems.SBFUnit;
 
 public class UnitReportEntry extends PublicReportEntry {
+    @Serial
+    private static final long serialVersionUID = -4561324230035249688L;
 
     private final String formationName;
     private final String unitName;
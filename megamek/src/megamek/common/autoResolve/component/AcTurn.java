@@ -32,10 +32,14 @@
  */
 package megamek.common.autoResolve.component;
 
+import java.io.Serial;
+
 import megamek.common.autoResolve.acar.SimulationContext;
 import megamek.common.game.AbstractPlayerTurn;
 
 public abstract class AcTurn extends AbstractPlayerTurn {
+    @Serial
+    private static final long serialVersionUID = 1887719376877911409L;
 
     public AcTurn(int playerId) {
         super(playerId);
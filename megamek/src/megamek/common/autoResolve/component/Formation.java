@@ -32,6 +32,7 @@
  */
 package megamek.common.autoResolve.component;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +49,8 @@ import megamek.common.units.Entity;
 
 
 public class Formation extends SBFFormation {
+    @Serial
+    private static final long serialVersionUID = 6393576300011170L;
 
     private int targetFormationId = Entity.NONE;
     private EngagementControl engagementControl;
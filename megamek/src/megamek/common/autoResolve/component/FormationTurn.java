@@ -32,11 +32,15 @@
  */
 package megamek.common.autoResolve.component;
 
+import java.io.Serial;
+
 import megamek.common.autoResolve.acar.SimulationContext;
 import megamek.common.game.IGame;
 import megamek.common.game.InGameObject;
 
 public class FormationTurn extends AcTurn {
+    @Serial
+    private static final long serialVersionUID = 1425589246382527131L;
 
     /**
      * Creates a new formation turn for an ACAR Game.
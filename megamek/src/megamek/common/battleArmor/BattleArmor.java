@@ -34,6 +34,7 @@
 
 package megamek.common.battleArmor;
 
+import java.io.Serial;
 import java.text.NumberFormat;
 import java.util.Arrays;
 import java.util.Vector;
@@ -66,6 +67,8 @@ import megamek.logging.MMLogger;
  * This class represents a squad or point of battle armor equipped infantry, sometimes referred to as "Elementals".
  */
 public class BattleArmor extends Infantry {
+    @Serial
+    private static final long serialVersionUID = -8891001330639970919L;
 
     private static final MMLogger logger = MMLogger.create(BattleArmor.class);
 
@@ -34,6 +34,8 @@
 
 package megamek.common.bays;
 
+import java.io.Serial;
+
 import megamek.common.units.Entity;
 import megamek.common.units.FighterSquadron;
 
@@ -41,6 +43,8 @@ import megamek.common.units.FighterSquadron;
  * This is a base class for the very similar ASFBay and SmallCraftBay.
  */
 public abstract class AbstractSmallCraftASFBay extends UnitBay {
+    @Serial
+    private static final long serialVersionUID = -1391251040093897412L;
 
     private final boolean hasArts;
 
@@ -34,10 +34,14 @@
 
 package megamek.common.bays;
 
+import java.io.Serial;
+
 /**
  * Represents a volume of space set aside for carrying units of some sort aboard large spacecraft and mobile structures
  */
 public class UnitBay extends Bay {
+    @Serial
+    private static final long serialVersionUID = -4949995660913302867L;
 
     /**
      * The default constructor is only for serialization.
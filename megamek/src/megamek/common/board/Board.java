@@ -43,6 +43,7 @@ import static megamek.common.SpecialHexDisplay.Type.BOMB_MISS;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -157,6 +158,15 @@ public class Board implements Serializable {
 
     protected transient Vector<BoardListener> boardListeners = new Vector<>();
 
+    private transient volatile TerrainCostCache terrainCostCache;
+    private transient volatile LosTerrainCache losTerrainCache;
+
+    /** Source of hex revisions; each revision is unique among all boards */
+    private static final AtomicLong HEX_REVISIONS = new AtomicLong();
+
+    /** Changes with every board event, i.e. whenever hexes are reported as changed; 0 until first requested */
+    private transient volatile long hexRevision;
+
     /**
      * Record the infernos placed on the board.
      */
@@ -272,7 +282,7 @@ public class Board implements Serializable {
         int index = 0;
         for (int h = 0; h < height; h++) {
             for (int w = 0; w < width; w++) {
-                data[index++] = new Hex(0, "sky:1", "", new Coords(w, h));
+                data[index++] = new Hex(0, "sky:1", "", Coords.of(w, h));
             }
         }
         Board result = new Board(width, height, data);
@@ -293,7 +303,7 @@ public class Board implements Serializable {
         int index = 0;
         for (int h = 0; h < height; h++) {
             for (int w = 0; w < width; w++) {
-                data[index++] = new Hex(0, "space:1", "", new Coords(w, h));
+                data[index++] = new Hex(0, "space:1", "", Coords.of(w, h));
             }
         }
         Board result = new Board(width, height, data);
@@ -393,7 +403,7 @@ public class Board implements Serializable {
                 Hex curHex = getHex(x, y);
                 if ((curHex != null) && (curHex.containsTerrain(Terrains.BUILDING))) {
                     // Yup, but is it a repeat?
-                    Coords coords = new Coords(x, y);
+                    Coords coords = Coords.of(x, y);
                     if (!bldgByCoords.containsKey(coords)) {
 
                         // Nope. Try to create an object for the new building.
@@ -415,7 +425,7 @@ public class Board implements Serializable {
 
                 if ((curHex != null) && (curHex.containsTerrain(Terrains.FUEL_TANK))) {
                     // Yup, but is it a repeat?
-                    Coords coords = new Coords(x, y);
+                    Coords coords = Coords.of(x, y);
                     if (!bldgByCoords.containsKey(coords)) {
                         // Nope. Try to create an object for the new building.
                         try {
@@ -436,7 +446,7 @@ public class Board implements Serializable {
 
                 if ((curHex != null) && curHex.containsTerrain(Terrains.BRIDGE)) {
                     // Yup, but is it a repeat?
-                    Coords coords = new Coords(x, y);
+                    Coords coords = Coords.of(x, y);
                     if (!bldgByCoords.containsKey(coords)) {
                         // Nope. Try to create an object for the new building.
                         try {
@@ -501,7 +511,7 @@ public class Board implements Serializable {
         }
 
         // Always make the coords of the hex match the actual position on the board
-        hex.setCoords(new Coords(x, y));
+        hex.setCoords(Coords.of(x, y));
 
         hex.clearExits();
         for (int i = 0; i < 6; i++) {
@@ -1119,7 +1129,7 @@ public class Board implements Serializable {
                     }
                     int elevation = Integer.parseInt(args[1]);
                     // The coordinates in the .board file are ignored!
-                    nd[index] = new Hex(elevation, args[2], args[3], new Coords(index % nw, index / nw));
+                    nd[index] = new Hex(elevation, args[2], args[3], Coords.of(index % nw, index / nw));
                     index++;
                 } else if ((st.ttype == StreamTokenizer.TT_WORD) && st.sval.equalsIgnoreCase("description")) {
                     st.nextToken();
@@ -1143,7 +1153,7 @@ public class Board implements Serializable {
                         coords /= coordsWidth;
                         x = coords;
                         st.nextToken();
-                        Coords c = new Coords(x, y);
+                        Coords c = Coords.of(x, y);
                         if (st.ttype == '"') {
                             Collection<String> a = new ArrayList<>(getAnnotations(c));
                             a.add(st.sval);
@@ -1719,6 +1729,48 @@ public class Board implements Serializable {
         createBldgByCoords();
     }
 
+    /**
+     * Returns the terrain movement cost cache of this board. It is created on first use and listens to this board's
+     * events.
+     *
+     * @return the terrain movement cost cache of this board
+     */
+    public TerrainCostCache getTerrainCostCache() {
+        TerrainCostCache cache = terrainCostCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = terrainCostCache;
+                if (cache == null) {
+                    cache = new TerrainCostCache(this);
+                    addBoardListener(cache);
+                    terrainCostCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the line of sight terrain cache of this board. It is created on first use and listens to this board's
+     * events.
+     *
+     * @return the line of sight terrain cache of this board
+     */
+    public LosTerrainCache getLosTerrainCache() {
+        LosTerrainCache cache = losTerrainCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = losTerrainCache;
+                if (cache == null) {
+                    cache = new LosTerrainCache(this);
+                    addBoardListener(cache);
+                    losTerrainCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     /**
      * Adds the specified board listener to receive board events from this board.
      *
@@ -1749,6 +1801,7 @@ public class Board implements Serializable {
      * stored in the player class
      */
     public void processBoardEvent(BoardEvent event) {
+        hexRevision = 0;
         if (boardListeners == null) {
             return;
         }
@@ -1767,6 +1820,23 @@ public class Board implements Serializable {
         }
     }
 
+    /**
+     * Returns a number that identifies the current state of the hexes of this board. It is different for every board
+     * and changes with every board event, so it can be used to validate values cached for the whole board without
+     * looking at every hex. Code that changes a hex in place must fire a {@link BoardEvent#BOARD_CHANGED_HEX} event
+     * for it.
+     *
+     * @return the hex revision of this board, never 0
+     */
+    public long getHexRevision() {
+        long revision = hexRevision;
+        if (revision == 0) {
+            revision = HEX_REVISIONS.incrementAndGet();
+            hexRevision = revision;
+        }
+        return revision;
+    }
+
     /**
      * @return an <code>Hashtable</code> of <code>InfernoTrackers</code> on the board.
      */
@@ -2120,7 +2190,7 @@ public class Board implements Serializable {
 
                 if (deploymentZone != null) {
                     for (int zoneID : Board.exitsAsIntList(deploymentZone.getExits())) {
-                        deploymentZones.computeIfAbsent(zoneID, k -> new HashSet<>()).add(new Coords(x, y));
+                        deploymentZones.computeIfAbsent(zoneID, k -> new HashSet<>()).add(Coords.of(x, y));
                     }
                 }
             }
@@ -39,6 +39,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import jakarta.xml.bind.annotation.XmlElement;
 import megamek.client.bot.princess.geometry.HexLine;
@@ -60,6 +61,11 @@ import megamek.common.annotations.Nullable;
  *        3
  *       +y
  * </pre>
+ * <p>
+ * Coords are immutable. {@link #of(int, int)} returns shared instances for all coordinates of boards up to
+ * 240 hexes in width and height (including a margin of off-board hexes), and the methods producing
+ * new coordinates such as {@link #translated(int)} use it, so walking a board does not allocate. Coords created with
+ * the constructor are equal to the shared ones but not identical; always compare Coords with equals().
  */
 public class Coords implements Serializable {
     @Serial
@@ -70,6 +76,20 @@ public class Coords implements Serializable {
     static final int MAX_ITERATIONS = 1000; // for median logic
     public static final double HEX_SIDE = Math.PI / 3.0;
     public static final int[] ALL_DIRECTIONS = { 0, 1, 2, 3, 4, 5 };
+
+    /** The lowest x and y of the shared Coords; lower values are off-board hexes near the left or top edge */
+    private static final int CANONICAL_MIN = -16;
+
+    /** The x and y limit (exclusive) of the shared Coords */
+    private static final int CANONICAL_MAX = 240;
+
+    private static final int CANONICAL_SIZE = CANONICAL_MAX - CANONICAL_MIN;
+
+    /**
+     * The shared Coords, filled on demand. Racing threads may create duplicates, which is harmless as Coords are
+     * immutable and their final fields make them safe to publish without synchronization.
+     */
+    private static final Coords[] CANONICAL = new Coords[CANONICAL_SIZE * CANONICAL_SIZE];
     // endregion Constants
 
     @XmlElement(name = "x")
@@ -143,7 +163,7 @@ public class Coords implements Serializable {
             // hexNumbers are offset by 1, so we have to reduce it here
             int x = Integer.parseInt(parts[0]) + offset;
             int y = Integer.parseInt(parts[1]) + offset;
-            return new Coords(x, y);
+            return of(x, y);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Coords must be in the format x,y.");
         }
@@ -204,7 +224,7 @@ public class Coords implements Serializable {
             y += pos.y;
         }
 
-        return new Coords(x / positions.size(), y / positions.size());
+        return of(x / positions.size(), y / positions.size());
     }
 
 
@@ -274,7 +294,7 @@ public class Coords implements Serializable {
             }
         }
 
-        return new Coords((int) currentX, (int) currentY);
+        return of((int) currentX, (int) currentY);
     }
 
 
@@ -292,7 +312,7 @@ public class Coords implements Serializable {
         int newX = xInDir(dir, distance);
         int newY = yInDir(dir, distance);
 
-        return new Coords(newX, newY);
+        return of(newX, newY);
     }
 
     public Coords translated(String dir) {
@@ -598,7 +618,7 @@ public class Coords implements Serializable {
         directions[1] = (centerDirection + 5) % 6;
         directions[0] = (centerDirection + 1) % 6;
 
-        ArrayList<Coords> hexes = new ArrayList<>();
+        ArrayList<Coords> hexes = new ArrayList<>(src.distance(dest) + 1);
         Coords current = src;
 
         hexes.add(current);
@@ -714,12 +734,8 @@ public class Coords implements Serializable {
      * Returns a list of all coordinates at the given distance dist and anything less than dist as well.
      */
     public ArrayList<Coords> allAtDistanceOrLess(int dist) {
-        ArrayList<Coords> retVal = new ArrayList<>();
-
-        for (int radius = 0; radius <= dist; radius++) {
-            retVal.addAll(allAtDistance(radius));
-        }
-
+        ArrayList<Coords> retVal = new ArrayList<>((dist < 0) ? 0 : 3 * dist * (dist + 1) + 1);
+        forEachAtDistanceOrLess(dist, retVal::add);
         return retVal;
     }
 
@@ -728,24 +744,53 @@ public class Coords implements Serializable {
      * Returns an empty Set for dist &lt; 0 and the calling Coords itself for dist == 0.
      */
     public ArrayList<Coords> allAtDistance(int dist) {
-        ArrayList<Coords> retVal = new ArrayList<>();
+        ArrayList<Coords> retVal = new ArrayList<>((dist <= 0) ? 1 : 6 * dist);
+        forEachAtDistance(dist, retVal::add);
+        return retVal;
+    }
 
+    /**
+     * Passes all coordinates at the given distance dist to the given action, in the order of
+     * {@link #allAtDistance(int)}, regardless of whether they're on the board or not. Does nothing for dist &lt; 0 and
+     * passes the calling Coords itself for dist == 0. Unlike allAtDistance, this creates no list and, within the range
+     * of the shared Coords, no Coords.
+     *
+     * @param dist   the distance of the ring
+     * @param action the action to perform for each of the coordinates
+     */
+    public void forEachAtDistance(int dist, Consumer<Coords> action) {
         if (dist == 0) {
-            retVal.add(this);
+            action.accept(this);
         } else if (dist > 0) {
             // algorithm outline: travel to the southwest a number of hexes equal to the radius then, "draw" the hex
             // sides in sequence, moving north first to draw the west side, then rotating clockwise and moving
             // northeast to draw the northwest side and so on, until we circle around. The length of a hex side is
             // equivalent to the radius
-            Coords currentHex = translated(4, dist);
+            int currentX = xInDir(4, dist);
+            int currentY = yInDir(4, dist);
             for (int direction = 0; direction < 6; direction++) {
                 for (int translation = 0; translation < dist; translation++) {
-                    currentHex = currentHex.translated(direction);
-                    retVal.add(currentHex);
+                    int nextY = yInDir(currentX, currentY, direction, 1);
+                    currentX = xInDir(currentX, currentY, direction, 1);
+                    currentY = nextY;
+                    action.accept(of(currentX, currentY));
                 }
             }
         }
-        return retVal;
+    }
+
+    /**
+     * Passes all coordinates at the given distance dist or less to the given action, in the order of
+     * {@link #allAtDistanceOrLess(int)}, regardless of whether they're on the board or not. Unlike allAtDistanceOrLess,
+     * this creates no list and, within the range of the shared Coords, no Coords.
+     *
+     * @param dist   the maximum distance
+     * @param action the action to perform for each of the coordinates
+     */
+    public void forEachAtDistanceOrLess(int dist, Consumer<Coords> action) {
+        for (int radius = 0; radius <= dist; radius++) {
+            forEachAtDistance(radius, action);
+        }
     }
 
     /**
@@ -792,11 +837,11 @@ public class Coords implements Serializable {
     }
 
     public Coords subtract(Coords centroid) {
-        return new Coords(x - centroid.x, y - centroid.y);
+        return of(x - centroid.x, y - centroid.y);
     }
 
     public Coords add(Coords centroid) {
-        return new Coords(x + centroid.x, y + centroid.y);
+        return of(x + centroid.x, y + centroid.y);
     }
 
     public double magnitude() {
@@ -853,7 +898,35 @@ public class Coords implements Serializable {
         return new Coords(x, y);
     }
 
+    /**
+     * Returns Coords at (x, y). Within the range of board sizes that MegaMek uses, this returns a shared instance
+     * instead of creating new Coords.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     *
+     * @return Coords at (x, y)
+     */
     public static Coords of(int x, int y) {
-        return new Coords(x, y);
+        int column = x - CANONICAL_MIN;
+        int row = y - CANONICAL_MIN;
+        if ((column < 0) || (column >= CANONICAL_SIZE) || (row < 0) || (row >= CANONICAL_SIZE)) {
+            return new Coords(x, y);
+        }
+        int index = column * CANONICAL_SIZE + row;
+        Coords coords = CANONICAL[index];
+        if (coords == null) {
+            coords = new Coords(x, y);
+            CANONICAL[index] = coords;
+        }
+        return coords;
+    }
+
+    /**
+     * Replaces deserialized Coords by the shared instance.
+     */
+    @Serial
+    private Object readResolve() {
+        return of(x, y);
     }
 }
@@ -73,7 +73,7 @@ public record CubeCoords(double q, double r, double s) implements Serializable {
         int column = (int) q;
         int parity = column & 1;
         int row = (int) (r + (q + offset * parity) / 2.0);
-        return new Coords(column, row);
+        return Coords.of(column, row);
     }
 
     /**
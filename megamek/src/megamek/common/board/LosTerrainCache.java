@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.board;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import megamek.common.Hex;
+import megamek.common.event.board.BoardEvent;
+import megamek.common.event.board.BoardListener;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+
+/**
+ * Caches the parts of line of sight calculations that only depend on the board: the sequence of hexes between two
+ * hexes ({@link Coords#intervening(Coords, Coords, boolean)}) and the terrain of each hex that affects line of sight
+ * (woods, jungle, buildings, fields and so on, see {@link HexTerrain}). Line of sight is checked for the same pairs of
+ * hexes over and over by the bot, the firing display and visibility checks. Anything that changes during the game
+ * without changing the hex terrain, such as units, hex levels and smoke, is not cached and must be read when the line
+ * of sight is calculated.
+ * <p>
+ * Hex terrain entries are stored together with the {@link Hex#getTerrainRevision() terrain revision} of the hex they
+ * were read from and are only used while the hex still has that revision. Entries are additionally dropped through the
+ * board's events when hexes are replaced or the board changes. The cache is safe for concurrent use.
+ *
+ * @see Board#getLosTerrainCache()
+ */
+public class LosTerrainCache implements BoardListener {
+
+    /** The maximum number of cached hex sequences; when it is reached, the sequences are dropped */
+    private static final int MAX_PATHS = 1 << 16;
+
+    /**
+     * The terrain of a hex as far as it affects line of sight. Terrain levels are {@link Terrain#LEVEL_NONE} when the
+     * hex does not have the terrain.
+     */
+    public record HexTerrain(long revision, boolean hasWater, int waterLevel, int buildingElevation,
+          int fuelTankElevation, int buildingCF, boolean hasScreen, int industrialLevel, boolean hasFields,
+          int woodsLevel, int jungleLevel, int foliageElevation, int geyserLevel) {
+
+        static HexTerrain of(Hex hex, long revision) {
+            return new HexTerrain(revision,
+                  hex.containsTerrain(Terrains.WATER),
+                  hex.terrainLevel(Terrains.WATER),
+                  hex.containsTerrain(Terrains.BLDG_ELEV) ? hex.terrainLevel(Terrains.BLDG_ELEV) : Terrain.LEVEL_NONE,
+                  hex.containsTerrain(Terrains.FUEL_TANK_ELEV) ?
+                        hex.terrainLevel(Terrains.FUEL_TANK_ELEV) : Terrain.LEVEL_NONE,
+                  hex.terrainLevel(Terrains.BLDG_CF),
+                  hex.containsTerrain(Terrains.SCREEN),
+                  hex.terrainLevel(Terrains.INDUSTRIAL),
+                  hex.containsTerrain(Terrains.FIELDS),
+                  hex.terrainLevel(Terrains.WOODS),
+                  hex.terrainLevel(Terrains.JUNGLE),
+                  Terrains.getTerrainElevation(Terrains.FOLIAGE_ELEV, hex.terrainLevel(Terrains.FOLIAGE_ELEV), false),
+                  hex.terrainLevel(Terrains.GEYSER));
+        }
+
+        /**
+         * @return true if the hex has woods or jungle
+         */
+        public boolean hasFoliage() {
+            return (woodsLevel != Terrain.LEVEL_NONE) || (jungleLevel != Terrain.LEVEL_NONE);
+        }
+    }
+
+    private final Board board;
+    private final Map<Long, List<Coords>> paths = new ConcurrentHashMap<>();
+    private volatile AtomicReferenceArray<HexTerrain> hexTerrains;
+
+    /**
+     * Creates an empty cache for the given board. The board's own cache is returned by
+     * {@link Board#getLosTerrainCache()}; a cache created here must be registered as a listener of the board.
+     *
+     * @param board the board
+     */
+    public LosTerrainCache(Board board) {
+        this.board = board;
+        hexTerrains = new AtomicReferenceArray<>(board.getWidth() * board.getHeight());
+    }
+
+    /**
+     * Returns the hexes crossed by a straight line between the given hexes, as
+     * {@link Coords#intervening(Coords, Coords, boolean)}. The returned list must not be modified.
+     *
+     * @param source      the start hex
+     * @param destination the end hex
+     * @param split       true to return both hexes where the line runs along a hex side
+     *
+     * @return the intervening hexes
+     */
+    public List<Coords> getIntervening(Coords source, Coords destination, boolean split) {
+        if (!board.contains(source) || !board.contains(destination)) {
+            return Coords.intervening(source, destination, split);
+        }
+        long key = ((long) source.getX() << 48) | ((long) source.getY() << 33)
+              | ((long) destination.getX() << 17) | ((long) destination.getY() << 1) | (split ? 1 : 0);
+        List<Coords> path = paths.get(key);
+        if (path == null) {
+            path = List.copyOf(Coords.intervening(source, destination, split));
+            if (paths.size() >= MAX_PATHS) {
+                paths.clear();
+            }
+            paths.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the line of sight terrain of the given hex.
+     *
+     * @param coords the position of the hex on the board
+     * @param hex    the hex at that position
+     *
+     * @return the terrain of the hex
+     */
+    public HexTerrain getHexTerrain(Coords coords, Hex hex) {
+        long revision = hex.getTerrainRevision();
+        AtomicReferenceArray<HexTerrain> terrains = hexTerrains;
+        int index = coords.getY() * board.getWidth() + coords.getX();
+        if (!board.contains(coords) || (index >= terrains.length())) {
+            return HexTerrain.of(hex, revision);
+        }
+        HexTerrain terrain = terrains.getOpaque(index);
+        if ((terrain == null) || (terrain.revision() != revision)) {
+            terrain = HexTerrain.of(hex, revision);
+            terrains.setOpaque(index, terrain);
+        }
+        return terrain;
+    }
+
+    /** Drops all cached values. */
+    public void clear() {
+        paths.clear();
+        hexTerrains = new AtomicReferenceArray<>(board.getWidth() * board.getHeight());
+    }
+
+    @Override
+    public void boardNewBoard(BoardEvent b) {
+        clear();
+    }
+
+    @Override
+    public void boardChangedHex(BoardEvent b) {
+        Coords coords = b.getCoords();
+        if ((coords == null) || !board.contains(coords)) {
+            return;
+        }
+        AtomicReferenceArray<HexTerrain> terrains = hexTerrains;
+        int index = coords.getY() * board.getWidth() + coords.getX();
+        if (index < terrains.length()) {
+            terrains.setOpaque(index, null);
+        }
+    }
+
+    @Override
+    public void boardChangedAllHexes(BoardEvent b) {
+        hexTerrains = new AtomicReferenceArray<>(board.getWidth() * board.getHeight());
+    }
+}
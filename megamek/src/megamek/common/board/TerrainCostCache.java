@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.board;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import megamek.common.Hex;
+import megamek.common.event.board.BoardEvent;
+import megamek.common.event.board.BoardListener;
+import megamek.common.units.Entity;
+
+/**
+ * Caches the terrain movement cost of the hexes of a board ({@link Hex#movementCost(Entity)}) per
+ * {@link TerrainCostProfile}, so that path searches, which evaluate the same hexes many times for the same unit, look
+ * the cost up instead of going through the hex's terrains each time.
+ * <p>
+ * Each entry is stored together with the {@link Hex#getTerrainRevision() terrain revision} of the hex it was computed
+ * for and is only used while the hex at that position still has that revision. Entries are additionally dropped through
+ * the board's events when hexes are replaced or the board changes. The cache is safe for concurrent use.
+ *
+ * @see Board#getTerrainCostCache()
+ */
+public class TerrainCostCache implements BoardListener {
+
+    /** Bits of an entry that hold the cost (offset by COST_OFFSET); the remaining bits hold the terrain revision */
+    private static final int COST_BITS = 8;
+    private static final int COST_MASK = (1 << COST_BITS) - 1;
+    private static final int COST_OFFSET = 1 << (COST_BITS - 1);
+
+    private final Board board;
+    private final Map<TerrainCostProfile, AtomicLongArray> costGrids = new ConcurrentHashMap<>();
+
+    TerrainCostCache(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Returns the terrain movement cost of the given hex for the given unit, as {@link Hex#movementCost(Entity)}.
+     *
+     * @param coords  the position of the hex on the board
+     * @param hex     the hex at that position
+     * @param entity  the unit
+     * @param profile the unit's terrain cost profile as returned by {@link TerrainCostProfile#of(Entity)}
+     *
+     * @return the extra movement cost for entering the hex
+     */
+    public int getMovementCost(Coords coords, Hex hex, Entity entity, TerrainCostProfile profile) {
+        if (!board.contains(coords)) {
+            return hex.movementCost(entity);
+        }
+        AtomicLongArray grid = costGrids.computeIfAbsent(profile,
+              p -> new AtomicLongArray(board.getWidth() * board.getHeight()));
+        int index = coords.getY() * board.getWidth() + coords.getX();
+        if (index >= grid.length()) {
+            // The board has been resized and the event has not been processed yet
+            return hex.movementCost(entity);
+        }
+
+        long revision = hex.getTerrainRevision();
+        long entry = grid.getOpaque(index);
+        if ((entry >>> COST_BITS) == revision) {
+            return (int) (entry & COST_MASK) - COST_OFFSET;
+        }
+
+        int cost = hex.movementCost(entity);
+        if ((cost >= -COST_OFFSET) && (cost < COST_OFFSET)) {
+            grid.setOpaque(index, (revision << COST_BITS) | (cost + COST_OFFSET));
+        }
+        return cost;
+    }
+
+    /** Drops all cached costs. */
+    public void clear() {
+        costGrids.clear();
+    }
+
+    @Override
+    public void boardNewBoard(BoardEvent b) {
+        clear();
+    }
+
+    @Override
+    public void boardChangedHex(BoardEvent b) {
+        Coords coords = b.getCoords();
+        if ((coords == null) || !board.contains(coords)) {
+            return;
+        }
+        int index = coords.getY() * board.getWidth() + coords.getX();
+        for (AtomicLongArray grid : costGrids.values()) {
+            if (index < grid.length()) {
+                grid.setOpaque(index, 0);
+            }
+        }
+    }
+
+    @Override
+    public void boardChangedAllHexes(BoardEvent b) {
+        clear();
+    }
+}
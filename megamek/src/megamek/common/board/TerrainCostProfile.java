@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.board;
+
+import megamek.common.Hex;
+import megamek.common.equipment.MiscType;
+import megamek.common.options.OptionsConstants;
+import megamek.common.units.Entity;
+import megamek.common.units.EntityMovementMode;
+import megamek.common.units.Mek;
+
+/**
+ * The properties of a unit that determine the terrain movement cost of a hex ({@link Hex#movementCost(Entity)}): its
+ * movement mode and a set of unit traits and pilot abilities. All units with an equal profile pay the same terrain
+ * movement cost in any given hex, which is what allows {@link TerrainCostCache} to share costs between units.
+ *
+ * @param movementMode the unit's movement mode
+ * @param traits       the relevant traits as a bit set of the TRAIT constants
+ */
+public record TerrainCostProfile(EntityMovementMode movementMode, int traits) {
+
+    static final int TRAIT_CROSS_COUNTRY = 1;
+    static final int TRAIT_GROUND = 1 << 1;
+    static final int TRAIT_COMBAT_VEHICLE = 1 << 2;
+    static final int TRAIT_SUPERHEAVY_MEK = 1 << 3;
+    static final int TRAIT_MOUNTAINEER = 1 << 4;
+    static final int TRAIT_FOOT_CAVALRY = 1 << 5;
+    static final int TRAIT_FOREST_RANGER = 1 << 6;
+    static final int TRAIT_ANIMAL_MIMIC = 1 << 7;
+    static final int TRAIT_QUAD = 1 << 8;
+    static final int TRAIT_ANIMALISTIC = 1 << 9;
+    static final int TRAIT_NAVAL = 1 << 10;
+    static final int TRAIT_SWAMP_BEAST = 1 << 11;
+    static final int TRAIT_CONVENTIONAL_INFANTRY = 1 << 12;
+    static final int TRAIT_AIRBORNE_VTOL_OR_WIGE = 1 << 13;
+    static final int TRAIT_DUNE_BUGGY = 1 << 14;
+
+    /**
+     * Returns the profile of the given unit in its current state. Must cover everything that
+     * {@link megamek.common.units.Terrain#movementCost(Entity)} looks at.
+     *
+     * @param entity the unit
+     *
+     * @return the unit's terrain cost profile
+     */
+    public static TerrainCostProfile of(Entity entity) {
+        int traits = 0;
+        traits |= entity.hasAbility(OptionsConstants.PILOT_CROSS_COUNTRY) ? TRAIT_CROSS_COUNTRY : 0;
+        traits |= entity.isGround() ? TRAIT_GROUND : 0;
+        traits |= entity.isCombatVehicle() ? TRAIT_COMBAT_VEHICLE : 0;
+        traits |= ((entity instanceof Mek) && entity.isSuperHeavy()) ? TRAIT_SUPERHEAVY_MEK : 0;
+        traits |= entity.hasAbility(OptionsConstants.PILOT_TM_MOUNTAINEER) ? TRAIT_MOUNTAINEER : 0;
+        traits |= entity.hasAbility(OptionsConstants.INFANTRY_FOOT_CAV) ? TRAIT_FOOT_CAVALRY : 0;
+        traits |= entity.hasAbility(OptionsConstants.PILOT_TM_FOREST_RANGER) ? TRAIT_FOREST_RANGER : 0;
+        traits |= entity.hasAbility(OptionsConstants.PILOT_ANIMAL_MIMIC) ? TRAIT_ANIMAL_MIMIC : 0;
+        traits |= entity.entityIsQuad() ? TRAIT_QUAD : 0;
+        traits |= entity.hasQuirk("animalistic") ? TRAIT_ANIMALISTIC : 0;
+        traits |= entity.isNaval() ? TRAIT_NAVAL : 0;
+        traits |= entity.hasAbility(OptionsConstants.PILOT_TM_SWAMP_BEAST) ? TRAIT_SWAMP_BEAST : 0;
+        traits |= entity.isConventionalInfantry() ? TRAIT_CONVENTIONAL_INFANTRY : 0;
+        traits |= entity.isAirborneVTOLorWIGE() ? TRAIT_AIRBORNE_VTOL_OR_WIGE : 0;
+        traits |= entity.hasWorkingMisc(MiscType.F_DUNE_BUGGY) ? TRAIT_DUNE_BUGGY : 0;
+        return new TerrainCostProfile(entity.getMovementMode(), traits);
+    }
+}
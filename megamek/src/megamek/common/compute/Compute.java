@@ -38,6 +38,8 @@ import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import megamek.common.*;
 import megamek.common.actions.*;
@@ -152,6 +154,19 @@ public class Compute {
 
     private static MMRandom random = MMRandom.generate(MMRandom.R_DEFAULT);
 
+    /**
+     * Overrides {@link #random} for the threads of one game when several games run concurrently in one JVM. A thread
+     * started by such a thread gets its own RNG, seeded from its parent's, so that the numbers each thread draws do not
+     * depend on how the threads of the game interleave.
+     */
+    private static final InheritableThreadLocal<ThreadRNG> threadRandom = new InheritableThreadLocal<>() {
+        @Override
+        protected ThreadRNG childValue(ThreadRNG parentValue) {
+            // Called on the parent thread while it creates the child, so the seeds follow the parent's program order
+            return (parentValue == null) ? null : parentValue.split();
+        }
+    };
+
     private static final int[][] clusterHitsTable = new int[][] {
           { 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1 },
           { 2, 1, 1, 1, 1, 1, 1, 2, 2, 2, 2, 2 },
@@ -210,7 +225,7 @@ public class Compute {
      * Wrapper to random#d6(n)
      */
     public static Roll rollD6(int dice) {
-        Roll roll = random.d6(dice);
+        Roll roll = getRNG().d6(dice);
         if (Server.getServerInstance() != null) {
             if (Server.getServerInstance().getGame().getOptions()
                   .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
@@ -224,7 +239,7 @@ public class Compute {
      * Wrapper to random#d6(n)
      */
     public static Roll rollD6(int dice, int keep) {
-        Roll roll = random.d6(dice, keep);
+        Roll roll = getRNG().d6(dice, keep);
         if (Server.getServerInstance() != null) {
             if (Server.getServerInstance().getGame().getOptions()
                   .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
@@ -337,7 +352,7 @@ public class Compute {
      * 1, or 2.
      */
     public static int randomInt(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue);
+        Roll roll = new MMRoll(getRNG(), maxValue);
         return roll.getIntValue();
     }
 
@@ -346,7 +361,7 @@ public class Compute {
      * 1, 2 or 3.
      */
     public static int randomIntInclusive(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue + 1);
+        Roll roll = new MMRoll(getRNG(), maxValue + 1);
         return roll.getIntValue();
     }
 
@@ -356,7 +371,7 @@ public class Compute {
      * or 3.
      */
     public static int randomRealIntInclusive(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue);
+        Roll roll = new MMRoll(getRNG(), maxValue);
         return roll.getIntValue() + 1;
     }
 
@@ -364,7 +379,7 @@ public class Compute {
      * Wrapper to random#randomFloat()
      */
     public static float randomFloat() {
-        return random.randomFloat();
+        return getRNG().randomFloat();
     }
 
     /**
@@ -401,6 +416,77 @@ public class Compute {
         Compute.random = Objects.requireNonNull(random);
     }
 
+    /**
+     * Gives the current thread an RNG seeded with the given seed, used instead of the RNG set with
+     * {@link #setRNG(MMRandom)}. Each thread started from now on by this thread, or by the threads it starts, gets its
+     * own RNG seeded from its parent's. This gives each game its own reproducible RNGs when several games run
+     * concurrently in one JVM, see {@link megamek.utilities.AIMatchRunner}.
+     *
+     * @param seed The seed of the current thread's RNG
+     */
+    public static void setThreadRNGSeed(long seed) {
+        threadRandom.set(new ThreadRNG(seed));
+    }
+
+    /**
+     * Makes the current thread use the RNG set with {@link #setRNG(MMRandom)} again.
+     */
+    public static void clearThreadRNG() {
+        threadRandom.remove();
+    }
+
+    /**
+     * Wraps the given task so that it draws from its own RNG, seeded from the current thread's RNG, on whatever thread
+     * it runs. Tasks that are handed to a shared pool, whose threads do not inherit the current thread's RNG, should
+     * be wrapped in the order they are created so that their RNGs do not depend on the pool's scheduling.
+     *
+     * @param task the task
+     *
+     * @return the wrapped task, or the task itself when the current thread has no RNG of its own
+     */
+    public static <T> Callable<T> withThreadRNG(Callable<T> task) {
+        ThreadRNG parent = threadRandom.get();
+        if (parent == null) {
+            return task;
+        }
+        ThreadRNG taskRNG = parent.split();
+        return () -> {
+            ThreadRNG previous = threadRandom.get();
+            threadRandom.set(taskRNG);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    threadRandom.remove();
+                } else {
+                    threadRandom.set(previous);
+                }
+            }
+        };
+    }
+
+    private static MMRandom getRNG() {
+        ThreadRNG result = threadRandom.get();
+        return (result == null) ? random : result.random;
+    }
+
+    /**
+     * The RNG of one thread and the source of the seeds of the RNGs split from it. Only used by its own thread.
+     */
+    private static final class ThreadRNG {
+        private final MMRandom random;
+        private final SplittableRandom seeds;
+
+        private ThreadRNG(long seed) {
+            random = MMRandom.generateSeeded(seed);
+            seeds = new SplittableRandom(seed);
+        }
+
+        private ThreadRNG split() {
+            return new ThreadRNG(seeds.nextLong());
+        }
+    }
+
     /**
      * Returns the odds that a certain number or above will be rolled on 2d6.
      */
@@ -8050,40 +8136,38 @@ public class Compute {
             // For
             for (int r = 0; r <= radius; r++) {
                 final int rad = r;
-                List<Coords> ringCoords = position.allAtDistance(r);
                 // Get all enemy entities that protrude into the blast sphere, or, for Anti-ASF Flak,
                 // are in the target's hex at the same altitude
-                for (Coords coords : ringCoords) {
-                    List<Entity> cEntities = game.getEntitiesVector(coords);
-                    entities.addAll(cEntities.stream().filter(
-                          e -> e.isEnemyOf(attacker) &&
-                                ((e.getElevation() + e.getHeight() >= rad + baseHeight - verticalLevels)
-                                      && (e.getElevation() <= ceiling + verticalLevels - rad))
-                                || (e.isAero() && e.getAltitude() == baseHeight)
-                    ).toList());
-                }
+                Consumer<Entity> collector = e -> {
+                    if (e.isTargetable() && (e.isEnemyOf(attacker) &&
+                          ((e.getElevation() + e.getHeight() >= rad + baseHeight - verticalLevels)
+                                && (e.getElevation() <= ceiling + verticalLevels - rad))
+                          || (e.isAero() && e.getAltitude() == baseHeight))) {
+                        entities.add(e);
+                    }
+                };
+                position.forEachAtDistance(r, coords -> game.forEachEntityAt(coords, collector));
             }
         } else if (artillery) {
             // Central vertical blast column
-            entities.addAll(game.getEntitiesVector(position).stream().filter(
-                  e -> e.isEnemyOf(attacker) &&
-                        (e.getElevation() + e.getHeight() >= baseHeight)
-                        && (e.getElevation() <= ceiling + verticalLevels)
-            ).toList());
+            game.forEachEntityAt(position, e -> {
+                if (e.isTargetable() && e.isEnemyOf(attacker) &&
+                      (e.getElevation() + e.getHeight() >= baseHeight)
+                      && (e.getElevation() <= ceiling + verticalLevels)) {
+                    entities.add(e);
+                }
+            });
+            // Get all the entities that cross the blast rings
+            Consumer<Entity> collector = e -> {
+                if (e.isTargetable() && e.isEnemyOf(attacker) &&
+                      ((e.getElevation() + e.getHeight() >= baseHeight)
+                            && (e.getElevation() <= ceiling))) {
+                    entities.add(e);
+                }
+            };
             for (int r = 1; r <= radius; r++) {
-                // Get all the entities that cross the blast ring
-                List<Coords> ringCoords = position.allAtDistance(r);
-                for (Coords coords : ringCoords) {
-                    List<Entity> cEntities = game.getEntitiesVector(coords);
-                    entities.addAll(cEntities.stream().filter(
-                          e -> e.isEnemyOf(attacker) &&
-                                ((e.getElevation() + e.getHeight() >= baseHeight)
-                                      && (e.getElevation() <= ceiling))
-                    ).toList());
-                }
+                position.forEachAtDistance(r, coords -> game.forEachEntityAt(coords, collector));
             }
-
-
         }
         // No enemies in the volume == all outside
         return entities;
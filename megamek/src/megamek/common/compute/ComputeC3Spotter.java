@@ -187,12 +187,13 @@ public class ComputeC3Spotter {
     private static List<SpotterInfo> collectSpotters(Game game, Entity attacker, Targetable target) {
         List<SpotterInfo> spotters = new ArrayList<>();
 
-        for (Entity other : game.getEntitiesVector()) {
+        // Spotters must be on the attacker's board, so only the units placed there are looked at
+        game.forEachEntityOnBoard(attacker.getBoardId(), other -> {
             if (isValidC3Spotter(other, attacker, game)) {
                 int spotterRange = Compute.effectiveDistance(game, other, target, false);
                 spotters.add(new SpotterInfo(other, spotterRange));
             }
-        }
+        });
 
         return spotters;
     }
@@ -34,6 +34,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
@@ -43,6 +44,8 @@ import megamek.common.equipment.enums.BombType.BombTypeEnum;
 import megamek.common.units.Entity;
 
 public class AmmoMounted extends Mounted<AmmoType> {
+    @Serial
+    private static final long serialVersionUID = 7316118003130145160L;
 
     public AmmoMounted(Entity entity, AmmoType type) {
         super(entity, type);
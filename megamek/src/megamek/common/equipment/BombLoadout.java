@@ -32,6 +32,7 @@
  */
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.HashMap;
 
 import megamek.common.equipment.enums.BombType.BombTypeEnum;
@@ -40,6 +41,8 @@ import megamek.common.equipment.enums.BombType.BombTypeEnum;
  * Represents a collection of bombs with their quantities.
  */
 public class BombLoadout extends HashMap<BombTypeEnum, Integer> {
+    @Serial
+    private static final long serialVersionUID = -4877771334394556985L;
 
     public BombLoadout() {
         super();
@@ -33,10 +33,14 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
+
 import megamek.common.equipment.enums.BombType;
 import megamek.common.units.Entity;
 
 public class BombMounted extends AmmoMounted {
+    @Serial
+    private static final long serialVersionUID = -4553950983508853569L;
     public BombMounted(Entity entity, BombType type) {
         super(entity, type);
     }
@@ -33,6 +33,8 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
+
 /**
  * Represents a basic carryable object with no additional other properties.
  * <p>
@@ -40,6 +42,8 @@ package megamek.common.equipment;
  * without using the full depth of rules described in TO:AR.
  */
 public class Briefcase extends GroundObject {
+    @Serial
+    private static final long serialVersionUID = 4639420995699779194L;
 
     /**
      * Returns true if the carryable object is able to be picked up. Briefcases can always be picked up.
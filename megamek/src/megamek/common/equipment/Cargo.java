@@ -33,12 +33,16 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
+
 /**
  * Represents a cargo object.
  * <p>
  * TODO: Rules for generic objects in TO:AR p. 90
  */
 public class Cargo extends GroundObject {
+    @Serial
+    private static final long serialVersionUID = -7348723733698231330L;
 
     /**
      * Returns true if the carryable object is able to be picked up. Briefcases can always be picked up.
@@ -33,6 +33,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +48,8 @@ import megamek.logging.MMLogger;
  * infantry compartment, but support cargo unlike clamp mounts or BA Handles.
  */
 public abstract class ExternalCargo implements Transporter {
+    @Serial
+    private static final long serialVersionUID = -7496103475567529531L;
     private final static MMLogger logger = MMLogger.create(ExternalCargo.class);
 
     protected transient Game game;
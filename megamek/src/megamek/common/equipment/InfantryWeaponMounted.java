@@ -34,6 +34,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -47,6 +48,8 @@ import megamek.common.weapons.infantry.InfantryWeapon;
  * weapons. Infantry units that only have a single weapon should use {@link Mounted}.
  */
 public class InfantryWeaponMounted extends WeaponMounted {
+    @Serial
+    private static final long serialVersionUID = -572477545704480490L;
 
     transient private InfantryWeapon otherWeapon;
     private final String typeName;
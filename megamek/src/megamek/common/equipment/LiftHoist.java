@@ -33,6 +33,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.common.units.Entity;
@@ -42,6 +43,8 @@ import megamek.common.units.Mek;
  * Transporter for Lift Hoists as described TW p. 136
  */
 public class LiftHoist extends ExternalCargo {
+    @Serial
+    private static final long serialVersionUID = 7070091302175605614L;
     private int mountedId;
 
     public LiftHoist(Mounted<?> mounted, double tonnage) {
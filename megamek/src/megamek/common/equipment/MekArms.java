@@ -33,6 +33,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.common.battleArmor.BattleArmor;
@@ -41,6 +42,8 @@ import megamek.common.units.MekWithArms;
 import megamek.logging.MMLogger;
 
 public class MekArms extends ExternalCargo {
+    @Serial
+    private static final long serialVersionUID = 5103257322655743923L;
     private final static MMLogger logger = MMLogger.create(MekArms.class);
 
     public MekArms(MekWithArms mek) {
@@ -33,6 +33,8 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
+
 import megamek.common.CriticalSlot;
 import megamek.common.Messages;
 import megamek.common.annotations.Nullable;
@@ -41,6 +43,8 @@ import megamek.common.units.Entity;
 import megamek.common.units.Mek;
 
 public class MiscMounted extends Mounted<MiscType> {
+    @Serial
+    private static final long serialVersionUID = 7045157771660925881L;
 
     public static final int MINE_NONE = -1;
     public static final int MINE_CONVENTIONAL = 0;
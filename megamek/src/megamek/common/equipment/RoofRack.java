@@ -33,6 +33,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.codeUtilities.MathUtility;
@@ -42,6 +43,8 @@ import megamek.common.units.Entity;
  * Cargo Carrier TW p. 261. Unprotected, in slings, strapped to the top, in lightweight containers and so on.
  */
 public class RoofRack extends ExternalCargo {
+    @Serial
+    private static final long serialVersionUID = 3719786704867882220L;
 
     public RoofRack(double tonnage) {
         super(tonnage, List.of(Entity.LOC_NONE));
@@ -34,6 +34,7 @@
 
 package megamek.common.equipment;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -50,6 +51,8 @@ import megamek.common.weapons.gaussRifles.GaussWeapon;
 import megamek.common.weapons.handlers.WeaponHandler;
 
 public class WeaponMounted extends Mounted<WeaponType> {
+    @Serial
+    private static final long serialVersionUID = 7057155031200702789L;
 
     // A list of ids (equipment numbers) for the weapons and ammo linked to
     // this bay (if the mounted is of the BayWeapon type)
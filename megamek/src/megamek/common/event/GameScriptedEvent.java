@@ -33,7 +33,11 @@
 
 package megamek.common.event;
 
+import java.io.Serial;
+
 public abstract class GameScriptedEvent extends GameEvent {
+    @Serial
+    private static final long serialVersionUID = -1740261908910889659L;
 
     public GameScriptedEvent(Object source) {
         super(source);
@@ -34,12 +34,15 @@
 package megamek.common.event;
 
 import java.awt.Image;
+import java.io.Serial;
 
 import megamek.client.ui.Base64Image;
 import megamek.common.annotations.Nullable;
 import megamek.server.scriptedEvents.NarrativeDisplayProvider;
 
 public class GameScriptedMessageEvent extends GameScriptedEvent implements NarrativeDisplayProvider {
+    @Serial
+    private static final long serialVersionUID = -3038817935065694223L;
 
     private final String message;
     private final String header;
@@ -32,6 +32,8 @@
  */
 package megamek.common.event;
 
+import java.io.Serial;
+
 /**
  * A game event raised when the server wants the client to show a transient toast notification on the board view - for
  * example, "Fortification complete" when Trench/Fieldworks Engineers finish a fortified hex.
@@ -41,6 +43,8 @@ package megamek.common.event;
  * shows the message.</p>
  */
 public class GameToastEvent extends GameEvent {
+    @Serial
+    private static final long serialVersionUID = 1405140442232210811L;
 
     /**
      * Layer-neutral severity for a toast, mirrored by the client UI's own toast styling. INFO is routine, SUCCESS marks
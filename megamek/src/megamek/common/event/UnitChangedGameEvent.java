@@ -33,10 +33,14 @@
 
 package megamek.common.event;
 
+import java.io.Serial;
+
 import megamek.common.game.InGameObject;
 import megamek.common.annotations.Nullable;
 
 public class UnitChangedGameEvent extends GameEvent {
+    @Serial
+    private static final long serialVersionUID = -4341217075304145502L;
 
     protected InGameObject oldUnit;
     protected InGameObject newUnit;
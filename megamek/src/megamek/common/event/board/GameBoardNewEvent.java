@@ -34,6 +34,8 @@
 
 package megamek.common.event.board;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.event.GameEvent;
 import megamek.common.event.GameListener;
@@ -46,6 +48,8 @@ import megamek.common.game.Game;
  * @see GameListener
  */
 public class GameBoardNewEvent extends GameEvent {
+    @Serial
+    private static final long serialVersionUID = -4209243046430450418L;
 
     private final Board oldBoard;
     private final Board newBoard;
@@ -33,12 +33,16 @@
 
 package megamek.common.game;
 
+import java.io.Serial;
+
 import megamek.common.interfaces.PlayerTurn;
 
 /**
  * This is a basic implementation of PlayerTurn to extend other turn types from. It is suitable for all game types.
  */
 public abstract class AbstractPlayerTurn implements PlayerTurn {
+    @Serial
+    private static final long serialVersionUID = 4257072438863316569L;
 
     private final int playerId;
 
@@ -0,0 +1,461 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.game;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.board.Coords;
+import megamek.common.units.Entity;
+
+/**
+ * The spatial index of the units of a {@link Game}, kept separately for each board. It finds the units occupying a hex
+ * and the units within a distance of a hex without looking at every unit of the game.
+ * <p>
+ * For each board, the index keeps the units occupying each hex (every hex of a unit that has secondary positions, such
+ * as a grounded DropShip) and a grid of square cells of {@link #CELL_SIZE} hexes that holds the units by their
+ * position, which is used for range queries. All buckets are immutable arrays sorted by unit id that are replaced when
+ * a unit moves. Queries therefore read them without locking and iterate them without allocating, while updates are
+ * serialized by the index.
+ * <p>
+ * The index must be told of every change of a unit's position, secondary positions or board, see
+ * {@link #update(Entity)}. It holds the unit objects that were last given to it; a unit object replaced in the game
+ * must be given to the index again.
+ */
+final class EntityPositionIndex {
+
+    /** The size in hexes of the square cells of the range query grid */
+    static final int CELL_SIZE = 8;
+
+    private static final Placement[] NO_PLACEMENTS = new Placement[0];
+
+    /** The last indexed placement of each unit, by unit id */
+    private final Map<Integer, Placement> placements = new ConcurrentHashMap<>();
+
+    /** The boards that have or had units on them, sorted by board id */
+    private volatile BoardIndex[] boards = new BoardIndex[0];
+
+    /**
+     * Indexes the current position, secondary positions and board of the given unit, replacing its previous placement.
+     * A unit without a position is removed from the index.
+     *
+     * @param entity the unit
+     */
+    synchronized void update(Entity entity) {
+        Placement placement = Placement.of(entity);
+        Placement previous = placements.get(entity.getId());
+        if ((previous != null) && previous.matches(placement)) {
+            return;
+        }
+        if (previous != null) {
+            boardIndex(previous.boardId).remove(previous);
+        }
+        if (placement == null) {
+            placements.remove(entity.getId());
+        } else {
+            placements.put(entity.getId(), placement);
+            boardIndex(placement.boardId).add(placement);
+        }
+    }
+
+    /**
+     * Removes the unit with the given id from the index.
+     *
+     * @param entityId the unit id
+     */
+    synchronized void remove(int entityId) {
+        Placement previous = placements.remove(entityId);
+        if (previous != null) {
+            boardIndex(previous.boardId).remove(previous);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given units.
+     *
+     * @param entities the units to index
+     */
+    synchronized void rebuild(Collection<Entity> entities) {
+        clear();
+        for (Entity entity : entities) {
+            update(entity);
+        }
+    }
+
+    /**
+     * Removes all units from the index.
+     */
+    synchronized void clear() {
+        placements.clear();
+        boards = new BoardIndex[0];
+    }
+
+    /**
+     * @param entityId the unit id
+     *
+     * @return the hexes the unit with the given id was last indexed at; empty if it is not indexed
+     */
+    HashSet<Coords> occupiedHexes(int entityId) {
+        Placement placement = placements.get(entityId);
+        return (placement == null) ? new HashSet<>() : new HashSet<>(placement.hexes);
+    }
+
+    /**
+     * @return the number of boards that have or had units on them
+     */
+    int boardCount() {
+        return boards.length;
+    }
+
+    /**
+     * Performs the given action for each unit occupying the given hex of the given board, in the order of unit ids.
+     *
+     * @param coords  the hex
+     * @param boardId the board id
+     * @param action  the action to perform
+     */
+    void forEachAt(Coords coords, int boardId, Consumer<Entity> action) {
+        BoardIndex board = findBoard(boardId);
+        if (board != null) {
+            board.forEachAt(coords, action);
+        }
+    }
+
+    /**
+     * Performs the given action for each unit occupying the given hex on any board. The units are visited board by
+     * board, each board in the order of unit ids.
+     *
+     * @param coords the hex
+     * @param action the action to perform
+     */
+    void forEachAt(Coords coords, Consumer<Entity> action) {
+        for (BoardIndex board : boards) {
+            board.forEachAt(coords, action);
+        }
+    }
+
+    /**
+     * Performs the given action for each unit on the given board whose position is at most the given distance from the
+     * center. Secondary positions are not considered. The units are visited in no particular order.
+     *
+     * @param center   the center hex
+     * @param boardId  the board id
+     * @param distance the largest distance to include
+     * @param action   the action to perform
+     */
+    void forEachWithin(Coords center, int boardId, int distance, Consumer<Entity> action) {
+        BoardIndex board = findBoard(boardId);
+        if (board != null) {
+            board.forEachWithin(center, distance, action);
+        }
+    }
+
+    /**
+     * Performs the given action for each unit on any board whose position is at most the given distance from the
+     * center. Secondary positions are not considered. The units are visited in no particular order.
+     *
+     * @param center   the center hex
+     * @param distance the largest distance to include
+     * @param action   the action to perform
+     */
+    void forEachWithin(Coords center, int distance, Consumer<Entity> action) {
+        for (BoardIndex board : boards) {
+            board.forEachWithin(center, distance, action);
+        }
+    }
+
+    /**
+     * Performs the given action for each unit that has a position on the given board, in the order of unit ids.
+     *
+     * @param boardId the board id
+     * @param action  the action to perform
+     */
+    void forEachOnBoard(int boardId, Consumer<Entity> action) {
+        BoardIndex board = findBoard(boardId);
+        if (board != null) {
+            for (Placement placement : board.units) {
+                action.accept(placement.entity);
+            }
+        }
+    }
+
+    private @Nullable BoardIndex findBoard(int boardId) {
+        for (BoardIndex board : boards) {
+            if (board.boardId == boardId) {
+                return board;
+            }
+        }
+        return null;
+    }
+
+    private BoardIndex boardIndex(int boardId) {
+        BoardIndex board = findBoard(boardId);
+        if (board == null) {
+            board = new BoardIndex(boardId);
+            BoardIndex[] newBoards = Arrays.copyOf(boards, boards.length + 1);
+            newBoards[boards.length] = board;
+            Arrays.sort(newBoards, (first, second) -> Integer.compare(first.boardId, second.boardId));
+            boards = newBoards;
+        }
+        return board;
+    }
+
+    /**
+     * Where a unit was indexed: its board, its position and all hexes it occupies.
+     */
+    private record Placement(Entity entity, int boardId, @Nullable Coords position, Set<Coords> hexes) {
+
+        static @Nullable Placement of(Entity entity) {
+            Set<Coords> hexes = entity.getOccupiedCoords();
+            if ((entity.getPosition() == null) && hexes.isEmpty()) {
+                return null;
+            }
+            return new Placement(entity, entity.getBoardId(), entity.getPosition(), hexes);
+        }
+
+        boolean matches(@Nullable Placement other) {
+            return (other != null) && (entity == other.entity) && (boardId == other.boardId)
+                  && ((position == null) ? (other.position == null) : position.equals(other.position))
+                  && hexes.equals(other.hexes);
+        }
+
+        int id() {
+            return entity.getId();
+        }
+    }
+
+    /**
+     * The units of a single board, by hex and by grid cell.
+     */
+    private static final class BoardIndex {
+
+        private final int boardId;
+        private final Map<Coords, Placement[]> hexes = new ConcurrentHashMap<>();
+
+        /** All units that have a position on this board */
+        private volatile Placement[] units = NO_PLACEMENTS;
+        private volatile Grid grid = Grid.EMPTY;
+
+        private BoardIndex(int boardId) {
+            this.boardId = boardId;
+        }
+
+        private void add(Placement placement) {
+            for (Coords hex : placement.hexes) {
+                hexes.merge(hex, new Placement[] { placement }, (present, added) -> with(present, placement));
+            }
+            if (placement.position != null) {
+                units = with(units, placement);
+                int column = cellOf(placement.position.getX());
+                int row = cellOf(placement.position.getY());
+                if (!grid.covers(column, row)) {
+                    grid = grid.grownToCover(column, row);
+                }
+                grid.set(column, row, with(grid.get(column, row), placement));
+            }
+        }
+
+        private void remove(Placement placement) {
+            for (Coords hex : placement.hexes) {
+                hexes.computeIfPresent(hex, (key, present) -> without(present, placement.id()));
+            }
+            if (placement.position != null) {
+                Placement[] remaining = without(units, placement.id());
+                units = (remaining == null) ? NO_PLACEMENTS : remaining;
+                int column = cellOf(placement.position.getX());
+                int row = cellOf(placement.position.getY());
+                if (grid.covers(column, row)) {
+                    grid.set(column, row, without(grid.get(column, row), placement.id()));
+                }
+            }
+        }
+
+        private void forEachAt(@Nullable Coords coords, Consumer<Entity> action) {
+            Placement[] bucket = (coords == null) ? null : hexes.get(coords);
+            if (bucket != null) {
+                for (Placement placement : bucket) {
+                    action.accept(placement.entity);
+                }
+            }
+        }
+
+        private void forEachWithin(@Nullable Coords center, int distance, Consumer<Entity> action) {
+            Grid currentGrid = grid;
+            if ((center == null) || (distance < 0) || (currentGrid.columns == 0)) {
+                return;
+            }
+            // A hex at distance d differs by at most d in both x and y, so only the cells of this box can hold it
+            int firstColumn = Math.max(currentGrid.firstColumn, cellOf((long) center.getX() - distance));
+            int lastColumn = Math.min(currentGrid.firstColumn + currentGrid.columns - 1,
+                  cellOf((long) center.getX() + distance));
+            int firstRow = Math.max(currentGrid.firstRow, cellOf((long) center.getY() - distance));
+            int lastRow = Math.min(currentGrid.firstRow + currentGrid.rows - 1,
+                  cellOf((long) center.getY() + distance));
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    Placement[] cell = currentGrid.get(column, row);
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Placement placement : cell) {
+                        if (center.distance(placement.position) <= distance) {
+                            action.accept(placement.entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A rectangle of range query cells. The grid grows to cover the cells that units are placed in; growing replaces
+     * the grid, so a query always works on one consistent grid.
+     */
+    private static final class Grid {
+
+        private static final Grid EMPTY = new Grid(0, 0, 0, 0);
+
+        private final int firstColumn;
+        private final int firstRow;
+        private final int columns;
+        private final int rows;
+        private final AtomicReferenceArray<Placement[]> cells;
+
+        private Grid(int firstColumn, int firstRow, int columns, int rows) {
+            this.firstColumn = firstColumn;
+            this.firstRow = firstRow;
+            this.columns = columns;
+            this.rows = rows;
+            cells = new AtomicReferenceArray<>(columns * rows);
+        }
+
+        private boolean covers(int column, int row) {
+            return (column >= firstColumn) && (column < firstColumn + columns)
+                  && (row >= firstRow) && (row < firstRow + rows);
+        }
+
+        private @Nullable Placement[] get(int column, int row) {
+            return cells.get((row - firstRow) * columns + column - firstColumn);
+        }
+
+        private void set(int column, int row, @Nullable Placement[] cell) {
+            cells.set((row - firstRow) * columns + column - firstColumn, cell);
+        }
+
+        private Grid grownToCover(int column, int row) {
+            int newFirstColumn = (columns == 0) ? column : Math.min(firstColumn, column);
+            int newFirstRow = (rows == 0) ? row : Math.min(firstRow, row);
+            int newLastColumn = (columns == 0) ? column : Math.max(firstColumn + columns - 1, column);
+            int newLastRow = (rows == 0) ? row : Math.max(firstRow + rows - 1, row);
+            Grid grown = new Grid(newFirstColumn, newFirstRow, newLastColumn - newFirstColumn + 1,
+                  newLastRow - newFirstRow + 1);
+            for (int oldRow = firstRow; oldRow < firstRow + rows; oldRow++) {
+                for (int oldColumn = firstColumn; oldColumn < firstColumn + columns; oldColumn++) {
+                    Placement[] cell = get(oldColumn, oldRow);
+                    if (cell != null) {
+                        grown.set(oldColumn, oldRow, cell);
+                    }
+                }
+            }
+            return grown;
+        }
+    }
+
+    private static int cellOf(long hexCoordinate) {
+        return (int) Math.floorDiv(hexCoordinate, CELL_SIZE);
+    }
+
+    /**
+     * @return a copy of the given bucket with the given placement added or replacing the placement of the same unit
+     */
+    private static Placement[] with(@Nullable Placement[] bucket, Placement placement) {
+        if (bucket == null) {
+            return new Placement[] { placement };
+        }
+        int index = indexOf(bucket, placement.id());
+        if (index >= 0) {
+            Placement[] result = bucket.clone();
+            result[index] = placement;
+            return result;
+        }
+        int insertion = -index - 1;
+        Placement[] result = new Placement[bucket.length + 1];
+        System.arraycopy(bucket, 0, result, 0, insertion);
+        result[insertion] = placement;
+        System.arraycopy(bucket, insertion, result, insertion + 1, bucket.length - insertion);
+        return result;
+    }
+
+    /**
+     * @return a copy of the given bucket without the placement of the given unit, or null if that leaves it empty
+     */
+    private static @Nullable Placement[] without(@Nullable Placement[] bucket, int entityId) {
+        if (bucket == null) {
+            return null;
+        }
+        int index = indexOf(bucket, entityId);
+        if (index < 0) {
+            return bucket;
+        } else if (bucket.length == 1) {
+            return null;
+        }
+        Placement[] result = new Placement[bucket.length - 1];
+        System.arraycopy(bucket, 0, result, 0, index);
+        System.arraycopy(bucket, index + 1, result, index, bucket.length - index - 1);
+        return result;
+    }
+
+    private static int indexOf(Placement[] bucket, int entityId) {
+        int low = 0;
+        int high = bucket.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = bucket[middle].id();
+            if (middleId < entityId) {
+                low = middle + 1;
+            } else if (middleId > entityId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -43,6 +43,7 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import megamek.MMConstants;
 import megamek.Version;
@@ -145,7 +146,11 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      */
     private Vector<Entity> vOutOfGame = new Vector<>();
 
-    private final Map<Coords, HashSet<Integer>> entityPosLookup = new HashMap<>();
+    /**
+     * The spatial index of the units' positions. It is not saved and is rebuilt on first use, see
+     * {@link #positionIndex()}.
+     */
+    private transient volatile EntityPositionIndex positionIndex;
 
     /**
      * how's the weather?
@@ -1462,7 +1467,7 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
             entity.setId(id);
         }
         inGameObjects.put(id, entity);
-        updateEntityPositionLookup(entity, null);
+        updateEntityPositionLookup(entity);
 
         if (id > lastEntityId) {
             lastEntityId = id;
@@ -1505,10 +1510,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         } else {
             entity.setGame(this);
             inGameObjects.put(id, entity);
-            // Get the collection of positions
-            HashSet<Coords> oldPositions = oldEntity.getOccupiedCoords();
             // Update position lookup table
-            updateEntityPositionLookup(entity, oldPositions);
+            updateEntityPositionLookup(entity);
 
             // Not sure if this really required
             if (id > lastEntityId) {
@@ -1553,7 +1556,7 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         }
 
         inGameObjects.remove(id);
-        removeEntityPositionLookup(toRemove);
+        positionIndex().remove(id);
 
         toRemove.setRemovalCondition(condition);
 
@@ -1579,7 +1582,7 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         super.reset();
         uuid = UUID.randomUUID();
 
-        entityPosLookup.clear();
+        positionIndex = null;
         vOutOfGame.removeAllElements();
         turnVector.clear();
 
@@ -1703,49 +1706,25 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      *
      * @return the {@link Entity} <code>List</code>
      */
-    public synchronized List<Entity> getEntitiesVector(Coords c) {
+    public List<Entity> getEntitiesVector(Coords c) {
         return getEntitiesVector(c, false);
     }
 
     /**
-     * Return an {@link Entity} <code>List</code> at {@link Coords} <code>c</code>
+     * Return an {@link Entity} <code>List</code> at {@link Coords} <code>c</code> on any board. This reads the
+     * position index without locking.
      *
      * @param c      The coordinates to check
      * @param ignore Flag that determines whether the ability to target is ignored
      *
      * @return the {@link Entity} <code>List</code>
      */
-    public synchronized List<Entity> getEntitiesVector(Coords c, boolean ignore) {
-        // checkPositionCacheConsistency();
-        // Make sure the look-up is initialized
-        if (entityPosLookup.isEmpty() && !inGameTWEntities().isEmpty()) {
-            resetEntityPositionLookup();
-        }
-        // For sanity check
-        GamePhase phase = getPhase();
-
-        Set<Integer> posEntities = entityPosLookup.get(c);
+    public List<Entity> getEntitiesVector(Coords c, boolean ignore) {
+        EntityPositionIndex index = positionIndex();
         List<Entity> vector = new ArrayList<>();
-        if (posEntities != null) {
-            for (Integer eId : posEntities) {
-                Entity e = getEntity(eId);
-
-                // if the entity with the given ID doesn't exist, we will update the lookup table and move on
-                if (e == null) {
-                    posEntities.remove(eId);
-                    continue;
-                }
-
-                if (e.isTargetable() || ignore) {
-                    vector.add(e);
-
-                    // Sanity check: report out-of-place entities if it's not the deployment phase
-                    HashSet<Coords> positions = e.getOccupiedCoords();
-                    if (!phase.isDeployment() && !positions.contains(c)) {
-                        logger.error("{} is not in {}!", e.getDisplayName(), c);
-                    }
-                }
-            }
+        index.forEachAt(c, entity -> addEntityAt(vector, entity, c, ignore));
+        if ((vector.size() > 1) && (index.boardCount() > 1)) {
+            vector.sort(Comparator.comparingInt(Entity::getId));
         }
         return Collections.unmodifiableList(vector);
     }
@@ -1759,9 +1738,106 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
     }
 
     public List<Entity> getEntitiesVector(Coords coord, int boardId, boolean ignoreTargetable) {
-        return getEntitiesVector(coord, ignoreTargetable).stream()
-              .filter(entity -> entity.isOnBoard(boardId))
-              .toList();
+        List<Entity> vector = new ArrayList<>();
+        positionIndex().forEachAt(coord, boardId, entity -> addEntityAt(vector, entity, coord, ignoreTargetable));
+        return Collections.unmodifiableList(vector);
+    }
+
+    private void addEntityAt(List<Entity> vector, Entity entity, Coords coords, boolean ignoreTargetable) {
+        if (entity.isTargetable() || ignoreTargetable) {
+            vector.add(entity);
+
+            // Sanity check: report out-of-place entities if it's not the deployment phase
+            if (!getPhase().isDeployment() && !occupies(entity, coords)) {
+                logger.error("{} is not in {}!", entity.getDisplayName(), coords);
+            }
+        }
+    }
+
+    private static boolean occupies(Entity entity, Coords coords) {
+        Map<Integer, Coords> secondaryPositions = entity.getSecondaryPositions();
+        if ((secondaryPositions != null) && !secondaryPositions.isEmpty()) {
+            return secondaryPositions.containsValue(coords);
+        }
+        return coords.equals(entity.getPosition());
+    }
+
+    /**
+     * Performs the given action for each unit occupying the given hex of the given board, including units that cannot
+     * be targeted, in the order of their ids. Unlike {@link #getEntitiesVector(Coords, int, boolean)}, this reads the
+     * position index without locking and without allocating.
+     *
+     * @param coords  The hex
+     * @param boardId The board ID
+     * @param action  The action to perform for each unit
+     */
+    public void forEachEntityAt(Coords coords, int boardId, Consumer<Entity> action) {
+        positionIndex().forEachAt(coords, boardId, action);
+    }
+
+    /**
+     * Performs the given action for each unit occupying the given hex on any board, including units that cannot be
+     * targeted. Reads the position index without locking and without allocating.
+     *
+     * @param coords The hex
+     * @param action The action to perform for each unit
+     */
+    public void forEachEntityAt(Coords coords, Consumer<Entity> action) {
+        positionIndex().forEachAt(coords, action);
+    }
+
+    /**
+     * Performs the given action for each unit on the given board whose position is at most the given distance from
+     * the center hex, including units that cannot be targeted. Only the units near the center are looked at; the
+     * secondary positions of large units are not considered. The units are visited in no particular order.
+     *
+     * @param center   The center hex
+     * @param boardId  The board ID
+     * @param distance The largest distance to include
+     * @param action   The action to perform for each unit
+     */
+    public void forEachEntityWithin(Coords center, int boardId, int distance, Consumer<Entity> action) {
+        positionIndex().forEachWithin(center, boardId, distance, action);
+    }
+
+    /**
+     * Performs the given action for each unit on any board whose position is at most the given distance from the
+     * center hex, including units that cannot be targeted. The units are visited in no particular order.
+     *
+     * @param center   The center hex
+     * @param distance The largest distance to include
+     * @param action   The action to perform for each unit
+     *
+     * @see #forEachEntityWithin(Coords, int, int, Consumer)
+     */
+    public void forEachEntityWithin(Coords center, int distance, Consumer<Entity> action) {
+        positionIndex().forEachWithin(center, distance, action);
+    }
+
+    /**
+     * @param center   The center hex
+     * @param distance The largest distance to include
+     *
+     * @return All units on any board whose position is at most the given distance from the center hex, including
+     *       units that cannot be targeted
+     *
+     * @see #forEachEntityWithin(Coords, int, Consumer)
+     */
+    public List<Entity> getEntitiesWithin(Coords center, int distance) {
+        List<Entity> entities = new ArrayList<>();
+        positionIndex().forEachWithin(center, distance, entities::add);
+        return entities;
+    }
+
+    /**
+     * Performs the given action for each unit that has a position on the given board, including units that cannot be
+     * targeted, in the order of their ids. Reads the position index without locking and without allocating.
+     *
+     * @param boardId The board ID
+     * @param action  The action to perform for each unit
+     */
+    public void forEachEntityOnBoard(int boardId, Consumer<Entity> action) {
+        positionIndex().forEachOnBoard(boardId, action);
     }
 
     public List<Entity> getEntitiesVector(Coords coord, int boardId) {
@@ -3762,152 +3838,51 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
     }
 
     /**
-     * Only needed for Entity's that have secondaryPositions. This method is used to make sure setPosition() doesn't get
-     * an inaccurate list of positions for an entity that changed from between using secondaryPositions and not, such as
-     * a Dropship taking off. Iterates through all cached coords to get where the provided entity is. Inefficient, and
-     * usually unnecessary.
+     * Only needed for Entity's that have secondaryPositions. Returns the hexes the given entity was last indexed at,
+     * which may differ from its current positions while it is changing between using secondaryPositions and not, such
+     * as a Dropship taking off.
      *
      * @param entity Entity we want to get the cached old positions of
      *
      * @return cached coords that contain this entity
-     *
-     * @see Dropship#setPosition(Coords)
      */
-    public synchronized HashSet<Coords> getEntityPositions(Entity entity) {
-        HashSet<Coords> retVal = new HashSet<>();
-        if (entityPosLookup.isEmpty()) {
-            return retVal;
-        }
-
-        for (Coords coords : entityPosLookup.keySet()) {
-            if (entityPosLookup.get(coords).contains(entity.getId())) {
-                retVal.add(coords);
-            }
-        }
-        return retVal;
+    public HashSet<Coords> getEntityPositions(Entity entity) {
+        return positionIndex().occupiedHexes(entity.getId());
     }
 
     /**
-     * Updates the map that maps a position to the list of Entity's in that position.
+     * Updates the position index with the current position, secondary positions and board of the given entity. Must
+     * be called whenever any of these change. Entities that are not part of this game are ignored.
+     *
+     * @param e The entity that was moved
      */
-    public synchronized void updateEntityPositionLookup(Entity e, HashSet<Coords> oldPositions) {
-        HashSet<Coords> newPositions = e.getOccupiedCoords();
-        // Check to see that the position has actually changed
-        if (newPositions.equals(oldPositions)) {
-            return;
-        }
-
-        // Remove the old cached location(s)
-        if (oldPositions != null) {
-            for (Coords pos : oldPositions) {
-                HashSet<Integer> posEntities = entityPosLookup.get(pos);
-                if (posEntities != null) {
-                    posEntities.remove(e.getId());
-                }
-            }
-        }
-
-        // Add Entity for each position
-        for (Coords pos : newPositions) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities == null) {
-                posEntities = new HashSet<>();
-                posEntities.add(e.getId());
-                entityPosLookup.put(pos, posEntities);
-            } else {
-                posEntities.add(e.getId());
-            }
-        }
-    }
-
-    private void removeEntityPositionLookup(Entity e) {
-        // Remove Entity from cache
-        for (Coords pos : e.getOccupiedCoords()) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities != null) {
-                posEntities.remove(e.getId());
-            }
+    public synchronized void updateEntityPositionLookup(Entity e) {
+        if (inGameObjects.get(e.getId()) == e) {
+            positionIndex().update(e);
         }
     }
 
     private void resetEntityPositionLookup() {
-        entityPosLookup.clear();
-        for (Entity e : inGameTWEntities()) {
-            updateEntityPositionLookup(e, null);
-        }
-    }
-
-    private int countEntitiesInCache(List<Integer> entitiesInCache) {
-        int count = 0;
-        for (Coords c : entityPosLookup.keySet()) {
-            count += entityPosLookup.get(c).size();
-            entitiesInCache.addAll(entityPosLookup.get(c));
-        }
-        return count;
+        positionIndex().rebuild(inGameTWEntities());
     }
 
     /**
-     * A check to ensure that the position cache is properly updated. This is only used for debugging purposes, and will
-     * cause a number of things to slow down.
+     * @return The position index, which is built from the current entities when it is first used after the game was
+     *       created, loaded or reset. Once built, reading it does not lock the game.
      */
-    @Deprecated(since = "0.51.0", forRemoval = true)
-    private void checkPositionCacheConsistency() {
-        // Sanity check on the position cache This could be removed once we are confident the cache is working
-        List<Integer> entitiesInCache = new ArrayList<>();
-        List<Integer> entitiesInVector = new ArrayList<>();
-        int entitiesInCacheCount = countEntitiesInCache(entitiesInCache);
-        int entityVectorSize = 0;
-        for (Entity e : inGameTWEntities()) {
-            if (e.getPosition() != null) {
-                entityVectorSize++;
-                entitiesInVector.add(e.getId());
-            }
-        }
-        Collections.sort(entitiesInCache);
-        Collections.sort(entitiesInVector);
-        if ((entitiesInCacheCount != entityVectorSize) &&
-              !getPhase().isDeployment() &&
-              !getPhase().isExchange() &&
-              !getPhase().isLounge() &&
-              !getPhase().isInitiativeReport() &&
-              !getPhase().isInitiative()) {
-            logger.warn("Entities vector has {} but pos lookup cache has {} entities!",
-                  inGameTWEntities().size(),
-                  entitiesInCache.size());
-            List<Integer> missingIds = new ArrayList<>();
-            for (Integer id : entitiesInVector) {
-                if (!entitiesInCache.contains(id)) {
-                    missingIds.add(id);
-                }
-            }
-            logger.info("Missing ids: {}", missingIds);
-        }
-        for (Entity entity : inGameTWEntities()) {
-            HashSet<Coords> positions = entity.getOccupiedCoords();
-            for (Coords coords : positions) {
-                HashSet<Integer> entityIDs = entityPosLookup.get(coords);
-                if ((entityIDs != null) && !entityIDs.contains(entity.getId())) {
-                    logger.warn("Entity {} is in {} however the position cache does not have it in that position!",
-                          entity.getId(),
-                          entity.getPosition());
-                }
-            }
-        }
-        for (Coords c : entityPosLookup.keySet()) {
-            for (Integer eId : entityPosLookup.get(c)) {
-                Entity e = getEntity(eId);
-                if (e == null) {
-                    continue;
-                }
-                HashSet<Coords> positions = e.getOccupiedCoords();
-                if (!positions.contains(c)) {
-                    logger.warn("Entity Position Cache thinks Entity {} is in {}  but the Entity thinks it's in {}",
-                          eId,
-                          c,
-                          e.getPosition());
+    private EntityPositionIndex positionIndex() {
+        EntityPositionIndex index = positionIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = positionIndex;
+                if (index == null) {
+                    index = new EntityPositionIndex();
+                    index.rebuild(inGameTWEntities());
+                    positionIndex = index;
                 }
             }
         }
+        return index;
     }
 
     /**
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -48,6 +49,8 @@ import megamek.common.board.Coords;
  * HexArea composed of only small shapes can be evaluated quickly even on a big board.
  */
 abstract class AbstractHexArea implements HexArea {
+    @Serial
+    private static final long serialVersionUID = 3466009361059360710L;
 
     /**
      * The board IDs that this area is on. When empty, the area is on all boards.
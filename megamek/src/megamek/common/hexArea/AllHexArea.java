@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -40,6 +42,8 @@ import megamek.common.board.Coords;
  * This class represents a hex area that includes all hexes of the given board.
  */
 public class AllHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -609122342536504055L;
 
     @Override
     public boolean containsCoords(Coords coords, Board board) {
@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -41,6 +43,8 @@ import megamek.common.board.Coords;
  * the board that the HexArea is given when checking its coords.
  */
 public class BorderHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -8788010739522294297L;
 
     private final boolean north;
     private final boolean south;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -44,6 +45,8 @@ import megamek.common.board.Coords;
  * distance).
  */
 public class CircleHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -3645869576445733907L;
 
     private final Coords center;
     private final int radius;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -43,6 +44,8 @@ import megamek.common.board.Coords;
  * This HexArea has no coords at all. It can be used as a placeholder to avoid null values.
  */
 public class EmptyHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -7951030730272210929L;
 
     @Override
     public boolean containsCoords(Coords coords, Board board) {
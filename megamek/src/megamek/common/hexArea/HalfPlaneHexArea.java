@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -43,6 +45,8 @@ import megamek.common.board.Coords;
  * part of the half plane.
  */
 public class HalfPlaneHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 3479670512593668163L;
 
     public enum HalfPlaneType {ABOVE, BELOW, RIGHT, LEFT}
 
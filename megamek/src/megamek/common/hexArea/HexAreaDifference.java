@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.Set;
 
 import megamek.common.board.Board;
@@ -47,6 +48,8 @@ import megamek.common.board.Coords;
  * areas.
  */
 public class HexAreaDifference extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -6418871160125714558L;
 
     private final HexArea firstShape;
     private final HexArea secondShape;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.Set;
 
 import megamek.common.board.Board;
@@ -47,6 +48,8 @@ import megamek.common.board.Coords;
  * areas.
  */
 public class HexAreaIntersection extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 4016240581619659619L;
 
     private final HexArea firstShape;
     private final HexArea secondShape;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.Set;
 
 import megamek.common.board.Board;
@@ -46,6 +47,8 @@ import megamek.common.board.Coords;
  * areas.
  */
 public class HexAreaUnion extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -8269463250091550368L;
 
     private final HexArea firstShape;
     private final HexArea secondShape;
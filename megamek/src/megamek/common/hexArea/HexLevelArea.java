@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -40,6 +42,8 @@ import megamek.common.board.Coords;
  * This area is defined by the hex level (aka floor height) being in the range defined by the given level(s).
  */
 public class HexLevelArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 3250710037655805758L;
 
     private final int minLevel;
     private final int maxLevel;
@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -41,6 +43,8 @@ import megamek.common.board.Coords;
  * between 0 and 5. Opposite directions are equal, e.g. directions 1 and 4 result in the same line.
  */
 public class LineHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 8660562874093940970L;
 
     private final Coords point;
     private final int direction;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -45,6 +46,8 @@ import megamek.common.board.Coords;
  * This class represents a shape formed by a given list of one or more Coords.
  */
 public class ListHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 8401492011097745795L;
 
     private final Set<Coords> coordList = new HashSet<>();
 
@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -42,6 +44,8 @@ import megamek.common.board.Coords;
  * opposite directions result in different rays.
  */
 public class RayHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = 1434440153920386409L;
 
     private final Coords point;
     private final int direction;
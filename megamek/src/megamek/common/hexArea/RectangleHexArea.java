@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
 
@@ -40,6 +42,8 @@ import megamek.common.board.Coords;
  * This class represents a rectangle shape. The rectangle includes the corner coordinates.
  */
 public class RectangleHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -9047599995993338589L;
 
     private final int x1;
     private final int y1;
@@ -33,6 +33,7 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import megamek.client.bot.princess.geometry.HexLine;
@@ -46,6 +47,8 @@ import megamek.common.board.Coords;
  * upper) right or left.
  */
 public class RowHalfPlaneHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -7165062159833286989L;
 
     public enum HalfPlaneType {RIGHT, LEFT}
 
@@ -33,6 +33,8 @@
 
 package megamek.common.hexArea;
 
+import java.io.Serial;
+
 import megamek.common.Hex;
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
@@ -43,6 +45,8 @@ import megamek.common.board.Coords;
  * can be used.
  */
 public class TerrainHexArea extends AbstractHexArea {
+    @Serial
+    private static final long serialVersionUID = -5808027731288776535L;
 
     private final int terrainType;
     private final int minLevel;
@@ -35,6 +35,7 @@ package megamek.common.icons;
 
 import java.awt.Image;
 import java.io.File;
+import java.io.Serial;
 import java.util.Objects;
 
 import megamek.common.annotations.Nullable;
@@ -46,6 +47,8 @@ import megamek.common.util.ImageUtil;
  * camos.
  */
 public class FileCamouflage extends Camouflage {
+    @Serial
+    private static final long serialVersionUID = 7867420414925995192L;
 
     private final File file;
     private transient Image image;
@@ -60,13 +60,13 @@ public class CoordsDeserializer {
             List<Integer> xyList = new ArrayList<>();
             coordsNode.elements().forEachRemaining(n -> xyList.add(n.asInt()));
             if (xyList.size() == 2) {
-                return new Coords(xyList.getFirst() - 1, xyList.get(1) - 1);
+                return Coords.of(xyList.getFirst() - 1, xyList.get(1) - 1);
             } else {
                 throw new IllegalArgumentException(MESSAGE);
             }
         } else if (coordsNode.has(X) || coordsNode.has(Y)) {
             requireFields("Coords", coordsNode, X, Y);
-            return new Coords(coordsNode.get(X).asInt() - 1, coordsNode.get(Y).asInt() - 1);
+            return Coords.of(coordsNode.get(X).asInt() - 1, coordsNode.get(Y).asInt() - 1);
         } else {
             throw new IllegalArgumentException(MESSAGE);
         }
@@ -65,6 +65,7 @@ import megamek.common.units.NavalRepairFacility;
 import megamek.common.units.Tank;
 import megamek.common.units.UnitType;
 import megamek.common.util.fileUtils.MegaMekFile;
+import megamek.common.verifier.EntityVerifier;
 import megamek.common.verifier.TestEntity;
 import megamek.logging.MMLogger;
 
@@ -85,6 +86,16 @@ public class MekSummaryCache {
 
     public interface Listener {
         void doneLoading();
+
+        /**
+         * Called on the loading thread while unit files are parsed. The number of files found grows while the unit
+         * directories are still being scanned.
+         *
+         * @param parsedFiles the number of unit files parsed so far, including those that failed
+         * @param foundFiles  the number of unit files found so far that need parsing
+         */
+        default void loadingProgress(int parsedFiles, int foundFiles) {
+        }
     }
 
     public static final String FILENAME_UNITS_CACHE = "units.cache";
@@ -99,13 +110,15 @@ public class MekSummaryCache {
     private volatile boolean initialized = false;
     private volatile boolean initializing = false;
 
-    private MekSummary[] data;
-    private final Map<String, MekSummary> nameMap;
-    private final Map<String, MekSummary> fileNameMap;
+    private volatile UnitCatalog catalog;
     private Map<String, String> failedFiles;
     private int cacheCount;
     private int fileCount;
     private int zipCount;
+    private int foundFileCount;
+    private int parsedFileCount;
+
+    private static final int PROGRESS_INTERVAL = 50;
 
     private final List<Listener> listeners = new ArrayList<>();
 
@@ -265,13 +278,18 @@ public class MekSummaryCache {
     }
 
     private MekSummaryCache() {
-        nameMap = new HashMap<>();
-        fileNameMap = new HashMap<>();
     }
 
+    /**
+     * Returns all units. Units read from the unit cache file are only deserialized when first needed, so the first call
+     * after startup reads all of them.
+     *
+     * @return all units of the cache
+     */
     public MekSummary[] getAllMeks() {
         block();
-        return data;
+        UnitCatalog currentCatalog = catalog;
+        return (currentCatalog == null) ? null : currentCatalog.getAll();
     }
 
     private void block() {
@@ -293,11 +311,8 @@ public class MekSummaryCache {
     public MekSummary getMek(String sRef) {
         block();
 
-        if (nameMap.containsKey(sRef)) {
-            return nameMap.get(sRef);
-        }
-
-        return fileNameMap.get(sRef);
+        UnitCatalog currentCatalog = catalog;
+        return (currentCatalog == null) ? null : currentCatalog.find(sRef);
     }
 
     public Map<String, String> getFailedFiles() {
@@ -311,7 +326,7 @@ public class MekSummaryCache {
 
     public void loadMekData(boolean ignoreUnofficial) {
         resetLoadStats();
-        Vector<MekSummary> vMeks = new Vector<>();
+        UnitCatalog cachedCatalog = null;
         Set<String> sKnownFiles = new HashSet<>();
         long lLastCheck = 0;
 
@@ -327,32 +342,7 @@ public class MekSummaryCache {
                 if (unit_cache_path.exists()) {
                     loadReport.append("  Reading from unit cache file...\n");
                     lLastCheck = unit_cache_path.lastModified();
-                    InputStream inputStream = new BufferedInputStream(new FileInputStream(unit_cache_path));
-                    ObjectInputStream fin = new ObjectInputStream(inputStream);
-                    Integer newUnits = (Integer) fin.readObject();
-                    for (int i = 0; i < newUnits; i++) {
-                        if (shouldStopLoading()) {
-                            done();
-                            fin.close();
-                            inputStream.close();
-                            return;
-                        }
-                        MekSummary ms = (MekSummary) fin.readObject();
-                        // Verify that this file still exists and is older than
-                        // the cache.
-                        File fSource = ms.getSourceFile();
-                        if (fSource.exists()) {
-                            vMeks.addElement(ms);
-                            if (null == ms.getEntryName()) {
-                                sKnownFiles.add(fSource.toString());
-                            } else {
-                                sKnownFiles.add(ms.getEntryName());
-                            }
-                            cacheCount++;
-                        }
-                    }
-                    fin.close();
-                    inputStream.close();
+                    cachedCatalog = UnitCatalog.of(UnitSummaryStore.open(unit_cache_path));
                 }
             } catch (Exception ex) {
                 loadReport.append("  Unable to load unit cache: ").append(ex.getMessage()).append("\n");
@@ -360,20 +350,44 @@ public class MekSummaryCache {
             }
         }
 
-        checkForChanges(ignoreUnofficial, vMeks, sKnownFiles, lLastCheck);
+        UnitCatalog.Builder units = new UnitCatalog.Builder(cachedCatalog);
+        if (cachedCatalog != null) {
+            for (int i = 0; i < cachedCatalog.size(); i++) {
+                if (shouldStopLoading()) {
+                    done();
+                    return;
+                }
+                // Verify that this file still exists
+                File fSource = cachedCatalog.getSourceFile(i);
+                if (fSource.exists()) {
+                    units.add(cachedCatalog, i);
+                    String entryName = cachedCatalog.getEntryName(i);
+                    sKnownFiles.add((entryName == null) ? fSource.toString() : entryName);
+                    cacheCount++;
+                }
+            }
+        }
+
+        boolean needsSave = checkForChanges(ignoreUnofficial, units, sKnownFiles, lLastCheck);
+        finishLoad(units, needsSave);
+    }
+
+    /**
+     * Saves the unit cache file if needed and makes the given units the content of the cache.
+     */
+    private void finishLoad(UnitCatalog.Builder units, boolean needsSave) {
         if (shouldStopLoading()) {
             done();
             return;
         }
-        if (!updateData(vMeks)) {
-            done();
-            return;
+        UnitCatalog updatedCatalog = units.build();
+        if (needsSave) {
+            saveCache(updatedCatalog);
         }
-        if (shouldStopLoading()) {
+        if (!updateData(updatedCatalog)) {
             done();
             return;
         }
-        addLookupNames();
         if (shouldStopLoading()) {
             done();
             return;
@@ -383,11 +397,37 @@ public class MekSummaryCache {
         done();
     }
 
-    private void checkForChanges(boolean ignoreUnofficial, Vector<MekSummary> vMeks,
+    /**
+     * Parses all unit files that are new or changed since the last check and adds them to the given units.
+     *
+     * @return true when units were parsed and the unit cache file needs to be saved
+     */
+    private boolean checkForChanges(boolean ignoreUnofficial, UnitCatalog.Builder units,
           Set<String> sKnownFiles, long lLastCheck) {
+        // Parsing initializes some shared data on first use; do that here before the parser threads start
+        EntityVerifier.getInstance(new File(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME));
+        MekFileParser.isCanonUnitName("");
+
+        boolean bNeedsUpdate;
+        try (UnitFileParser parser = new UnitFileParser(UnitFileParser.PARALLELISM, this::shouldStopLoading,
+              parsedUnit -> addParsedUnit(parsedUnit, units, sKnownFiles))) {
+            scanForChanges(parser, ignoreUnofficial, sKnownFiles, lLastCheck);
+            if (!parser.finish()) {
+                return false;
+            }
+            bNeedsUpdate = parser.getParsedUnitCount() > 0;
+        }
+        return bNeedsUpdate;
+    }
+
+    /**
+     * Scans all unit directories for files that are new or changed since the last check and submits them to the
+     * given parser.
+     */
+    private void scanForChanges(UnitFileParser parser, boolean ignoreUnofficial, Set<String> sKnownFiles,
+          long lLastCheck) {
         // load any changes since the last check time
-        boolean bNeedsUpdate = loadMeksFromDirectory(vMeks, sKnownFiles,
-              lLastCheck, Configuration.unitsDir(), ignoreUnofficial);
+        loadMeksFromDirectory(parser, sKnownFiles, lLastCheck, Configuration.unitsDir(), ignoreUnofficial);
 
         // Official units are in the internal dir, not in the user dirs or story arcs
         // dir
@@ -395,14 +435,14 @@ public class MekSummaryCache {
             // load units from the MM internal user data dir
             File userDataUnits = new File(Configuration.userDataDir(), Configuration.unitsDir().toString());
             if (userDataUnits.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits, false);
+                loadMeksFromDirectory(parser, sKnownFiles, lLastCheck, userDataUnits, false);
             }
 
             // load units from the external user data dir
             String userDir = PreferenceManager.getClientPreferences().getUserDir();
             File userDataUnits2 = new File(userDir, "");
             if (!userDir.isBlank() && userDataUnits2.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits2, false);
+                loadMeksFromDirectory(parser, sKnownFiles, lLastCheck, userDataUnits2, false);
             }
 
             // load units from story arcs
@@ -414,41 +454,85 @@ public class MekSummaryCache {
                         if (file.isDirectory()) {
                             File storyArcUnitsDir = new File(file.getPath() + "/data/mekfiles");
                             if (storyArcUnitsDir.exists() && storyArcUnitsDir.isDirectory()) {
-                                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, storyArcUnitsDir,
-                                      false);
+                                loadMeksFromDirectory(parser, sKnownFiles, lLastCheck, storyArcUnitsDir, false);
                             }
                         }
                     }
                 }
             }
         }
+    }
 
-        // save updated cache back to disk
-        if (shouldStopLoading()) {
-            return;
+    /**
+     * Merges a unit parsed by the {@link UnitFileParser} into the given list. Called on the loading thread, in the order
+     * in which the files were found.
+     */
+    private void addParsedUnit(UnitFileParser.ParsedUnit parsedUnit, UnitCatalog.Builder units,
+          Set<String> sKnownFiles) {
+        UnitFileParser.UnitSource source = parsedUnit.source();
+        boolean isZipEntry = source.entryName() != null;
+        String location = isZipEntry ? "zip file >> " + source.entryName() : source.file().toString();
+        String knownName = isZipEntry ? source.entryName() : source.file().toString();
+        MekSummary ms = parsedUnit.summary();
+        parsedFileCount++;
+
+        if (ms != null) {
+            // if this is unit's MekSummary is already known,
+            // remove it first, so we don't get duplicates
+            if (!isZipEntry && sKnownFiles.contains(knownName)) {
+                units.removeFile(source.file());
+            }
+            units.add(ms);
+            sKnownFiles.add(knownName);
+            if (isZipEntry) {
+                zipCount++;
+            } else {
+                fileCount++;
+            }
+            if (!parsedUnit.failedEquipment().isEmpty()) {
+                loadReport.append("    Loading from ").append(location).append("\n");
+                for (String failedEquipment : parsedUnit.failedEquipment()) {
+                    loadReport.append("      Failed to load equipment: ").append(failedEquipment).append("\n");
+                }
+            }
+        } else {
+            Exception ex = parsedUnit.failure();
+            loadReport.append("    Loading from ").append(location).append("\n");
+            loadReport.append("***   Unable to load file: ");
+            StringWriter stringWriter = new StringWriter();
+            PrintWriter printWriter = new PrintWriter(stringWriter);
+            ex.printStackTrace(printWriter);
+            loadReport.append(stringWriter.getBuffer()).append("\n");
+            if (!isZipEntry || (ex.getMessage() != null)) {
+                failedFiles.put(knownName, ex.getMessage());
+            }
         }
 
-        if (bNeedsUpdate) {
-            saveCache(vMeks);
+        if ((parsedFileCount % PROGRESS_INTERVAL == 0) || (parsedFileCount == foundFileCount)) {
+            notifyProgress();
         }
     }
 
-    private boolean updateData(Vector<MekSummary> vMeks) {
-        // convert to array
-        MekSummary[] updatedData = new MekSummary[vMeks.size()];
-        vMeks.copyInto(updatedData);
-        Map<String, MekSummary> updatedNameMap = new HashMap<>();
-        Map<String, MekSummary> updatedFileNameMap = new HashMap<>();
+    private void notifyProgress() {
+        List<Listener> listenersSnapshot;
+        synchronized (listeners) {
+            listenersSnapshot = new ArrayList<>(listeners);
+        }
+        for (Listener listener : listenersSnapshot) {
+            listener.loadingProgress(parsedFileCount, foundFileCount);
+        }
+    }
 
+    private boolean updateData(UnitCatalog updatedCatalog) {
         // store map references
-        for (MekSummary element : updatedData) {
+        for (int index = 0; index < updatedCatalog.size(); index++) {
             if (shouldStopLoading()) {
                 return false;
             }
-            updatedNameMap.put(element.getName(), element);
-            String entryName = element.getEntryName();
+            updatedCatalog.addName(updatedCatalog.getName(index), index);
+            String entryName = updatedCatalog.getEntryName(index);
             if (entryName == null) {
-                updatedFileNameMap.put(element.getSourceFile().getName(), element);
+                updatedCatalog.addFileName(updatedCatalog.getSourceFile(index).getName(), index);
             } else {
                 String unitName = entryName;
 
@@ -460,20 +544,17 @@ public class MekSummaryCache {
                     unitName = unitName.substring(unitName.lastIndexOf("/") + 1);
                 }
 
-                updatedFileNameMap.put(unitName, element);
+                updatedCatalog.addFileName(unitName, index);
             }
         }
 
-        data = updatedData;
-        nameMap.clear();
-        nameMap.putAll(updatedNameMap);
-        fileNameMap.clear();
-        fileNameMap.putAll(updatedFileNameMap);
+        addLookupNames(updatedCatalog);
+        catalog = updatedCatalog;
         return true;
     }
 
     private void logReport() {
-        loadReport.append(data.length).append(" units loaded.\n");
+        loadReport.append(catalog.size()).append(" units loaded.\n");
 
         if (!failedFiles.isEmpty()) {
             loadReport.append("  ").append(failedFiles.size())
@@ -489,6 +570,8 @@ public class MekSummaryCache {
         cacheCount = 0;
         fileCount = 0;
         zipCount = 0;
+        foundFileCount = 0;
+        parsedFileCount = 0;
     }
 
     private void done() {
@@ -532,20 +615,15 @@ public class MekSummaryCache {
         }
     }
 
-    private void saveCache(List<MekSummary> data) {
+    private void saveCache(UnitCatalog units) {
         if (shouldStopLoading()) {
             return;
         }
 
         loadReport.append("Saving unit cache.\n");
-        try (FileOutputStream fos = new FileOutputStream(
-              new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile());
-              BufferedOutputStream bos = new BufferedOutputStream(fos);
-              ObjectOutputStream oos = new ObjectOutputStream(bos)) {
-            oos.writeObject(data.size());
-            for (MekSummary element : data) {
-                oos.writeObject(element);
-            }
+        try {
+            UnitSummaryStore.write(new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile(),
+                  Arrays.asList(units.getAll()));
         } catch (Exception ex) {
             loadReport.append(" Unable to save mek cache\n");
             logger.error("", ex);
@@ -553,7 +631,8 @@ public class MekSummaryCache {
     }
 
     private void refreshCache(boolean ignoreUnofficial) {
-        if (data == null) {
+        UnitCatalog currentCatalog = catalog;
+        if (currentCatalog == null) {
             rebuildCache(ignoreUnofficial);
             return;
         }
@@ -562,48 +641,26 @@ public class MekSummaryCache {
         loadReport.append("Refreshing unit cache:\n");
         File unitCachePath = new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile();
         long lastCheck = unitCachePath.exists() ? unitCachePath.lastModified() : 0L;
-        Vector<MekSummary> units = new Vector<>();
+        UnitCatalog.Builder units = new UnitCatalog.Builder(currentCatalog);
         Set<String> knownFiles = new HashSet<>();
         // Loop through current contents and make sure the file is still there.
         // Note which files are represented so we can skip them if they haven't changed
-        for (MekSummary mekSummary : data) {
+        for (int i = 0; i < currentCatalog.size(); i++) {
             if (shouldStopLoading()) {
                 done();
                 return;
             }
-            File source = mekSummary.getSourceFile();
+            File source = currentCatalog.getSourceFile(i);
             if (source.exists()) {
-                units.add(mekSummary);
-                if (null == mekSummary.getEntryName()) {
-                    knownFiles.add(source.toString());
-                } else {
-                    knownFiles.add(mekSummary.getEntryName());
-                }
+                units.add(currentCatalog, i);
+                String entryName = currentCatalog.getEntryName(i);
+                knownFiles.add((entryName == null) ? source.toString() : entryName);
             }
         }
 
         // load any changes since the last check time
-        checkForChanges(ignoreUnofficial, units, knownFiles, lastCheck);
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        if (!updateData(units)) {
-            done();
-            return;
-        }
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        addLookupNames();
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        logReport();
-
-        done();
+        boolean needsSave = checkForChanges(ignoreUnofficial, units, knownFiles, lastCheck);
+        finishLoad(units, needsSave);
     }
 
     private void rebuildCache(boolean ignoreUnofficial) {
@@ -611,30 +668,11 @@ public class MekSummaryCache {
         EquipmentType.initializeTypes();
 
         loadReport.append("Rebuilding unit cache:\n");
-        Vector<MekSummary> units = new Vector<>();
+        UnitCatalog.Builder units = new UnitCatalog.Builder(null);
         Set<String> knownFiles = new HashSet<>();
 
-        checkForChanges(ignoreUnofficial, units, knownFiles, 0L);
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        if (!updateData(units)) {
-            done();
-            return;
-        }
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        addLookupNames();
-        if (shouldStopLoading()) {
-            done();
-            return;
-        }
-        logReport();
-
-        done();
+        boolean needsSave = checkForChanges(ignoreUnofficial, units, knownFiles, 0L);
+        finishLoad(units, needsSave);
     }
 
     /**
@@ -656,7 +694,7 @@ public class MekSummaryCache {
         return getSummary(entity, unitFile, null);
     }
 
-    private static MekSummary getSummary(Entity e, File f, String entry) {
+    static MekSummary getSummary(Entity e, File f, String entry) {
         MekSummary ms = new MekSummary();
         ms.setName(e.getShortNameRaw());
         ms.setChassis(e.getChassis());
@@ -997,17 +1035,16 @@ public class MekSummaryCache {
      * Loading a complete {@link Entity} object for each summary is a bear and should be changed, but it lets me use the
      * existing parsers
      *
-     * @param vMeks       List to add units to as they are loaded
+     * @param parser      The parser that new and changed unit files are submitted to
      * @param sKnownFiles Files that have been processed so far and can be skipped
      * @param lLastCheck  The timestamp of the last time the cache was updated
      * @param fDir        The directory to load units from
      *
-     * @return Whether the list of units has changed, requiring rewriting the cache
+     * @return false when loading was stopped
      */
-    private boolean loadMeksFromDirectory(Vector<MekSummary> vMeks,
+    private boolean loadMeksFromDirectory(UnitFileParser parser,
           Set<String> sKnownFiles, long lLastCheck, File fDir,
           boolean ignoreUnofficial) {
-        boolean bNeedsUpdate = false;
         loadReport.append("  Looking in ").append(fDir.getPath())
               .append("...\n");
         int thisDirectoriesFileCount = 0;
@@ -1042,7 +1079,9 @@ public class MekSummaryCache {
                         continue;
                     }
                     // recursion is fun
-                    bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, f, ignoreUnofficial);
+                    if (!loadMeksFromDirectory(parser, sKnownFiles, lLastCheck, f, ignoreUnofficial)) {
+                        return false;
+                    }
                     continue;
                 }
                 String lowerCaseName = f.getName().toLowerCase();
@@ -1050,53 +1089,28 @@ public class MekSummaryCache {
                     continue;
                 }
                 if (lowerCaseName.endsWith(".zip")) {
-                    bNeedsUpdate |= loadMeksFromZipFile(vMeks, sKnownFiles, lLastCheck, f);
+                    if (!loadMeksFromZipFile(parser, sKnownFiles, lLastCheck, f)) {
+                        return false;
+                    }
                     continue;
                 }
                 if ((f.lastModified() < lLastCheck) && sKnownFiles.contains(f.toString())) {
                     continue;
                 }
-                try {
-                    MekFileParser mfp = new MekFileParser(f);
-                    Entity e = mfp.getEntity();
-                    MekSummary ms = getSummary(e, f, null);
-                    // if this is unit's MekSummary is already known,
-                    // remove it first, so we don't get duplicates
-                    if (sKnownFiles.contains(f.toString())) {
-                        vMeks.removeElement(ms);
-                    }
-                    vMeks.addElement(ms);
-                    sKnownFiles.add(f.toString());
-                    bNeedsUpdate = true;
-                    thisDirectoriesFileCount++;
-                    fileCount++;
-                    Iterator<String> failedEquipment = e.getFailedEquipment();
-                    if (failedEquipment.hasNext()) {
-                        loadReport.append("    Loading from ").append(f).append("\n");
-                        while (failedEquipment.hasNext()) {
-                            loadReport.append("      Failed to load equipment: ")
-                                  .append(failedEquipment.next()).append("\n");
-                        }
-                    }
-                } catch (Exception ex) {
-                    loadReport.append("    Loading from ").append(f).append("\n");
-                    loadReport.append("***   Unable to load file: ");
-                    StringWriter stringWriter = new StringWriter();
-                    PrintWriter printWriter = new PrintWriter(stringWriter);
-                    ex.printStackTrace(printWriter);
-                    loadReport.append(stringWriter.getBuffer()).append("\n");
-                    failedFiles.put(f.toString(), ex.getMessage());
+                if (!parser.submit(UnitFileParser.UnitSource.ofFile(f))) {
+                    return false;
                 }
+                thisDirectoriesFileCount++;
+                foundFileCount++;
             }
         }
 
-        loadReport.append("  ...loaded ").append(thisDirectoriesFileCount).append(" files.\n");
-        return bNeedsUpdate;
+        loadReport.append("  ...found ").append(thisDirectoriesFileCount).append(" new or changed files.\n");
+        return true;
     }
 
-    private boolean loadMeksFromZipFile(Vector<MekSummary> vMeks,
+    private boolean loadMeksFromZipFile(UnitFileParser parser,
           Set<String> sKnownFiles, long lLastCheck, File fZipFile) {
-        boolean bNeedsUpdate = false;
         ZipFile zFile;
         int thisZipFileCount = 0;
         try {
@@ -1108,7 +1122,7 @@ public class MekSummaryCache {
             PrintWriter printWriter = new PrintWriter(stringWriter);
             ex.printStackTrace(printWriter);
             loadReport.append(stringWriter.getBuffer()).append("\n");
-            return false;
+            return true;
         }
         loadReport.append("  Looking in zip file ").append(fZipFile.getPath())
               .append("...\n");
@@ -1141,37 +1155,25 @@ public class MekSummaryCache {
                 continue;
             }
 
-            try {
-                MekFileParser mfp = new MekFileParser(
-                      zFile.getInputStream(zEntry), zEntry.getName());
-                Entity e = mfp.getEntity();
-                MekSummary ms = getSummary(e, fZipFile, zEntry.getName());
-                vMeks.addElement(ms);
-                sKnownFiles.add(zEntry.getName());
-                bNeedsUpdate = true;
-                thisZipFileCount++;
-                zipCount++;
-                Iterator<String> failedEquipment = e.getFailedEquipment();
-                if (failedEquipment.hasNext()) {
-                    loadReport.append("    Loading from zip file")
-                          .append(" >> ").append(zEntry.getName()).append("\n");
-                    while (failedEquipment.hasNext()) {
-                        loadReport.append("      Failed to load equipment: ")
-                              .append(failedEquipment.next()).append("\n");
-                    }
-                }
+            byte[] entryData;
+            try (InputStream entryStream = zFile.getInputStream(zEntry)) {
+                entryData = entryStream.readAllBytes();
             } catch (Exception ex) {
                 loadReport.append("    Loading from zip file").append(" >> ")
                       .append(zEntry.getName()).append("\n");
-                loadReport.append("      Unable to load file: ");
-                StringWriter stringWriter = new StringWriter();
-                PrintWriter printWriter = new PrintWriter(stringWriter);
-                ex.printStackTrace(printWriter);
-                loadReport.append(stringWriter.getBuffer()).append("\n");
-                if (!(ex.getMessage() == null)) {
-                    failedFiles.put(zEntry.getName(), ex.getMessage());
+                loadReport.append("      Unable to read file: ").append(ex.getMessage()).append("\n");
+                continue;
+            }
+            if (!parser.submit(UnitFileParser.UnitSource.ofZipEntry(fZipFile, zEntry.getName(), entryData))) {
+                try {
+                    zFile.close();
+                } catch (Exception ex) {
+                    logger.error("", ex);
                 }
+                return false;
             }
+            thisZipFileCount++;
+            foundFileCount++;
         }
 
         try {
@@ -1180,13 +1182,13 @@ public class MekSummaryCache {
             logger.error("", ex);
         }
 
-        loadReport.append("  ...loaded ").append(thisZipFileCount)
-              .append(" files.\n");
+        loadReport.append("  ...found ").append(thisZipFileCount)
+              .append(" new or changed files.\n");
 
-        return bNeedsUpdate;
+        return true;
     }
 
-    private void addLookupNames() {
+    private void addLookupNames(UnitCatalog updatedCatalog) {
         File lookupNames = new MegaMekFile(getUnitCacheDir(), FILENAME_LOOKUP).getFile();
         if (lookupNames.exists()) {
             try (FileInputStream fis = new FileInputStream(lookupNames);
@@ -1203,10 +1205,10 @@ public class MekSummaryCache {
                     if (index > 0) {
                         lookupName = line.substring(0, index);
                         entryName = line.substring(index + 1);
-                        if (!nameMap.containsKey(lookupName)) {
-                            MekSummary ms = nameMap.get(entryName);
-                            if (null != ms) {
-                                nameMap.put(lookupName, ms);
+                        if (!updatedCatalog.hasName(lookupName)) {
+                            Integer unitIndex = updatedCatalog.indexOfName(entryName);
+                            if (null != unitIndex) {
+                                updatedCatalog.addName(lookupName, unitIndex);
                             }
                         }
                     }
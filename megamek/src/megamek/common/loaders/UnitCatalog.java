@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * The units of the {@link MekSummaryCache}. A unit is either a row of the {@link UnitSummaryStore} read at startup,
+ * which is only deserialized when it is first asked for, or a summary that was parsed in this session. The name and
+ * source of a unit are available without deserializing it.
+ */
+final class UnitCatalog {
+
+    private static final int NO_ROW = -1;
+
+    /** Null when the catalog has no units from the unit cache file */
+    private final UnitSummaryStore store;
+    private final int[] storeRows;
+    private final MekSummary[] summaries;
+    private final Map<String, Integer> nameIndex = new HashMap<>();
+    private final Map<String, Integer> fileNameIndex = new HashMap<>();
+    private volatile MekSummary[] allSummaries;
+
+    private UnitCatalog(@Nullable UnitSummaryStore store, int[] storeRows, MekSummary[] summaries) {
+        this.store = store;
+        this.storeRows = storeRows;
+        this.summaries = summaries;
+    }
+
+    /**
+     * @return a catalog of all units of the given store
+     */
+    static UnitCatalog of(UnitSummaryStore store) {
+        return new UnitCatalog(store, IntStream.range(0, store.size()).toArray(), new MekSummary[store.size()]);
+    }
+
+    int size() {
+        return summaries.length;
+    }
+
+    /**
+     * @return the summary of the unit at the given index or null if it could not be read from the store
+     */
+    @Nullable
+    MekSummary get(int index) {
+        MekSummary summary = summaries[index];
+        if (summary == null) {
+            summary = Objects.requireNonNull(store).getSummary(storeRows[index]);
+            // Racing threads get the same summary from the store
+            summaries[index] = summary;
+        }
+        return summary;
+    }
+
+    /**
+     * @return the summaries of all units, reading those not yet read from the store; units that cannot be read are
+     *       left out
+     */
+    MekSummary[] getAll() {
+        MekSummary[] result = allSummaries;
+        if (result == null) {
+            result = IntStream.range(0, size()).parallel()
+                  .mapToObj(this::get)
+                  .filter(Objects::nonNull)
+                  .toArray(MekSummary[]::new);
+            allSummaries = result;
+        }
+        return result;
+    }
+
+    /**
+     * Finds a unit by its name, by an alternative name or by the name of its unit file.
+     *
+     * @return the unit or null if there is none of that name
+     */
+    @Nullable
+    MekSummary find(String name) {
+        Integer index = nameIndex.get(name);
+        if (index == null) {
+            index = fileNameIndex.get(name);
+        }
+        return (index == null) ? null : get(index);
+    }
+
+    // The name indexes are filled before the catalog is handed out and only read afterwards
+
+    void addName(String name, int index) {
+        nameIndex.put(name, index);
+    }
+
+    void addFileName(String fileName, int index) {
+        fileNameIndex.put(fileName, index);
+    }
+
+    boolean hasName(String name) {
+        return nameIndex.containsKey(name);
+    }
+
+    @Nullable
+    Integer indexOfName(String name) {
+        return nameIndex.get(name);
+    }
+
+    String getName(int index) {
+        MekSummary summary = summaries[index];
+        return (summary != null) ? summary.getName() : Objects.requireNonNull(store).getName(storeRows[index]);
+    }
+
+    File getSourceFile(int index) {
+        MekSummary summary = summaries[index];
+        return (summary != null)
+              ? summary.getSourceFile()
+              : Objects.requireNonNull(store).getSourceFile(storeRows[index]);
+    }
+
+    @Nullable
+    String getEntryName(int index) {
+        MekSummary summary = summaries[index];
+        return (summary != null)
+              ? summary.getEntryName()
+              : Objects.requireNonNull(store).getEntryName(storeRows[index]);
+    }
+
+    /**
+     * Collects the units of an updated catalog: units taken over from an existing catalog, which stay unread if they
+     * have not been read yet, and newly parsed ones.
+     */
+    static final class Builder {
+        private final UnitSummaryStore store;
+        private final List<Integer> storeRows = new ArrayList<>();
+        private final List<MekSummary> summaries = new ArrayList<>();
+
+        /**
+         * @param base the catalog that units are taken over from, if any
+         */
+        Builder(@Nullable UnitCatalog base) {
+            store = (base == null) ? null : base.store;
+        }
+
+        /**
+         * Adds the unit at the given index of the base catalog.
+         */
+        void add(UnitCatalog base, int index) {
+            if (base.summaries[index] != null) {
+                add(base.summaries[index]);
+            } else {
+                storeRows.add(base.storeRows[index]);
+                summaries.add(null);
+            }
+        }
+
+        void add(MekSummary summary) {
+            storeRows.add(NO_ROW);
+            summaries.add(summary);
+        }
+
+        /**
+         * Removes the unit loaded from the given unit file (not zip file), if any.
+         */
+        void removeFile(File file) {
+            for (int i = 0; i < summaries.size(); i++) {
+                MekSummary summary = summaries.get(i);
+                boolean isFromFile = (summary != null)
+                      ? (summary.getEntryName() == null) && file.equals(summary.getSourceFile())
+                      : (store.getEntryName(storeRows.get(i)) == null)
+                      && file.equals(store.getSourceFile(storeRows.get(i)));
+                if (isFromFile) {
+                    storeRows.remove(i);
+                    summaries.remove(i);
+                    return;
+                }
+            }
+        }
+
+        UnitCatalog build() {
+            return new UnitCatalog(store, storeRows.stream().mapToInt(Integer::intValue).toArray(),
+                  summaries.toArray(new MekSummary[0]));
+        }
+    }
+}
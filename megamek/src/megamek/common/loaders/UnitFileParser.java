@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.units.Entity;
+
+/**
+ * Parses unit files into {@link MekSummary}s on a pool of worker threads for {@link MekSummaryCache}. The thread that
+ * scans the unit directories submits files as it finds them and receives the results on that same thread, in the order
+ * of submission, so the merged cache does not depend on which worker finishes first. Only a limited number of files
+ * may be pending; submitting blocks until the oldest one is done, which also limits the zip entry data held in
+ * memory.
+ */
+final class UnitFileParser implements AutoCloseable {
+
+    static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final int PENDING_PER_THREAD = 16;
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * A unit file or zip entry to parse. For a zip entry, file is the zip file and entryData holds the entry, read by
+     * the scanning thread.
+     */
+    record UnitSource(File file, @Nullable String entryName, byte[] entryData) {
+
+        static UnitSource ofFile(File file) {
+            return new UnitSource(file, null, null);
+        }
+
+        static UnitSource ofZipEntry(File zipFile, String entryName, byte[] entryData) {
+            return new UnitSource(zipFile, entryName, entryData);
+        }
+    }
+
+    /**
+     * The result of parsing a unit source. Either summary or failure is set; failedEquipment lists the equipment of a
+     * successfully parsed unit that could not be loaded.
+     */
+    record ParsedUnit(UnitSource source, @Nullable MekSummary summary, List<String> failedEquipment,
+          @Nullable Exception failure) {
+    }
+
+    private record PendingUnit(UnitSource source, Future<ParsedUnit> result) {
+    }
+
+    private final ExecutorService executor;
+    private final int maxPending;
+    private final BooleanSupplier shouldStop;
+    private final Consumer<ParsedUnit> consumer;
+    private final Deque<PendingUnit> pending = new ArrayDeque<>();
+    private boolean stopped = false;
+    private int parsedUnitCount = 0;
+
+    /**
+     * @param parallelism the number of worker threads
+     * @param shouldStop  checked by the submitting thread while it waits for results; when it returns true, the
+     *                    pending files are dropped and no further files are accepted
+     * @param consumer    receives the results in submission order, on the submitting thread
+     */
+    UnitFileParser(int parallelism, BooleanSupplier shouldStop, Consumer<ParsedUnit> consumer) {
+        this.maxPending = parallelism * PENDING_PER_THREAD;
+        this.shouldStop = shouldStop;
+        this.consumer = consumer;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "Mek Cache Parser " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the given unit source for parsing. Blocks while too many files are pending and passes on the results that
+     * are done in the meantime.
+     *
+     * @return false when loading was stopped and the source was not queued
+     */
+    boolean submit(UnitSource source) {
+        while (!stopped && (pending.size() >= maxPending)) {
+            consumeOldest();
+        }
+        if (stopped) {
+            return false;
+        }
+        pending.add(new PendingUnit(source, executor.submit(() -> parse(source))));
+        while (!stopped && !pending.isEmpty() && pending.peekFirst().result().isDone()) {
+            consumeOldest();
+        }
+        return !stopped;
+    }
+
+    /**
+     * Waits for all pending files and passes on their results.
+     *
+     * @return false when loading was stopped before all results were passed on
+     */
+    boolean finish() {
+        while (!stopped && !pending.isEmpty()) {
+            consumeOldest();
+        }
+        return !stopped;
+    }
+
+    /**
+     * @return the number of results passed on so far that carry a unit summary
+     */
+    int getParsedUnitCount() {
+        return parsedUnitCount;
+    }
+
+    @Override
+    public void close() {
+        // Workers still running finish their current file; files that were not started are dropped
+        executor.shutdownNow();
+        pending.clear();
+    }
+
+    private void consumeOldest() {
+        PendingUnit oldest = pending.peekFirst();
+        ParsedUnit parsedUnit = null;
+        while (parsedUnit == null) {
+            if (shouldStop.getAsBoolean()) {
+                stopped = true;
+                close();
+                return;
+            }
+            try {
+                parsedUnit = oldest.result().get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ignored) {
+                // Check for cancellation again
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+                close();
+                return;
+            } catch (ExecutionException ex) {
+                // parse() catches exceptions, so only errors end up here
+                parsedUnit = new ParsedUnit(oldest.source(), null, List.of(), ex);
+            }
+        }
+        pending.removeFirst();
+        if (parsedUnit.summary() != null) {
+            parsedUnitCount++;
+        }
+        consumer.accept(parsedUnit);
+    }
+
+    private static ParsedUnit parse(UnitSource source) {
+        try {
+            MekFileParser parser = (source.entryName() == null)
+                  ? new MekFileParser(source.file())
+                  : new MekFileParser(new ByteArrayInputStream(source.entryData()), source.entryName());
+            Entity entity = parser.getEntity();
+            List<String> failedEquipment = new ArrayList<>();
+            entity.getFailedEquipment().forEachRemaining(failedEquipment::add);
+            MekSummary summary = MekSummaryCache.getSummary(entity, source.file(), source.entryName());
+            return new ParsedUnit(source, summary, failedEquipment, null);
+        } catch (Exception ex) {
+            return new ParsedUnit(source, null, List.of(), ex);
+        }
+    }
+}
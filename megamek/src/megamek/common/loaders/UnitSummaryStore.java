@@ -0,0 +1,456 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * The unit cache file (units.cache) in a columnar layout that is read without deserializing the units. The file holds
+ * fixed-width columns of the values most often looked at (name, unit type, tech base, tonnage, BV, cost, year, MP and
+ * where the unit was loaded from), a string table that the string columns point into, a section with the equipment
+ * names and counts of every unit, and the complete serialized {@link MekSummary} of every unit. The file is mapped
+ * into memory; the full summary of a unit is only deserialized when it is first asked for.
+ * <p>
+ * Layout, all values big-endian:
+ * <pre>
+ * header:     magic, format version, MekSummary serialVersionUID, unit count,
+ *             string table offset, equipment offset, record offset
+ * columns:    one per {@link Column}, each holding the values of all units in unit order
+ * strings:    string count, byte offsets of the strings (count + 1), UTF-8 bytes
+ * equipment:  (string ID, count) pairs; the equipment columns hold each unit's first pair and the number of pairs
+ * records:    the serialized MekSummary of each unit, located by the record columns
+ * </pre>
+ * A file with a different format version or MekSummary serialVersionUID is rejected, which makes the cache rebuild.
+ */
+public final class UnitSummaryStore {
+    private static final MMLogger LOGGER = MMLogger.create(UnitSummaryStore.class);
+
+    private static final int MAGIC = 0x4D4D5553;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 8 + 8 + 8;
+    private static final int NO_STRING = -1;
+
+    private enum Column {
+        NAME(4),
+        CHASSIS(4),
+        MODEL(4),
+        UNIT_TYPE(4),
+        TECH_BASE(4),
+        SOURCE_FILE(4),
+        ENTRY_NAME(4),
+        TONS(8),
+        BV(4),
+        COST(8),
+        YEAR(4),
+        WALK_MP(4),
+        JUMP_MP(4),
+        EQUIPMENT_START(4),
+        EQUIPMENT_COUNT(4),
+        RECORD_OFFSET(8),
+        RECORD_LENGTH(4);
+
+        private final int width;
+
+        Column(int width) {
+            this.width = width;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final int unitCount;
+    private final long[] columnOffsets = new long[Column.values().length];
+    private final int stringCount;
+    private final long stringOffsetsStart;
+    private final long stringDataStart;
+    private final long equipmentStart;
+    private final String[] strings;
+    private final AtomicReferenceArray<MekSummary> summaries;
+
+    private UnitSummaryStore(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if ((buffer.capacity() < HEADER_SIZE) || (buffer.getInt(0) != MAGIC)) {
+            throw new IOException("Not a unit summary store");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported unit summary store version " + buffer.getInt(4));
+        }
+        if (buffer.getLong(8) != summaryVersion()) {
+            throw new IOException("The unit summary store was written for a different MekSummary version");
+        }
+        unitCount = buffer.getInt(16);
+        long stringTableStart = buffer.getLong(20);
+        equipmentStart = buffer.getLong(28);
+        long recordStart = buffer.getLong(36);
+        if ((unitCount < 0) || (stringTableStart > buffer.capacity()) || (equipmentStart > buffer.capacity())
+              || (recordStart > buffer.capacity())) {
+            throw new IOException("Corrupt unit summary store header");
+        }
+
+        long offset = HEADER_SIZE;
+        for (Column column : Column.values()) {
+            columnOffsets[column.ordinal()] = offset;
+            offset += (long) column.width * unitCount;
+        }
+        stringCount = buffer.getInt(index(stringTableStart));
+        stringOffsetsStart = stringTableStart + 4;
+        stringDataStart = stringOffsetsStart + 4L * (stringCount + 1);
+        strings = new String[stringCount];
+        summaries = new AtomicReferenceArray<>(unitCount);
+    }
+
+    /**
+     * Opens the given store file. The file is mapped into memory, except on Windows, where a mapped file cannot be
+     * replaced until the mapping is garbage collected; there, it is read into memory in one go.
+     *
+     * @param file the store file
+     *
+     * @return the store
+     *
+     * @throws IOException when the file cannot be read or is not a store of the current version
+     */
+    public static UnitSummaryStore open(File file) throws IOException {
+        if (System.getProperty("os.name", "").startsWith("Windows")) {
+            return new UnitSummaryStore(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new UnitSummaryStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes the given units as a store file. The file is written under a temporary name first and then moved into
+     * place, so a store that is open on the old file stays valid.
+     *
+     * @param file  the store file
+     * @param units the units, in the order of the store
+     */
+    public static void write(File file, List<MekSummary> units) throws IOException {
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> stringList = new ArrayList<>();
+        ByteArrayOutputStream equipmentBytes = new ByteArrayOutputStream();
+        DataOutputStream equipment = new DataOutputStream(equipmentBytes);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        ByteBuffer columns = ByteBuffer.allocate(columnsSize(units.size()));
+
+        int equipmentPairs = 0;
+        for (int row = 0; row < units.size(); row++) {
+            MekSummary unit = units.get(row);
+            File sourceFile = unit.getSourceFile();
+            putInt(columns, Column.NAME, row, units.size(), stringId(unit.getName(), stringIds, stringList));
+            putInt(columns, Column.CHASSIS, row, units.size(), stringId(unit.getChassis(), stringIds, stringList));
+            putInt(columns, Column.MODEL, row, units.size(), stringId(unit.getModel(), stringIds, stringList));
+            putInt(columns, Column.UNIT_TYPE, row, units.size(),
+                  stringId(unit.getUnitType(), stringIds, stringList));
+            putInt(columns, Column.TECH_BASE, row, units.size(),
+                  stringId(unit.getTechBase(), stringIds, stringList));
+            putInt(columns, Column.SOURCE_FILE, row, units.size(),
+                  stringId((sourceFile == null) ? null : sourceFile.getPath(), stringIds, stringList));
+            putInt(columns, Column.ENTRY_NAME, row, units.size(),
+                  stringId(unit.getEntryName(), stringIds, stringList));
+            columns.putDouble(columnPosition(Column.TONS, row, units.size()), unit.getTons());
+            putInt(columns, Column.BV, row, units.size(), unit.getBV());
+            columns.putLong(columnPosition(Column.COST, row, units.size()), unit.getCost());
+            putInt(columns, Column.YEAR, row, units.size(), unit.getYear());
+            putInt(columns, Column.WALK_MP, row, units.size(), unit.getWalkMp());
+            putInt(columns, Column.JUMP_MP, row, units.size(), unit.getJumpMp());
+
+            Vector<String> equipmentNames = unit.getEquipmentNames();
+            Vector<Integer> equipmentQuantities = unit.getEquipmentQuantities();
+            int count = (equipmentNames == null) ? 0 : equipmentNames.size();
+            putInt(columns, Column.EQUIPMENT_START, row, units.size(), equipmentPairs);
+            putInt(columns, Column.EQUIPMENT_COUNT, row, units.size(), count);
+            for (int i = 0; i < count; i++) {
+                equipment.writeInt(stringId(equipmentNames.get(i), stringIds, stringList));
+                equipment.writeInt(equipmentQuantities.get(i));
+            }
+            equipmentPairs += count;
+
+            int recordStart = recordBytes.size();
+            try (ObjectOutputStream out = new ObjectOutputStream(recordBytes)) {
+                out.writeObject(unit);
+            }
+            columns.putLong(columnPosition(Column.RECORD_OFFSET, row, units.size()), recordStart);
+            putInt(columns, Column.RECORD_LENGTH, row, units.size(), recordBytes.size() - recordStart);
+        }
+
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        DataOutputStream stringTable = new DataOutputStream(stringBytes);
+        List<byte[]> encodedStrings = new ArrayList<>(stringList.size());
+        stringTable.writeInt(stringList.size());
+        int stringOffset = 0;
+        for (String string : stringList) {
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            encodedStrings.add(encoded);
+            stringTable.writeInt(stringOffset);
+            stringOffset += encoded.length;
+        }
+        stringTable.writeInt(stringOffset);
+        for (byte[] encoded : encodedStrings) {
+            stringTable.write(encoded);
+        }
+
+        long stringTableStart = HEADER_SIZE + (long) columns.capacity();
+        long equipmentSectionStart = stringTableStart + stringBytes.size();
+        long recordSectionStart = equipmentSectionStart + equipmentBytes.size();
+        // Record offsets are relative to the record section
+        for (int row = 0; row < units.size(); row++) {
+            int position = columnPosition(Column.RECORD_OFFSET, row, units.size());
+            columns.putLong(position, columns.getLong(position) + recordSectionStart);
+        }
+
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(summaryVersion());
+            out.writeInt(units.size());
+            out.writeLong(stringTableStart);
+            out.writeLong(equipmentSectionStart);
+            out.writeLong(recordSectionStart);
+            out.write(columns.array());
+            stringBytes.writeTo(out);
+            equipmentBytes.writeTo(out);
+            recordBytes.writeTo(out);
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @return the number of units in this store
+     */
+    public int size() {
+        return unitCount;
+    }
+
+    /**
+     * Returns the full summary of the unit in the given row. It is deserialized on first access and kept afterwards.
+     *
+     * @param row the row, 0 to {@link #size()} - 1
+     *
+     * @return the summary or null if it could not be read
+     */
+    public @Nullable MekSummary getSummary(int row) {
+        MekSummary summary = summaries.get(row);
+        if (summary == null) {
+            summary = readSummary(row);
+            if ((summary != null) && !summaries.compareAndSet(row, null, summary)) {
+                summary = summaries.get(row);
+            }
+        }
+        return summary;
+    }
+
+    public String getName(int row) {
+        return getStringColumn(Column.NAME, row);
+    }
+
+    public String getChassis(int row) {
+        return getStringColumn(Column.CHASSIS, row);
+    }
+
+    public String getModel(int row) {
+        return getStringColumn(Column.MODEL, row);
+    }
+
+    public String getUnitType(int row) {
+        return getStringColumn(Column.UNIT_TYPE, row);
+    }
+
+    public String getTechBase(int row) {
+        return getStringColumn(Column.TECH_BASE, row);
+    }
+
+    public @Nullable File getSourceFile(int row) {
+        String path = getStringColumn(Column.SOURCE_FILE, row);
+        return (path == null) ? null : new File(path);
+    }
+
+    public @Nullable String getEntryName(int row) {
+        return getStringColumn(Column.ENTRY_NAME, row);
+    }
+
+    public double getTons(int row) {
+        return buffer.getDouble(position(Column.TONS, row));
+    }
+
+    public int getBV(int row) {
+        return getIntColumn(Column.BV, row);
+    }
+
+    public long getCost(int row) {
+        return buffer.getLong(position(Column.COST, row));
+    }
+
+    public int getYear(int row) {
+        return getIntColumn(Column.YEAR, row);
+    }
+
+    public int getWalkMp(int row) {
+        return getIntColumn(Column.WALK_MP, row);
+    }
+
+    public int getJumpMp(int row) {
+        return getIntColumn(Column.JUMP_MP, row);
+    }
+
+    /**
+     * @return the number of different equipment names of the unit in the given row
+     */
+    public int getEquipmentCount(int row) {
+        return getIntColumn(Column.EQUIPMENT_COUNT, row);
+    }
+
+    /**
+     * @return the name of the unit's equipment at the given index, 0 to {@link #getEquipmentCount(int)} - 1
+     */
+    public String getEquipmentName(int row, int index) {
+        return getString(buffer.getInt(equipmentPosition(row, index)));
+    }
+
+    /**
+     * @return how many of the unit's equipment at the given index the unit mounts
+     */
+    public int getEquipmentQuantity(int row, int index) {
+        return buffer.getInt(equipmentPosition(row, index) + 4);
+    }
+
+    private @Nullable MekSummary readSummary(int row) {
+        long recordStart = buffer.getLong(position(Column.RECORD_OFFSET, row));
+        byte[] record = new byte[getIntColumn(Column.RECORD_LENGTH, row)];
+        buffer.get(index(recordStart), record);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(record))) {
+            return (MekSummary) in.readObject();
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Unable to read the cached summary of {}", getName(row));
+            return null;
+        }
+    }
+
+    private int equipmentPosition(int row, int index) {
+        return index(equipmentStart + 8L * (getIntColumn(Column.EQUIPMENT_START, row) + index));
+    }
+
+    private int getIntColumn(Column column, int row) {
+        return buffer.getInt(position(column, row));
+    }
+
+    private @Nullable String getStringColumn(Column column, int row) {
+        return getString(getIntColumn(column, row));
+    }
+
+    private @Nullable String getString(int id) {
+        if (id == NO_STRING) {
+            return null;
+        }
+        String string = strings[id];
+        if (string == null) {
+            int start = buffer.getInt(index(stringOffsetsStart + 4L * id));
+            int end = buffer.getInt(index(stringOffsetsStart + 4L * (id + 1)));
+            byte[] bytes = new byte[end - start];
+            buffer.get(index(stringDataStart + start), bytes);
+            // Racing threads decode the same string; either result may be kept
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = string;
+        }
+        return string;
+    }
+
+    private int position(Column column, int row) {
+        return index(columnOffsets[column.ordinal()] + (long) column.width * row);
+    }
+
+    private static int index(long position) {
+        return Math.toIntExact(position);
+    }
+
+    private static int columnsSize(int unitCount) {
+        int size = 0;
+        for (Column column : Column.values()) {
+            size += column.width * unitCount;
+        }
+        return size;
+    }
+
+    private static int columnPosition(Column column, int row, int unitCount) {
+        int offset = 0;
+        for (Column previous : Column.values()) {
+            if (previous == column) {
+                break;
+            }
+            offset += previous.width * unitCount;
+        }
+        return offset + column.width * row;
+    }
+
+    private static void putInt(ByteBuffer columns, Column column, int row, int unitCount, int value) {
+        columns.putInt(columnPosition(column, row, unitCount), value);
+    }
+
+    private static int stringId(@Nullable String string, Map<String, Integer> stringIds, List<String> stringList) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringIds.computeIfAbsent(string, s -> {
+            stringList.add(s);
+            return stringList.size() - 1;
+        });
+    }
+
+    private static long summaryVersion() {
+        return ObjectStreamClass.lookup(MekSummary.class).getSerialVersionUID();
+    }
+}
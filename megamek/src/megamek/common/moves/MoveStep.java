@@ -3296,7 +3296,8 @@ public class MoveStep implements Serializable {
             if ((moveMode != EntityMovementMode.BIPED_SWIM) &&
                   (moveMode != EntityMovementMode.QUAD_SWIM) &&
                   getClearance() == 0) {
-                mp += destHex.movementCost(getEntity());
+                mp += game.getBoard(boardId).getTerrainCostCache().getMovementCost(getPosition(), destHex,
+                      getEntity(), cachedEntityState.getTerrainCostProfile());
             }
 
             // if this is an amphibious unit crossing water, increment movement cost by 1
@@ -4295,7 +4296,7 @@ public class MoveStep implements Serializable {
         Integer x = additionalData.get(0);
         Integer y = additionalData.get(1);
         if (x != null && y != null) {
-            return new Coords(x, y);
+            return Coords.of(x, y);
         }
         return null;
     }
@@ -4599,7 +4600,7 @@ public class MoveStep implements Serializable {
         if ((targetX == null) || (targetY == null)) {
             return null;
         }
-        return new Coords(targetX, targetY);
+        return Coords.of(targetX, targetY);
     }
 
     /**
@@ -35,15 +35,23 @@
 package megamek.common.net.connections;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Vector;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
 import megamek.common.net.events.AbstractConnectionEvent;
 import megamek.common.net.events.ConnectedEvent;
@@ -64,6 +72,10 @@ public abstract class AbstractConnection {
     private static final PacketMarshallerFactory marshallerFactory = PacketMarshallerFactory.getInstance();
     private static final int DEFAULT_MARSHALLING = PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING;
 
+    /** Marshalled packets smaller than this (in bytes) are sent uncompressed */
+    static final int COMPRESSION_THRESHOLD = 256;
+    private static final int COMPRESSION_BUFFER_SIZE = 8192;
+
     private Socket socket;
     private int connectionId;
 
@@ -82,9 +94,31 @@ public abstract class AbstractConnection {
     /** Bytes received during the connection lifecycle */
     private long bytesReceived;
 
+    /** Bytes sent during the connection lifecycle, counted before compression */
+    private long uncompressedBytesSent;
+
+    /** Bytes received during the connection lifecycle, counted after decompression */
+    private long uncompressedBytesReceived;
+
+    /** Time spent compressing sent packets, in nanoseconds */
+    private long compressionNanos;
+
+    /** Time spent decompressing received packets, in nanoseconds */
+    private long decompressionNanos;
+
+    /**
+     * Guards the send queue, the compression state and the counters. Sending writes to the socket while holding it;
+     * this is a lock instead of the object monitor so that a virtual thread blocked in such a write parks instead of
+     * pinning its carrier thread.
+     */
+    protected final ReentrantLock connectionLock = new ReentrantLock();
+
     /** Queue of Packets to send */
     private final SendQueue sendQueue = new SendQueue();
 
+    /** When true, queued packets are not written until {@link #releaseSends()} */
+    private boolean holdingSends;
+
     /** Connection listeners list */
     private final Vector<ConnectionListener> connectionListeners = new Vector<>();
 
@@ -97,6 +131,19 @@ public abstract class AbstractConnection {
     /** Indicates the need to compress sent data */
     private boolean zipData = true;
 
+    /**
+     * When true, sent packets are compressed as blocks of one persistent deflate stream instead of each on its own.
+     * Only to be enabled when the other side is known to support it.
+     */
+    private boolean streamCompression;
+
+    /**
+     * The persistent compression contexts. The deflater is guarded by this connection; the inflater is only used by
+     * the receiving thread.
+     */
+    private Deflater deflater;
+    private Inflater inflater;
+
     /**
      * Creates new client (connection from client to server) connection
      *
@@ -129,20 +176,27 @@ public abstract class AbstractConnection {
     }
 
     /** @return The type of the marshalling used to send packets. */
-    protected int getMarshallingType() {
+    public int getMarshallingType() {
         return marshallingType;
     }
 
     /**
-     * Sets the type of the marshalling used to send packets
+     * Sets the type of the marshalling used to send packets. Received packets carry their own marshalling type, so
+     * this can be changed on an open connection (e.g. after negotiating it during the version check) without
+     * coordinating with the other side.
      *
      * @param marshallingType new marshalling type
      */
-    protected void setMarshallingType(int marshallingType) {
+    public void setMarshallingType(int marshallingType) {
         PacketMarshaller pm = marshallerFactory.getMarshaller(marshallingType);
         Objects.requireNonNull(pm);
-        this.marshallingType = marshallingType;
-        marshaller = pm;
+        connectionLock.lock();
+        try {
+            this.marshallingType = marshallingType;
+            marshaller = pm;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     /**
@@ -150,26 +204,48 @@ public abstract class AbstractConnection {
      *
      * @return True on success, false otherwise
      */
-    public synchronized boolean open() {
-        if (!open) {
-            if (socket == null) {
-                try {
-                    socket = new Socket(host, port);
-                } catch (Exception e) {
-                    return false;
+    public boolean open() {
+        connectionLock.lock();
+        try {
+            if (!open) {
+                if (socket == null) {
+                    try {
+                        socket = createSocket(host, port);
+                    } catch (Exception e) {
+                        return false;
+                    }
                 }
+                open = true;
             }
-            open = true;
+            return true;
+        } finally {
+            connectionLock.unlock();
         }
-        return true;
+    }
+
+    /**
+     * Creates the socket of a client connection when it is opened.
+     *
+     * @param host target host
+     * @param port target port
+     *
+     * @return the connected socket
+     */
+    protected Socket createSocket(String host, int port) throws IOException {
+        return new Socket(host, port);
     }
 
     /** Closes the socket and shuts down the receiver and sender threads. */
     public void close() {
-        synchronized (this) {
+        connectionLock.lock();
+        try {
             LOGGER.info("Starting to close {}", getConnectionTypeText());
             sendQueue.reportContents();
             sendQueue.finish();
+            if (deflater != null) {
+                deflater.end();
+                deflater = null;
+            }
             try {
                 if (socket != null) {
                     socket.close();
@@ -178,6 +254,8 @@ public abstract class AbstractConnection {
                 LOGGER.error("Failed closing connection {}", getId(), e);
             }
             socket = null;
+        } finally {
+            connectionLock.unlock();
         }
         processConnectionEvent(new DisconnectedEvent(this));
     }
@@ -226,39 +304,199 @@ public abstract class AbstractConnection {
         zipData = compress;
     }
 
+    /** @return True if sent packets are compressed as blocks of one persistent deflate stream. */
+    public boolean isStreamCompression() {
+        connectionLock.lock();
+        try {
+            return streamCompression;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Sets whether sent packets are compressed as blocks of one persistent deflate stream, so that the compression
+     * dictionary carries over from packet to packet. Received packets carry their own compression type, so this only
+     * needs to be known to be supported by the other side (it is negotiated during the version check).
+     *
+     * @param streamCompression True to use the persistent deflate stream
+     */
+    public void setStreamCompression(boolean streamCompression) {
+        connectionLock.lock();
+        try {
+            this.streamCompression = streamCompression;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     /** Adds a packet to the send queue to be sent on a separate thread. */
-    public synchronized void send(Packet packet) {
+    public void send(Packet packet) {
+        send(new SharedPacket(packet));
+    }
+
+    /**
+     * Adds a packet that is also sent to other connections to the send queue to be sent on a separate thread. The
+     * packet is marshalled only once for all connections using the same marshalling type.
+     */
+    public void send(SharedPacket packet) {
+        connectionLock.lock();
         try {
-            sendQueue.addPacket(new SendPacket(packet, this));
+            queue(packet);
             // Send right now
             flush();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a packet to the send queue without sending it; it is sent with the next {@link #flush()} or send. The packet
+     * is marshalled and compressed right away, so later changes to the objects it carries are not sent. A packet that
+     * cannot be marshalled or compressed is logged and dropped.
+     */
+    public void queue(SharedPacket packet) {
+        connectionLock.lock();
+        try {
+            sendQueue.addPacket(new SendPacket(packet, this));
         } catch (Exception e) {
-            LOGGER.error("Failed to send packet {}", packet, e);
+            LOGGER.error("Failed to send packet {}", packet.getPacket(), e);
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Holds the packets sent on this connection: until {@link #releaseSends()}, sending and {@link #flush()} only
+     * queue packets, so that they are all written together when the hold ends. Used by the server's send batches.
+     */
+    public void holdSends() {
+        connectionLock.lock();
+        try {
+            holdingSends = true;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /** Ends a hold started with {@link #holdSends()} and writes all queued packets at once. */
+    public void releaseSends() {
+        connectionLock.lock();
+        try {
+            holdingSends = false;
+            flush();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Sends a packet right away, even while sends are held, together with and after the packets already queued. Use
+     * this for packets whose answer the sender waits for.
+     */
+    public void sendThroughHold(Packet packet) {
+        connectionLock.lock();
+        boolean held = holdingSends;
+        try {
+            queue(new SharedPacket(packet));
+            holdingSends = false;
+            flush();
+        } finally {
+            holdingSends = held;
+            connectionLock.unlock();
         }
     }
 
     /** Send the packet now, on a separate thread; This is the blocking call. */
     public void sendNow(SendPacket packet) {
         try {
-            sendNetworkPacket(packet.data(), packet.isCompressed());
+            sendNetworkPacket(packet.data(), packet.compression(), packet.marshallingType());
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
     }
 
     /** @return True if there are pending packets. */
-    public synchronized boolean hasPending() {
-        return sendQueue.hasPending();
+    public boolean hasPending() {
+        connectionLock.lock();
+        try {
+            return sendQueue.hasPending();
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     /** @return a very approximate count of how many bytes were sent. */
-    public synchronized long getBytesSent() {
-        return bytesSent;
+    public long getBytesSent() {
+        connectionLock.lock();
+        try {
+            return bytesSent;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     /** @return a very approximate count of how many bytes were received. */
-    public synchronized long getBytesReceived() {
-        return bytesReceived;
+    public long getBytesReceived() {
+        connectionLock.lock();
+        try {
+            return bytesReceived;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /** @return a very approximate count of how many bytes were sent, counted before compression. */
+    public long getUncompressedBytesSent() {
+        connectionLock.lock();
+        try {
+            return uncompressedBytesSent;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /** @return a very approximate count of how many bytes were received, counted after decompression. */
+    public long getUncompressedBytesReceived() {
+        connectionLock.lock();
+        try {
+            return uncompressedBytesReceived;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * @return The ratio of the bytes sent to the bytes that would have been sent without compression; 1 when nothing
+     *       has been sent yet.
+     */
+    public double getCompressionRatio() {
+        connectionLock.lock();
+        try {
+            return (uncompressedBytesSent == 0) ? 1 : (double) bytesSent / uncompressedBytesSent;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /** @return The time spent compressing sent packets, in nanoseconds. */
+    public long getCompressionNanos() {
+        connectionLock.lock();
+        try {
+            return compressionNanos;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /** @return The time spent decompressing received packets, in nanoseconds. */
+    public long getDecompressionNanos() {
+        connectionLock.lock();
+        try {
+            return decompressionNanos;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     /**
@@ -329,24 +567,32 @@ public abstract class AbstractConnection {
     }
 
     /**
-     * Send all queued packets. This method is synchronized since it deals with the non-thread-safe send queue.
+     * Send all queued packets, all in one write if the connection supports it. Does nothing while sends are held (see
+     * {@link #holdSends()}). This method holds the connection lock since it deals with the non-thread-safe send queue.
      */
-    public synchronized void flush() {
-        SendPacket packet = null;
+    public void flush() {
+        List<SendPacket> packets = new ArrayList<>();
+        connectionLock.lock();
         try {
+            if (holdingSends) {
+                return;
+            }
+            SendPacket packet;
             while ((packet = sendQueue.getPacket()) != null) {
-                processPacket(packet);
+                packets.add(packet);
             }
-        } catch (Exception ex) {
-            if (packet == null) {
-                LOGGER.error(ex, "{} had an error sending a null packet", getConnectionTypeText());
-            } else {
-                LOGGER.error(ex,
-                      "{} had an error sending command {}",
-                      getConnectionTypeText(),
-                      packet.getCommand().name());
+            if (!packets.isEmpty()) {
+                sendNetworkPackets(packets);
             }
+        } catch (Exception ex) {
+            LOGGER.error(ex,
+                  "{} had an error sending {} packets, starting with command {}",
+                  getConnectionTypeText(),
+                  packets.size(),
+                  packets.get(0).getCommand().name());
             close();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -354,21 +600,20 @@ public abstract class AbstractConnection {
     protected void processPacket(INetworkPacket np) throws Exception {
         PacketMarshaller pm = marshallerFactory.getMarshaller(np.marshallingType());
         Objects.requireNonNull(pm);
-        byte[] data = np.data();
-        bytesReceived += data.length;
-        ByteArrayInputStream bis = new ByteArrayInputStream(data);
-        InputStream in = np.isCompressed() ? new GZIPInputStream(bis) : bis;
-        Packet packet = pm.unmarshall(in);
+        byte[] data = decompress(np.data(), np.compression());
+        connectionLock.lock();
+        try {
+            bytesReceived += np.data().length;
+            uncompressedBytesReceived += data.length;
+        } finally {
+            connectionLock.unlock();
+        }
+        Packet packet = pm.unmarshall(new ByteArrayInputStream(data));
         if (packet != null) {
             processConnectionEvent(new PacketReceivedEvent(this, packet));
         }
     }
 
-    /** Processes a packet to be sent. */
-    protected void processPacket(SendPacket packet) {
-        sendNow(packet);
-    }
-
     /**
      * Reads a complete NetworkPacket. This method must not block, must return null instead.
      *
@@ -379,12 +624,27 @@ public abstract class AbstractConnection {
     /**
      * Sends the data. This must not be blocked for too long
      *
-     * @param data   data to send
-     * @param zipped should the data be compressed
+     * @param data            data to send
+     * @param compression     the compression type of the data
+     * @param marshallingType the marshalling type the data was written with
      *
      * @throws Exception if there's an issue with sending the packet
      */
-    protected abstract void sendNetworkPacket(byte[] data, boolean zipped) throws Exception;
+    protected abstract void sendNetworkPacket(byte[] data, int compression, int marshallingType) throws Exception;
+
+    /**
+     * Sends several packets in the given order. Connections that can should write them all at once; by default, each
+     * is sent with {@link #sendNetworkPacket(byte[], int, int)}.
+     *
+     * @param packets the packets to send
+     *
+     * @throws Exception if there's an issue with sending the packets
+     */
+    protected void sendNetworkPackets(List<SendPacket> packets) throws Exception {
+        for (SendPacket packet : packets) {
+            sendNetworkPacket(packet.data(), packet.compression(), packet.marshallingType());
+        }
+    }
 
     /**
      * Processes game events occurring on this connection by dispatching them to any registered GameListener objects.
@@ -407,7 +667,104 @@ public abstract class AbstractConnection {
         }
     }
 
-    void addBytesSent(int additionalBytesSent) {
+    void addBytesSent(int additionalBytesSent, int additionalUncompressedBytesSent) {
         bytesSent += additionalBytesSent;
+        uncompressedBytesSent += additionalUncompressedBytesSent;
+    }
+
+    /**
+     * Compresses the data of a packet to be sent. Must be called in the order in which the packets are sent, which
+     * {@link #send(Packet)} ensures. When stream compression fails, the connection is closed as the stream is broken.
+     *
+     * @param data        the marshalled packet
+     * @param compression {@link INetworkPacket#COMPRESSION_GZIP} or {@link INetworkPacket#COMPRESSION_STREAM}
+     *
+     * @return the compressed data
+     */
+    byte[] compress(byte[] data, int compression) throws IOException {
+        connectionLock.lock();
+        try {
+            long start = System.nanoTime();
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 2);
+            if (compression == INetworkPacket.COMPRESSION_STREAM) {
+                if (deflater == null) {
+                    deflater = new Deflater();
+                }
+                try {
+                    deflater.setInput(data);
+                    byte[] buffer = new byte[COMPRESSION_BUFFER_SIZE];
+                    int length;
+                    // A sync flush emits all input so far; a full buffer means there may be more output
+                    do {
+                        length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                        bos.write(buffer, 0, length);
+                    } while (length == buffer.length);
+                } catch (RuntimeException ex) {
+                    // The deflater may have consumed part of the input, so the peer's inflater can no longer follow
+                    // the stream; only a new connection can start a new one
+                    close();
+                    throw new IOException("Stream compression failed on " + getConnectionTypeText(), ex);
+                }
+            } else {
+                try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+                    out.write(data);
+                }
+            }
+            compressionNanos += System.nanoTime() - start;
+            return bos.toByteArray();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Decompresses the data of a received packet. Must be called in the order in which the packets were received.
+     *
+     * @param data        the received data
+     * @param compression the compression type of the data
+     *
+     * @return the marshalled packet
+     */
+    private byte[] decompress(byte[] data, int compression) throws IOException {
+        if (compression == INetworkPacket.COMPRESSION_NONE) {
+            return data;
+        }
+        long start = System.nanoTime();
+        byte[] result;
+        if (compression == INetworkPacket.COMPRESSION_STREAM) {
+            if (inflater == null) {
+                // Not ended explicitly as the receiving thread may still use it while closing; the cleaner frees it
+                inflater = new Inflater();
+            }
+            inflater.setInput(data);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[COMPRESSION_BUFFER_SIZE];
+            try {
+                int length;
+                do {
+                    length = inflater.inflate(buffer);
+                    bos.write(buffer, 0, length);
+                    if ((length == 0) && (inflater.finished() || inflater.needsDictionary())) {
+                        throw new IOException("Unexpected end of the compressed packet stream");
+                    }
+                } while ((length > 0) || !inflater.needsInput());
+            } catch (DataFormatException ex) {
+                throw new IOException("Invalid compressed packet data", ex);
+            }
+            result = bos.toByteArray();
+        } else if (compression == INetworkPacket.COMPRESSION_GZIP) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                result = in.readAllBytes();
+            }
+        } else {
+            throw new IOException("Unknown compression type " + compression);
+        }
+        connectionLock.lock();
+        try {
+            decompressionNanos += System.nanoTime() - start;
+        } finally {
+            connectionLock.unlock();
+        }
+        return result;
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of the AbstractConnection that reads and writes directly on a blocking {@link SocketChannel}. It
+ * uses the same wire format as {@link DataStreamConnection}, so both sides need not use the same implementation.
+ * There is no stream buffering: each packet is read into a buffer of its exact size and the packets of a flush are
+ * written with a single gathering write, so no flush is needed and only writes are serialized. The blocking channel calls park a virtual
+ * thread instead of occupying a platform thread, which makes this the connection of choice for servers hosting many
+ * clients on virtual threads.
+ */
+public class ChannelConnection extends AbstractConnection {
+    /** Packet header: compression type (1 byte), marshalling type (int) and data length (int) */
+    private static final int HEADER_SIZE = 9;
+
+    /**
+     * The largest packet data length that is accepted. The data buffer is allocated before it is read, so a peer must
+     * not be able to make it arbitrarily large with a single header; a packet exceeding this closes the connection.
+     * Packets are compressed, so even a large game stays far below it.
+     */
+    static final int MAX_PACKET_LENGTH = 64 * 1024 * 1024;
+
+    private SocketChannel channel;
+    private final ByteBuffer readHeader = ByteBuffer.allocate(HEADER_SIZE);
+    private final ByteBuffer writeHeader = ByteBuffer.allocate(HEADER_SIZE);
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Creates new server connection.
+     *
+     * @param channel The accepted socket channel
+     * @param id      The connection ID
+     */
+    public ChannelConnection(SocketChannel channel, int id) {
+        super(channel.socket(), id);
+        this.channel = channel;
+    }
+
+    /**
+     * Creates new Client connection.
+     *
+     * @param host The host address
+     * @param port The network port
+     * @param id   The connection ID
+     */
+    public ChannelConnection(String host, int port, int id) {
+        super(host, port, id);
+    }
+
+    @Override
+    protected Socket createSocket(String host, int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(host, port));
+        return channel.socket();
+    }
+
+    @Override
+    protected INetworkPacket readNetworkPacket() throws Exception {
+        readHeader.clear();
+        readFully(readHeader);
+        readHeader.flip();
+        int compression = Byte.toUnsignedInt(readHeader.get());
+        int encoding = readHeader.getInt();
+        int len = readHeader.getInt();
+        if ((len < 0) || (len > MAX_PACKET_LENGTH)) {
+            throw new IOException("Invalid packet length " + len);
+        }
+        byte[] data = new byte[len];
+        readFully(ByteBuffer.wrap(data));
+        return new NetworkPacket(compression, encoding, data);
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    @Override
+    protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) throws Exception {
+        byte[] payload = (data != null) ? data : new byte[0];
+        writeLock.lock();
+        try {
+            writeHeader.clear();
+            writeHeader.put((byte) compression);
+            writeHeader.putInt(marshallingType);
+            writeHeader.putInt(payload.length);
+            writeHeader.flip();
+            ByteBuffer[] buffers = { writeHeader, ByteBuffer.wrap(payload) };
+            while (writeHeader.hasRemaining() || buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Writes all the packets, each with its own header, in one gathering write. */
+    @Override
+    protected void sendNetworkPackets(List<SendPacket> packets) throws Exception {
+        ByteBuffer[] buffers = new ByteBuffer[packets.size() * 2];
+        long remaining = 0;
+        for (int i = 0; i < packets.size(); i++) {
+            SendPacket packet = packets.get(i);
+            byte[] payload = (packet.data() != null) ? packet.data() : new byte[0];
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.put((byte) packet.compression());
+            header.putInt(packet.marshallingType());
+            header.putInt(payload.length);
+            header.flip();
+            buffers[2 * i] = header;
+            buffers[2 * i + 1] = ByteBuffer.wrap(payload);
+            remaining += HEADER_SIZE + payload.length;
+        }
+        writeLock.lock();
+        try {
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChannelConnection Id " + getId();
+    }
+}
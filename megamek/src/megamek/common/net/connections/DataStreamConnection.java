@@ -41,6 +41,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.concurrent.locks.ReentrantLock;
 
 import megamek.common.net.enums.PacketReadState;
 import megamek.logging.MMLogger;
@@ -53,6 +54,8 @@ public class DataStreamConnection extends AbstractConnection {
 
     private DataInputStream in;
     private DataOutputStream out;
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     /**
      * Creates new server connection.
@@ -78,7 +81,7 @@ public class DataStreamConnection extends AbstractConnection {
     /**
      * store data for packet reception statemachine
      */
-    protected boolean zipped = false;
+    protected int compression = INetworkPacket.COMPRESSION_NONE;
     protected int encoding = -1;
     protected int len = 0;
     protected PacketReadState state = PacketReadState.HEADER;
@@ -91,10 +94,11 @@ public class DataStreamConnection extends AbstractConnection {
             state = PacketReadState.HEADER;
         }
 
-        synchronized (in) {
+        readLock.lock();
+        try {
             switch (state) {
                 case HEADER:
-                    zipped = in.readBoolean();
+                    compression = in.readUnsignedByte();
                     encoding = in.readInt();
                     len = in.readInt();
                     state = PacketReadState.DATA;
@@ -102,26 +106,31 @@ public class DataStreamConnection extends AbstractConnection {
                 case DATA:
                     byte[] data = new byte[len];
                     in.readFully(data);
-                    packet = new NetworkPacket(zipped, encoding, data);
+                    packet = new NetworkPacket(compression, encoding, data);
                     state = PacketReadState.HEADER;
                     return packet;
                 default:
                     throw new Exception("Cannot Read Network Packet with unknown state " + state.name());
             }
+        } finally {
+            readLock.unlock();
         }
     }
 
     @Override
-    protected void sendNetworkPacket(byte[] data, boolean isZipped) throws Exception {
+    protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) throws Exception {
         if (out == null) {
             out = new DataOutputStream(new BufferedOutputStream(getOutputStream(), getSendBufferSize()));
         }
 
-        synchronized (out) {
-            out.writeBoolean(isZipped);
+        writeLock.lock();
+        try {
+            out.writeByte(compression);
             out.writeInt(marshallingType);
             out.writeInt((data != null) ? data.length : 0);
             out.write(data);
+        } finally {
+            writeLock.unlock();
         }
     }
 
@@ -129,14 +138,18 @@ public class DataStreamConnection extends AbstractConnection {
      * override flush to flush the data stream after flushing packet queue
      */
     @Override
-    public synchronized void flush() {
-        // Sends all queued packets
-        super.flush();
+    public void flush() {
+        connectionLock.lock();
         try {
+            // Sends all queued packets
+            super.flush();
             // Flush the output stream, to ensure all packets are sent
             if (out != null) {
-                synchronized (out) {
+                writeLock.lock();
+                try {
                     out.flush();
+                } finally {
+                    writeLock.unlock();
                 }
             }
         } catch (SocketException ignored) {
@@ -147,6 +160,8 @@ public class DataStreamConnection extends AbstractConnection {
             LOGGER.error("", ex);
             // close this connection, because it's broken
             close();
+        } finally {
+            connectionLock.unlock();
         }
     }
 
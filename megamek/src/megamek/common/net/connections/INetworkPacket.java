@@ -36,12 +36,29 @@ package megamek.common.net.connections;
 /** This is an interface for a connection layer data packet. */
 public interface INetworkPacket {
 
+    /** The data is not compressed */
+    int COMPRESSION_NONE = 0;
+
+    /** The data is compressed on its own in GZIP format */
+    int COMPRESSION_GZIP = 1;
+
+    /**
+     * The data is a sync-flushed block of the connection's persistent deflate stream and can only be inflated in
+     * order, with the dictionary built from all previous such packets of the connection
+     */
+    int COMPRESSION_STREAM = 2;
+
     /** @return The data marshalling type. */
     int marshallingType();
 
     /** @return The packet data. */
     byte[] data();
 
+    /** @return The compression type of the data, one of the COMPRESSION constants. */
+    int compression();
+
     /** @return True if the data is compressed. */
-    boolean isCompressed();
+    default boolean isCompressed() {
+        return compression() != COMPRESSION_NONE;
+    }
 }
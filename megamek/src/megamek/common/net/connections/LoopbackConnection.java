@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import java.io.EOFException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A connection between a client and a server running in the same JVM. The two ends of a loopback connection hand
+ * marshalled packets directly to each other's receive queue instead of writing them to a socket, and packets are never
+ * compressed. Packets are still marshalled and unmarshalled so that the client and the server never share any
+ * objects, just as with a network connection; a packet sent to several connections is marshalled only once (see
+ * {@link SharedPacket}).
+ * <p>
+ * Create the server end with {@link #LoopbackConnection(int)} and the client end with {@link #createClientEnd()}.
+ * Closing either end disconnects the other.
+ */
+public class LoopbackConnection extends AbstractConnection {
+
+    static final String LOOPBACK_HOST = "loopback";
+
+    /** How long {@link #readNetworkPacket()} waits for a packet before returning to the connection's update loop. */
+    private static final long RECEIVE_WAIT_MILLIS = 100;
+
+    /** Put into the receive queue of the other end when one end is closed. */
+    private static final NetworkPacket END_OF_STREAM = new NetworkPacket(INetworkPacket.COMPRESSION_NONE, 0,
+          new byte[0]);
+
+    private final BlockingQueue<NetworkPacket> receiveQueue = new LinkedBlockingQueue<>();
+    private LoopbackConnection peer;
+    private boolean closed;
+
+    /**
+     * Creates the server end of a new loopback connection.
+     *
+     * @param id connection ID
+     */
+    public LoopbackConnection(int id) {
+        super(null, id);
+    }
+
+    /** Creates a client end; its ID is 1 like that of any client connection. */
+    private LoopbackConnection(LoopbackConnection serverEnd) {
+        super(LOOPBACK_HOST, 0, 1);
+        peer = serverEnd;
+        serverEnd.peer = this;
+    }
+
+    /**
+     * Creates the client end of this server end. Must only be called once.
+     *
+     * @return the client end, to be passed to {@link megamek.client.AbstractClient#connect(AbstractConnection)}
+     */
+    public LoopbackConnection createClientEnd() {
+        if (peer != null) {
+            throw new IllegalStateException("The loopback connection " + getId() + " already has a client end");
+        }
+        return new LoopbackConnection(this);
+    }
+
+    @Override
+    public synchronized boolean open() {
+        return !closed && (peer != null);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (peer != null) {
+            peer.receiveQueue.add(END_OF_STREAM);
+        }
+        super.close();
+    }
+
+    @Override
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String getInetAddress() {
+        return LOOPBACK_HOST;
+    }
+
+    @Override
+    public boolean isCompressed() {
+        return false;
+    }
+
+    @Override
+    protected INetworkPacket readNetworkPacket() throws Exception {
+        NetworkPacket packet;
+        try {
+            packet = receiveQueue.poll(RECEIVE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (packet == END_OF_STREAM) {
+            throw new EOFException("The other end of the loopback connection was closed");
+        }
+        return packet;
+    }
+
+    @Override
+    protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) throws Exception {
+        if (isClosed()) {
+            throw new EOFException("The loopback connection is closed");
+        }
+        peer.receiveQueue.add(new NetworkPacket(compression, marshallingType, data));
+    }
+}
@@ -33,12 +33,12 @@
 
 package megamek.common.net.connections;
 
-record NetworkPacket(boolean isCompressed, int marshallingType, byte[] data) implements INetworkPacket {
+record NetworkPacket(int compression, int marshallingType, byte[] data) implements INetworkPacket {
 
     /**
      * Creates new packet
      *
-     * @param isCompressed    True when the data is compressed
+     * @param compression     The compression type of the data
      * @param marshallingType The Marshalling type used
      * @param data            The packet data
      */
@@ -33,46 +33,42 @@
 
 package megamek.common.net.connections;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
-
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.packets.Packet;
-import megamek.logging.MMLogger;
 
 public class SendPacket implements INetworkPacket {
-    private static final MMLogger logger = MMLogger.create(SendPacket.class);
-
-    private byte[] data;
-    private boolean zipped = false;
+    private final byte[] data;
+    private final int compression;
+    private final int marshallingType;
     private final PacketCommand command;
-    private final AbstractConnection connection;
 
-    public SendPacket(Packet packet, AbstractConnection connection) {
-        command = packet.command();
-        this.connection = connection;
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        OutputStream out;
-        try {
-            if (connection.isCompressed() && (packet.data() != null)) {
-                out = new GZIPOutputStream(bos);
-                zipped = true;
-            } else {
-                out = bos;
-            }
-            connection.marshaller.marshall(packet, out);
-            out.close();
-            data = bos.toByteArray();
-            connection.addBytesSent(data.length);
-        } catch (Exception ex) {
-            logger.error("", ex);
+    public SendPacket(Packet packet, AbstractConnection connection) throws Exception {
+        this(new SharedPacket(packet), connection);
+    }
+
+    /**
+     * Marshals and compresses the packet for the given connection.
+     *
+     * @throws Exception when marshalling or compressing fails; the packet must then not be sent
+     */
+    public SendPacket(SharedPacket sharedPacket, AbstractConnection connection) throws Exception {
+        command = sharedPacket.getPacket().command();
+        marshallingType = connection.getMarshallingType();
+        byte[] marshalledData = sharedPacket.getMarshalledData(marshallingType, connection.marshaller);
+        // Small packets hardly compress and are sent as they are
+        if (connection.isCompressed() && (marshalledData.length >= AbstractConnection.COMPRESSION_THRESHOLD)) {
+            compression = connection.isStreamCompression() ? COMPRESSION_STREAM : COMPRESSION_GZIP;
+            data = connection.compress(marshalledData, compression);
+        } else {
+            compression = COMPRESSION_NONE;
+            data = marshalledData;
         }
+        connection.addBytesSent(data.length, marshalledData.length);
     }
 
     @Override
     public int marshallingType() {
-        return connection.getMarshallingType();
+        return marshallingType;
     }
 
     @Override
@@ -81,8 +77,8 @@ public class SendPacket implements INetworkPacket {
     }
 
     @Override
-    public boolean isCompressed() {
-        return zipped;
+    public int compression() {
+        return compression;
     }
 
     public PacketCommand getCommand() {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.packets.Packet;
+
+/**
+ * A packet that is sent to several connections, such as a broadcast. It is marshalled only once for each marshalling
+ * type in use and the bytes are reused for every connection; compression is still done per connection as it may
+ * depend on the connection's state.
+ */
+public class SharedPacket {
+
+    private final Packet packet;
+    private final Map<Integer, byte[]> marshalledData = new HashMap<>();
+
+    /**
+     * @param packet the packet to send
+     */
+    public SharedPacket(Packet packet) {
+        this.packet = packet;
+    }
+
+    /** @return The packet to send. */
+    public Packet getPacket() {
+        return packet;
+    }
+
+    /**
+     * Returns the marshalled packet, marshalling it on the first call for the given marshalling type.
+     *
+     * @param marshallingType the marshalling type of the connection
+     * @param marshaller      the marshaller for that type
+     *
+     * @return the marshalled packet; must not be modified
+     */
+    synchronized byte[] getMarshalledData(int marshallingType, PacketMarshaller marshaller) throws Exception {
+        byte[] data = marshalledData.get(marshallingType);
+        if (data == null) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            marshaller.marshall(packet, bos);
+            data = bos.toByteArray();
+            marshalledData.put(marshallingType, data);
+        }
+        return data;
+    }
+}
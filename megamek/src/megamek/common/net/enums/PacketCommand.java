@@ -248,7 +248,19 @@ public enum PacketCommand {
      * A Server to Client packet carrying the current state of all player-controlled industrial elevators
      * (platform levels, call queues) so clients can render platforms and validate elevator moves.
      */
-    UPDATE_INDUSTRIAL_ELEVATORS;
+    UPDATE_INDUSTRIAL_ELEVATORS,
+
+    /**
+     * A Server to Client packet updating a unit like {@link #ENTITY_UPDATE}, but carrying a binary delta of the
+     * serialized unit against the last version sent to that Client in this way, along with a checksum of the result.
+     */
+    ENTITY_UPDATE_DELTA,
+
+    /**
+     * A Client to Server packet requesting that the next {@link #ENTITY_UPDATE_DELTA} for a unit be sent in full
+     * because the Client could not apply a delta to its copy.
+     */
+    ENTITY_UPDATE_RESYNC;
     //endregion Enum Declarations
 
     //region Boolean Comparison Methods
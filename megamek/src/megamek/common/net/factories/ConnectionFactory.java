@@ -37,6 +37,7 @@ package megamek.common.net.factories;
 import java.net.Socket;
 
 import megamek.common.net.connections.AbstractConnection;
+import megamek.common.net.connections.ChannelConnection;
 import megamek.common.net.connections.DataStreamConnection;
 
 /**
@@ -72,7 +73,8 @@ public class ConnectionFactory {
     }
 
     /**
-     * Creates new Server connection
+     * Creates new Server connection. Sockets accepted from a {@link java.nio.channels.ServerSocketChannel} get a
+     * {@link ChannelConnection}, all others a {@link DataStreamConnection}.
      *
      * @param socket socket to read/write
      * @param id     connection ID
@@ -80,6 +82,9 @@ public class ConnectionFactory {
      * @return new Server connection
      */
     public AbstractConnection createServerConnection(Socket socket, int id) {
+        if (socket.getChannel() != null) {
+            return new ChannelConnection(socket.getChannel(), id);
+        }
         return new DataStreamConnection(socket, id);
     }
 }
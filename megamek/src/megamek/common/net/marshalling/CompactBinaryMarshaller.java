@@ -0,0 +1,545 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.annotations.Nullable;
+import megamek.common.board.BoardLocation;
+import megamek.common.board.Coords;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+
+/**
+ * Marshaller that writes a compact, tagged binary representation of the <code>Packet</code>. The packet command,
+ * primitives, strings, the common collection types and the hottest board types ({@link Coords},
+ * {@link BoardLocation}, {@link Hex}) are hand-encoded using variable length integers. Any other payload object (such
+ * as entities, turns or reports) is written to a single Java serialization section that is shared by the whole packet,
+ * so that class descriptors and shared references are only written once per packet instead of once per object. Hexes
+ * that are reached through such objects (e.g. the hexes of a Board) are still written in their compact form.
+ * <p>
+ * Wire layout: command ordinal (varint), length of the serialized section (varint) followed by that section, and then
+ * the tagged payload values.
+ * <p>
+ * As packets come from the network, every length read is checked against the bytes left in the packet before anything
+ * is allocated, and values can only be nested {@link #MAX_NESTING_DEPTH} deep, so a malformed packet fails with an
+ * IOException instead of exhausting memory or the stack.
+ */
+class CompactBinaryMarshaller extends PacketMarshaller {
+    protected static final PacketCommand[] PACKET_COMMANDS = PacketCommand.values();
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_STRING = 6;
+    private static final int TAG_COORDS = 7;
+    private static final int TAG_BOARD_LOCATION = 8;
+    private static final int TAG_HEX = 9;
+    private static final int TAG_INT_ARRAY = 10;
+    private static final int TAG_ARRAY_LIST = 11;
+    private static final int TAG_VECTOR = 12;
+    private static final int TAG_HASH_SET = 13;
+    private static final int TAG_HASH_MAP = 14;
+    private static final int TAG_PACKET = 15;
+    private static final int TAG_SERIALIZED = 16;
+    private static final int TAG_BYTE_ARRAY = 17;
+
+    /** The deepest nesting of collections, maps and packets that is read; far more than any real packet uses */
+    static final int MAX_NESTING_DEPTH = 32;
+
+    @Override
+    public void marshall(final Packet packet, final OutputStream stream) throws Exception {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        Encoder encoder = new Encoder(new DataOutputStream(payloadBytes));
+        encoder.writePacketBody(packet);
+        byte[] serialized = encoder.finishSerializedSection();
+
+        DataOutputStream out = new DataOutputStream(stream);
+        writeVarInt(out, packet.command().ordinal());
+        writeVarInt(out, serialized.length);
+        out.write(serialized);
+        payloadBytes.writeTo(out);
+        out.flush();
+    }
+
+    @Override
+    public Packet unmarshall(final InputStream stream) throws Exception {
+        // The lengths are checked against the bytes left, which only a byte array stream knows exactly
+        InputStream frame = (stream instanceof ByteArrayInputStream) ? stream
+              : new ByteArrayInputStream(stream.readAllBytes());
+        DataInputStream in = new DataInputStream(frame);
+        int command = readVarInt(in);
+        byte[] serialized = new byte[readLength(in)];
+        in.readFully(serialized);
+        return new Decoder(in, serialized).readPacketBody(command);
+    }
+
+    /**
+     * Writes the tagged payload values. Objects without a compact encoding are handed to a lazily created object
+     * stream whose bytes form the serialized section of the packet.
+     */
+    private static class Encoder {
+        private final DataOutputStream out;
+        private ByteArrayOutputStream serializedBytes;
+        private HexReplacingObjectOutputStream objectStream;
+
+        Encoder(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writePacketBody(Packet packet) throws IOException {
+            Object[] data = packet.data();
+            if (data == null) {
+                writeVarInt(out, -1);
+                return;
+            }
+            writeVarInt(out, data.length);
+            for (Object value : data) {
+                writeValue(value);
+            }
+        }
+
+        void writeValue(@Nullable Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer integer) {
+                out.writeByte(TAG_INT);
+                writeVarInt(out, integer);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TAG_LONG);
+                writeVarLong(out, longValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof String string) {
+                out.writeByte(TAG_STRING);
+                writeString(out, string);
+            } else if (value.getClass() == Coords.class) {
+                out.writeByte(TAG_COORDS);
+                writeCoords(out, (Coords) value);
+            } else if (value instanceof BoardLocation boardLocation) {
+                out.writeByte(TAG_BOARD_LOCATION);
+                writeBoardLocation(out, boardLocation);
+            } else if (value.getClass() == Hex.class) {
+                out.writeByte(TAG_HEX);
+                writeHex(out, (Hex) value);
+            } else if (value instanceof byte[] bytes) {
+                out.writeByte(TAG_BYTE_ARRAY);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            } else if (value instanceof int[] ints) {
+                out.writeByte(TAG_INT_ARRAY);
+                writeVarInt(out, ints.length);
+                for (int i : ints) {
+                    writeVarInt(out, i);
+                }
+            } else if (value.getClass() == ArrayList.class) {
+                out.writeByte(TAG_ARRAY_LIST);
+                writeCollection((Collection<?>) value);
+            } else if (value.getClass() == Vector.class) {
+                out.writeByte(TAG_VECTOR);
+                writeCollection((Collection<?>) value);
+            } else if (value.getClass() == HashSet.class) {
+                out.writeByte(TAG_HASH_SET);
+                writeCollection((Collection<?>) value);
+            } else if (value.getClass() == HashMap.class) {
+                out.writeByte(TAG_HASH_MAP);
+                Map<?, ?> map = (Map<?, ?>) value;
+                writeVarInt(out, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            } else if (value instanceof Packet packet) {
+                out.writeByte(TAG_PACKET);
+                writeVarInt(out, packet.command().ordinal());
+                writePacketBody(packet);
+            } else {
+                out.writeByte(TAG_SERIALIZED);
+                objectStream().writeObject(value);
+            }
+        }
+
+        private void writeCollection(Collection<?> collection) throws IOException {
+            writeVarInt(out, collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+
+        private ObjectOutputStream objectStream() throws IOException {
+            if (objectStream == null) {
+                serializedBytes = new ByteArrayOutputStream();
+                objectStream = new HexReplacingObjectOutputStream(serializedBytes);
+            }
+            return objectStream;
+        }
+
+        byte[] finishSerializedSection() throws IOException {
+            if (objectStream == null) {
+                return new byte[0];
+            }
+            objectStream.close();
+            return serializedBytes.toByteArray();
+        }
+    }
+
+    /**
+     * Reads the tagged payload values written by {@link Encoder}.
+     */
+    private static class Decoder {
+        private final DataInputStream in;
+        private final byte[] serialized;
+        private ObjectInputStream objectStream;
+        private int depth;
+
+        Decoder(DataInputStream in, byte[] serialized) {
+            this.in = in;
+            this.serialized = serialized;
+        }
+
+        Packet readPacketBody(int command) throws Exception {
+            if ((command < 0) || (command >= PACKET_COMMANDS.length)) {
+                throw new InvalidPacketCommandReceivedException(command);
+            }
+            int length = readVarInt(in);
+            if (length == -1) {
+                return new Packet(PACKET_COMMANDS[command], (Object[]) null);
+            }
+            checkLength(in, length);
+            Object[] data = new Object[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = readValue();
+            }
+            return new Packet(PACKET_COMMANDS[command], data);
+        }
+
+        @Nullable Object readValue() throws Exception {
+            if (++depth > MAX_NESTING_DEPTH) {
+                throw new IOException("Compact values are nested deeper than " + MAX_NESTING_DEPTH);
+            }
+            try {
+                return readTaggedValue();
+            } finally {
+                depth--;
+            }
+        }
+
+        private @Nullable Object readTaggedValue() throws Exception {
+            int tag = in.readUnsignedByte();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_INT -> readVarInt(in);
+                case TAG_LONG -> readVarLong(in);
+                case TAG_DOUBLE -> in.readDouble();
+                case TAG_STRING -> readString(in);
+                case TAG_COORDS -> readCoords(in);
+                case TAG_BOARD_LOCATION -> readBoardLocation(in);
+                case TAG_HEX -> readHex(in);
+                case TAG_BYTE_ARRAY -> {
+                    byte[] bytes = new byte[readLength(in)];
+                    in.readFully(bytes);
+                    yield bytes;
+                }
+                case TAG_INT_ARRAY -> {
+                    int[] ints = new int[readLength(in)];
+                    for (int i = 0; i < ints.length; i++) {
+                        ints[i] = readVarInt(in);
+                    }
+                    yield ints;
+                }
+                case TAG_ARRAY_LIST -> readCollection(new ArrayList<>());
+                case TAG_VECTOR -> readCollection(new Vector<>());
+                case TAG_HASH_SET -> readCollection(new HashSet<>());
+                case TAG_HASH_MAP -> {
+                    int size = readLength(in);
+                    Map<Object, Object> map = new HashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        Object key = readValue();
+                        map.put(key, readValue());
+                    }
+                    yield map;
+                }
+                case TAG_PACKET -> readPacketBody(readVarInt(in));
+                case TAG_SERIALIZED -> objectStream().readObject();
+                default -> throw new IOException("Unknown compact value tag " + tag);
+            };
+        }
+
+        private Collection<Object> readCollection(Collection<Object> collection) throws Exception {
+            int size = readLength(in);
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue());
+            }
+            return collection;
+        }
+
+        private ObjectInputStream objectStream() throws IOException {
+            if (objectStream == null) {
+                objectStream = new HexResolvingObjectInputStream(new ByteArrayInputStream(serialized));
+                objectStream.setObjectInputFilter(SANITY_INPUT_FILTER);
+            }
+            return objectStream;
+        }
+    }
+
+    /**
+     * Object stream that substitutes every {@link Hex} with its compact {@link HexForm}. The substitution is cached so
+     * that a hex referenced more than once is still written only once.
+     */
+    private static class HexReplacingObjectOutputStream extends ObjectOutputStream {
+        private final Map<Hex, HexForm> replacements = new IdentityHashMap<>();
+
+        HexReplacingObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object object) throws IOException {
+            if ((object != null) && (object.getClass() == Hex.class)) {
+                Hex hex = (Hex) object;
+                HexForm form = replacements.get(hex);
+                if (form == null) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    writeHex(new DataOutputStream(bytes), hex);
+                    form = new HexForm(bytes.toByteArray());
+                    replacements.put(hex, form);
+                }
+                return form;
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Object stream that turns the {@link HexForm}s written by {@link HexReplacingObjectOutputStream} back into hexes.
+     */
+    private static class HexResolvingObjectInputStream extends ObjectInputStream {
+        HexResolvingObjectInputStream(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object object) throws IOException {
+            if (object instanceof HexForm form) {
+                return readHex(new DataInputStream(new ByteArrayInputStream(form.data())));
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Serializable stand-in for a {@link Hex} inside the serialized section of a packet.
+     */
+    record HexForm(byte[] data) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    static void writeHex(DataOutputStream out, Hex hex) throws IOException {
+        writeVarInt(out, hex.getLevel());
+        writeNullableString(out, hex.getTheme());
+        writeNullableString(out, hex.getOriginalTheme());
+        writeVarInt(out, hex.getFireTurn());
+        Coords coords = hex.getCoords();
+        out.writeBoolean(coords != null);
+        if (coords != null) {
+            writeCoords(out, coords);
+        }
+        int[] terrainTypes = hex.getTerrainTypes();
+        writeVarInt(out, terrainTypes.length);
+        for (int type : terrainTypes) {
+            Terrain terrain = hex.getTerrain(type);
+            writeVarInt(out, type);
+            writeVarInt(out, terrain.getLevel());
+            out.writeBoolean(terrain.hasExitsSpecified());
+            writeVarInt(out, terrain.getExits());
+            writeVarInt(out, terrain.getTerrainFactor());
+        }
+    }
+
+    static Hex readHex(DataInputStream in) throws IOException {
+        int level = readVarInt(in);
+        String theme = readNullableString(in);
+        String originalTheme = readNullableString(in);
+        int fireTurn = readVarInt(in);
+        Coords coords = in.readBoolean() ? readCoords(in) : null;
+        Hex hex = new Hex(level, new Terrain[0], originalTheme, coords);
+        hex.setTheme(theme);
+        hex.setFireTurn(fireTurn);
+        int terrainCount = readLength(in);
+        for (int i = 0; i < terrainCount; i++) {
+            int type = readVarInt(in);
+            if ((type < 0) || (type >= Terrains.SIZE)) {
+                throw new IOException("Invalid terrain type " + type);
+            }
+            int terrainLevel = readVarInt(in);
+            boolean exitsSpecified = in.readBoolean();
+            int exits = readVarInt(in);
+            Terrain terrain = new Terrain(type, terrainLevel, exitsSpecified, exits);
+            terrain.setTerrainFactor(readVarInt(in));
+            hex.addTerrain(terrain);
+        }
+        return hex;
+    }
+
+    static void writeCoords(DataOutputStream out, Coords coords) throws IOException {
+        writeVarInt(out, coords.getX());
+        writeVarInt(out, coords.getY());
+    }
+
+    static Coords readCoords(DataInputStream in) throws IOException {
+        int x = readVarInt(in);
+        return Coords.of(x, readVarInt(in));
+    }
+
+    static void writeBoardLocation(DataOutputStream out, BoardLocation boardLocation) throws IOException {
+        out.writeBoolean(boardLocation.isNoLocation());
+        if (!boardLocation.isNoLocation()) {
+            writeCoords(out, boardLocation.coords());
+            writeVarInt(out, boardLocation.boardId());
+        }
+    }
+
+    static BoardLocation readBoardLocation(DataInputStream in) throws IOException {
+        if (in.readBoolean()) {
+            return BoardLocation.NO_LOCATION;
+        }
+        Coords coords = readCoords(in);
+        return BoardLocation.of(coords, readVarInt(in));
+    }
+
+    static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(DataOutputStream out, @Nullable String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            writeString(out, string);
+        }
+    }
+
+    private static @Nullable String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    /**
+     * Reads the length of an array, string or collection and checks it. Every element takes at least one byte, so a
+     * length can never be larger than the number of bytes left. The stream must be backed by a byte array, so that
+     * {@link InputStream#available()} is the exact number of bytes left.
+     *
+     * @throws IOException when the length is negative or larger than the bytes left
+     */
+    static int readLength(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        checkLength(in, length);
+        return length;
+    }
+
+    private static void checkLength(DataInputStream in, int length) throws IOException {
+        if ((length < 0) || (length > in.available())) {
+            throw new IOException("Invalid length " + length + " with " + in.available() + " bytes left");
+        }
+    }
+
+    /** Writes a zigzag encoded variable length int; small values of either sign take a single byte. */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new EOFException("Malformed variable length number");
+    }
+}
@@ -39,6 +39,7 @@ import megamek.common.annotations.Nullable;
 public class PacketMarshallerFactory {
     private static final PacketMarshallerFactory instance = new PacketMarshallerFactory();
     private NativeSerializationMarshaller nativeSerializationMarshaller;
+    private CompactBinaryMarshaller compactBinaryMarshaller;
 
     private PacketMarshallerFactory() {
 
@@ -54,7 +55,20 @@ public class PacketMarshallerFactory {
                 nativeSerializationMarshaller = new NativeSerializationMarshaller();
             }
             return nativeSerializationMarshaller;
+        } else if (marshallingType == PacketMarshaller.COMPACT_BINARY_MARSHALING) {
+            if (compactBinaryMarshaller == null) {
+                compactBinaryMarshaller = new CompactBinaryMarshaller();
+            }
+            return compactBinaryMarshaller;
         }
         return null;
     }
+
+    /**
+     * @return The marshalling type a client asks the server to use for its connection during the version check. The
+     *       server falls back to Java native serialization when it does not know the requested type.
+     */
+    public int getPreferredMarshallingType() {
+        return PacketMarshaller.COMPACT_BINARY_MARSHALING;
+    }
 }
@@ -34,9 +34,12 @@
 package megamek.common.options;
 
 import java.io.File;
+import java.io.Serial;
 import java.util.Vector;
 
 public abstract class BasicGameOptions extends AbstractOptions {
+    @Serial
+    private static final long serialVersionUID = 4724325999407002910L;
 
     @Override
     public synchronized void initialize() {
@@ -34,9 +34,12 @@
 package megamek.common.options;
 
 import java.io.File;
+import java.io.Serial;
 import java.util.Vector;
 
 public class SBFRuleOptions extends BasicGameOptions {
+    @Serial
+    private static final long serialVersionUID = -333304242974149731L;
 
     /** Detection and recon rules aka "double-blind", IO BF p.195 */
     public static final String BASE_RECON = "base_recon";
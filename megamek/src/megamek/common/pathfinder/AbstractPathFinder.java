@@ -204,6 +204,34 @@ public class AbstractPathFinder<N, C, E> {
         run(Collections.singleton(start));
     }
 
+    /**
+     * @return the edge relaxer used by this AbstractPathFinder
+     */
+    protected EdgeRelaxer<C, E> getEdgeRelaxer() {
+        return edgeRelaxer;
+    }
+
+    /**
+     * @return the adjacency map used by this AbstractPathFinder
+     */
+    protected AdjacencyMap<E> getEdgeAdjacencyMap() {
+        return adjacencyMap;
+    }
+
+    /**
+     * @return the edge filters of this AbstractPathFinder. The returned list should not be modified.
+     */
+    protected List<Filter<E>> getFilters() {
+        return filters;
+    }
+
+    /**
+     * @return true if any of the stop conditions of this AbstractPathFinder is met for the given edge
+     */
+    protected boolean shouldStop(E edge) {
+        return stopCondition.shouldStop(edge);
+    }
+
     /**
      * @return edge comparator used by this AbstractPathFinder
      */
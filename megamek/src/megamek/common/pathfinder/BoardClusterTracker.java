@@ -270,7 +270,7 @@ public class BoardClusterTracker {
 
         for (int x = 0; x < board.getWidth(); x++) {
             for (int y = 0; y < board.getHeight(); y++) {
-                Coords c = new Coords(x, y);
+                Coords c = Coords.of(x, y);
 
                 // hex is either inaccessible
                 // or it is inaccessible AND we can't level it, then we move on
@@ -474,7 +474,7 @@ public class BoardClusterTracker {
 
             for (int x = xStart; x < xEnd; x++) {
                 for (int y = yStart; y < yEnd; y++) {
-                    Coords coords = new Coords(x, y);
+                    Coords coords = Coords.of(x, y);
                     if (contents.containsKey(coords)) {
                         retVal.add(coords);
                     }
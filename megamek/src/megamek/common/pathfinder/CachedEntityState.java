@@ -33,10 +33,11 @@
 
 package megamek.common.pathfinder;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.common.MPCalculationSetting;
+import megamek.common.board.TerrainCostProfile;
 import megamek.common.equipment.EquipmentFlag;
 import megamek.common.equipment.MiscType;
 import megamek.common.units.Entity;
@@ -64,10 +65,11 @@ public class CachedEntityState {
     private Integer torsoJumpJets;
     private Integer jumpMPNoGravity;
     private Integer numBreachedLegs;
+    private TerrainCostProfile terrainCostProfile;
 
     public CachedEntityState(Entity entity) {
         backingEntity = entity;
-        hasWorkingMisc = new HashMap<>();
+        hasWorkingMisc = new ConcurrentHashMap<>();
     }
 
     public int getWalkMP() {
@@ -143,11 +145,7 @@ public class CachedEntityState {
     }
 
     public boolean hasWorkingMisc(EquipmentFlag flag) {
-        if (!hasWorkingMisc.containsKey(flag)) {
-            hasWorkingMisc.put(flag, backingEntity.hasWorkingMisc(flag));
-        }
-
-        return hasWorkingMisc.get(flag);
+        return hasWorkingMisc.computeIfAbsent(flag, backingEntity::hasWorkingMisc);
     }
 
     public int getTorsoJumpJets() {
@@ -210,4 +208,12 @@ public class CachedEntityState {
 
         return numBreachedLegs;
     }
+
+    public TerrainCostProfile getTerrainCostProfile() {
+        if (terrainCostProfile == null) {
+            terrainCostProfile = TerrainCostProfile.of(backingEntity);
+        }
+
+        return terrainCostProfile;
+    }
 }
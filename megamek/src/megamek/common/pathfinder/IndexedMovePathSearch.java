@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.Facing;
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import megamek.common.moves.MoveStep;
+import megamek.common.pathfinder.comparators.MovePathPriorityComparator;
+import megamek.common.pathfinder.filters.Filter;
+import megamek.logging.MMLogger;
+
+/**
+ * Search core for a {@link MovePathFinder} that replaces the generic loop of {@link AbstractPathFinder#run(Collection)}
+ * when the finder's comparator is a {@link MovePathPriorityComparator}. It performs the same steps in the same order,
+ * but:
+ * <ul>
+ * <li>the priority key of each path is computed once when it is queued, instead of evaluating the comparator in each
+ * heap comparison;</li>
+ * <li>the candidate queue is a binary heap over parallel arrays. It uses the sift operations of
+ * {@link java.util.PriorityQueue}, so equal paths are taken in the same order as by the generic search;</li>
+ * <li>nodes (final position and facing, as in {@link MovePathDestinationMap}) are indexed by an open addressing table
+ * of ints, and {@link CoordsWithFacing} objects are only created for reached nodes;</li>
+ * <li>filters are tested path by path without building intermediate collections.</li>
+ * </ul>
+ * The MovePaths themselves are still created for every expansion, as the movement rules (MP cost, legality) are
+ * evaluated by their MoveSteps. When the search ends, the reached nodes are copied to the finder's cost map in the order
+ * they were first reached, so that the map is identical to the one of the generic search.
+ *
+ * @param <C> the type of computed lowest cost for a node
+ */
+class IndexedMovePathSearch<C> {
+    private static final MMLogger logger = MMLogger.create(IndexedMovePathSearch.class);
+
+    private static final int KEY_LENGTH = MovePathPriorityComparator.KEY_LENGTH;
+    private static final int INITIAL_CAPACITY = 128;
+
+    /**
+     * Tells for each filter class whether it can be tested path by path, resolved once per class. Filters that replace
+     * doFilter may look at the whole collection and cannot be tested path by path.
+     */
+    private static final ClassValue<Boolean> PATH_BY_PATH_FILTERS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> filterClass) {
+            try {
+                return filterClass.getMethod("doFilter", Collection.class).getDeclaringClass() == Filter.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
+    private final MovePathFinder<C> pathFinder;
+
+    // Candidate heap: the path and its priority key per entry
+    private MovePath[] heapPaths = new MovePath[INITIAL_CAPACITY];
+    private int[] heapKeys = new int[INITIAL_CAPACITY * KEY_LENGTH];
+    private int heapSize;
+
+    // Reached nodes ("slots") in the order they were first reached
+    private int[] slotX = new int[INITIAL_CAPACITY];
+    private int[] slotY = new int[INITIAL_CAPACITY];
+    private int[] slotFacing = new int[INITIAL_CAPACITY];
+    private Object[] slotCosts = new Object[INITIAL_CAPACITY];
+    private MovePath[] slotBestPaths = new MovePath[INITIAL_CAPACITY];
+    private int[] slotKeys = new int[INITIAL_CAPACITY * KEY_LENGTH];
+    private int slotCount;
+
+    // Slots in the order their first cost was stored, which is the insertion order of the generic cost map
+    private int[] costOrder = new int[INITIAL_CAPACITY];
+    private int costCount;
+
+    // Open addressing node table; holds slot index + 1, 0 marks an empty entry
+    private int[] nodeTable = new int[INITIAL_CAPACITY * 2];
+
+    private final int[] scratchKey = new int[KEY_LENGTH];
+    private final int[] poppedKey = new int[KEY_LENGTH];
+    private final int[] slotKey = new int[KEY_LENGTH];
+    private MovePath poppedPath;
+    private MovePath poppedSlotBest;
+    private MovePathPriorityComparator comparator;
+
+    /**
+     * Passed to the edge relaxer. Comparing the popped path to the best path of its node uses the stored keys; any
+     * other comparison is left to the finder's comparator.
+     */
+    private final Comparator<MovePath> relaxComparator = (first, second) -> {
+        if ((first == poppedPath) && (second == poppedSlotBest) && (second != null)) {
+            return MovePathPriorityComparator.compareKeys(poppedKey, slotKey);
+        }
+        return comparator.compare(first, second);
+    };
+
+    IndexedMovePathSearch(MovePathFinder<C> pathFinder) {
+        this.pathFinder = pathFinder;
+    }
+
+    /**
+     * @return true if this search can replace the generic search of the given finder in its current configuration
+     */
+    static boolean isApplicable(AbstractPathFinder<?, ?, MovePath> pathFinder) {
+        if (!(pathFinder.getComparator() instanceof MovePathPriorityComparator priorityComparator)
+              || !priorityComparator.hasPriorityKey()) {
+            return false;
+        }
+        for (Filter<MovePath> filter : pathFinder.getFilters()) {
+            if (!PATH_BY_PATH_FILTERS.get(filter.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the shortest paths like {@link AbstractPathFinder#run(Collection)}.
+     *
+     * @param startingEdges a collection of possible starting edges.
+     */
+    void run(Collection<MovePath> startingEdges) {
+        comparator = (MovePathPriorityComparator) pathFinder.getComparator();
+        EdgeRelaxer<C, MovePath> edgeRelaxer = pathFinder.getEdgeRelaxer();
+        AdjacencyMap<MovePath> adjacencyMap = pathFinder.getEdgeAdjacencyMap();
+        List<Filter<MovePath>> filters = pathFinder.getFilters();
+        try {
+            if (heapSize > 0) {
+                clear();
+            }
+            for (MovePath edge : startingEdges) {
+                offer(edge);
+            }
+            while (heapSize > 0) {
+                MovePath edge = poll();
+                int slot = findOrAddSlot(edge);
+                poppedPath = edge;
+                poppedSlotBest = slotBestPaths[slot];
+                System.arraycopy(slotKeys, slot * KEY_LENGTH, slotKey, 0, KEY_LENGTH);
+                @SuppressWarnings("unchecked")
+                C cost = (C) slotCosts[slot];
+                C newCost = edgeRelaxer.doRelax(cost, edge, relaxComparator);
+                if (newCost != null) {
+                    if (cost == null) {
+                        costOrder[costCount++] = slot;
+                    }
+                    slotCosts[slot] = newCost;
+                    if (newCost == edge) {
+                        slotBestPaths[slot] = edge;
+                        System.arraycopy(poppedKey, 0, slotKeys, slot * KEY_LENGTH, KEY_LENGTH);
+                    } else {
+                        slotBestPaths[slot] = null;
+                    }
+                    for (MovePath neighbour : adjacencyMap.getAdjacent(edge)) {
+                        if (passesFilters(filters, neighbour)) {
+                            offer(neighbour);
+                        }
+                    }
+                }
+
+                if (pathFinder.shouldStop(edge)) {
+                    break;
+                }
+            }
+        } catch (OutOfMemoryError ex) {
+            logger.error(
+                  "Not enough memory to analyse all options. Try setting time limit to lower value, or increase java memory limit.",
+                  ex);
+        } catch (IllegalArgumentException ex) {
+            logger.debug("Lost sight of a unit while plotting predicted paths", ex);
+        } catch (Exception ex) {
+            logger.error("", ex);
+        } finally {
+            poppedPath = null;
+            poppedSlotBest = null;
+            publishCosts();
+        }
+    }
+
+    private static boolean passesFilters(List<Filter<MovePath>> filters, MovePath path) {
+        for (Filter<MovePath> filter : filters) {
+            if (!filter.shouldStay(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the node costs to the finder's cost map in the order they were first stored.
+     */
+    private void publishCosts() {
+        Map<CoordsWithFacing, C> pathCosts = pathFinder.getPathCostMap();
+        pathCosts.clear();
+        for (int i = 0; i < costCount; i++) {
+            int slot = costOrder[i];
+            @SuppressWarnings("unchecked")
+            C cost = (C) slotCosts[slot];
+            pathCosts.put(new CoordsWithFacing(new Coords(slotX[slot], slotY[slot]), slotFacing[slot]), cost);
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(heapPaths, 0, heapSize, null);
+        heapSize = 0;
+        Arrays.fill(slotCosts, 0, slotCount, null);
+        Arrays.fill(slotBestPaths, 0, slotCount, null);
+        slotCount = 0;
+        costCount = 0;
+        Arrays.fill(nodeTable, 0);
+    }
+
+    // region Node table
+
+    private int findOrAddSlot(MovePath path) {
+        MoveStep lastStep = path.getLastStep();
+        int x = path.getFinalCoords().getX();
+        int y = path.getFinalCoords().getY();
+        int facing = path.getFinalFacing();
+        if ((lastStep != null) && lastStep.isThisStepBackwards()) {
+            facing = Facing.valueOfInt(facing).getOpposite().getIntValue();
+        }
+
+        int mask = nodeTable.length - 1;
+        int index = hash(x, y, facing) & mask;
+        while (nodeTable[index] != 0) {
+            int slot = nodeTable[index] - 1;
+            if ((slotX[slot] == x) && (slotY[slot] == y) && (slotFacing[slot] == facing)) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+
+        int slot = slotCount++;
+        if (slot == slotX.length) {
+            growSlots();
+        }
+        slotX[slot] = x;
+        slotY[slot] = y;
+        slotFacing[slot] = facing;
+        nodeTable[index] = slot + 1;
+        if (slotCount * 2 > nodeTable.length) {
+            rehash();
+        }
+        return slot;
+    }
+
+    private static int hash(int x, int y, int facing) {
+        int hash = ((x * 31 + y) * 8 + facing) * 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+
+    private void growSlots() {
+        int capacity = slotX.length * 2;
+        slotX = Arrays.copyOf(slotX, capacity);
+        slotY = Arrays.copyOf(slotY, capacity);
+        slotFacing = Arrays.copyOf(slotFacing, capacity);
+        slotCosts = Arrays.copyOf(slotCosts, capacity);
+        slotBestPaths = Arrays.copyOf(slotBestPaths, capacity);
+        slotKeys = Arrays.copyOf(slotKeys, capacity * KEY_LENGTH);
+        costOrder = Arrays.copyOf(costOrder, capacity);
+    }
+
+    private void rehash() {
+        nodeTable = new int[nodeTable.length * 2];
+        int mask = nodeTable.length - 1;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int index = hash(slotX[slot], slotY[slot], slotFacing[slot]) & mask;
+            while (nodeTable[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            nodeTable[index] = slot + 1;
+        }
+    }
+
+    // endregion Node table
+
+    // region Heap; siftUp and siftDown follow java.util.PriorityQueue so that equal keys come out in the same order
+
+    private void offer(MovePath path) {
+        comparator.computePriorityKey(path, scratchKey);
+        if (heapSize == heapPaths.length) {
+            heapPaths = Arrays.copyOf(heapPaths, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2 * KEY_LENGTH);
+        }
+        int k = heapSize++;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (compareToEntry(scratchKey, parent) >= 0) {
+                break;
+            }
+            moveEntry(parent, k);
+            k = parent;
+        }
+        heapPaths[k] = path;
+        System.arraycopy(scratchKey, 0, heapKeys, k * KEY_LENGTH, KEY_LENGTH);
+    }
+
+    /**
+     * Removes the best path from the heap and leaves its key in {@link #poppedKey}.
+     */
+    private MovePath poll() {
+        MovePath result = heapPaths[0];
+        System.arraycopy(heapKeys, 0, poppedKey, 0, KEY_LENGTH);
+        int n = --heapSize;
+        MovePath last = heapPaths[n];
+        System.arraycopy(heapKeys, n * KEY_LENGTH, scratchKey, 0, KEY_LENGTH);
+        heapPaths[n] = null;
+        if (n > 0) {
+            int k = 0;
+            int half = n >>> 1;
+            while (k < half) {
+                int child = (k << 1) + 1;
+                int right = child + 1;
+                if ((right < n) && (compareEntries(child, right) > 0)) {
+                    child = right;
+                }
+                if (compareToEntry(scratchKey, child) <= 0) {
+                    break;
+                }
+                moveEntry(child, k);
+                k = child;
+            }
+            heapPaths[k] = last;
+            System.arraycopy(scratchKey, 0, heapKeys, k * KEY_LENGTH, KEY_LENGTH);
+        }
+        return result;
+    }
+
+    private void moveEntry(int from, int to) {
+        heapPaths[to] = heapPaths[from];
+        System.arraycopy(heapKeys, from * KEY_LENGTH, heapKeys, to * KEY_LENGTH, KEY_LENGTH);
+    }
+
+    private int compareToEntry(int[] key, int entry) {
+        int offset = entry * KEY_LENGTH;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            if (key[i] != heapKeys[offset + i]) {
+                return Integer.compare(key[i], heapKeys[offset + i]);
+            }
+        }
+        return 0;
+    }
+
+    private int compareEntries(int first, int second) {
+        int firstOffset = first * KEY_LENGTH;
+        int secondOffset = second * KEY_LENGTH;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            if (heapKeys[firstOffset + i] != heapKeys[secondOffset + i]) {
+                return Integer.compare(heapKeys[firstOffset + i], heapKeys[secondOffset + i]);
+            }
+        }
+        return 0;
+    }
+
+    // endregion Heap
+}
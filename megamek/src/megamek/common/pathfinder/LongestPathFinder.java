@@ -130,6 +130,14 @@ public class LongestPathFinder extends MovePathFinder<Deque<MovePath>> {
                 return second.getHexesMoved() - first.getHexesMoved();
             }
         }
+
+        /**
+         * The LongestPathFinder uses the generic search, which does not need a priority key.
+         */
+        @Override
+        public boolean hasPriorityKey() {
+            return false;
+        }
     }
 
     /**
@@ -34,6 +34,7 @@
 package megamek.common.pathfinder;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -59,6 +60,10 @@ public class MovePathFinder<C> extends AbstractPathFinder<CoordsWithFacing, C, M
      */
     static final int MAX_TURN_COUNT = 3;
 
+    private static volatile boolean indexedSearchEnabled = true;
+
+    private IndexedMovePathSearch<C> indexedSearch;
+
     /**
      * Creates a new instance of MovePathFinder. Sets DestinationMap to {@link MovePathDestinationMap} and adds
      * {@link MovePathLegalityFilter}. Rest of the methods needed by AbstractPathFinder have to be passed as a
@@ -72,6 +77,50 @@ public class MovePathFinder<C> extends AbstractPathFinder<CoordsWithFacing, C, M
               comparator);
     }
 
+    /**
+     * Computes shortest paths to nodes in the graph. Uses the {@link IndexedMovePathSearch} when this finder supports
+     * it, the indexed search is enabled and the comparator provides priority keys, and the generic search otherwise. Both
+     * give the same results.
+     *
+     * @param startingEdges a collection of possible starting edges.
+     */
+    @Override
+    public void run(Collection<MovePath> startingEdges) {
+        if (indexedSearchEnabled && supportsIndexedSearch() && IndexedMovePathSearch.isApplicable(this)) {
+            if (indexedSearch == null) {
+                indexedSearch = new IndexedMovePathSearch<>(this);
+            }
+            indexedSearch.run(startingEdges);
+        } else {
+            super.run(startingEdges);
+        }
+    }
+
+    /**
+     * @return true if this finder may use the {@link IndexedMovePathSearch}. Finders with a cost type or relaxer that
+     *       depends on the generic search should return false.
+     */
+    protected boolean supportsIndexedSearch() {
+        return false;
+    }
+
+    /**
+     * Switches the indexed search of the path finders that support it on or off (it is on by default). When off, the
+     * generic search of {@link AbstractPathFinder} is used.
+     *
+     * @param enabled true to use the indexed search
+     */
+    public static void setIndexedSearchEnabled(boolean enabled) {
+        indexedSearchEnabled = enabled;
+    }
+
+    /**
+     * @return true if the path finders that support it use the indexed search
+     */
+    public static boolean isIndexedSearchEnabled() {
+        return indexedSearchEnabled;
+    }
+
     /**
      * Returns a map of all computed shortest paths
      */
@@ -141,6 +141,11 @@ public class ShortestPathFinder extends MovePathFinder<MovePath> {
         return spf;
     }
 
+    @Override
+    protected boolean supportsIndexedSearch() {
+        return true;
+    }
+
     /**
      * Returns the shortest move path to a hex at given coordinates or {@code null} if none is present. If multiple path
      * are present with different final facings, the minimal one is chosen.
@@ -35,7 +35,6 @@ package megamek.common.pathfinder.comparators;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Comparator;
 import java.util.Objects;
 
 import megamek.common.board.Board;
@@ -52,7 +51,7 @@ import megamek.common.units.IAero;
  * <p>
  * This comparator is used by A* algorithm.
  */
-public class MovePathAStarComparator implements Comparator<MovePath>, Serializable {
+public class MovePathAStarComparator implements MovePathPriorityComparator, Serializable {
     @Serial
     private static final long serialVersionUID = -2116704925028576850L;
     Coords destination;
@@ -88,15 +87,8 @@ public class MovePathAStarComparator implements Comparator<MovePath>, Serializab
                 return (first.length() - second.length());
             }
         } else if (first.getEntity().getWalkMP() != 0) {
-            boolean backwards = stepType == MoveStepType.BACKWARDS;
-            h1 = first.getFinalCoords().distance(destination)
-                  + ShortestPathFinder.getFacingDiff(first, destination, backwards)
-                  + ShortestPathFinder.getLevelDiff(first, destination, board, first.isJumping())
-                  + ShortestPathFinder.getElevationDiff(first, destination, board, first.getEntity());
-            h2 = second.getFinalCoords().distance(destination)
-                  + ShortestPathFinder.getFacingDiff(second, destination, backwards)
-                  + ShortestPathFinder.getLevelDiff(second, destination, board, second.isJumping())
-                  + ShortestPathFinder.getElevationDiff(second, destination, board, second.getEntity());
+            h1 = estimateRemainingCost(first);
+            h2 = estimateRemainingCost(second);
         }
 
         int dd = (first.getMpUsed() + h1) - (second.getMpUsed() + h2);
@@ -117,4 +109,29 @@ public class MovePathAStarComparator implements Comparator<MovePath>, Serializab
         // sidestepping into it (issue #8446). Paths still equal after this remain heap-order dependent.
         return first.length() - second.length();
     }
+
+    /**
+     * The priority key is (MP used + estimated remaining cost, hexes moved, number of steps); the estimate is left out
+     * for aerospace units as in {@link #compare(MovePath, MovePath)}.
+     */
+    @Override
+    public void computePriorityKey(MovePath path, int[] key) {
+        int estimate = 0;
+        if (!path.getEntity().isAero() || ((IAero) path.getEntity()).isSpheroid()) {
+            if (path.getEntity().getWalkMP() != 0) {
+                estimate = estimateRemainingCost(path);
+            }
+        }
+        key[0] = path.getMpUsed() + estimate;
+        key[1] = path.getHexesMoved();
+        key[2] = path.length();
+    }
+
+    private int estimateRemainingCost(MovePath path) {
+        boolean backwards = stepType == MoveStepType.BACKWARDS;
+        return path.getFinalCoords().distance(destination)
+              + ShortestPathFinder.getFacingDiff(path, destination, backwards)
+              + ShortestPathFinder.getLevelDiff(path, destination, board, path.isJumping())
+              + ShortestPathFinder.getElevationDiff(path, destination, board, path.getEntity());
+    }
 }
@@ -33,7 +33,6 @@
 
 package megamek.common.pathfinder.comparators;
 
-import java.util.Comparator;
 import java.util.Objects;
 
 import megamek.common.board.Coords;
@@ -43,7 +42,7 @@ import megamek.common.moves.MovePath;
  * Compares MovePaths based on distance from final position to destination. If those distances are equal then spent
  * movement points are compared.
  */
-public record MovePathGreedyComparator(Coords destination) implements Comparator<MovePath> {
+public record MovePathGreedyComparator(Coords destination) implements MovePathPriorityComparator {
     public MovePathGreedyComparator(Coords destination) {
         this.destination = Objects.requireNonNull(destination);
     }
@@ -62,4 +61,11 @@ public record MovePathGreedyComparator(Coords destination) implements Comparator
             return mp1.getMpUsed() - mp2.getMpUsed();
         }
     }
+
+    @Override
+    public void computePriorityKey(MovePath path, int[] key) {
+        key[0] = path.getFinalCoords().distance(destination);
+        key[1] = path.getMpUsed();
+        key[2] = 0;
+    }
 }
@@ -32,8 +32,6 @@
  */
 package megamek.common.pathfinder.comparators;
 
-import java.util.Comparator;
-
 import megamek.common.moves.MovePath;
 
 /**
@@ -43,11 +41,18 @@ import megamek.common.moves.MovePath;
  * <p>
  * Order paths with fewer steps first.
  */
-public class MovePathLengthComparator implements Comparator<MovePath> {
+public class MovePathLengthComparator implements MovePathPriorityComparator {
     @Override
     public int compare(final MovePath first, final MovePath second) {
         final int firstSteps = first.getStepVector().size();
         final int secondSteps = second.getStepVector().size();
         return firstSteps - secondSteps;
     }
+
+    @Override
+    public void computePriorityKey(MovePath path, int[] key) {
+        key[0] = path.getStepVector().size();
+        key[1] = 0;
+        key[2] = 0;
+    }
 }
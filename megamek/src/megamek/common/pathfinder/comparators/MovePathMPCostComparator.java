@@ -32,8 +32,6 @@
  */
 package megamek.common.pathfinder.comparators;
 
-import java.util.Comparator;
-
 import megamek.common.moves.MovePath;
 
 /**
@@ -41,11 +39,18 @@ import megamek.common.moves.MovePath;
  * <p>
  * Order paths with fewer used MP first.
  */
-public class MovePathMPCostComparator implements Comparator<MovePath> {
+public class MovePathMPCostComparator implements MovePathPriorityComparator {
     @Override
     public int compare(final MovePath first, final MovePath second) {
         final int firstDist = first.getMpUsed();
         final int secondDist = second.getMpUsed();
         return firstDist - secondDist;
     }
+
+    @Override
+    public void computePriorityKey(MovePath path, int[] key) {
+        key[0] = path.getMpUsed();
+        key[1] = 0;
+        key[2] = 0;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder.comparators;
+
+import java.util.Comparator;
+
+import megamek.common.moves.MovePath;
+
+/**
+ * A MovePath comparator whose order can be expressed as a lexicographic order of a fixed number of int values per path,
+ * the priority key. This allows a path finder to compute the key once per path instead of re-evaluating the comparator
+ * in every comparison.
+ * <p>
+ * {@link #compare(Object, Object)} must have the sign of the lexicographic comparison of the priority keys of the two
+ * paths. Subclasses that change the order must override {@link #computePriorityKey(MovePath, int[])} accordingly or, if
+ * their order cannot be expressed as a key, return false from {@link #hasPriorityKey()}.
+ */
+public interface MovePathPriorityComparator extends Comparator<MovePath> {
+
+    /** The number of int values in a priority key */
+    int KEY_LENGTH = 3;
+
+    /**
+     * Writes the priority key of the given path to the first {@link #KEY_LENGTH} positions of the given array.
+     *
+     * @param path the path
+     * @param key  the array to write the key to
+     */
+    void computePriorityKey(MovePath path, int[] key);
+
+    /**
+     * @return false if this comparator's order cannot be expressed as a priority key
+     */
+    default boolean hasPriorityKey() {
+        return true;
+    }
+
+    /**
+     * Compares two priority keys lexicographically.
+     *
+     * @return a negative number, zero or a positive number if the first key is less than, equal to or greater than the
+     *       second key
+     */
+    static int compareKeys(int[] first, int[] second) {
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            if (first[i] != second[i]) {
+                return Integer.compare(first[i], second[i]);
+            }
+        }
+        return 0;
+    }
+}
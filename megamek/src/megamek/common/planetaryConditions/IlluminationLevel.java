@@ -33,8 +33,6 @@
 
 package megamek.common.planetaryConditions;
 
-import java.util.Objects;
-
 import megamek.common.board.Coords;
 import megamek.common.game.Game;
 import megamek.common.Hex;
@@ -107,11 +105,12 @@ public enum IlluminationLevel {
         }
 
         // If we are adjacent to a burning hex, we are also illuminated
-        final boolean neighbouringFire = coords.allAdjacent().stream()
-              .map(adjacent -> game.getBoard(boardId).getHex(adjacent))
-              .filter(Objects::nonNull)
-              .anyMatch(adjacent -> adjacent.containsTerrain(Terrains.FIRE));
-
-        return neighbouringFire ? IlluminationLevel.FIRE : IlluminationLevel.NONE;
+        for (int direction = 0; direction < 6; direction++) {
+            final Hex adjacent = game.getBoard(boardId).getHex(coords.translated(direction));
+            if ((adjacent != null) && adjacent.containsTerrain(Terrains.FIRE)) {
+                return IlluminationLevel.FIRE;
+            }
+        }
+        return IlluminationLevel.NONE;
     }
 }
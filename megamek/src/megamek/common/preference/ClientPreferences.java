@@ -79,6 +79,9 @@ public class ClientPreferences extends PreferenceStoreProxy {
     public static final String STAMP_FILENAMES = "StampFilenames";
     public static final String DATA_LOGGING = "GameDatasetLogging";
     public static final String STAMP_FORMAT = "StampFormat";
+    // When true, games are saved in the binary save game format instead of XML; no UI, set by hand in the mmconf
+    // client settings.
+    public static final String BINARY_SAVE_GAMES = "BinarySaveGames";
     public static final String SHOW_UNIT_ID = "ShowUnitId";
     public static final String USE_CASPAR = "UseCASPAR";
     public static final String UNIT_START_CHAR = "UnitStartChar";
@@ -168,6 +171,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setDefault(DATA_LOGGING, true);
         store.setDefault(SHOW_AUTO_RESOLVE_PANEL, false);
         store.setDefault(STAMP_FILENAMES, false);
+        store.setDefault(BINARY_SAVE_GAMES, false);
         store.setDefault(USE_CASPAR, false);
         store.setDefault(FAVORITE_PRINCESS_BEHAVIOR_SETTING, DEFAULT_BEHAVIOR_DESCRIPTION);
         store.setDefault(LAST_SCENARIO, "");
@@ -285,6 +289,10 @@ public class ClientPreferences extends PreferenceStoreProxy {
         return store.getBoolean(STAMP_FILENAMES);
     }
 
+    public boolean binarySaveGames() {
+        return store.getBoolean(BINARY_SAVE_GAMES);
+    }
+
     public String getStampFormat() {
         return store.getString(STAMP_FORMAT);
     }
@@ -389,6 +397,10 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setValue(STAMP_FILENAMES, state);
     }
 
+    public void setBinarySaveGames(boolean state) {
+        store.setValue(BINARY_SAVE_GAMES, state);
+    }
+
     public void setDataLogging(boolean state) {
         store.setValue(DATA_LOGGING, state);
     }
@@ -34,6 +34,7 @@
 
 package megamek.common.rolls;
 
+import java.io.Serial;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Vector;
@@ -49,6 +50,8 @@ import megamek.logging.MMLogger;
  * @since July 21, 2004, 7:43 AM
  */
 public class MMRoll extends Roll {
+    @Serial
+    private static final long serialVersionUID = 2667728463294559258L;
     private static final MMLogger logger = MMLogger.create(MMRoll.class);
 
     /**
@@ -34,6 +34,7 @@
 
 package megamek.common.rolls;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -44,6 +45,8 @@ import java.io.Serializable;
  * @since July 20, 2004, 4:21 PM
  */
 public abstract class Roll implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4024224054567350998L;
 
     /**
      * Make sure that all rolls are uniquely identified.
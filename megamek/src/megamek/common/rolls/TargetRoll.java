@@ -34,6 +34,7 @@
 
 package megamek.common.rolls;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +51,8 @@ import megamek.common.TargetRollModifier;
  * @author Ben
  */
 public class TargetRoll implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -7143404402976957172L;
 
     // The finalizers
 
@@ -29,6 +29,7 @@ package megamek.common.scenario;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serial;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.function.Predicate;
@@ -94,6 +95,8 @@ import megamek.server.totalWarfare.TWGameManager;
  * {@link ScenarioLoader} to a list of data for that constant.
  */
 public class ScenarioV1 extends HashMap<String, Collection<String>> implements Scenario {
+    @Serial
+    private static final long serialVersionUID = 2552141624614706888L;
     private static final MMLogger LOGGER = MMLogger.create(ScenarioV1.class);
 
     private static final String SEPARATOR_PROPERTY = "=";
@@ -40,6 +40,7 @@ import static megamek.common.alphaStrike.BattleForceSUA.FLK;
 import static megamek.common.alphaStrike.BattleForceSUA.MSL;
 import static megamek.common.alphaStrike.BattleForceSUA.SCAP;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,6 +74,8 @@ import megamek.common.units.Entity;
 @JsonDeserialize(using = SBFFormationDeserializer.class)
 public class SBFFormation implements ASSpecialAbilityCollector, BattleForceSUAFormatter, ForceAssignable,
                                      Deployable, Serializable {
+    @Serial
+    private static final long serialVersionUID = -1689821692325831530L;
 
     private List<SBFUnit> units = new ArrayList<>();
     private String name;
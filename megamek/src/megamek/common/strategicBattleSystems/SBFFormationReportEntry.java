@@ -33,10 +33,14 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.client.ui.clientGUI.tooltip.SBFInGameObjectTooltip;
 import megamek.client.ui.util.UIUtil;
 
 public class SBFFormationReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = -5877338083534872930L;
 
     private final String formationName;
     private final String playerColorHex;
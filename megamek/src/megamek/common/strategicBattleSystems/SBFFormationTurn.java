@@ -33,6 +33,8 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.common.game.IGame;
 import megamek.common.game.InGameObject;
 
@@ -40,6 +42,8 @@ import megamek.common.game.InGameObject;
  * This is a turn for a player action that uses a unit (formation). Examples are movement and firing.
  */
 public class SBFFormationTurn extends SBFTurn {
+    @Serial
+    private static final long serialVersionUID = -2029244539707148119L;
 
     /**
      * Creates a new player turn for an SBF Game.
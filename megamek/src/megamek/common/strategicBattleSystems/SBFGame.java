@@ -33,6 +33,7 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -73,6 +74,8 @@ import megamek.server.sbf.SBFActionHandler;
  * This is an SBF game's game object that holds all game information. As of 2024, this is under construction.
  */
 public final class SBFGame extends AbstractGame implements PlanetaryConditionsUsing, SBFRuleOptionsUser {
+    @Serial
+    private static final long serialVersionUID = 5405702982342217668L;
     private static final MMLogger logger = MMLogger.create(SBFGame.class);
 
     private final SBFRuleOptions options = new SBFRuleOptions();
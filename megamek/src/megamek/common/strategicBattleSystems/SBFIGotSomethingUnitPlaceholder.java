@@ -33,7 +33,11 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 public class SBFIGotSomethingUnitPlaceholder extends SBFSomethingOutThereUnitPlaceHolder {
+    @Serial
+    private static final long serialVersionUID = -5001169482698836223L;
 
     private final int size;
 
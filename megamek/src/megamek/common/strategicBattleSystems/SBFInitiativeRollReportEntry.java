@@ -33,12 +33,15 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.client.ui.util.UIUtil;
 import megamek.common.game.InitiativeRoll;
 
 public class SBFInitiativeRollReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = -6583603350433999955L;
 
     private static final String ONE = "\u2680";
     private static final String TWO = "\u2681";
@@ -35,6 +35,7 @@ package megamek.common.strategicBattleSystems;
 
 import static java.util.stream.Collectors.toSet;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,6 +48,8 @@ import megamek.common.board.BoardLocation;
 import megamek.logging.MMLogger;
 
 public class SBFMovePath implements EntityAction, Serializable {
+    @Serial
+    private static final long serialVersionUID = -1722892453307988371L;
     private static final MMLogger logger = MMLogger.create(SBFMovePath.class);
 
     private final int formationId;
@@ -33,6 +33,7 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -151,6 +152,8 @@ public class SBFMovePathFinder extends AbstractPathFinder<BoardLocation, SBFMove
      * This comparator is used by A* algorithm.
      */
     public static class MovePathAStarComparator implements Comparator<SBFMovePath>, Serializable {
+        @Serial
+        private static final long serialVersionUID = 950509337201168029L;
         BoardLocation destination;
         Board board;
 
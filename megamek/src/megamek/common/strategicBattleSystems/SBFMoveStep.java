@@ -33,11 +33,14 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import megamek.common.board.BoardLocation;
 
 public abstract class SBFMoveStep implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -7830491512337280208L;
 
     protected final int formationId;
     protected BoardLocation startingPoint;
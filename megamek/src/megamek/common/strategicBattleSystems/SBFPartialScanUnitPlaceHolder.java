@@ -33,7 +33,11 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 public class SBFPartialScanUnitPlaceHolder extends SBFIGotSomethingUnitPlaceholder {
+    @Serial
+    private static final long serialVersionUID = -7065291713761491794L;
 
     private final int movement;
 
@@ -33,11 +33,15 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.PlayerColour;
 import megamek.client.ui.util.UIUtil;
 import megamek.common.Player;
 
 public class SBFPlayerNameReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = -3046497508485213193L;
 
     private final String playerName;
     private final String playerColorHex;
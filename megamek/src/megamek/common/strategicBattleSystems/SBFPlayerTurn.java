@@ -33,6 +33,8 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.common.game.IGame;
 import megamek.common.game.InGameObject;
 
@@ -41,6 +43,8 @@ import megamek.common.game.InGameObject;
  * hex designation and others.
  */
 public class SBFPlayerTurn extends SBFTurn {
+    @Serial
+    private static final long serialVersionUID = -8780713379988775899L;
 
     /**
      * Creates a new player action turn for an SBF Game.
@@ -33,10 +33,14 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 /**
  * Work In Progress
  */
 public class SBFPublicReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = -592363239855541966L;
 
     public SBFPublicReportEntry(int messageId) {
         super(messageId);
@@ -35,6 +35,7 @@ package megamek.common.strategicBattleSystems;
 
 import static megamek.client.ui.util.UIUtil.hexColor;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,8 @@ import megamek.common.interfaces.ReportEntry;
 import megamek.common.rolls.Roll;
 
 public class SBFReportEntry implements ReportEntry {
+    @Serial
+    private static final long serialVersionUID = 5629375230619573704L;
 
     record DataEntry(String data, boolean isObscured) implements Serializable {
     }
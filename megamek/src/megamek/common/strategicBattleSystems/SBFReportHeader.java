@@ -33,9 +33,13 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.client.ui.util.UIUtil;
 
 public class SBFReportHeader extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = 4299056848436822583L;
 
     public SBFReportHeader(int messageId) {
         super(messageId);
@@ -33,12 +33,15 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.client.ui.util.UIUtil;
 import megamek.common.rolls.Roll;
 
 public class SBFRollReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = -5518780351176533706L;
 
     private static final String ONE = "\u2680";
     private static final String TWO = "\u2681";
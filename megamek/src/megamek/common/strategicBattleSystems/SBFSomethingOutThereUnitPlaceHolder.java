@@ -33,7 +33,11 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 public class SBFSomethingOutThereUnitPlaceHolder extends SBFUnitPlaceHolder {
+    @Serial
+    private static final long serialVersionUID = 5003925595763136575L;
 
     protected SBFElementType type;
 
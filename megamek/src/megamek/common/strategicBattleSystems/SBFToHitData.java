@@ -33,6 +33,7 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.util.List;
 
 import megamek.common.TargetRollModifier;
@@ -42,6 +43,8 @@ import megamek.common.game.InGameObject;
 import megamek.common.rolls.TargetRoll;
 
 public class SBFToHitData extends TargetRoll {
+    @Serial
+    private static final long serialVersionUID = 8410257078960933137L;
 
     public SBFToHitData(int value, String desc) {
         super(value, desc);
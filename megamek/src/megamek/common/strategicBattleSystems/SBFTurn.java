@@ -33,6 +33,8 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.common.game.AbstractPlayerTurn;
 
 /**
@@ -41,6 +43,8 @@ import megamek.common.game.AbstractPlayerTurn;
  * additions later.
  */
 public abstract class SBFTurn extends AbstractPlayerTurn {
+    @Serial
+    private static final long serialVersionUID = 1141540517509672253L;
 
     public SBFTurn(int playerId) {
         super(playerId);
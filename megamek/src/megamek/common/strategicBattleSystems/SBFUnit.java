@@ -40,6 +40,7 @@ import static megamek.common.alphaStrike.BattleForceSUA.SCAP;
 import static megamek.common.alphaStrike.BattleForceSUA.SOA;
 import static megamek.common.alphaStrike.BattleForceSUA.SRCH;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,6 +67,8 @@ import megamek.common.jacksonAdapters.SBFUnitSerializer;
 @JsonDeserialize(using = SBFUnitDeserializer.class)
 public class SBFUnit implements ASSpecialAbilityCollector, BattleForceSUAFormatter,
                                 Serializable {
+    @Serial
+    private static final long serialVersionUID = -6949839232025641460L;
 
     private String name = "Unknown";
     private SBFElementType type = SBFElementType.UNKNOWN;
@@ -33,12 +33,15 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import megamek.common.board.BoardLocation;
 import megamek.common.game.InGameObject;
 
 public class SBFUnitPlaceHolder implements InGameObject, Serializable {
+    @Serial
+    private static final long serialVersionUID = 996430000597225144L;
 
     private int id;
     private int ownerId;
@@ -34,10 +34,13 @@
 package megamek.common.strategicBattleSystems;
 
 import java.awt.Color;
+import java.io.Serial;
 
 import megamek.client.ui.util.UIUtil;
 
 public class SBFUnitReportEntry extends SBFReportEntry {
+    @Serial
+    private static final long serialVersionUID = 3745503668004732717L;
 
     private final String formationName;
     private final String unitName;
@@ -33,6 +33,8 @@
 
 package megamek.common.strategicBattleSystems;
 
+import java.io.Serial;
+
 import megamek.client.commands.ClientCommand;
 import megamek.common.Hex;
 import megamek.common.Player;
@@ -44,6 +46,8 @@ import megamek.common.units.Terrains;
  * on the water surface. This means that the elevation at start and end is considered to be 0.
  */
 public class SurfaceSBFMoveStep extends SBFMoveStep {
+    @Serial
+    private static final long serialVersionUID = -8039833350315634419L;
 
     protected SurfaceSBFMoveStep(int formationId) {
         super(formationId);
@@ -33,6 +33,8 @@
 
 package megamek.common.turns;
 
+import java.io.Serial;
+
 import megamek.common.annotations.Nullable;
 import megamek.common.game.Game;
 import megamek.common.game.GameTurn;
@@ -42,6 +44,8 @@ import megamek.common.units.Entity;
  * Prephase turn used for revealing hidden units and for Standard mode ghost target assignment during PRE_FIRING.
  */
 public class PrephaseTurn extends GameTurn {
+    @Serial
+    private static final long serialVersionUID = -8277191062564063670L;
 
     public PrephaseTurn(int playerId) {
         super(playerId);
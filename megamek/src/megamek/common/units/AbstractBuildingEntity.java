@@ -34,6 +34,7 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
 import java.util.*;
 
 import megamek.client.ui.clientGUI.calculationReport.CalculationReport;
@@ -69,6 +70,8 @@ import megamek.server.totalWarfare.TWGameManager;
  * Entity's current position/facing.
  */
 public abstract class AbstractBuildingEntity extends Entity implements IBuilding {
+    @Serial
+    private static final long serialVersionUID = 7066238567977967518L;
 
     private static final MMLogger logger = MMLogger.create(AbstractBuildingEntity.class);
 
@@ -34,6 +34,8 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
+
 import megamek.common.CriticalSlot;
 import megamek.common.bays.CargoBay;
 import megamek.common.equipment.Mounted;
@@ -42,6 +44,8 @@ import megamek.common.equipment.Mounted;
  * AeroSpaceFighter subclass of Aero that encapsulates Fighter functionality
  */
 public class AeroSpaceFighter extends Aero {
+    @Serial
+    private static final long serialVersionUID = 7512280322308375094L;
     public AeroSpaceFighter() {
         super();
     }
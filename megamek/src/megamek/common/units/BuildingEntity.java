@@ -34,6 +34,8 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
+
 import megamek.common.MPCalculationSetting;
 import megamek.common.SimpleTechLevel;
 import megamek.common.TechAdvancement;
@@ -58,6 +60,8 @@ import megamek.common.equipment.enums.StructureEngine;
  * Extends {@link AbstractBuildingEntity}
  */
 public class BuildingEntity extends AbstractBuildingEntity {
+    @Serial
+    private static final long serialVersionUID = -8595275884642450175L;
 
     public BuildingEntity(BuildingType type, int bldgClass) {
         super(type, bldgClass);
@@ -34,6 +34,7 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -57,6 +58,8 @@ import megamek.logging.MMLogger;
  * and the Building's relative coordinate space.
  */
 public class BuildingTerrain implements IBuilding {
+    @Serial
+    private static final long serialVersionUID = 6415716519742881323L;
     private static final MMLogger logger = MMLogger.create(BuildingTerrain.class);
 
     private final Building building;
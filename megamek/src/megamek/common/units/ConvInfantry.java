@@ -36,6 +36,7 @@ package megamek.common.units;
 
 import static java.util.stream.Collectors.toList;
 
+import java.io.Serial;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -88,6 +89,8 @@ import megamek.logging.MMLogger;
  * Bloody Infantry).
  */
 public class ConvInfantry extends Infantry {
+    @Serial
+    private static final long serialVersionUID = -8344948007709838861L;
 
     private static final MMLogger logger = MMLogger.create(ConvInfantry.class);
 
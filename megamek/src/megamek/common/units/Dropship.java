@@ -35,7 +35,6 @@ package megamek.common.units;
 
 import java.io.Serial;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Vector;
 
@@ -556,14 +555,8 @@ public class Dropship extends SmallCraft {
     @Override
 
     public void setPosition(Coords position) {
-        // When a Dropship changes from being 1 hex to 7 getOccupiedCoords will return
-        // its changed secondary hexes. Instead, let's grab the cached ones for this to
-        // make sure we properly set out new positions.
-        HashSet<Coords> oldPositions = getOccupiedCoords();
-        if (game != null) {
-            oldPositions = game.getEntityPositions(this);
-        }
-
+        // When a Dropship changes from being 1 hex to 7 getOccupiedCoords will return its changed secondary hexes.
+        // That is fine, as the game's position index remembers the hexes it was last indexed at.
         super.setPosition(position, false);
         if ((getAltitude() == 0) && (null != game) && !isSpaceborne() && (position != null)) {
             secondaryPositions.put(0, position);
@@ -575,7 +568,7 @@ public class Dropship extends SmallCraft {
             secondaryPositions.put(6, position.translated((getFacing() + 5) % 6));
         }
         if (game != null) {
-            game.updateEntityPositionLookup(this, oldPositions);
+            game.updateEntityPositionLookup(this);
         }
     }
 
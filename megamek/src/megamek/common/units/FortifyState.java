@@ -32,6 +32,7 @@
  */
 package megamek.common.units;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -46,6 +47,8 @@ import java.io.Serializable;
  * turn.</p>
  */
 public class FortifyState implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 9218870378746477684L;
 
     /** Sentinel meaning "no fieldwork is in progress, so there is no baseline to compare against yet". */
     private static final int UNSET = -1;
@@ -34,6 +34,7 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
 import java.util.Enumeration;
 import java.util.Vector;
 
@@ -63,6 +64,8 @@ import megamek.logging.MMLogger;
  * been changed as a substantional number of rules for CI/BA do not overlap.
  */
 public abstract class Infantry extends Entity {
+    @Serial
+    private static final long serialVersionUID = -9136831828651462101L;
 
     private static final MMLogger LOGGER = MMLogger.create(Infantry.class);
 
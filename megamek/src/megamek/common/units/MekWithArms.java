@@ -33,6 +33,7 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -56,6 +57,8 @@ import megamek.common.rolls.TargetRoll;
  * arm-related as both have two arms while QuadMeks have none.
  */
 public abstract class MekWithArms extends Mek {
+    @Serial
+    private static final long serialVersionUID = 4317972823682693215L;
 
     public MekWithArms(int inGyroType, int inCockpitType) {
         super(inGyroType, inCockpitType);
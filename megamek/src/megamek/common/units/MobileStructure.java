@@ -33,6 +33,8 @@
 
 package megamek.common.units;
 
+import java.io.Serial;
+
 import megamek.common.TechAdvancement;
 import megamek.common.enums.BuildingType;
 
@@ -44,6 +46,8 @@ import megamek.common.enums.BuildingType;
  * Extends {@link AbstractBuildingEntity}
  */
 public class MobileStructure extends AbstractBuildingEntity {
+    @Serial
+    private static final long serialVersionUID = -8557588584392238142L;
 
     public MobileStructure(BuildingType type, int bldgClass) {
         super(type, bldgClass);
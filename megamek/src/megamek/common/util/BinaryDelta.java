@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Computes and applies binary deltas between two versions of a byte array, such as two serialized states of the same
+ * object. A delta is a sequence of copy instructions (take a range of the base) and insert instructions (literal
+ * bytes). Matches are found by indexing fixed-size blocks of the base and extending each block match in both
+ * directions, so that both changed values and shifted content (e.g. a grown string) are handled. The block index of a
+ * base is built once, in a {@link Base}, which can be kept and reused for all deltas against the same base.
+ */
+public final class BinaryDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int OP_COPY = 0;
+    private static final int OP_INSERT = 1;
+    /** 31 to the power of BLOCK_SIZE - 1, to remove the first byte from a rolling block hash */
+    private static final int HASH_REMOVE_FACTOR = power(31, BLOCK_SIZE - 1);
+    private static final int NO_BLOCK = -1;
+
+    private BinaryDelta() {
+    }
+
+    /**
+     * A version to create deltas against, together with the index of its blocks. The index is an open addressing
+     * table of block hashes and block offsets in two int arrays, built once when the base is created. A base is
+     * immutable and can be used by several threads at once.
+     */
+    public static final class Base {
+        private final byte[] data;
+        private final int[] hashes;
+        private final int[] offsets;
+        private final int mask;
+
+        /**
+         * Indexes the given data. The data must not be modified afterwards.
+         *
+         * @param data the version both sides know
+         */
+        public Base(byte[] data) {
+            this.data = data;
+            int blocks = data.length / BLOCK_SIZE;
+            // At most half full, so that probe sequences stay short
+            int capacity = Integer.highestOneBit(Math.max(1, blocks) * 2) << 1;
+            hashes = new int[capacity];
+            offsets = new int[capacity];
+            Arrays.fill(offsets, NO_BLOCK);
+            mask = capacity - 1;
+            for (int offset = 0; offset + BLOCK_SIZE <= data.length; offset += BLOCK_SIZE) {
+                int hash = blockHash(data, offset);
+                int slot = slot(hash);
+                // The first block with a hash is kept
+                while ((offsets[slot] != NO_BLOCK) && (hashes[slot] != hash)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (offsets[slot] == NO_BLOCK) {
+                    hashes[slot] = hash;
+                    offsets[slot] = offset;
+                }
+            }
+        }
+
+        /** @return the indexed data; must not be modified */
+        public byte[] data() {
+            return data;
+        }
+
+        /** @return the offset of a block with the given hash, or {@code NO_BLOCK} */
+        private int find(int hash) {
+            int slot = slot(hash);
+            while (offsets[slot] != NO_BLOCK) {
+                if (hashes[slot] == hash) {
+                    return offsets[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NO_BLOCK;
+        }
+
+        private int slot(int hash) {
+            int mixed = hash * 0x9E3779B9;
+            return (mixed ^ (mixed >>> 16)) & mask;
+        }
+    }
+
+    /**
+     * Returns a delta that turns the given base into the given target when passed to {@link #apply(byte[], byte[])}.
+     * When several deltas are created against the same base, index it once with {@link Base} instead.
+     *
+     * @param base   the version both sides already know
+     * @param target the new version
+     *
+     * @return the delta
+     */
+    public static byte[] create(byte[] base, byte[] target) {
+        return create(new Base(base), target);
+    }
+
+    /**
+     * Returns a delta that turns the given base into the given target when passed to {@link #apply(byte[], byte[])}.
+     *
+     * @param indexedBase the version both sides already know, with its block index
+     * @param target      the new version
+     *
+     * @return the delta
+     */
+    public static byte[] create(Base indexedBase, byte[] target) {
+        byte[] base = indexedBase.data;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            int literalStart = 0;
+            int position = 0;
+            int hash = (target.length >= BLOCK_SIZE) ? blockHash(target, 0) : 0;
+            while (position + BLOCK_SIZE <= target.length) {
+                int candidate = indexedBase.find(hash);
+                if ((candidate == NO_BLOCK) || !Arrays.equals(base, candidate, candidate + BLOCK_SIZE,
+                      target, position, position + BLOCK_SIZE)) {
+                    if (position + BLOCK_SIZE < target.length) {
+                        hash = rollHash(hash, target[position], target[position + BLOCK_SIZE]);
+                    }
+                    position++;
+                    continue;
+                }
+                int baseStart = candidate;
+                int targetStart = position;
+                while ((targetStart > literalStart) && (baseStart > 0)
+                      && (base[baseStart - 1] == target[targetStart - 1])) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int length = position - targetStart + BLOCK_SIZE;
+                while ((baseStart + length < base.length) && (targetStart + length < target.length)
+                      && (base[baseStart + length] == target[targetStart + length])) {
+                    length++;
+                }
+                writeInsert(out, target, literalStart, targetStart);
+                out.writeByte(OP_COPY);
+                out.writeInt(baseStart);
+                out.writeInt(length);
+                position = targetStart + length;
+                literalStart = position;
+                if (position + BLOCK_SIZE <= target.length) {
+                    hash = blockHash(target, position);
+                }
+            }
+            writeInsert(out, target, literalStart, target.length);
+            out.flush();
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Applies a delta created by {@link #create(byte[], byte[])} to the base it was created against.
+     *
+     * @param base  the base version
+     * @param delta the delta
+     *
+     * @return the target version
+     *
+     * @throws IOException when the delta is malformed or does not fit the base
+     */
+    public static byte[] apply(byte[] base, byte[] delta) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(base.length);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        while (in.available() > 0) {
+            int op = in.readUnsignedByte();
+            if (op == OP_COPY) {
+                int offset = in.readInt();
+                int length = in.readInt();
+                if ((offset < 0) || (length < 0) || (offset + length > base.length)) {
+                    throw new IOException("Delta copy instruction outside of the base");
+                }
+                result.write(base, offset, length);
+            } else if (op == OP_INSERT) {
+                byte[] literal = new byte[in.readInt()];
+                in.readFully(literal);
+                result.write(literal);
+            } else {
+                throw new IOException("Unknown delta instruction " + op);
+            }
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * @param data the data to check
+     *
+     * @return the CRC32 checksum of the given data, truncated to an int
+     */
+    public static int checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] target, int from, int to) throws IOException {
+        if (to > from) {
+            out.writeByte(OP_INSERT);
+            out.writeInt(to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    private static int blockHash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = 31 * hash + data[i];
+        }
+        return hash;
+    }
+
+    /** @return the hash of the block one byte further, given the hash of a block, its first byte and the next byte */
+    private static int rollHash(int hash, byte removed, byte added) {
+        return 31 * (hash - removed * HASH_REMOVE_FACTOR) + added;
+    }
+
+    private static int power(int base, int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.SuiteConstants;
+import megamek.common.net.marshalling.SanityInputFilter;
+import megamek.logging.MMLogger;
+
+/**
+ * Binary save game format, an alternative to the XStream XML save games that is considerably faster to write and
+ * read. The format is:
+ * <ul>
+ *     <li>a header: the magic bytes {@link #MAGIC}, the format version (short) and the MegaMek version that wrote the
+ *     file (UTF string)</li>
+ *     <li>a sequence of chunks, each made up of a chunk type (int), the chunk length (int) and the chunk data</li>
+ *     <li>an end chunk of type {@link #CHUNK_END} and length 0</li>
+ * </ul>
+ * The game chunk holds the game in Java serialization, the same form in which it is sent over the network. Every
+ * MegaMek class that is saved declares a fixed serialVersionUID, so a save game stays readable when a class gains or
+ * loses fields; BinarySaveGameTest checks this. A class whose saved form changes incompatibly must get a new
+ * serialVersionUID. The schema chunk, which comes before the game chunk, lists every MegaMek class in the game chunk
+ * with the serialVersionUID it was written with. When loading, these are compared with the running classes before the
+ * game is read, so a save game that cannot be read by this version fails with a message that names the version that
+ * wrote it and the changed or missing classes. A save game written by another version whose classes are unchanged is loaded with a
+ * warning. Readers skip chunk types they don't know, so chunks can be added without changing the format version.
+ * Like XML saves, binary saves are stored gzipped (.sav.gz); {@link SerializationHelper#loadSaveGame(InputStream)}
+ * accepts either format.
+ */
+public final class BinarySaveGame {
+    private static final MMLogger LOGGER = MMLogger.create(BinarySaveGame.class);
+
+    /** The bytes every binary save game starts with; XML save games start with "&lt;" */
+    static final byte[] MAGIC = { 'M', 'M', 'B', 'S', 'A', 'V', 'E', 0 };
+
+    /**
+     * The current format version; increment when the header or an existing chunk changes incompatibly. Version 1 had
+     * no schema chunk.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    static final int CHUNK_END = 0;
+    static final int CHUNK_GAME = 1;
+    static final int CHUNK_SCHEMA = 2;
+
+    /** The number of changed classes named in the error message of an incompatible save game */
+    private static final int MAX_REPORTED_CLASSES = 5;
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private BinarySaveGame() {
+    }
+
+    /**
+     * Writes the given game in the binary save game format. The stream is not compressed or closed.
+     *
+     * @param game the game to save
+     * @param out  the stream to write to
+     */
+    public static void write(Object game, OutputStream out) throws IOException {
+        writeSerializedGame(serialize(game), out);
+    }
+
+    /**
+     * Serializes the given game into the chunks of a binary save game for
+     * {@link #writeSerializedGame(byte[], OutputStream)}. This is the only part of writing a save game that needs the
+     * game, so a caller can do this while the game may not change and write the result later, e.g. on another thread.
+     *
+     * @param game the game to save
+     *
+     * @return the serialized game
+     */
+    public static byte[] serialize(Object game) throws IOException {
+        ByteArrayOutputStream gameBytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        Map<String, Long> schema = new TreeMap<>();
+        try (ObjectOutputStream out = new SchemaRecordingOutputStream(gameBytes, schema)) {
+            out.writeObject(game);
+        }
+
+        ByteArrayOutputStream schemaBytes = new ByteArrayOutputStream();
+        DataOutputStream schemaData = new DataOutputStream(schemaBytes);
+        schemaData.writeInt(schema.size());
+        for (Map.Entry<String, Long> entry : schema.entrySet()) {
+            schemaData.writeUTF(entry.getKey());
+            schemaData.writeLong(entry.getValue());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(gameBytes.size() + schemaBytes.size() + 24);
+        DataOutputStream data = new DataOutputStream(bytes);
+        writeChunk(data, CHUNK_SCHEMA, schemaBytes.toByteArray());
+        writeChunk(data, CHUNK_GAME, gameBytes.toByteArray());
+        data.writeInt(CHUNK_END);
+        data.writeInt(0);
+        return bytes.toByteArray();
+    }
+
+    private static void writeChunk(DataOutputStream data, int chunkType, byte[] chunk) throws IOException {
+        data.writeInt(chunkType);
+        data.writeInt(chunk.length);
+        data.write(chunk);
+    }
+
+    /**
+     * Writes a game serialized by {@link #serialize(Object)} in the binary save game format. The stream is not
+     * compressed or closed.
+     *
+     * @param serializedGame the serialized game
+     * @param out            the stream to write to
+     */
+    public static void writeSerializedGame(byte[] serializedGame, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeUTF(SuiteConstants.VERSION.toString());
+        data.write(serializedGame);
+        data.flush();
+    }
+
+    /**
+     * Reads a game in the binary save game format. The stream must be decompressed already.
+     *
+     * @param in the stream to read from
+     *
+     * @return the game
+     *
+     * @throws IOException when the data is not a binary save game, was written in a newer format, was written by a
+     *                     version whose game classes differ from this version's or is incomplete
+     */
+    public static Object read(InputStream in) throws IOException, ClassNotFoundException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = data.readNBytes(MAGIC.length);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException("Not a binary save game");
+        }
+        int formatVersion = data.readUnsignedShort();
+        String savedVersion = data.readUTF();
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IOException(String.format("The binary save game format %d (written by MegaMek %s) is newer "
+                  + "than the supported format %d", formatVersion, savedVersion, FORMAT_VERSION));
+        }
+        String runningVersion = SuiteConstants.VERSION.toString();
+        if (!runningVersion.equals(savedVersion)) {
+            LOGGER.warn("The save game was written by MegaMek {}, this is MegaMek {}", savedVersion, runningVersion);
+        }
+        return readChunks(data, savedVersion);
+    }
+
+    /**
+     * Deserializes a game serialized by {@link #serialize(Object)}, e.g. to obtain a private copy of a game.
+     *
+     * @param serializedGame the serialized game
+     *
+     * @return the game
+     */
+    public static Object deserialize(byte[] serializedGame) throws IOException, ClassNotFoundException {
+        return readChunks(new DataInputStream(new ByteArrayInputStream(serializedGame)),
+              SuiteConstants.VERSION.toString());
+    }
+
+    private static Object readChunks(DataInputStream data, String savedVersion)
+          throws IOException, ClassNotFoundException {
+        Object game = null;
+        int chunkType;
+        while ((chunkType = data.readInt()) != CHUNK_END) {
+            int length = data.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid chunk length " + length);
+            }
+            if (chunkType == CHUNK_SCHEMA) {
+                checkSchema(new DataInputStream(new ByteArrayInputStream(data.readNBytes(length))), savedVersion);
+            } else if (chunkType == CHUNK_GAME) {
+                game = deserializeGame(data.readNBytes(length), savedVersion);
+            } else {
+                LOGGER.info("Skipping unknown save game chunk type {}", chunkType);
+                data.skipNBytes(length);
+            }
+        }
+        data.readInt();
+
+        if (game == null) {
+            throw new IOException("The binary save game contains no game");
+        }
+        return game;
+    }
+
+    /**
+     * Compares the classes listed in a schema chunk with the running classes.
+     *
+     * @throws IOException naming the changed classes when any of them is missing, no longer serializable or has a
+     *                     different serialVersionUID
+     */
+    private static void checkSchema(DataInputStream schema, String savedVersion) throws IOException {
+        List<String> changedClasses = new ArrayList<>();
+        int count = schema.readInt();
+        for (int i = 0; i < count; i++) {
+            String className = schema.readUTF();
+            long savedUid = schema.readLong();
+            if (!hasSerialVersionUID(className, savedUid)) {
+                changedClasses.add(className);
+            }
+        }
+        if (!changedClasses.isEmpty()) {
+            String examples = String.join(", ",
+                  changedClasses.subList(0, Math.min(MAX_REPORTED_CLASSES, changedClasses.size())));
+            throw new IOException(String.format("The save game was written by MegaMek %s and cannot be loaded by "
+                        + "MegaMek %s: %d of its classes have changed (%s%s). Load it with MegaMek %s instead.",
+                  savedVersion, SuiteConstants.VERSION, changedClasses.size(), examples,
+                  (changedClasses.size() > MAX_REPORTED_CLASSES) ? ", ..." : "", savedVersion));
+        }
+    }
+
+    private static boolean hasSerialVersionUID(String className, long serialVersionUID) {
+        try {
+            ObjectStreamClass streamClass = ObjectStreamClass.lookup(
+                  Class.forName(className, false, BinarySaveGame.class.getClassLoader()));
+            return (streamClass != null) && (streamClass.getSerialVersionUID() == serialVersionUID);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    private static Object deserializeGame(byte[] serializedGame, String savedVersion)
+          throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedGame))) {
+            in.setObjectInputFilter(SANITY_INPUT_FILTER);
+            return in.readObject();
+        } catch (InvalidClassException ex) {
+            // Only save games without a schema chunk get here
+            throw new IOException(String.format("The save game was written by MegaMek %s and cannot be loaded by "
+                  + "MegaMek %s: the class %s has changed", savedVersion, SuiteConstants.VERSION, ex.classname), ex);
+        }
+    }
+
+    /**
+     * Returns true when the given stream, which must be decompressed already, starts with a binary save game. The
+     * stream position is not changed.
+     *
+     * @param in the stream to check
+     *
+     * @return true for a binary save game
+     */
+    public static boolean isBinarySaveGame(BufferedInputStream in) throws IOException {
+        in.mark(MAGIC.length);
+        byte[] start = in.readNBytes(MAGIC.length);
+        in.reset();
+        return Arrays.equals(MAGIC, start);
+    }
+
+    /**
+     * @param out the stream to write the save game file to
+     *
+     * @return a GZIP stream on the given stream that favors speed over size
+     */
+    public static GZIPOutputStream createCompressedStream(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        };
+    }
+
+    /**
+     * Serializes objects while recording the serialVersionUID of every MegaMek class written.
+     */
+    private static class SchemaRecordingOutputStream extends ObjectOutputStream {
+        private final Map<String, Long> schema;
+
+        SchemaRecordingOutputStream(OutputStream out, Map<String, Long> schema) throws IOException {
+            super(out);
+            this.schema = schema;
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            if (desc.getName().replaceFirst("^\\[+L", "").startsWith("megamek.")) {
+                schema.put(desc.getName(), desc.getSerialVersionUID());
+            }
+            super.writeClassDescriptor(desc);
+        }
+    }
+}
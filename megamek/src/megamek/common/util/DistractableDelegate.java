@@ -34,6 +34,7 @@
 
 package megamek.common.util;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 /**
@@ -43,6 +44,8 @@ import java.io.Serializable;
  * @author James Damour
  */
 public class DistractableDelegate implements Distractable, Serializable {
+    @Serial
+    private static final long serialVersionUID = -7056747239794348808L;
 
     /** The current state of distraction. */
     private boolean isDistracted;
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.mapper.Mapper;
+import megamek.common.Hex;
+import megamek.common.board.Coords;
+import megamek.common.units.Terrain;
+
+/**
+ * XStream converter for {@link Hex}. Hex stores its terrains in compact arrays and has a custom Java serialized form,
+ * which would make XStream switch to its serialization format. This converter instead writes and reads the same XML
+ * that XStream's reflection converter produced for the former map-based Hex, so saved games stay compatible.
+ */
+class HexConverter implements Converter {
+
+    private final Mapper mapper;
+
+    HexConverter(Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean canConvert(Class cls) {
+        return cls == Hex.class;
+    }
+
+    @Override
+    public void marshal(Object source, HierarchicalStreamWriter writer, MarshallingContext context) {
+        Hex hex = (Hex) source;
+        if (hex.getCoords() != null) {
+            writer.startNode("coords");
+            context.convertAnother(hex.getCoords());
+            writer.endNode();
+        }
+        writeValue(writer, "level", Integer.toString(hex.getLevel()));
+
+        Map<Integer, Terrain> terrains = new HashMap<>();
+        for (int type : hex.getTerrainTypes()) {
+            terrains.put(type, hex.getTerrain(type));
+        }
+        writer.startNode("terrains");
+        context.convertAnother(terrains);
+        writer.endNode();
+
+        if (hex.getTheme() != null) {
+            writeValue(writer, "theme", hex.getTheme());
+        }
+        if (hex.getOriginalTheme() != null) {
+            writeValue(writer, "originalTheme", hex.getOriginalTheme());
+        }
+        writeValue(writer, "fireTurn", Integer.toString(hex.getFireTurn()));
+    }
+
+    private static void writeValue(HierarchicalStreamWriter writer, String name, String value) {
+        writer.startNode(name);
+        writer.setValue(value);
+        writer.endNode();
+    }
+
+    @Override
+    public Object unmarshal(HierarchicalStreamReader reader, UnmarshallingContext context) {
+        Coords coords = null;
+        int level = 0;
+        Map<?, ?> terrains = null;
+        String theme = null;
+        String originalTheme = null;
+        int fireTurn = 0;
+        while (reader.hasMoreChildren()) {
+            reader.moveDown();
+            switch (reader.getNodeName()) {
+                case "coords" -> coords = (Coords) context.convertAnother(null, Coords.class);
+                case "level" -> level = Integer.parseInt(reader.getValue());
+                case "terrains" -> {
+                    String classAttribute = reader.getAttribute(mapper.aliasForSystemAttribute("class"));
+                    Class<?> type = (classAttribute == null) ? HashMap.class : mapper.realClass(classAttribute);
+                    terrains = (Map<?, ?>) context.convertAnother(null, type);
+                }
+                case "theme" -> theme = reader.getValue();
+                case "originalTheme" -> originalTheme = reader.getValue();
+                case "fireTurn" -> fireTurn = Integer.parseInt(reader.getValue());
+                default -> {
+                    // Unknown node, ignored
+                }
+            }
+            reader.moveUp();
+        }
+
+        Hex hex = new Hex(level, new Terrain[0], originalTheme, coords);
+        hex.setTheme(theme);
+        hex.setFireTurn(fireTurn);
+        if (terrains != null) {
+            for (Object terrain : terrains.values()) {
+                if (terrain instanceof Terrain) {
+                    hex.addTerrain((Terrain) terrain);
+                }
+            }
+        }
+        return hex;
+    }
+}
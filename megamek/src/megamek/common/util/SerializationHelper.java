@@ -33,6 +33,10 @@
 
 package megamek.common.util;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
@@ -49,6 +53,7 @@ import megamek.common.equipment.Mounted;
 import megamek.common.equipment.NarcPod;
 import megamek.common.equipment.Sensor;
 import megamek.common.equipment.Transporter;
+import megamek.common.game.Game;
 import megamek.common.game.GameTurn;
 import megamek.common.game.InitiativeBonusBreakdown;
 import megamek.common.interfaces.ITechnology;
@@ -99,9 +104,28 @@ public class SerializationHelper {
         xStream.allowTypeHierarchy(AttackHandler.class);
         xStream.allowTypeHierarchy(VictoryCondition.class);
         xStream.allowTypeHierarchy(megamek.common.strategicBattleSystems.SBFMoveStep.class);
+
+        // Keeps the XML of hexes unchanged although Hex has a custom serialized form
+        xStream.registerConverter(new HexConverter(xStream.getMapper()));
         return xStream;
     }
 
+    /**
+     * Reads a save game in either the XStream XML or the {@link BinarySaveGame binary} format. The stream must be
+     * decompressed already.
+     *
+     * @param in the stream to read from
+     *
+     * @return the game
+     */
+    public static Object loadSaveGame(InputStream in) throws IOException, ClassNotFoundException {
+        BufferedInputStream bin = new BufferedInputStream(in);
+        if (BinarySaveGame.isBinarySaveGame(bin)) {
+            return BinarySaveGame.read(bin);
+        }
+        return getLoadSaveGameXStream().fromXML(bin);
+    }
+
     /**
      * Factory method that produces an XStream object suitable for loading MegaMek save games
      *
@@ -139,7 +163,7 @@ public class SerializationHelper {
                     }
                     reader.moveUp();
                 }
-                return (foundX && foundY) ? new Coords(x, y) : null;
+                return (foundX && foundY) ? Coords.of(x, y) : null;
             }
 
             @Override
@@ -485,6 +509,9 @@ public class SerializationHelper {
             }
         });
 
+        // Older save games contain the former entity position lookup; the position index is rebuilt on load instead
+        xStream.omitField(Game.class, "entityPosLookup");
+
         return xStream;
     }
 }
@@ -35,6 +35,7 @@ package megamek.common.util;
 
 import megamek.client.ui.dialogs.advancedsearch.ASAdvancedSearchPanel;
 import megamek.client.ui.dialogs.advancedsearch.MekSearchFilter;
+import megamek.client.ui.dialogs.advancedsearch.MekSearchIndex;
 import megamek.common.alphaStrike.AlphaStrikeElement;
 import megamek.common.annotations.Nullable;
 import megamek.common.loaders.MekSummary;
@@ -192,8 +193,11 @@ public class SimpleRandomLanceCreator<T> {
      */
     public static List<MekSummary> advancedFilterResult(@Nullable ASAdvancedSearchPanel asFilter,
           @Nullable MekSearchFilter twFilter, @Nullable Predicate<MekSummary> manualFilter) {
-        return Arrays.stream(MekSummaryCache.getInstance().getAllMeks())
-              .filter(ms -> twFilter == null || MekSearchFilter.isMatch(ms, twFilter))
+        MekSummary[] allUnits = MekSummaryCache.getInstance().getAllMeks();
+        List<MekSummary> twMatches = (twFilter == null)
+              ? Arrays.asList(allUnits)
+              : MekSearchIndex.of(allUnits).findMatches(twFilter);
+        return twMatches.stream()
               .filter(ms -> asFilter == null || asFilter.matches(ms))
               .filter(ms -> manualFilter == null || manualFilter.test(ms))
               .toList();
@@ -34,6 +34,8 @@
 
 package megamek.common.weapons.artillery;
 
+import java.io.Serial;
+
 import megamek.common.SimpleTechLevel;
 import megamek.common.enums.AvailabilityValue;
 import megamek.common.enums.Faction;
@@ -46,6 +48,8 @@ import megamek.common.equipment.AmmoType;
  * @since Oct 20, 2004
  */
 public class CLArrowIV extends ArrowIV {
+    @Serial
+    private static final long serialVersionUID = 6896796487671309182L;
 
     public CLArrowIV() {
         super();
@@ -34,6 +34,8 @@
 
 package megamek.common.weapons.artillery;
 
+import java.io.Serial;
+
 import megamek.common.SimpleTechLevel;
 import megamek.common.enums.AvailabilityValue;
 import megamek.common.enums.Faction;
@@ -45,6 +47,8 @@ import megamek.common.enums.TechRating;
  * @since Oct 20, 2004
  */
 public class ISArrowIV extends ArrowIV {
+    @Serial
+    private static final long serialVersionUID = 8236754705512523818L;
 
     public ISArrowIV() {
         super();
@@ -1107,10 +1107,7 @@ public class AreaEffectHelper {
 
         // 2.1 For FAE munitions, add a ring of 5 damage
         if (isFaeAmmo || isFaeBomb) {
-            List<Coords> ringCoords = center.allAtDistance(radius);
-            for (Coords c : ringCoords) {
-                blastShape.put(Map.entry(height, c), 5);
-            }
+            center.forEachAtDistance(radius, c -> blastShape.put(Map.entry(height, c), 5));
         }
 
         // 3. Handle additional AE blast shaping.
@@ -1161,10 +1158,8 @@ public class AreaEffectHelper {
         // Note that Cluster Bombs have no damage falloff (5/5 damage) but only R1.
         int blastDamage = falloff.damage - falloff.falloff;
         for (int ring = 1; blastDamage > 0 && ring <= falloff.radius; ring++, blastDamage -= falloff.falloff) {
-            List<Coords> ringCoords = center.allAtDistance(ring);
-            for (Coords c : ringCoords) {
-                blastRing.put(Map.entry(height, c), blastDamage);
-            }
+            final int ringDamage = blastDamage;
+            center.forEachAtDistance(ring, c -> blastRing.put(Map.entry(height, c), ringDamage));
         }
 
         return blastRing;
@@ -37,6 +37,7 @@ import static megamek.common.weapons.ArtilleryHandlerHelper.clearMines;
 import static megamek.common.weapons.ArtilleryHandlerHelper.findSpotter;
 import static megamek.common.weapons.ArtilleryHandlerHelper.isForwardObserver;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -60,6 +61,8 @@ import megamek.logging.MMLogger;
 import megamek.server.totalWarfare.TWGameManager;
 
 public class CapitalLaserBayOrbitalBombardmentHandler extends BayWeaponHandler {
+    @Serial
+    private static final long serialVersionUID = -1762425041360458863L;
 
     private static final MMLogger LOGGER = MMLogger.create(CapitalLaserBayOrbitalBombardmentHandler.class);
 
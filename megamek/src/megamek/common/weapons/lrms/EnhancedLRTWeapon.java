@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.lrms;
 
+import java.io.Serial;
+
 import megamek.common.SimpleTechLevel;
 import megamek.common.enums.AvailabilityValue;
 import megamek.common.enums.Faction;
@@ -41,6 +43,8 @@ import megamek.common.enums.TechRating;
 import megamek.common.equipment.AmmoType;
 
 public abstract class EnhancedLRTWeapon extends LRTWeapon {
+    @Serial
+    private static final long serialVersionUID = -8785160298345589679L;
 
     public EnhancedLRTWeapon() {
         minimumRange = 3;
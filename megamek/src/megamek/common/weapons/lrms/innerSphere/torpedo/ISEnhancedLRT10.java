@@ -33,10 +33,14 @@
 
 package megamek.common.weapons.lrms.innerSphere.torpedo;
 
+import java.io.Serial;
+
 import megamek.common.equipment.EquipmentTypeLookup;
 import megamek.common.weapons.lrms.EnhancedLRTWeapon;
 
 public class ISEnhancedLRT10 extends EnhancedLRTWeapon {
+    @Serial
+    private static final long serialVersionUID = 145519852381835231L;
 
     public ISEnhancedLRT10() {
         name = "Enhanced LRT 10";
@@ -33,10 +33,14 @@
 
 package megamek.common.weapons.lrms.innerSphere.torpedo;
 
+import java.io.Serial;
+
 import megamek.common.equipment.EquipmentTypeLookup;
 import megamek.common.weapons.lrms.EnhancedLRTWeapon;
 
 public class ISEnhancedLRT15 extends EnhancedLRTWeapon {
+    @Serial
+    private static final long serialVersionUID = -1913924273893784573L;
 
     public ISEnhancedLRT15() {
         name = "Enhanced LRT 15";
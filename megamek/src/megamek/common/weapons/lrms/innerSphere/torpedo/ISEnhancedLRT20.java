@@ -33,10 +33,14 @@
 
 package megamek.common.weapons.lrms.innerSphere.torpedo;
 
+import java.io.Serial;
+
 import megamek.common.equipment.EquipmentTypeLookup;
 import megamek.common.weapons.lrms.EnhancedLRTWeapon;
 
 public class ISEnhancedLRT20 extends EnhancedLRTWeapon {
+    @Serial
+    private static final long serialVersionUID = 5640595849017253789L;
 
     public ISEnhancedLRT20() {
         name = "Enhanced LRT 20";
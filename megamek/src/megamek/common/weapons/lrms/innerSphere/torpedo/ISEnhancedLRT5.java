@@ -33,10 +33,14 @@
 
 package megamek.common.weapons.lrms.innerSphere.torpedo;
 
+import java.io.Serial;
+
 import megamek.common.equipment.EquipmentTypeLookup;
 import megamek.common.weapons.lrms.EnhancedLRTWeapon;
 
 public class ISEnhancedLRT5 extends EnhancedLRTWeapon {
+    @Serial
+    private static final long serialVersionUID = 695536122992566801L;
 
     public ISEnhancedLRT5() {
         name = "Enhanced LRT 5";
@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.enums.Faction;
 import megamek.common.enums.TechRating;
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt10Weapon;
@@ -43,6 +45,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt10Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt10IOS extends Thunderbolt10Weapon {
+    @Serial
+    private static final long serialVersionUID = 9160387853061588825L;
 
     public ISThunderbolt10IOS() {
         super();
@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt10Weapon;
 
 /**
@@ -41,6 +43,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt10Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt10OS extends Thunderbolt10Weapon {
+    @Serial
+    private static final long serialVersionUID = 552377604508091408L;
 
     public ISThunderbolt10OS() {
         super();
@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.enums.Faction;
 import megamek.common.enums.TechRating;
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt15Weapon;
@@ -43,6 +45,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt15Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt15IOS extends Thunderbolt15Weapon {
+    @Serial
+    private static final long serialVersionUID = 3685285812728347722L;
 
     public ISThunderbolt15IOS() {
         super();
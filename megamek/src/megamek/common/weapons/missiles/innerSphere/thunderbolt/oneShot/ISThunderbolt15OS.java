@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt15Weapon;
 
 /**
@@ -41,6 +43,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt15Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt15OS extends Thunderbolt15Weapon {
+    @Serial
+    private static final long serialVersionUID = -8870398076292943877L;
 
     public ISThunderbolt15OS() {
         super();
@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.enums.Faction;
 import megamek.common.enums.TechRating;
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt20Weapon;
@@ -43,6 +45,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt20Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt20IOS extends Thunderbolt20Weapon {
+    @Serial
+    private static final long serialVersionUID = -5217733143654546702L;
 
     public ISThunderbolt20IOS() {
         super();
@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt20Weapon;
 
 /**
@@ -41,6 +43,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt20Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt20OS extends Thunderbolt20Weapon {
+    @Serial
+    private static final long serialVersionUID = -4926460077599039792L;
 
     public ISThunderbolt20OS() {
         super();
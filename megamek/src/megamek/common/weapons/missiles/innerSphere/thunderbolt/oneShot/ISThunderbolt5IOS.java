@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.enums.Faction;
 import megamek.common.enums.TechRating;
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt5Weapon;
@@ -43,6 +45,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt5Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt5IOS extends Thunderbolt5Weapon {
+    @Serial
+    private static final long serialVersionUID = 404294793450101399L;
 
     public ISThunderbolt5IOS() {
         super();
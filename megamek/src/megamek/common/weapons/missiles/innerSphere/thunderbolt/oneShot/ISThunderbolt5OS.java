@@ -33,6 +33,8 @@
 
 package megamek.common.weapons.missiles.innerSphere.thunderbolt.oneShot;
 
+import java.io.Serial;
+
 import megamek.common.weapons.missiles.thunderbolt.Thunderbolt5Weapon;
 
 /**
@@ -41,6 +43,8 @@ import megamek.common.weapons.missiles.thunderbolt.Thunderbolt5Weapon;
  * @author Simon (Juliez)
  */
 public class ISThunderbolt5OS extends Thunderbolt5Weapon {
+    @Serial
+    private static final long serialVersionUID = -5952979185542240213L;
 
     public ISThunderbolt5OS() {
         super();
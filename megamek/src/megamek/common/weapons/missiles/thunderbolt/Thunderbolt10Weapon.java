@@ -33,11 +33,15 @@
 
 package megamek.common.weapons.missiles.thunderbolt;
 
+import java.io.Serial;
+
 import megamek.common.alphaStrike.AlphaStrikeElement;
 import megamek.common.equipment.AmmoType;
 import megamek.common.equipment.Mounted;
 
 public abstract class Thunderbolt10Weapon extends ThunderboltWeapon {
+    @Serial
+    private static final long serialVersionUID = 9058755627584229971L;
 
     public Thunderbolt10Weapon() {
         super();
@@ -33,11 +33,15 @@
 
 package megamek.common.weapons.missiles.thunderbolt;
 
+import java.io.Serial;
+
 import megamek.common.alphaStrike.AlphaStrikeElement;
 import megamek.common.equipment.AmmoType;
 import megamek.common.equipment.Mounted;
 
 public abstract class Thunderbolt20Weapon extends ThunderboltWeapon {
+    @Serial
+    private static final long serialVersionUID = -4633682813747223998L;
 
     public Thunderbolt20Weapon() {
         super();
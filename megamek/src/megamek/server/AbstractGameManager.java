@@ -53,6 +53,21 @@ public abstract class AbstractGameManager implements IGameManager {
     protected final AutosaveService autoSaveService = new AutosaveService(this);
     protected final GameManagerScriptedEventHelper scriptedEventHelper = new GameManagerScriptedEventHelper(this);
 
+    /** The server hosting the game; when not set, the server instance of the current thread is used */
+    private Server server;
+
+    @Override
+    public void setServer(Server server) {
+        this.server = server;
+    }
+
+    /**
+     * @return the server hosting the game
+     */
+    protected Server getServer() {
+        return (server != null) ? server : Server.getServerInstance();
+    }
+
     /**
      * Sends the given packet to all connections (all connected Clients = players).
      *
@@ -60,7 +75,7 @@ public abstract class AbstractGameManager implements IGameManager {
      */
     @Override
     public void send(Packet packet) {
-        Server.getServerInstance().send(packet);
+        getServer().send(packet);
     }
 
     /**
@@ -70,7 +85,7 @@ public abstract class AbstractGameManager implements IGameManager {
      */
     @Override
     public void send(int connId, Packet p) {
-        Server.getServerInstance().send(connId, p);
+        getServer().send(connId, p);
     }
 
     @Override
@@ -108,6 +123,17 @@ public abstract class AbstractGameManager implements IGameManager {
      * Switches to the given new Phase and preforms preparation, checks if it should be skipped and executes it.
      */
     public final void changePhase(GamePhase newPhase) {
+        // Everything sent for the phase transition is written to each client at once when the phase change ends
+        Server server = getServer();
+        server.beginSendBatch();
+        try {
+            changePhaseInternal(newPhase);
+        } finally {
+            server.endSendBatch();
+        }
+    }
+
+    private void changePhaseInternal(GamePhase newPhase) {
         if (getGame().getPhase().isExchange() || getGame().getPhase().isStartingScenario()) {
             scriptedEventHelper.processScriptedEvents(TriggerSituation.GAME_START);
         }
@@ -203,7 +229,7 @@ public abstract class AbstractGameManager implements IGameManager {
      * @see #transmitAllPlayerUpdates()
      */
     protected void transmitPlayerUpdate(Player player) {
-        Server.getServerInstance().transmitPlayerUpdate(player);
+        getServer().transmitPlayerUpdate(player);
     }
 
     /**
@@ -227,7 +253,8 @@ public abstract class AbstractGameManager implements IGameManager {
             fileName = StringUtil.addDateTimeStamp(fileName);
         }
 
-        saveGame(fileName, getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
+        autoSaveService.performAutosave(fileName,
+              getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
     }
 
     @Override
@@ -241,19 +268,19 @@ public abstract class AbstractGameManager implements IGameManager {
     }
 
     public void sendChat(String origin, String message) {
-        Server.getServerInstance().sendChat(origin, message);
+        getServer().sendChat(origin, message);
     }
 
     public void sendChat(int connId, String origin, String message) {
-        Server.getServerInstance().sendChat(connId, origin, message);
+        getServer().sendChat(connId, origin, message);
     }
 
     public void sendServerChat(String message) {
-        Server.getServerInstance().sendServerChat(message);
+        getServer().sendServerChat(message);
     }
 
     public void sendServerChat(int connId, String message) {
-        Server.getServerInstance().sendServerChat(connId, message);
+        getServer().sendServerChat(connId, message);
     }
 
     /**
@@ -40,6 +40,14 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import megamek.MMConstants;
@@ -47,13 +55,45 @@ import megamek.codeUtilities.StringUtility;
 import megamek.common.annotations.Nullable;
 import megamek.common.options.OptionsConstants;
 import megamek.common.preference.PreferenceManager;
+import megamek.common.util.BinarySaveGame;
 import megamek.logging.MMLogger;
 
-public record AutosaveService(AbstractGameManager gameManager) {
+/**
+ * Performs the automatic saves of a game. The game thread only takes an in-memory snapshot of the game: the game
+ * serialized with {@link BinarySaveGame#serialize(Object)}. For XML save games, the writer deserializes the snapshot
+ * into a private copy of the game and converts that to XML, as the conversion takes far longer than serializing.
+ * Compressing and writing the save game file as well as rotating the rolling autosaves is done by a background writer
+ * thread of this service, so each game (and server) has its own. The chat message announcing the save is sent back on
+ * the game thread. At most {@link #MAX_PENDING_SNAPSHOTS} snapshots wait for the writer; when another one is taken, the
+ * oldest waiting snapshot is dropped as it is superseded anyway.
+ */
+public class AutosaveService {
     private static final MMLogger LOGGER = MMLogger.create(AutosaveService.class);
 
     public static final String FILENAME_FORMAT = "Round-%d-autosave%s.sav.gz";
 
+    private static final String ROLLING_AUTOSAVE_PREFIX = "Round-";
+
+    /** The number of snapshots that may wait for the background writer */
+    static final int MAX_PENDING_SNAPSHOTS = 2;
+
+    /** The time in seconds after which the idle writer thread ends */
+    private static final int WRITER_KEEP_ALIVE = 30;
+
+    private final ThreadPoolExecutor writer = createWriter();
+    private volatile Future<?> latestSave;
+    private File saveDirectory = new File(MMConstants.SAVEGAME_DIR);
+
+    private final AbstractGameManager gameManager;
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private final AtomicLong lastSnapshotNanos = new AtomicLong();
+    private final AtomicLong maxSnapshotNanos = new AtomicLong();
+    private final AtomicLong totalSnapshotNanos = new AtomicLong();
+
+    public AutosaveService(AbstractGameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+
     public void performRollingAutosave() {
         final int maxNumberAutoSaves = gameManager.getGame().getOptions()
               .intOption(OptionsConstants.BASE_MAX_NUMBER_ROUND_SAVES);
@@ -61,8 +101,9 @@ public record AutosaveService(AbstractGameManager gameManager) {
             try {
                 final String fileName = getAutosaveFilename();
                 if (!StringUtility.isNullOrBlank(fileName)) {
-                    gameManager.saveGame(fileName,
-                          gameManager.getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
+                    saveInBackground(fileName,
+                          gameManager.getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG),
+                          maxNumberAutoSaves);
                 } else {
                     LOGGER.error("Unable to perform an autosave because of a null or empty file name");
                 }
@@ -72,32 +113,164 @@ public record AutosaveService(AbstractGameManager gameManager) {
         }
     }
 
+    /**
+     * Saves the game to the given file like {@link AbstractGameManager#saveGame(String, boolean)}, but writes the file
+     * on the background writer thread. If the snapshot cannot be taken, the game is saved directly.
+     *
+     * @param fileName The filename to use
+     * @param sendChat When true, the saving (or error) is announced in chat
+     */
+    public void performAutosave(String fileName, boolean sendChat) {
+        saveInBackground(fileName, sendChat, 0);
+    }
+
+    /**
+     * @return The number of snapshots taken by this service
+     */
+    public long getSnapshotCount() {
+        return snapshotCount.get();
+    }
+
+    /**
+     * @return The time in nanoseconds the game thread spent on the last snapshot
+     */
+    public long getLastSnapshotNanos() {
+        return lastSnapshotNanos.get();
+    }
+
+    /**
+     * @return The longest time in nanoseconds the game thread spent on a snapshot
+     */
+    public long getMaxSnapshotNanos() {
+        return maxSnapshotNanos.get();
+    }
+
+    /**
+     * @return The total time in nanoseconds the game thread spent on snapshots
+     */
+    public long getTotalSnapshotNanos() {
+        return totalSnapshotNanos.get();
+    }
+
+    /**
+     * Sets the directory the autosaves are written to; the default is {@link MMConstants#SAVEGAME_DIR}.
+     *
+     * @param saveDirectory the save game directory
+     */
+    void setSaveDirectory(File saveDirectory) {
+        this.saveDirectory = saveDirectory;
+    }
+
+    /**
+     * Waits until all autosaves of this service taken so far have been written, e.g. before shutting down.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     *
+     * @return True when all autosaves have ended within the timeout
+     */
+    public boolean awaitPendingSaves(long timeout, TimeUnit unit) {
+        // The writer is a single thread working in order, so once the latest save is done, all are
+        Future<?> save = latestSave;
+        if (save == null) {
+            return true;
+        }
+        try {
+            save.get(timeout, unit);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (TimeoutException ex) {
+            return false;
+        } catch (CancellationException | ExecutionException ex) {
+            // The save has ended; a failure has already been logged
+            return true;
+        }
+    }
+
+    private void saveInBackground(String fileName, boolean sendChat, int maxRollingSaves) {
+        final String finalFileName = GameManagerSaveHelper.getSaveGamePath(fileName, saveDirectory);
+        final boolean binary = PreferenceManager.getClientPreferences().binarySaveGames();
+        final byte[] snapshot;
+        long start = System.nanoTime();
+        try {
+            snapshot = GameManagerSaveHelper.takeSnapshot(gameManager.getGame());
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Unable to take a snapshot of the game, saving {} directly", fileName);
+            gameManager.saveGame(fileName, sendChat);
+            return;
+        }
+        recordSnapshotTime(System.nanoTime() - start);
+        LOGGER.debug("Autosave snapshot of {} bytes took {} ms", snapshot.length,
+              TimeUnit.NANOSECONDS.toMillis(lastSnapshotNanos.get()));
+
+        final Server server = gameManager.getServer();
+        latestSave = writer.submit(() -> {
+            boolean saved;
+            try {
+                GameManagerSaveHelper.writeSnapshot(snapshot, binary, finalFileName);
+                saved = true;
+                if (maxRollingSaves > 0) {
+                    deleteOldRollingAutosaves(maxRollingSaves);
+                }
+            } catch (Exception ex) {
+                LOGGER.error(ex, "Unable to save file: {}", finalFileName);
+                saved = false;
+            }
+            if (sendChat && (server != null)) {
+                String message = saved ? "Game saved to " + finalFileName
+                      : "Could not save the game to " + finalFileName;
+                server.runOnGameThread(() -> gameManager.sendChat("MegaMek", message));
+            }
+        });
+    }
+
+    private void recordSnapshotTime(long nanos) {
+        snapshotCount.incrementAndGet();
+        lastSnapshotNanos.set(nanos);
+        maxSnapshotNanos.accumulateAndGet(nanos, Math::max);
+        totalSnapshotNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Deletes the oldest rolling autosaves so that at most the given number remains. Runs on the writer thread after
+     * the newest autosave has been written.
+     */
+    private void deleteOldRollingAutosaves(int maxNumberAutoSaves) {
+        final File[] files = saveDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        final List<File> autosaveFiles = getRollingAutosaves(files);
+        int index = 0;
+        while ((autosaveFiles.size() > maxNumberAutoSaves) && (autosaveFiles.size() > index)) {
+            if (autosaveFiles.get(index).delete()) {
+                autosaveFiles.remove(index);
+            } else {
+                LOGGER.error("Unable to delete file {}", autosaveFiles.get(index).getName());
+                index++;
+            }
+        }
+    }
+
+    /**
+     * @return All rolling autosave files among the given files in ascending order of modification
+     */
+    private static List<File> getRollingAutosaves(File[] files) {
+        return Arrays.stream(files)
+              .filter(f -> f.getName().startsWith(ROLLING_AUTOSAVE_PREFIX))
+              .sorted(Comparator.comparing(File::lastModified))
+              .collect(Collectors.toList());
+    }
+
     private @Nullable String getAutosaveFilename() {
         // Get all autosave files in ascending order of date creation
-        final String savesDirectoryPath = MMConstants.SAVEGAME_DIR;
-        final File folder = new File(savesDirectoryPath);
-        final File[] files = folder.listFiles();
+        final File[] files = saveDirectory.listFiles();
         if (files != null) {
-            final List<File> autosaveFiles = Arrays.stream(files)
-                  .filter(f -> f.getName().startsWith("Round-"))
-                  .sorted(Comparator.comparing(File::lastModified))
-                  .collect(Collectors.toList());
-
-            // Delete older autosave files if needed
-            final int maxNumberAutoSaves = gameManager.getGame().getOptions()
-                  .intOption(OptionsConstants.BASE_MAX_NUMBER_ROUND_SAVES);
-
-            int index = 0;
-            while ((autosaveFiles.size() >= maxNumberAutoSaves) && (autosaveFiles.size() > index)) {
-                if (autosaveFiles.get(index).delete()) {
-                    autosaveFiles.remove(index);
-                } else {
-                    LOGGER.error("Unable to delete file {}", autosaveFiles.get(index).getName());
-                    index++;
-                }
-            }
+            final List<File> autosaveFiles = getRollingAutosaves(files);
 
-            // Find a unique name for this autosave
+            // Find a unique name for this autosave; older autosaves are deleted after it has been written
             String fileName = null;
 
             boolean repeatedName = true;
@@ -122,4 +295,24 @@ public record AutosaveService(AbstractGameManager gameManager) {
         }
         return null;
     }
+
+    private static ThreadPoolExecutor createWriter() {
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, WRITER_KEEP_ALIVE, TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(MAX_PENDING_SNAPSHOTS), runnable -> {
+                  Thread thread = new Thread(runnable, "Autosave Writer");
+                  thread.setDaemon(true);
+                  return thread;
+              }, (runnable, executor) -> {
+                  if (!executor.isShutdown()) {
+                      LOGGER.warn("The autosave writer is falling behind, dropping the oldest waiting autosave");
+                      if (executor.getQueue().poll() instanceof Future<?> droppedSave) {
+                          droppedSave.cancel(false);
+                      }
+                      executor.execute(runnable);
+                  }
+              });
+        // The writer of a finished game must not keep its thread
+        writer.allowCoreThreadTimeOut(true);
+        return writer;
+    }
 }
@@ -45,7 +45,7 @@ public class ConnectionHandler implements Runnable {
 
     AbstractConnection connection;
 
-    boolean shouldStop = false;
+    volatile boolean shouldStop = false;
 
     ConnectionHandler(AbstractConnection c) {
         connection = c;
@@ -61,7 +61,7 @@ public class ConnectionHandler implements Runnable {
     @Override
     public void run() {
         while (!shouldStop) {
-            // Write out any queued packets
+            // Write out any queued packets, unless the server holds them for a send batch
             connection.flush();
             // Wait for input
             connection.update();
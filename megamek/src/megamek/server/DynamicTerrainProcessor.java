@@ -41,6 +41,7 @@ import megamek.common.Report;
 import megamek.common.board.Board;
 import megamek.common.board.BoardLocation;
 import megamek.common.board.Coords;
+import megamek.common.event.board.BoardEvent;
 import megamek.server.totalWarfare.TWGameManager;
 
 public abstract class DynamicTerrainProcessor {
@@ -58,13 +59,16 @@ public abstract class DynamicTerrainProcessor {
     public abstract void doEndPhaseChanges(Vector<Report> vPhaseReport);
 
     /**
-     * Marks the given hex as changed. All changes are sent to the clients after terrain processing is completed.
+     * Marks the given hex as changed. All changes are sent to the clients after terrain processing is completed; the
+     * server's board is notified right away.
      *
      * @param coords  The coords of the hex
      * @param boardId The board ID of the hex
      */
     void markHexUpdate(Coords coords, int boardId) {
         gameManager.getHexUpdateSet().add(BoardLocation.of(coords, boardId));
+        Board board = gameManager.getGame().getBoard(boardId);
+        board.processBoardEvent(new BoardEvent(board, coords, BoardEvent.BOARD_CHANGED_HEX));
     }
 
     /**
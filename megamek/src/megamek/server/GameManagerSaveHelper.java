@@ -37,6 +37,7 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -49,6 +50,8 @@ import java.util.zip.GZIPOutputStream;
 import megamek.MMConstants;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.packets.Packet;
+import megamek.common.preference.PreferenceManager;
+import megamek.common.util.BinarySaveGame;
 import megamek.common.util.SerializationHelper;
 import megamek.logging.MMLogger;
 
@@ -62,6 +65,86 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
      * @param sendChat When true, the saving (or error) is announced in chat
      */
     void saveGame(String fileName, boolean sendChat) {
+        String finalFileName = getSaveGamePath(fileName);
+
+        try (OutputStream os = new FileOutputStream(finalFileName + ".gz")) {
+            if (PreferenceManager.getClientPreferences().binarySaveGames()) {
+                try (OutputStream gzo = BinarySaveGame.createCompressedStream(os)) {
+                    BinarySaveGame.write(gameManager.getGame(), gzo);
+                }
+            } else {
+                writeXml(gameManager.getGame(), os);
+            }
+        } catch (Exception e) {
+            String message = String.format("Unable to save file: %s", finalFileName);
+            LOGGER.error(e, message);
+
+            if (sendChat) {
+                gameManager.sendChat("MegaMek", "Could not save the game to " + finalFileName);
+            }
+        }
+
+        if (sendChat) {
+            gameManager.sendChat("MegaMek", "Game saved to " + finalFileName);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the game for {@link #writeSnapshot(byte[], boolean, String)}: the game serialized with
+     * {@link BinarySaveGame#serialize(Object)}, for XML save games too, as serializing is much faster than converting
+     * to XML. Must be called on the game thread; the snapshot can then be written on any thread.
+     *
+     * @param game The game
+     *
+     * @return The snapshot
+     */
+    static byte[] takeSnapshot(Object game) throws IOException {
+        return BinarySaveGame.serialize(game);
+    }
+
+    /**
+     * Writes a game snapshot taken with {@link #takeSnapshot(Object)} to a save game file. For an XML save game, the
+     * snapshot is deserialized into a private copy of the game that is then converted to XML. Does not access the live
+     * game and can therefore be called from any thread.
+     *
+     * @param snapshot      The game snapshot
+     * @param binary        True for a binary save game, false for XML
+     * @param finalFileName The save game path as returned by {@link #getSaveGamePath(String)}
+     */
+    static void writeSnapshot(byte[] snapshot, boolean binary, String finalFileName) throws Exception {
+        try (OutputStream os = new FileOutputStream(finalFileName + ".gz")) {
+            if (binary) {
+                try (OutputStream gzo = BinarySaveGame.createCompressedStream(os)) {
+                    BinarySaveGame.writeSerializedGame(snapshot, gzo);
+                }
+            } else {
+                writeXml(BinarySaveGame.deserialize(snapshot), os);
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the save game file for the given file name, without the .gz extension. Creates the save game
+     * directory if necessary.
+     *
+     * @param fileName The filename to use
+     *
+     * @return The path of the save game file without the .gz extension
+     */
+    String getSaveGamePath(String fileName) {
+        return getSaveGamePath(fileName, new File(MMConstants.SAVEGAME_DIR));
+    }
+
+    /**
+     * Returns the path of the save game file for the given file name in the given directory, without the .gz
+     * extension. Creates the directory if necessary.
+     *
+     * @param fileName    The filename to use
+     * @param saveGameDir The directory of the save game
+     *
+     * @return The path of the save game file without the .gz extension
+     */
+    static String getSaveGamePath(String fileName, File saveGameDir) {
         // We need to strip the .gz if it exists, otherwise we'll double up on it.
         if (fileName.endsWith(".gz")) {
             fileName = fileName.replace(".gz", "");
@@ -72,28 +155,17 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
             finalFileName = fileName + MMConstants.SAVE_FILE_EXT;
         }
 
-        File saveGameDir = new File(MMConstants.SAVEGAME_DIR);
         if (!saveGameDir.exists()) {
             saveGameDir.mkdir();
         }
 
-        finalFileName = saveGameDir + File.separator + finalFileName;
+        return saveGameDir + File.separator + finalFileName;
+    }
 
-        try (OutputStream os = new FileOutputStream(finalFileName + ".gz");
-              OutputStream gzo = new GZIPOutputStream(os);
+    private static void writeXml(Object game, OutputStream os) throws Exception {
+        try (OutputStream gzo = new GZIPOutputStream(os);
               Writer writer = new OutputStreamWriter(gzo, StandardCharsets.UTF_8)) {
-            SerializationHelper.getSaveGameXStream().toXML(gameManager.getGame(), writer);
-        } catch (Exception e) {
-            String message = String.format("Unable to save file: %s", finalFileName);
-            LOGGER.error(e, message);
-
-            if (sendChat) {
-                gameManager.sendChat("MegaMek", "Could not save the game to " + finalFileName);
-            }
-        }
-
-        if (sendChat) {
-            gameManager.sendChat("MegaMek", "Game saved to " + finalFileName);
+            SerializationHelper.getSaveGameXStream().toXML(game, writer);
         }
     }
 
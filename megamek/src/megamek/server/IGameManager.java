@@ -57,6 +57,13 @@ public interface IGameManager {
      */
     void setGame(IGame g);
 
+    /**
+     * Sets the server that hosts the game of this manager. Called by the server when it is created.
+     *
+     * @param server the server
+     */
+    default void setServer(Server server) {}
+
     /**
      * Resets the {@link IGame game} instance. Resetting the game removes all content and returns to the lobby but keeps
      * connected players.
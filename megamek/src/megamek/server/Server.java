@@ -44,21 +44,25 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 
-import com.thoughtworks.xstream.XStream;
 import megamek.MMConstants;
 import megamek.SuiteConstants;
 import megamek.Version;
@@ -74,11 +78,15 @@ import megamek.common.game.IGame;
 import megamek.common.icons.Camouflage;
 import megamek.common.loaders.MapSettings;
 import megamek.common.net.connections.AbstractConnection;
+import megamek.common.net.connections.LoopbackConnection;
+import megamek.common.net.connections.SharedPacket;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.OptionsConstants;
@@ -110,6 +118,16 @@ public class Server implements Runnable {
 
     private final ReentrantLock GAME_LOCK = new ReentrantLock();
 
+    /** The time in seconds to wait for pending autosaves when shutting down */
+    private static final int AUTOSAVE_SHUTDOWN_TIMEOUT = 30;
+
+    /** Guards the send batch; a lock as the batch is sent while holding it */
+    private final ReentrantLock sendBatchLock = new ReentrantLock();
+
+    /** The connections that have packets queued in the open send batch */
+    private final Set<AbstractConnection> sendBatchConnections = new LinkedHashSet<>();
+    private int sendBatchDepth;
+
     public static class ReceivedPacket {
         private int connectionId;
         private Packet packet;
@@ -136,8 +154,26 @@ public class Server implements Runnable {
         }
     }
 
+    /** A task that waits with the received packets for the packet pump, see {@link #runOnGameThread(Runnable)} */
+    private static final class QueuedTask extends ReceivedPacket {
+        private final Runnable task;
+
+        QueuedTask(Runnable task) {
+            super(-1, null);
+            this.task = task;
+        }
+
+        void run() {
+            try {
+                task.run();
+            } catch (Exception ex) {
+                LOGGER.error("", ex);
+            }
+        }
+    }
+
     private class PacketPump implements Runnable {
-        boolean shouldStop;
+        volatile boolean shouldStop;
 
         PacketPump() {
             shouldStop = false;
@@ -150,16 +186,17 @@ public class Server implements Runnable {
         @Override
         public void run() {
             while (!shouldStop) {
-                while (!packetQueue.isEmpty()) {
-                    ReceivedPacket rp = packetQueue.poll();
-                    synchronized (serverLock) {
-                        handle(rp.getConnectionId(), rp.getPacket());
-                    }
-                }
-
                 try {
-                    synchronized (packetQueue) {
-                        packetQueue.wait();
+                    ReceivedPacket rp = packetQueue.take();
+                    serverLock.lock();
+                    try {
+                        if (rp instanceof QueuedTask queuedTask) {
+                            queuedTask.run();
+                        } else {
+                            handle(rp.getConnectionId(), rp.getPacket());
+                        }
+                    } finally {
+                        serverLock.unlock();
                     }
                 } catch (InterruptedException ignored) {
                     // If we are interrupted, just keep going, generally this happens after we are signalled to stop.
@@ -176,7 +213,7 @@ public class Server implements Runnable {
 
     private final Map<Integer, ConnectionHandler> connectionHandlers = new ConcurrentHashMap<>();
 
-    private final ConcurrentLinkedQueue<ReceivedPacket> packetQueue = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<ReceivedPacket> packetQueue = new LinkedBlockingQueue<>();
 
     private final boolean dedicated;
 
@@ -192,18 +229,27 @@ public class Server implements Runnable {
     private final PacketPump packetPump;
     private Thread packetPumpThread;
 
-    private final Timer watchdogTimer = new Timer("Watchdog Timer");
+    private final Timer watchdogTimer;
 
     private static Server serverInstance = null;
 
+    /**
+     * When enabled, each new server is also the server instance of the thread that creates it and of all threads that
+     * thread starts afterwards (such as its clients), see {@link #setIsolatedInstances(boolean)}.
+     */
+    private static volatile boolean isolatedInstances = false;
+    private static final InheritableThreadLocal<Server> threadServerInstance = new InheritableThreadLocal<>();
+
     private String serverAccessKey = null;
 
     private Timer serverBrowserUpdateTimer = null;
 
     /**
-     * Used to ensure only one thread at a time is accessing this particular instance of the server.
+     * Used to ensure only one thread at a time is accessing this particular instance of the server. Packets are sent
+     * while holding it, so it is a lock rather than a monitor: connection handlers on virtual threads that wait for it
+     * park instead of pinning their carrier thread.
      */
-    private final Object serverLock = new Object();
+    private final ReentrantLock serverLock = new ReentrantLock();
 
     public static final String ORIGIN = "***Server";
 
@@ -242,7 +288,8 @@ public class Server implements Runnable {
             LOGGER.info("s: connect {} disconnected.", conn.getId());
 
             connections.remove(conn);
-            synchronized (serverLock) {
+            serverLock.lock();
+            try {
                 connectionsPending.remove(conn);
                 connectionIds.remove(conn.getId());
                 ConnectionHandler ch = connectionHandlers.get(conn.getId());
@@ -250,6 +297,8 @@ public class Server implements Runnable {
                     ch.signalStop();
                     connectionHandlers.remove(conn.getId());
                 }
+            } finally {
+                serverLock.unlock();
             }
 
             // if there's a player for this connection, remove it too
@@ -287,20 +336,14 @@ public class Server implements Runnable {
                         sendServerChat("Game is resumed.");
                     }
                     isPaused = false;
-                    synchronized (packetQueue) {
-                        packetQueue.addAll(pausedWaitingList);
-                        packetQueue.notifyAll();
-                    }
+                    packetQueue.addAll(pausedWaitingList);
                     pausedWaitingList.clear();
                     break;
                 default:
                     if (isPaused) {
                         pausedWaitingList.add(rp);
                     } else {
-                        synchronized (packetQueue) {
-                            packetQueue.add(rp);
-                            packetQueue.notifyAll();
-                        }
+                        packetQueue.add(rp);
                     }
                     break;
             }
@@ -402,11 +445,17 @@ public class Server implements Runnable {
         this.metaServerUrl = StringUtility.isNullOrBlank(metaServerUrl) ? null : metaServerUrl;
         this.password = StringUtility.isNullOrBlank(password) ? null : password;
         this.gameManager = gameManager;
+        gameManager.setServer(this);
         this.mailer = mailer;
         this.dedicated = dedicated;
 
-        // initialize server socket
-        serverSocket = new ServerSocket(port);
+        // initialize server socket; a dedicated server accepts channel connections that are handled on virtual
+        // threads, so it can serve many clients without a platform thread for each
+        if (dedicated) {
+            serverSocket = ServerSocketChannel.open().bind(new InetSocketAddress(port)).socket();
+        } else {
+            serverSocket = new ServerSocket(port);
+        }
 
         messageOfTheDay = createMOTD();
 
@@ -432,6 +481,13 @@ public class Server implements Runnable {
             registerCommand(command);
         }
 
+        // Must be set before this server starts any threads so that they inherit it. No thread is started before the
+        // socket is bound, so that a server that fails to start leaves no threads behind.
+        if (isolatedInstances) {
+            threadServerInstance.set(this);
+        }
+
+        watchdogTimer = new Timer("Watchdog Timer");
         packetPump = new PacketPump();
         packetPumpThread = new Thread(packetPump, "Packet Pump");
         packetPumpThread.start();
@@ -525,6 +581,15 @@ public class Server implements Runnable {
      */
     public void die() {
         watchdogTimer.cancel();
+        if (threadServerInstance.get() == this) {
+            threadServerInstance.remove();
+        }
+
+        // let the autosave writer of this server's game finish
+        if ((gameManager instanceof AbstractGameManager manager)
+              && !manager.getAutoSaveService().awaitPendingSaves(AUTOSAVE_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+            LOGGER.warn("Shutting down before all autosaves were written");
+        }
 
         // kill thread accepting new connections
         connector = null;
@@ -688,6 +753,22 @@ public class Server implements Runnable {
         return true;
     }
 
+    /**
+     * Returns the marshalling type to use for packets sent to a client. The client may request a type along with its
+     * version; that type is used when this server knows it, otherwise Java native serialization is used.
+     *
+     * @param packet the CLIENT_VERSIONS packet
+     *
+     * @return the marshalling type to use for the connection
+     */
+    private int negotiateMarshallingType(Packet packet) {
+        if ((packet.getObject(1) instanceof Integer requestedType)
+              && (PacketMarshallerFactory.getInstance().getMarshaller(requestedType) != null)) {
+            return requestedType;
+        }
+        return PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING;
+    }
+
     /**
      * Receives a player name, sent from a pending connection, and connects that connection.
      */
@@ -946,8 +1027,7 @@ public class Server implements Runnable {
                 gzi = is;
             }
 
-            XStream xStream = SerializationHelper.getLoadSaveGameXStream();
-            newGame = (Game) xStream.fromXML(gzi);
+            newGame = (Game) SerializationHelper.loadSaveGame(gzi);
         } catch (Exception e) {
             message = String.format("Unable to load file: %s", f);
             LOGGER.error(e, message);
@@ -1269,23 +1349,109 @@ public class Server implements Runnable {
     }
 
     /**
-     * Sends the given packet to all connections (all connected Clients = players).
+     * Sends the given packet to all connections (all connected Clients = players). The packet is marshalled only once.
      */
     void send(Packet packet) {
-        connections.stream().filter(Objects::nonNull).forEach(connection -> connection.send(packet));
+        SharedPacket sharedPacket = new SharedPacket(packet);
+        if (!queueInSendBatch(connections, sharedPacket)) {
+            connections.stream().filter(Objects::nonNull).forEach(connection -> connection.send(sharedPacket));
+        }
     }
 
     /**
-     * Sends the given packet to the given connection (= player ID) if it is not null. Does nothing otherwise.
+     * Sends the given packet to the given connection (= player ID) if it is not null. Does nothing otherwise. Client
+     * feedback requests are never held back in a send batch, as the server waits for their answer.
      */
     public void send(int connId, Packet packet) {
         AbstractConnection connection = getClient(connId);
-
-        if (connection != null) {
+        if (connection == null) {
+            return;
+        }
+        if (packet.command() == PacketCommand.CLIENT_FEEDBACK_REQUEST) {
+            // Written together with and after the packets already queued for this connection, so the order is kept
+            connection.sendThroughHold(packet);
+        } else if (!queueInSendBatch(List.of(connection), new SharedPacket(packet))) {
             connection.send(packet);
         }
     }
 
+    /**
+     * Queues the given packet on the given connections if a send batch is open. The packet is marshalled right away,
+     * so later changes to the objects it carries are not sent.
+     *
+     * @return true if the packet was queued, false if there is no open send batch
+     */
+    private boolean queueInSendBatch(Collection<AbstractConnection> recipients, SharedPacket packet) {
+        sendBatchLock.lock();
+        try {
+            if (sendBatchDepth == 0) {
+                return false;
+            }
+            for (AbstractConnection connection : recipients) {
+                if (connection != null) {
+                    if (sendBatchConnections.add(connection)) {
+                        connection.holdSends();
+                    }
+                    connection.queue(packet);
+                }
+            }
+            return true;
+        } finally {
+            sendBatchLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the given task on the packet pump thread, which handles the received packets one at a time while holding the
+     * server lock, after the packets received so far. Use this to act on the game from another thread, e.g. to announce
+     * the result of a background task in chat.
+     *
+     * @param task the task to run
+     */
+    public void runOnGameThread(Runnable task) {
+        packetQueue.add(new QueuedTask(task));
+    }
+
+    /**
+     * Opens a send batch. Until the matching {@link #endSendBatch()}, packets sent through {@link #send(Packet)} and
+     * {@link #send(int, Packet)} are marshalled and queued on their connections, and these connections hold all their
+     * queued packets (see {@link AbstractConnection#holdSends()}). When the batch ends, each connection writes all its
+     * queued packets at once, in the original order and, where the connection supports it, in a single write. As the packets are marshalled when
+     * they are sent, they carry the state of that moment even if the game changes the objects they contain before the
+     * batch ends. Batches can be nested; only the outermost one writes. Client feedback requests are the exception: the
+     * server waits for their answer, so they are written right away, after the packets already queued for their
+     * connection.
+     * <p>
+     * Always close the batch in a finally block.
+     */
+    public void beginSendBatch() {
+        sendBatchLock.lock();
+        try {
+            sendBatchDepth++;
+        } finally {
+            sendBatchLock.unlock();
+        }
+    }
+
+    /**
+     * Closes a send batch opened with {@link #beginSendBatch()} and, if it is the outermost one, writes the queued
+     * packets.
+     */
+    public void endSendBatch() {
+        sendBatchLock.lock();
+        try {
+            if (sendBatchDepth > 0) {
+                sendBatchDepth--;
+                if (sendBatchDepth == 0) {
+                    sendBatchConnections.forEach(AbstractConnection::releaseSends);
+                    sendBatchConnections.clear();
+                }
+            }
+        } finally {
+            sendBatchLock.unlock();
+        }
+    }
+
     /**
      * Send a packet to a pending connection
      */
@@ -1346,7 +1512,16 @@ public class Server implements Runnable {
                 case CLIENT_VERSIONS:
                     final boolean valid = receivePlayerVersion(packet, connId);
                     if (valid) {
-                        sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING));
+                        final int marshallingType = negotiateMarshallingType(packet);
+                        // A client that supports stream compression says so along with its version
+                        final boolean streamCompression = Boolean.TRUE.equals(packet.getObject(2));
+                        sendToPending(connId,
+                              new Packet(PacketCommand.SERVER_GREETING, marshallingType, streamCompression));
+                        AbstractConnection pendingConnection = getPendingConnection(connId);
+                        if (pendingConnection != null) {
+                            pendingConnection.setMarshallingType(marshallingType);
+                            pendingConnection.setStreamCompression(streamCompression);
+                        }
                     } else {
                         sendToPending(connId, new Packet(PacketCommand.ILLEGAL_CLIENT_VERSION, SuiteConstants.VERSION));
                         getPendingConnection(connId).close();
@@ -1436,23 +1611,15 @@ public class Server implements Runnable {
         while (connector == currentThread) {
             try {
                 Socket s = serverSocket.accept();
-                synchronized (serverLock) {
+                serverLock.lock();
+                try {
                     int id = getFreeConnectionId();
                     message = String.format("s: accepting player connection #%d...", id);
                     LOGGER.info(message);
 
-                    AbstractConnection c = ConnectionFactory.getInstance().createServerConnection(s, id);
-                    c.addConnectionListener(connectionListener);
-                    c.open();
-                    connectionsPending.add(c);
-                    ConnectionHandler ch = new ConnectionHandler(c);
-                    Thread newConnThread = new Thread(ch, "Connection " + id);
-                    newConnThread.start();
-                    connectionHandlers.put(id, ch);
-
-                    clientVersionCheck(id);
-                    ConnectionWatchdog w = new ConnectionWatchdog(this, id);
-                    watchdogTimer.schedule(w, 1000, 500);
+                    acceptConnection(ConnectionFactory.getInstance().createServerConnection(s, id));
+                } finally {
+                    serverLock.unlock();
                 }
             } catch (Exception ignored) {
 
@@ -1460,6 +1627,50 @@ public class Server implements Runnable {
         }
     }
 
+    /**
+     * Connects a client running in the same JVM without a socket, see {@link LoopbackConnection}. The client must be
+     * connected with the returned connection using {@link megamek.client.AbstractClient#connect(AbstractConnection)};
+     * it then goes through the same version check and player setup as a client connected over the network.
+     *
+     * @return the client end of the new connection
+     */
+    public AbstractConnection createLoopbackConnection() {
+        serverLock.lock();
+        try {
+            int id = getFreeConnectionId();
+            LOGGER.info("s: accepting loopback player connection #{}...", id);
+            LoopbackConnection serverEnd = new LoopbackConnection(id);
+            LoopbackConnection clientEnd = serverEnd.createClientEnd();
+            acceptConnection(serverEnd);
+            return clientEnd;
+        } finally {
+            serverLock.unlock();
+        }
+    }
+
+    /**
+     * Starts handling the given new connection and asks the client for its version. Must be called while holding the
+     * serverLock.
+     */
+    private void acceptConnection(AbstractConnection c) {
+        int id = c.getId();
+        c.addConnectionListener(connectionListener);
+        c.open();
+        connectionsPending.add(c);
+        ConnectionHandler ch = new ConnectionHandler(c);
+        if (dedicated) {
+            Thread.ofVirtual().name("Connection " + id).start(ch);
+        } else {
+            Thread newConnThread = new Thread(ch, "Connection " + id);
+            newConnThread.start();
+        }
+        connectionHandlers.put(id, ch);
+
+        clientVersionCheck(id);
+        ConnectionWatchdog w = new ConnectionWatchdog(this, id);
+        watchdogTimer.schedule(w, 1000, 500);
+    }
+
     /**
      * @return a <code>String</code> representing the hostname
      */
@@ -1483,7 +1694,47 @@ public class Server implements Runnable {
      * @return the current server instance. This may be null if a server has not been started
      */
     public static @Nullable Server getServerInstance() {
-        return serverInstance;
+        Server threadServer = threadServerInstance.get();
+        return (threadServer != null) ? threadServer : serverInstance;
+    }
+
+    /**
+     * Enables or disables isolated server instances. When enabled, a new server is returned by
+     * {@link #getServerInstance()} on the thread that created it and on all threads that thread starts afterwards,
+     * which includes the server's own threads and those of clients connected from that thread. This allows several
+     * games to run concurrently in one JVM, each on its own thread, see {@link megamek.utilities.AIMatchRunner}.
+     * Disabled by default; on other threads, the last server created is returned as usual.
+     */
+    public static void setIsolatedInstances(boolean enabled) {
+        isolatedInstances = enabled;
+    }
+
+    /**
+     * Wraps the given task so that it sees the server instance of the current thread when it runs on a thread that
+     * does not inherit it, such as a thread of a shared pool. See {@link #setIsolatedInstances(boolean)}.
+     *
+     * @param task the task
+     *
+     * @return the wrapped task, or the task itself when the current thread has no isolated server instance
+     */
+    public static <T> Callable<T> withCurrentServerInstance(Callable<T> task) {
+        Server server = threadServerInstance.get();
+        if (server == null) {
+            return task;
+        }
+        return () -> {
+            Server previous = threadServerInstance.get();
+            threadServerInstance.set(server);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    threadServerInstance.remove();
+                } else {
+                    threadServerInstance.set(previous);
+                }
+            }
+        };
     }
 
     private void registerWithServerBrowser(boolean register, String urlString) {
@@ -53,7 +53,7 @@ public class WhoCommand extends ServerCommand {
     public void run(int connId, String[] args) {
         server.sendServerChat(connId, "Listing all connections...");
         server.sendServerChat(
-              connId, "[id#] : [name], [address], [pending], [bytes sent], [bytes received]");
+              connId, "[id#] : [name], [address], [pending], [bytes sent], [bytes received], [compression ratio]");
 
         final boolean includeIPAddress = PreferenceManager.getClientPreferences().getShowIPAddressesInChat();
         server.forEachConnection(conn ->
@@ -68,6 +68,7 @@ public class WhoCommand extends ServerCommand {
               + (includeIPAddress ? conn.getInetAddress() : "<hidden>")
               + ", " + conn.hasPending() + ", "
               + conn.getBytesSent()
-              + ", " + conn.getBytesReceived();
+              + ", " + conn.getBytesReceived()
+              + ", " + String.format("%.2f", conn.getCompressionRatio());
     }
 }
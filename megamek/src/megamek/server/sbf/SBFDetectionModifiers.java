@@ -35,6 +35,7 @@ package megamek.server.sbf;
 
 import static megamek.common.alphaStrike.BattleForceSUA.*;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +45,8 @@ import megamek.common.strategicBattleSystems.SBFElementType;
 import megamek.common.strategicBattleSystems.SBFFormation;
 
 public class SBFDetectionModifiers extends TargetRoll {
+    @Serial
+    private static final long serialVersionUID = -2287033473870416009L;
 
     public SBFDetectionModifiers(SBFFormation viewer, SBFFormation target) {
         sensorTargetRollModifiers(viewer, target).forEach(this::addModifier);
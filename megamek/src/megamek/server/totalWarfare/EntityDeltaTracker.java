@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitLocation;
+import megamek.common.util.BinaryDelta;
+
+/**
+ * Keeps, for every player, the serialized state of each unit as last sent to that player in an
+ * {@link PacketCommand#ENTITY_UPDATE_DELTA} packet, and creates those packets. A packet carries only a binary delta
+ * against that baseline when one exists and the full serialized unit otherwise. The Client keeps the same baselines;
+ * when it cannot apply a delta, it asks for a resync ({@link PacketCommand#ENTITY_UPDATE_RESYNC}) and the baseline is
+ * dropped here, so the next update is sent in full. Baselines are dropped when a player disconnects and, once per
+ * phase, for units that have left the game, so their number is bounded by the players times the units in the game.
+ * A unit is serialized and indexed for delta creation once per update; all recipients share that baseline.
+ *
+ * @see megamek.client.EntityDeltaReceiver
+ */
+class EntityDeltaTracker {
+
+    private final Map<Integer, Map<Integer, BinaryDelta.Base>> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes the given unit once so that the result can be passed to
+     * {@link #createUpdatePacket(int, int, BinaryDelta.Base, Vector)} for every recipient. The result is indexed right
+     * away, as it becomes the baseline of every recipient that later deltas are created against.
+     *
+     * @param entity the unit
+     *
+     * @return the serialized unit with its block index
+     */
+    static BinaryDelta.Base serialize(Entity entity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        }
+        return new BinaryDelta.Base(bytes.toByteArray());
+    }
+
+    /**
+     * Returns an update packet for the given player and stores the serialized unit as that player's new baseline.
+     *
+     * @param playerId         the recipient
+     * @param entityId         the unit ID
+     * @param serializedEntity the unit as returned by {@link #serialize(Entity)}
+     * @param movePath         the optional move path to animate, as in {@link PacketCommand#ENTITY_UPDATE}
+     *
+     * @return the packet to send
+     */
+    Packet createUpdatePacket(int playerId, int entityId, BinaryDelta.Base serializedEntity,
+          @Nullable Vector<UnitLocation> movePath) {
+        Map<Integer, BinaryDelta.Base> playerBaselines = baselines.computeIfAbsent(playerId,
+              id -> new ConcurrentHashMap<>());
+        BinaryDelta.Base baseline = playerBaselines.put(entityId, serializedEntity);
+        boolean isFull = baseline == null;
+        byte[] data = isFull ? serializedEntity.data() : BinaryDelta.create(baseline, serializedEntity.data());
+        return new Packet(PacketCommand.ENTITY_UPDATE_DELTA, entityId, isFull, data,
+              BinaryDelta.checksum(serializedEntity.data()), movePath);
+    }
+
+    /**
+     * Drops the baseline of the given unit for the given player, so the next update is sent in full.
+     */
+    void resync(int playerId, int entityId) {
+        Map<Integer, BinaryDelta.Base> playerBaselines = baselines.get(playerId);
+        if (playerBaselines != null) {
+            playerBaselines.remove(entityId);
+        }
+    }
+
+    /**
+     * Drops the baselines of all units that the given test rejects, e.g. units that have left the game.
+     *
+     * @param keepEntity the test of a unit ID; true to keep the baselines of that unit
+     */
+    void retainEntities(IntPredicate keepEntity) {
+        for (Map<Integer, BinaryDelta.Base> playerBaselines : baselines.values()) {
+            playerBaselines.keySet().removeIf(entityId -> !keepEntity.test(entityId));
+        }
+    }
+
+    /**
+     * @return the number of baselines kept for the given player
+     */
+    int baselineCount(int playerId) {
+        Map<Integer, BinaryDelta.Base> playerBaselines = baselines.get(playerId);
+        return (playerBaselines == null) ? 0 : playerBaselines.size();
+    }
+
+    /**
+     * Drops all baselines of the given player, e.g. when the player (re-)connects with a fresh Client.
+     */
+    void clearPlayer(int playerId) {
+        baselines.remove(playerId);
+    }
+
+    /**
+     * Drops all baselines.
+     */
+    void clear() {
+        baselines.clear();
+    }
+}
@@ -45,7 +45,6 @@ import megamek.client.ui.panels.phaseDisplay.MovementDisplay;
 import megamek.common.Hex;
 import megamek.common.HitData;
 import megamek.common.IndustrialElevator;
-import megamek.common.LosEffects;
 import megamek.common.MPCalculationSetting;
 import megamek.common.Player;
 import megamek.common.Report;
@@ -97,7 +96,6 @@ class MovePathHandler extends AbstractTWRuleHandler {
 
     private final Entity entity;
     private final MovePath md;
-    private final Map<UnitTargetPair, LosEffects> losCache;
 
     private boolean sideslipped = false;
     private Coords lastPos;
@@ -162,14 +160,11 @@ class MovePathHandler extends AbstractTWRuleHandler {
      * @param gameManager The server's GameManager
      * @param entity      The Entity that is moving
      * @param md          The MovePath that defines how the Entity moves
-     * @param losCache    A cache that stores Los between various Entities and targets. In double-blind games, we may
-     *                    need to compute a lot of LosEffects, so caching them can really speed things up.
      */
-    MovePathHandler(TWGameManager gameManager, Entity entity, MovePath md, Map<UnitTargetPair, LosEffects> losCache) {
+    MovePathHandler(TWGameManager gameManager, Entity entity, MovePath md) {
         super(gameManager);
         this.entity = entity;
         this.md = md;
-        this.losCache = (losCache == null) ? new HashMap<>() : losCache;
     }
 
     /**
@@ -1823,7 +1818,7 @@ class MovePathHandler extends AbstractTWRuleHandler {
         // Update the entity's position,
         // unless it is off the game map.
         if (!getGame().isOutOfGame(entity)) {
-            gameManager.entityUpdate(entity.getId(), movePath, true, losCache);
+            gameManager.entityUpdate(entity.getId(), movePath, true, null);
             if (entity.isDoomed()) {
                 gameManager.send(gameManager.createRemoveEntityPacket(entity.getId(),
                       entity.getRemovalCondition()));
@@ -1893,7 +1888,7 @@ class MovePathHandler extends AbstractTWRuleHandler {
         // if using double-blind, update the player on new units he might see
         if (gameManager.doBlind()) {
             gameManager.send(entity.getOwner().getId(),
-                  gameManager.createFilteredFullEntitiesPacket(entity.getOwner(), losCache));
+                  gameManager.createFilteredFullEntitiesPacket(entity.getOwner(), null));
         }
 
         // if we generated a charge attack, report it now
@@ -2098,7 +2093,7 @@ class MovePathHandler extends AbstractTWRuleHandler {
                         // End this entity's turn _without_ updating its position to the current step, because the
                         // current step position is actually illegal; it will keep the previous step's position.
                         this.entity.setDone(true);
-                        gameManager.entityUpdate(this.entity.getId(), movePath, true, losCache);
+                        gameManager.entityUpdate(this.entity.getId(), movePath, true, null);
                         if (jumping) {
                             break;
                         }
@@ -40,6 +40,7 @@ import static megamek.common.options.OptionsConstants.RPG_INDIVIDUAL_INITIATIVE;
 import static megamek.common.weapons.handlers.AreaEffectHelper.calculateDamageFallOff;
 
 import java.io.File;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -61,7 +62,6 @@ import megamek.common.board.Coords;
 import megamek.common.comparators.WeaponComparatorBV;
 import megamek.common.compute.Compute;
 import megamek.common.compute.ComputeArc;
-import megamek.common.compute.ComputeECM;
 import megamek.common.compute.ComputeSideTable;
 import megamek.common.containers.PlayerIDAndList;
 import megamek.common.enums.BasementType;
@@ -77,6 +77,7 @@ import megamek.common.equipment.enums.BombType;
 import megamek.common.equipment.enums.BombType.BombTypeEnum;
 import megamek.common.equipment.enums.MiscTypeFlag;
 import megamek.common.event.GameToastEvent;
+import megamek.common.event.board.BoardEvent;
 import megamek.common.exceptions.LocationFullException;
 import megamek.common.force.Force;
 import megamek.common.force.Forces;
@@ -116,6 +117,7 @@ import megamek.common.turns.TurnOrdered;
 import megamek.common.turns.TurnVectors;
 import megamek.common.turns.UnloadStrandedTurn;
 import megamek.common.units.*;
+import megamek.common.util.BinaryDelta;
 import megamek.common.util.BoardUtilities;
 import megamek.common.util.C3Util;
 import megamek.common.util.EmailService;
@@ -219,6 +221,8 @@ public class TWGameManager extends AbstractGameManager {
     private final InfantryActionTracker infantryActionTracker = new InfantryActionTracker();
     private final BuildingCollapseHandler buildingCollapseHandler = new BuildingCollapseHandler(this);
     private final DeploymentProcessor deploymentProcessor = new DeploymentProcessor(this);
+    private final EntityDeltaTracker entityDeltaTracker = new EntityDeltaTracker();
+    private final VisibilityEngine visibilityEngine = new VisibilityEngine();
     final HeatResolver heatResolver = new HeatResolver(this);
     private final MinefieldManager minefieldManager = new MinefieldManager(this);
 
@@ -389,6 +393,8 @@ public class TWGameManager extends AbstractGameManager {
     public void resetGame() {
         // remove all entities
         getGame().reset();
+        entityDeltaTracker.clear();
+        visibilityEngine.clear();
         send(createEntitiesPacket());
         send(new Packet(PacketCommand.SENDING_MINEFIELDS, new Vector<>()));
 
@@ -415,8 +421,8 @@ public class TWGameManager extends AbstractGameManager {
         // Write end of game to stdout so controlling scripts can rotate logs.
         LOGGER.info("{} END OF GAME", LocalDateTime.now());
 
-        if (Server.getServerInstance().getEmailService() != null) {
-            Server.getServerInstance().getEmailService().reset();
+        if (getServer().getEmailService() != null) {
+            getServer().getEmailService().reset();
         }
 
         changePhase(GamePhase.LOUNGE);
@@ -704,6 +710,8 @@ public class TWGameManager extends AbstractGameManager {
             applyGameMasterPollOutcome();
         }
 
+        entityDeltaTracker.clearPlayer(player.getId());
+
         // notify other players
         sendServerChat(player.getName() + " disconnected.");
 
@@ -829,6 +837,8 @@ public class TWGameManager extends AbstractGameManager {
      */
     @Override
     public void sendCurrentInfo(int connId) {
+        // A (re-)connecting Client has no unit baselines yet
+        entityDeltaTracker.clearPlayer(connId);
         send(connId, packetHelper.createGameSettingsPacket());
         send(connId, packetHelper.createPlanetaryConditionsPacket());
 
@@ -977,6 +987,9 @@ public class TWGameManager extends AbstractGameManager {
                     receiveEntityUpdate(packet, connId);
                     resetPlayersDone();
                     break;
+                case ENTITY_UPDATE_RESYNC:
+                    receiveEntityUpdateResync(packet, connId);
+                    break;
                 case ENTITY_DAMAGE_EDIT:
                     receiveDamageEdit(packet, connId);
                     break;
@@ -2134,6 +2147,8 @@ public class TWGameManager extends AbstractGameManager {
 
     @Override
     protected void prepareForCurrentPhase() {
+        // Units that have left the game get no more updates
+        entityDeltaTracker.retainEntities(game::hasEntity);
         phasePreparationManager.managePhase();
     }
 
@@ -2495,7 +2510,7 @@ public class TWGameManager extends AbstractGameManager {
                 break;
             case MOVEMENT:
                 if (toSkip != null) {
-                    MovePathHandler handler = new MovePathHandler(this, toSkip, new MovePath(game, toSkip), null);
+                    MovePathHandler handler = new MovePathHandler(this, toSkip, new MovePath(game, toSkip));
                     handler.processMovement();
                 }
                 endCurrentTurn(toSkip);
@@ -4209,7 +4224,6 @@ public class TWGameManager extends AbstractGameManager {
      * Receives an entity movement packet, and if valid, executes it and ends the current turn.
      */
     private void receiveMovement(Packet packet, int connId) throws InvalidPacketDataException {
-        Map<UnitTargetPair, LosEffects> losCache = new HashMap<>();
         Entity entity = game.getEntity(packet.getIntValue(0));
 
         if (entity == null) {
@@ -4243,7 +4257,7 @@ public class TWGameManager extends AbstractGameManager {
             }
 
             // looks like mostly everything's okay
-            MovePathHandler handler = new MovePathHandler(this, entity, movePath, losCache);
+            MovePathHandler handler = new MovePathHandler(this, entity, movePath);
             handler.processMovement();
             datasetLogger.append(movePath, true);
 
@@ -4286,7 +4300,7 @@ public class TWGameManager extends AbstractGameManager {
 
             // Update visibility indications if using double-blind.
             if (doBlind()) {
-                updateVisibilityIndicator(losCache);
+                updateVisibilityIndicator(null);
             }
 
             // An entity that is not vulnerable to anti-TSM green smoke that has stayed in a smoke-filled hex takes damage
@@ -5393,7 +5407,7 @@ public class TWGameManager extends AbstractGameManager {
                     }
                     game.removeTurnFor(target);
                     send(packetHelper.createTurnListPacket());
-                    MovePathHandler handler = new MovePathHandler(this, target, md, null);
+                    MovePathHandler handler = new MovePathHandler(this, target, md);
                     handler.processMovement();
                     // for some reason it is not clearing out turn
                 } else {
@@ -10722,22 +10736,18 @@ public class TWGameManager extends AbstractGameManager {
               game.getOptions().booleanOption(OptionsConstants.ADVANCED_DOUBLE_BLIND),
               game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS),
               game.getPhase());
-        List<ECMInfo> allECMInfo = null;
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS)) {
-            allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
-        }
-        Map<UnitTargetPair, LosEffects> losCache = new HashMap<>();
+        VisibilityEngine.Pass visibility = visibilityEngine.startPass(game);
         for (Entity entity : game.getEntitiesVector()) {
             // We are hidden once again!
             entity.clearSeenBy();
             entity.clearDetectedBy();
             // Handle visual spotting
-            Vector<Player> seenBy = whoCanSee(entity, false, losCache);
+            Vector<Player> seenBy = whoCanSee(entity, false, visibility);
             for (Player p : seenBy) {
                 entity.addBeenSeenBy(p);
             }
             // Handle detection by sensors
-            Vector<Player> detectedBy = whoCanDetect(entity, allECMInfo, losCache);
+            Vector<Player> detectedBy = whoCanDetect(entity, visibility);
             for (Player p : detectedBy) {
                 entity.addBeenDetectedBy(p);
             }
@@ -26049,9 +26059,10 @@ public class TWGameManager extends AbstractGameManager {
      *
      * @param updateVisibility Flag that determines if whoCanSee needs to be called to update who can see the entity for
      *                         double-blind games.
+     * @param visibility       The visibility queries of the current update; this can safely be null.
      */
     public void entityUpdate(int nEntityID, Vector<UnitLocation> movePath, boolean updateVisibility,
-          Map<UnitTargetPair, LosEffects> losCache) {
+          @Nullable VisibilityEngine.Pass visibility) {
         Entity eTarget = game.getEntity(nEntityID);
         if (eTarget == null) {
             if (game.getOutOfGameEntity(nEntityID) != null) {
@@ -26066,36 +26077,13 @@ public class TWGameManager extends AbstractGameManager {
         // If we're doing double-blind, be careful who can see it...
         if (doBlind()) {
             List<Player> playersVector = game.getPlayersList();
-            Vector<Player> vCanSee;
-            if (updateVisibility) {
-                vCanSee = whoCanSee(eTarget, true, losCache);
-            } else {
-                vCanSee = eTarget.getWhoCanSee();
-            }
-
-            // If this unit has ECM, players with units affected by the ECM will
-            // need to know about this entity, even if they can't see it.
-            // Otherwise, the client can't properly report things like to-hits.
-            if ((eTarget.getECMRange() > 0) && (eTarget.getPosition() != null)) {
-                int ecmRange = eTarget.getECMRange();
-                Coords pos = eTarget.getPosition();
-                for (Entity ent : game.getEntitiesVector()) {
-                    if ((ent.getPosition() != null) && (pos.distance(ent.getPosition()) <= ecmRange)) {
-                        if (!vCanSee.contains(ent.getOwner())) {
-                            vCanSee.add(ent.getOwner());
-                        }
-                    }
-                }
-            }
+            Vector<Player> vCanSee = addEcmAffectedPlayers(eTarget,
+                  updateVisibility ? whoCanSee(eTarget, true, visibility) : eTarget.getWhoCanSee());
 
             // send an entity update to everyone who can see
-            Packet pack = createEntityPacket(nEntityID, movePath);
-            for (int x = 0; x < vCanSee.size(); x++) {
-                Player p = vCanSee.elementAt(x);
-                send(p.getId(), pack);
-            }
+            sendEntityUpdate(vCanSee, nEntityID, movePath);
             // send an entity delete to everyone else
-            pack = createRemoveEntityPacket(nEntityID, eTarget.getRemovalCondition());
+            Packet pack = createRemoveEntityPacket(nEntityID, eTarget.getRemovalCondition());
             for (Player player : playersVector) {
                 if (!vCanSee.contains(player)) {
                     send(player.getId(), pack);
@@ -26105,10 +26093,100 @@ public class TWGameManager extends AbstractGameManager {
             entityUpdateLoadedUnits(eTarget, vCanSee, playersVector);
         } else {
             // But if we're not, then everyone can see.
-            send(createEntityPacket(nEntityID, movePath));
+            sendEntityUpdate(game.getPlayersList(), nEntityID, movePath);
+        }
+    }
+
+    /**
+     * Adds the owners of the units inside the ECM range of the given unit to the given players who can see it. Players
+     * with units affected by the ECM need to know about the unit even if they can't see it. Otherwise, the client can't
+     * properly report things like to-hits.
+     *
+     * @param entity  the unit
+     * @param vCanSee the players who can see the unit; this is modified
+     *
+     * @return vCanSee, the players to update in double blind
+     */
+    private Vector<Player> addEcmAffectedPlayers(Entity entity, Vector<Player> vCanSee) {
+        if ((entity.getECMRange() > 0) && (entity.getPosition() != null)) {
+            int ecmRange = entity.getECMRange();
+            Coords pos = entity.getPosition();
+            for (Entity ent : game.getEntitiesVector()) {
+                if ((ent.getPosition() != null) && (pos.distance(ent.getPosition()) <= ecmRange)) {
+                    if (!vCanSee.contains(ent.getOwner())) {
+                        vCanSee.add(ent.getOwner());
+                    }
+                }
+            }
+        }
+        return vCanSee;
+    }
+
+    /**
+     * Sends an update of the given unit to the given players. The unit is serialized once and each player receives
+     * only the delta against the state of the unit last sent to them, see {@link EntityDeltaTracker}.
+     *
+     * @param recipients the players to update
+     * @param entityId   the unit ID
+     * @param movePath   the optional move path to animate
+     */
+    private void sendEntityUpdate(Collection<Player> recipients, int entityId,
+          @Nullable Vector<UnitLocation> movePath) {
+        BinaryDelta.Base serializedEntity;
+        try {
+            serializedEntity = EntityDeltaTracker.serialize(game.getEntity(entityId));
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Failed to serialize entity {}; sending a full entity update", entityId);
+            Packet pack = createEntityPacket(entityId, movePath);
+            recipients.forEach(player -> send(player.getId(), pack));
+            return;
+        }
+        for (Player player : recipients) {
+            if (!player.isGhost()) {
+                send(player.getId(),
+                      entityDeltaTracker.createUpdatePacket(player.getId(), entityId, serializedEntity, movePath));
+            }
+        }
+    }
+
+    /**
+     * Receives a Client's request to resend a unit in full because it could not apply a delta update.
+     */
+    private void receiveEntityUpdateResync(Packet packet, int connId) throws InvalidPacketDataException {
+        int entityId = packet.getIntValue(0);
+        entityDeltaTracker.resync(connId, entityId);
+        Entity entity = game.getEntity(entityId);
+        Player player = game.getPlayer(connId);
+        if ((entity == null) || (player == null) || !mayReceiveUpdate(player, entity)) {
+            return;
+        }
+        try {
+            // Without a baseline, the tracker creates a full update, which only the requester receives
+            send(connId, entityDeltaTracker.createUpdatePacket(connId, entityId, EntityDeltaTracker.serialize(entity),
+                  null));
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Failed to serialize entity {} for a resync", entityId);
         }
     }
 
+    /**
+     * Returns true when the given player receives updates of the given unit, i.e. always when not playing double
+     * blind. Loaded units are sent to those who receive their (outermost) transport, see
+     * {@link #entityUpdateLoadedUnits(Entity, Vector, List)}.
+     */
+    private boolean mayReceiveUpdate(Player player, Entity entity) {
+        if (!doBlind()) {
+            return true;
+        }
+        Entity visibleUnit = entity;
+        Entity transport = game.getEntity(visibleUnit.getTransportId());
+        while ((transport != null) && (transport != visibleUnit)) {
+            visibleUnit = transport;
+            transport = game.getEntity(visibleUnit.getTransportId());
+        }
+        return addEcmAffectedPlayers(visibleUnit, new Vector<>(visibleUnit.getWhoCanSee())).contains(player);
+    }
+
     /**
      * Whenever updating an Entity, we also need to update all of its loaded Entity's, otherwise it could cause issues
      * with Clients.
@@ -26122,13 +26200,9 @@ public class TWGameManager extends AbstractGameManager {
         // so we need to send them.
         for (Entity eLoaded : loader.getLoadedUnits()) {
             // send an entity update to everyone who can see
-            Packet pack = createEntityPacket(eLoaded.getId(), null);
-            for (int x = 0; x < vCanSee.size(); x++) {
-                Player p = vCanSee.elementAt(x);
-                send(p.getId(), pack);
-            }
+            sendEntityUpdate(vCanSee, eLoaded.getId(), null);
             // send an entity delete to everyone else
-            pack = createRemoveEntityPacket(eLoaded.getId(), eLoaded.getRemovalCondition());
+            Packet pack = createRemoveEntityPacket(eLoaded.getId(), eLoaded.getRemovalCondition());
             for (Player player : playersVector) {
                 if (!vCanSee.contains(player)) {
                     send(player.getId(), pack);
@@ -26150,25 +26224,21 @@ public class TWGameManager extends AbstractGameManager {
      *
      * @param entity     The entity to check visibility for
      * @param useSensors A flag that determines whether sensors are allowed
+     * @param visibility The visibility queries of the current update. Can be passed in null.
      *
      * @return A vector of the players who can see the entity
      */
-    private Vector<Player> whoCanSee(Entity entity, boolean useSensors, Map<UnitTargetPair, LosEffects> losCache) {
-        if (losCache == null) {
-            losCache = new HashMap<>();
+    private Vector<Player> whoCanSee(Entity entity, boolean useSensors,
+          @Nullable VisibilityEngine.Pass visibility) {
+        if (visibility == null) {
+            visibility = visibilityEngine.startPass(game);
         }
         // Sometimes Null entities are sent to this
         if (entity == null) {
             return new Vector<>();
         }
 
-        List<ECMInfo> allECMInfo = null;
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS) && useSensors) {
-            allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
-        }
-
         boolean bTeamVision = game.getOptions().booleanOption(OptionsConstants.ADVANCED_TEAM_VISION);
-        List<Entity> vEntities = game.getEntitiesVector();
 
         Vector<Player> vCanSee = new Vector<>();
         vCanSee.addElement(entity.getOwner());
@@ -26193,19 +26263,12 @@ public class TWGameManager extends AbstractGameManager {
         if (entity.isHidden()) {
             return vCanSee;
         }
-        for (Entity spotter : vEntities) {
+        for (Entity spotter : visibility.candidateSpotters(entity)) {
             // Certain conditions make the spotter ineligible
             if (!spotter.isActive() || spotter.isOffBoard() || vCanSee.contains(spotter.getOwner())) {
                 continue;
             }
-            // See if the LosEffects is cached, and if not cache it
-            UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-            LosEffects los = losCache.get(etp);
-            if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
-                losCache.put(etp, los);
-            }
-            if (Compute.canSee(game, spotter, entity, useSensors, los, allECMInfo)) {
+            if (visibility.canSee(spotter, entity, useSensors)) {
                 if (!vCanSee.contains(spotter.getOwner())) {
                     vCanSee.addElement(spotter.getOwner());
                 }
@@ -26220,22 +26283,15 @@ public class TWGameManager extends AbstractGameManager {
 
     /**
      * Determine which players can detect the given entity with sensors. Because recomputing ECM and LosEffects
-     * frequently can get expensive, this data can be cached and passed in.
+     * frequently can get expensive, the visibility queries of the current update are passed in.
      *
      * @param entity     The Entity being detected.
-     * @param allECMInfo Cached ECMInfo for all Entities in the game.
-     * @param losCache   Cached LosEffects for particular Entity/Targetable pairs. Can be passed in null.
+     * @param visibility The visibility queries of the current update.
      *
      * @return Vector of {@link Player}'s
      */
-    private Vector<Player> whoCanDetect(Entity entity, List<ECMInfo> allECMInfo,
-          Map<UnitTargetPair, LosEffects> losCache) {
-        if (losCache == null) {
-            losCache = new HashMap<>();
-        }
-
+    private Vector<Player> whoCanDetect(Entity entity, VisibilityEngine.Pass visibility) {
         boolean bTeamVision = game.getOptions().booleanOption(OptionsConstants.ADVANCED_TEAM_VISION);
-        List<Entity> vEntities = game.getEntitiesVector();
 
         Vector<Player> vCanDetect = new Vector<>();
 
@@ -26244,19 +26300,12 @@ public class TWGameManager extends AbstractGameManager {
             return vCanDetect;
         }
 
-        for (Entity spotter : vEntities) {
+        for (Entity spotter : visibility.candidateSpotters(entity)) {
             if (!spotter.isActive() || spotter.isOffBoard() || vCanDetect.contains(spotter.getOwner())
                   || !game.onTheSameBoard(entity, spotter)) {
                 continue;
             }
-            // See if the LosEffects is cached, and if not cache it
-            UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-            LosEffects los = losCache.get(etp);
-            if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
-                losCache.put(etp, los);
-            }
-            if (Compute.inSensorRange(game, los, spotter, entity, allECMInfo)) {
+            if (visibility.canDetect(spotter, entity)) {
                 if (!vCanDetect.contains(spotter.getOwner())) {
                     vCanDetect.addElement(spotter.getOwner());
                 }
@@ -26302,9 +26351,10 @@ public class TWGameManager extends AbstractGameManager {
         // If double-blind is in effect, filter each players' list individually,
         // and then quit out...
         if (doBlind()) {
+            VisibilityEngine.Pass visibility = visibilityEngine.startPass(game);
             List<Player> playersVector = game.getPlayersList();
             for (Player p : playersVector) {
-                send(p.getId(), createFilteredFullEntitiesPacket(p, null));
+                send(p.getId(), createFilteredFullEntitiesPacket(p, visibility));
             }
             return;
         }
@@ -26317,9 +26367,9 @@ public class TWGameManager extends AbstractGameManager {
      * Filters an entity vector according to LOS
      */
     private List<Entity> filterEntities(Player pViewer, List<Entity> vEntities,
-          Map<UnitTargetPair, LosEffects> losCache) {
-        if (losCache == null) {
-            losCache = new HashMap<>();
+          @Nullable VisibilityEngine.Pass visibility) {
+        if (visibility == null) {
+            visibility = visibilityEngine.startPass(game);
         }
         Vector<Entity> vCanSee = new Vector<>();
         Vector<Entity> vMyEntities = new Vector<>();
@@ -26330,17 +26380,12 @@ public class TWGameManager extends AbstractGameManager {
             return vEntities;
         }
 
-        List<ECMInfo> allECMInfo = null;
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS)) {
-            allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
-        }
-
         // If they're an observer, they can see anything seen by any enemy.
         if (pViewer.isObserver()) {
             vMyEntities.addAll(vEntities);
             for (Entity a : vMyEntities) {
                 for (Entity b : vMyEntities) {
-                    if (a.isEnemyOf(b) && Compute.canSee(game, b, a, true, null, allECMInfo)) {
+                    if (a.isEnemyOf(b) && visibility.canSee(b, a, true)) {
                         addVisibleEntity(vCanSee, a);
                         break;
                     }
@@ -26356,6 +26401,10 @@ public class TWGameManager extends AbstractGameManager {
                 vMyEntities.addElement(e);
             }
         }
+        // With team vision, all players of a team share their units, so what they see is only computed once per team
+        boolean sharesTeamVision = bTeamVision && (pViewer.getTeam() != Player.TEAM_NONE)
+              && (pViewer.getTeam() != Player.TEAM_UNASSIGNED);
+        Object viewerGroup = sharesTeamVision ? Integer.valueOf(pViewer.getTeam()) : pViewer;
 
         // Then, break down the list by whether they're friendly,
         // or whether any friendly unit can see them.
@@ -26375,35 +26424,24 @@ public class TWGameManager extends AbstractGameManager {
                 continue;
             }
 
-            for (Entity spotter : vMyEntities) {
-
-                // If they're off-board, skip it; they can't see anything.
-                if (spotter.isOffBoard()) {
-                    continue;
-                }
-
-                // See if the LosEffects is cached, and if not cache it
-                UnitTargetPair etp = new UnitTargetPair(spotter, entity);
-                LosEffects los = losCache.get(etp);
-                if (los == null) {
-                    los = LosEffects.calculateLOS(game, spotter, entity);
-                    losCache.put(etp, los);
-                }
-                // Otherwise, if they can see the entity in question
-                if (Compute.canSee(game, spotter, entity, true, los, allECMInfo)) {
-                    addVisibleEntity(vCanSee, entity);
-                    break;
-                }
+            // Otherwise, if any of their (on-board) units can see the entity in question
+            if (visibility.isSeenByGroup(viewerGroup, vMyEntities, entity)) {
+                addVisibleEntity(vCanSee, entity);
+                continue;
+            }
 
-                // If this unit has ECM, players with units affected by the ECM
-                // will need to know about this entity, even if they can't see
-                // it. Otherwise, the client can't properly report things
-                // like to-hits.
-                if ((entity.getECMRange() > 0) && (entity.getPosition() != null) && (spotter.getPosition() != null)) {
-                    int ecmRange = entity.getECMRange();
-                    Coords pos = entity.getPosition();
-                    if (pos.distance(spotter.getPosition()) <= ecmRange) {
+            // If this unit has ECM, players with units affected by the ECM
+            // will need to know about this entity, even if they can't see
+            // it. Otherwise, the client can't properly report things
+            // like to-hits.
+            if ((entity.getECMRange() > 0) && (entity.getPosition() != null)) {
+                int ecmRange = entity.getECMRange();
+                Coords pos = entity.getPosition();
+                for (Entity spotter : vMyEntities) {
+                    if (!spotter.isOffBoard() && (spotter.getPosition() != null)
+                          && (pos.distance(spotter.getPosition()) <= ecmRange)) {
                         addVisibleEntity(vCanSee, entity);
+                        break;
                     }
                 }
             }
@@ -26562,16 +26600,12 @@ public class TWGameManager extends AbstractGameManager {
     /**
      * Updates entities graphical "visibility indications" which are used in double-blind games.
      *
-     * @param losCache It can be expensive to have to recompute LoSEffects again and again, so in some cases where this
-     *                 may happen, the LosEffects are cached. This can safely be null.
+     * @param visibility It can be expensive to have to recompute LoSEffects again and again, so the visibility queries
+     *                   of the current update can be passed in. This can safely be null.
      */
-    void updateVisibilityIndicator(Map<UnitTargetPair, LosEffects> losCache) {
-        if (losCache == null) {
-            losCache = new HashMap<>();
-        }
-        List<ECMInfo> allECMInfo = null;
-        if (game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS)) {
-            allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
+    void updateVisibilityIndicator(@Nullable VisibilityEngine.Pass visibility) {
+        if (visibility == null) {
+            visibility = visibilityEngine.startPass(game);
         }
 
         List<Entity> vAllEntities = game.getEntitiesVector();
@@ -26582,7 +26616,7 @@ public class TWGameManager extends AbstractGameManager {
             e.setDetectedByEnemy(false);
             e.clearSeenBy();
             e.clearDetectedBy();
-            Vector<Player> vCanSee = whoCanSee(e, false, losCache);
+            Vector<Player> vCanSee = whoCanSee(e, false, visibility);
             // Who can See this unit?
             for (Player p : vCanSee) {
                 if (e.getOwner().isEnemyOf(p) && !p.isObserver()) {
@@ -26594,7 +26628,7 @@ public class TWGameManager extends AbstractGameManager {
                 e.addBeenSeenBy(p);
             }
             // Who can Detect this unit?
-            Vector<Player> vCanDetect = whoCanDetect(e, allECMInfo, losCache);
+            Vector<Player> vCanDetect = whoCanDetect(e, visibility);
             for (Player p : vCanDetect) {
                 if (e.getOwner().isEnemyOf(p) && !p.isObserver()) {
                     e.setDetectedByEnemy(true);
@@ -26622,7 +26656,7 @@ public class TWGameManager extends AbstractGameManager {
             }
 
             if (hasClientWithoutEntity) {
-                entityUpdate(e.getId(), new Vector<>(), false, losCache);
+                entityUpdate(e.getId(), new Vector<>(), false, visibility);
             } else {
                 sendVisibilityIndicator(e);
             }
@@ -27767,7 +27801,7 @@ public class TWGameManager extends AbstractGameManager {
         }
 
         // check password
-        if (!Server.getServerInstance().passwordMatches(packet.getObject(0))) {
+        if (!getServer().passwordMatches(packet.getObject(0))) {
             sendServerChat(connId, "The password you specified to change game options is incorrect.");
             return false;
         }
@@ -27967,9 +28001,9 @@ public class TWGameManager extends AbstractGameManager {
     /**
      * Creates a packet containing all entities, including wrecks, visible to the player in a blind game
      */
-    Packet createFilteredFullEntitiesPacket(Player p, Map<UnitTargetPair, LosEffects> losCache) {
+    Packet createFilteredFullEntitiesPacket(Player p, @Nullable VisibilityEngine.Pass visibility) {
         return new Packet(PacketCommand.SENDING_ENTITIES,
-              filterEntities(p, getGame().getEntitiesVector(), losCache),
+              filterEntities(p, getGame().getEntitiesVector(), visibility),
               getGame().getOutOfGameEntitiesVector(),
               getGame().getForces());
     }
@@ -28091,12 +28125,22 @@ public class TWGameManager extends AbstractGameManager {
 
     public void sendChangedHex(Coords coords, int boardId) {
         if (game.hasBoardLocation(coords, boardId)) {
+            fireHexChanged(coords, boardId);
             send(createHexChangePacket(coords, boardId, game.getHex(coords, boardId)));
         } else {
             IGame.LOGGER.error("Trying to send a hex update for a non-existent hex!");
         }
     }
 
+    /**
+     * Notifies the server's board of a hex that has been changed in place, so that values cached for the board are
+     * renewed.
+     */
+    private void fireHexChanged(Coords coords, int boardId) {
+        Board board = game.getBoard(boardId);
+        board.processBoardEvent(new BoardEvent(board, coords, BoardEvent.BOARD_CHANGED_HEX));
+    }
+
     /**
      * Sends notification to clients that the specified hex has changed.
      */
@@ -28104,6 +28148,7 @@ public class TWGameManager extends AbstractGameManager {
         Map<BoardLocation, Hex> changedHexes = new HashMap<>();
         for (BoardLocation location : hexUpdateSet) {
             if (game.hasBoardLocation(location)) {
+                fireHexChanged(location.coords(), location.boardId());
                 changedHexes.put(location, game.getHex(location));
             } else {
                 IGame.LOGGER.error("Tried to send terrain change for non-existent hex.");
@@ -28252,7 +28297,7 @@ public class TWGameManager extends AbstractGameManager {
      * Send the round report to all connected clients.
      */
     private void sendReport(boolean tacticalGeniusReport) {
-        EmailService mailer = Server.getServerInstance().getEmailService();
+        EmailService mailer = getServer().getEmailService();
         if (mailer != null) {
             for (var player : mailer.getEmailablePlayers(game)) {
                 try {
@@ -0,0 +1,471 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import megamek.common.ECMInfo;
+import megamek.common.LosEffects;
+import megamek.common.annotations.Nullable;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.compute.Compute;
+import megamek.common.compute.ComputeECM;
+import megamek.common.equipment.Flare;
+import megamek.common.equipment.MiscType;
+import megamek.common.equipment.Sensor;
+import megamek.common.game.Game;
+import megamek.common.options.OptionsConstants;
+import megamek.common.planetaryConditions.IlluminationLevel;
+import megamek.common.units.Dropship;
+import megamek.common.units.Entity;
+
+/**
+ * Computes what units can see and detect each other for double-blind games. The results of each spotter/target pair
+ * are kept between updates and are only recomputed when the state of one of the two units changes (e.g. it moved) or
+ * when something that affects all pairs changes, such as the phase, the terrain, flares, ECM or grounded DropShips.
+ * <p>
+ * All visibility queries of one update are made through a {@link Pass}, which additionally indexes the units by
+ * position so that only spotters within their maximum visual or sensor range of a target are checked, and which shares
+ * the "seen by any friendly unit" results between all players of a team.
+ * <p>
+ * Only pairs of non-airborne units on the same ground board are cached and range pruned; all other pairs (aerospace
+ * units, space boards, cross-board spotting) are passed to {@link Compute} unchanged.
+ */
+class VisibilityEngine {
+
+    /** The size in hexes of the square cells of the spatial unit index */
+    static final int CELL_SIZE = 8;
+
+    /**
+     * The largest sum of the target-independent sensor range bonuses of {@link Sensor#entityAdjustments}: +1 for a
+     * burning target hex (IR) or +3 for heavy targets (magscan). The heat bonus is added separately.
+     */
+    private static final int MAX_SENSOR_TARGET_BONUS = 4;
+
+    /** The number of sensor range brackets, see {@link Compute#getSensorBracket(int)} */
+    private static final int SENSOR_BRACKETS = 3;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+
+    private final Map<Long, PairState> pairs = new ConcurrentHashMap<>();
+    private long worldStamp;
+
+    /**
+     * Starts a new set of visibility queries for the current state of the given game. A pass must not be used after
+     * units have moved or the game state has otherwise changed; start a new pass instead.
+     *
+     * @param game the game
+     *
+     * @return the new pass
+     */
+    Pass startPass(Game game) {
+        Pass pass = new Pass(game);
+        synchronized (this) {
+            if (pass.worldStamp != worldStamp) {
+                pairs.clear();
+                worldStamp = pass.worldStamp;
+            }
+        }
+        return pass;
+    }
+
+    /**
+     * Drops all cached results, e.g. when a new game is started.
+     */
+    void clear() {
+        pairs.clear();
+    }
+
+    /**
+     * @return the number of cached spotter/target pairs
+     */
+    int size() {
+        return pairs.size();
+    }
+
+    /**
+     * The cached visibility of one spotter/target pair, valid as long as the state of both units matches the stamps.
+     */
+    private static final class PairState {
+        private final long spotterStamp;
+        private final long targetStamp;
+        private LosEffects los;
+        private byte seen = UNKNOWN;
+        private byte seenWithSensors = UNKNOWN;
+        private byte detected = UNKNOWN;
+
+        private PairState(long spotterStamp, long targetStamp) {
+            this.spotterStamp = spotterStamp;
+            this.targetStamp = targetStamp;
+        }
+    }
+
+    /**
+     * The visibility queries of one update.
+     */
+    final class Pass {
+        private final Game game;
+        private final long worldStamp;
+        private final boolean tacOpsSensors;
+        private final Map<Integer, Long> entityStamps = new HashMap<>();
+        private final Map<Long, LosEffects> uncachedLos = new HashMap<>();
+        private final Map<Integer, Boolean> illuminated = new HashMap<>();
+        private final Map<Object, Map<Integer, Boolean>> groupVisibility = new HashMap<>();
+        private List<ECMInfo> allECMInfo;
+        private Map<Long, List<Entity>> cells;
+        private List<Entity> unindexed;
+        private Map<Integer, Integer> entityOrder;
+        private int maxVisualReach;
+        private int maxIlluminatedVisualReach;
+        private int maxSensorRange;
+
+        private Pass(Game game) {
+            this.game = game;
+            tacOpsSensors = game.getOptions().booleanOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS);
+            worldStamp = computeWorldStamp();
+        }
+
+        /**
+         * @return the ECM info of all units when TacOps sensors are used, null otherwise
+         */
+        @Nullable List<ECMInfo> getAllECMInfo() {
+            if (tacOpsSensors && (allECMInfo == null)) {
+                allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
+            }
+            return allECMInfo;
+        }
+
+        /**
+         * Equivalent to {@link Compute#canSee(Game, Entity, megamek.common.units.Targetable, boolean, LosEffects, List)}
+         * with the ECM info of this pass.
+         *
+         * @param spotter    the spotting unit
+         * @param target     the unit to be seen
+         * @param useSensors true to allow sensors to count
+         *
+         * @return true if the spotter can see the target
+         */
+        boolean canSee(Entity spotter, Entity target, boolean useSensors) {
+            List<ECMInfo> ecmInfo = useSensors ? getAllECMInfo() : null;
+            if (!isCacheable(spotter, target)) {
+                return Compute.canSee(game, spotter, target, useSensors, uncachedLos(spotter, target), ecmInfo);
+            }
+            int distance = spotter.getPosition().distance(target.getPosition());
+            if ((distance > visualReach(spotter, target))
+                  && (!useSensors || (distance > sensorReach(spotter, target)))) {
+                return false;
+            }
+            PairState state = pairState(spotter, target);
+            synchronized (state) {
+                byte result = useSensors ? state.seenWithSensors : state.seen;
+                if (result == UNKNOWN) {
+                    result = Compute.canSee(game, spotter, target, useSensors, los(state, spotter, target), ecmInfo)
+                          ? TRUE : FALSE;
+                    if (useSensors) {
+                        state.seenWithSensors = result;
+                    } else {
+                        state.seen = result;
+                    }
+                }
+                return result == TRUE;
+            }
+        }
+
+        /**
+         * Equivalent to {@link Compute#inSensorRange(Game, LosEffects, Entity, megamek.common.units.Targetable, List)}
+         * with the ECM info of this pass.
+         *
+         * @param spotter the detecting unit
+         * @param target  the unit to be detected
+         *
+         * @return true if the spotter can detect the target with its sensors
+         */
+        boolean canDetect(Entity spotter, Entity target) {
+            if (!isCacheable(spotter, target)) {
+                return Compute.inSensorRange(game, uncachedLos(spotter, target), spotter, target, getAllECMInfo());
+            }
+            if (spotter.getPosition().distance(target.getPosition()) > sensorReach(spotter, target)) {
+                return false;
+            }
+            PairState state = pairState(spotter, target);
+            synchronized (state) {
+                if (state.detected == UNKNOWN) {
+                    state.detected = Compute.inSensorRange(game, los(state, spotter, target), spotter, target,
+                          getAllECMInfo()) ? TRUE : FALSE;
+                }
+                return state.detected == TRUE;
+            }
+        }
+
+        /**
+         * Returns whether any of the given spotters can see the target (using sensors). The result is shared between
+         * all queries of this pass with the same group key, so the spotters of a team are only checked once per target
+         * no matter how many players the team has.
+         *
+         * @param groupKey a key that identifies the given spotters, such as the team
+         * @param spotters the spotting units of the group
+         * @param target   the unit to be seen
+         *
+         * @return true if any of the spotters can see the target
+         */
+        boolean isSeenByGroup(Object groupKey, List<Entity> spotters, Entity target) {
+            Map<Integer, Boolean> seen = groupVisibility.computeIfAbsent(groupKey, k -> new HashMap<>());
+            Boolean result = seen.get(target.getId());
+            if (result == null) {
+                result = false;
+                for (Entity spotter : spotters) {
+                    if (!spotter.isOffBoard() && canSee(spotter, target, true)) {
+                        result = true;
+                        break;
+                    }
+                }
+                seen.put(target.getId(), result);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the units that may be able to see or detect the given target, in the order of
+         * {@link Game#getEntitiesVector()}. Units on the same ground board as the target that are farther away than
+         * the maximum visual and sensor range of any unit are left out; all other units are returned.
+         *
+         * @param target the unit to be seen
+         *
+         * @return the candidate spotters
+         */
+        List<Entity> candidateSpotters(Entity target) {
+            if (!isIndexable(target)) {
+                return game.getEntitiesVector();
+            }
+            buildIndex();
+            int reach = Math.max(isIlluminated(target) ? maxIlluminatedVisualReach : maxVisualReach,
+                  tacOpsSensors ? sensorReach(maxSensorRange, target) : 0);
+            Coords position = target.getPosition();
+            int minCellX = Math.floorDiv(position.getX() - reach, CELL_SIZE);
+            int maxCellX = Math.floorDiv(position.getX() + reach, CELL_SIZE);
+            int minCellY = Math.floorDiv(position.getY() - reach, CELL_SIZE);
+            int maxCellY = Math.floorDiv(position.getY() + reach, CELL_SIZE);
+            List<Entity> candidates = new ArrayList<>(unindexed);
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    List<Entity> cell = cells.get(cellKey(target.getBoardId(), cellX, cellY));
+                    if (cell != null) {
+                        candidates.addAll(cell);
+                    }
+                }
+            }
+            candidates.sort(Comparator.comparingInt(entity -> entityOrder.get(entity.getId())));
+            return candidates;
+        }
+
+        private void buildIndex() {
+            if (cells != null) {
+                return;
+            }
+            cells = new HashMap<>();
+            unindexed = new ArrayList<>();
+            entityOrder = new HashMap<>();
+            for (Entity entity : game.getEntitiesVector()) {
+                entityOrder.put(entity.getId(), entityOrder.size());
+                if (isIndexable(entity)) {
+                    Coords position = entity.getPosition();
+                    cells.computeIfAbsent(cellKey(entity.getBoardId(), Math.floorDiv(position.getX(), CELL_SIZE),
+                          Math.floorDiv(position.getY(), CELL_SIZE)), k -> new ArrayList<>()).add(entity);
+                    maxVisualReach = Math.max(maxVisualReach, visualReach(entity, false));
+                    maxIlluminatedVisualReach = Math.max(maxIlluminatedVisualReach, visualReach(entity, true));
+                    Sensor sensor = entity.getActiveSensor();
+                    if (sensor != null) {
+                        maxSensorRange = Math.max(maxSensorRange, sensor.getRangeByBracket());
+                    }
+                } else {
+                    unindexed.add(entity);
+                }
+            }
+        }
+
+        private static long cellKey(int boardId, int cellX, int cellY) {
+            return ((long) boardId << 40) ^ ((long) (cellX & 0xFFFFF) << 20) ^ (cellY & 0xFFFFF);
+        }
+
+        /**
+         * @return true when the unit is on a ground board and not airborne, so that its visibility only depends on
+         *       its hex distance, line of sight and ground sensor ranges
+         */
+        private boolean isIndexable(Entity entity) {
+            if (entity.isOffBoard() || entity.isAirborne() || entity.isSpaceborne()
+                  || !game.hasBoardLocationOf(entity)) {
+                return false;
+            }
+            return game.getBoard(entity.getBoardId()).isGround();
+        }
+
+        private boolean isCacheable(Entity spotter, Entity target) {
+            return (spotter.getBoardId() == target.getBoardId()) && isIndexable(spotter) && isIndexable(target);
+        }
+
+        /**
+         * @return the largest distance at which the spotter might see the target; camouflage and smoke can only reduce
+         *       it
+         */
+        private int visualReach(Entity spotter, Entity target) {
+            return visualReach(spotter, isIlluminated(target));
+        }
+
+        private int visualReach(Entity spotter, boolean targetIlluminated) {
+            return Math.max(1, game.getPlanetaryConditions().getVisualRange(spotter, targetIlluminated));
+        }
+
+        /**
+         * @return true if the target is lit, as determined in {@link Compute#inVisualRange(Game, LosEffects, Entity,
+         *       megamek.common.units.Targetable)}
+         */
+        private boolean isIlluminated(Entity target) {
+            return illuminated.computeIfAbsent(target.getId(), id -> target.isIlluminated()
+                  || !IlluminationLevel.determineIlluminationLevel(game, target.getBoardId(), target.getPosition())
+                  .isNone());
+        }
+
+        /**
+         * @return the largest distance at which the spotter might detect the target with its sensors
+         */
+        private int sensorReach(Entity spotter, Entity target) {
+            Sensor sensor = spotter.getActiveSensor();
+            return (tacOpsSensors && (sensor != null)) ? sensorReach(sensor.getRangeByBracket(), target) : 0;
+        }
+
+        private int sensorReach(int rangeByBracket, Entity target) {
+            return SENSOR_BRACKETS * (rangeByBracket + MAX_SENSOR_TARGET_BONUS + (Math.max(0, target.heat) / 5));
+        }
+
+        private PairState pairState(Entity spotter, Entity target) {
+            long spotterStamp = entityStamp(spotter);
+            long targetStamp = entityStamp(target);
+            long key = ((long) spotter.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+            PairState state = pairs.get(key);
+            if ((state == null) || (state.spotterStamp != spotterStamp) || (state.targetStamp != targetStamp)) {
+                state = new PairState(spotterStamp, targetStamp);
+                pairs.put(key, state);
+            }
+            return state;
+        }
+
+        private LosEffects los(PairState state, Entity spotter, Entity target) {
+            if (state.los == null) {
+                state.los = LosEffects.calculateLOS(game, spotter, target);
+            }
+            return state.los;
+        }
+
+        private LosEffects uncachedLos(Entity spotter, Entity target) {
+            long key = ((long) spotter.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+            return uncachedLos.computeIfAbsent(key, k -> LosEffects.calculateLOS(game, spotter, target));
+        }
+
+        private long entityStamp(Entity entity) {
+            return entityStamps.computeIfAbsent(entity.getId(), id -> computeEntityStamp(entity));
+        }
+
+        /**
+         * @return a hash of everything about the given unit that can change during a phase and affects what it can see
+         *       or by whom it can be seen
+         */
+        private long computeEntityStamp(Entity entity) {
+            long stamp = entity.getId();
+            stamp = mix(stamp, Objects.hashCode(entity.getPosition()));
+            stamp = mix(stamp, entity.getBoardId());
+            stamp = mix(stamp, entity.getElevation());
+            stamp = mix(stamp, entity.getAltitude());
+            stamp = mix(stamp, entity.getHeight());
+            stamp = mix(stamp, entity.getOwnerId());
+            stamp = mix(stamp, (entity.getOwner() == null) ? 0 : entity.getOwner().getTeam());
+            stamp = mix(stamp, entity.getMovementMode().ordinal());
+            stamp = mix(stamp, entity.heat);
+            stamp = mix(stamp, entity.mpUsed);
+            stamp = mix(stamp, entity.getSensorCheck());
+            stamp = mix(stamp, (entity.getActiveSensor() == null) ? -1 : entity.getActiveSensor().type());
+            stamp = mix(stamp, flags(entity.getCrew().isActive(), entity.isOffBoard(), entity.hasBAP(false),
+                  entity.isUsingSearchlight(), entity.isIlluminated(), entity.isVoidSigActive(),
+                  entity.isChameleonShieldActive(), entity.isStealthActive(),
+                  entity.hasWorkingMisc(MiscType.F_VISUAL_CAMO)));
+            return stamp;
+        }
+
+        /**
+         * @return a hash of everything that can change during a phase and affects all spotter/target pairs: terrain,
+         *       illumination, ECM and grounded DropShips that block line of sight
+         */
+        private long computeWorldStamp() {
+            long stamp = System.identityHashCode(game);
+            stamp = mix(stamp, game.getRoundCount());
+            stamp = mix(stamp, game.getPhase().ordinal());
+            for (Board board : game.getBoards().values()) {
+                stamp = mix(stamp, board.getHexRevision());
+            }
+            for (Flare flare : game.getFlares()) {
+                stamp = mix(stamp, Objects.hash(flare.position, flare.getBoardId(), flare.radius, flare.flags));
+            }
+            stamp = mix(stamp, game.getIlluminatedPositions().hashCode());
+            for (Entity entity : game.getEntitiesVector()) {
+                if ((entity instanceof Dropship) && !entity.isAirborne()) {
+                    stamp = mix(stamp, entityStamp(entity));
+                }
+            }
+            List<ECMInfo> ecmInfo = getAllECMInfo();
+            if (ecmInfo != null) {
+                stamp = mix(stamp, ecmInfo.hashCode());
+            }
+            return stamp;
+        }
+
+        private static long mix(long stamp, long value) {
+            return (stamp * 0x9E3779B97F4A7C15L) + value;
+        }
+
+        private static int flags(boolean... values) {
+            int flags = 0;
+            for (boolean value : values) {
+                flags = (flags << 1) | (value ? 1 : 0);
+            }
+            return flags;
+        }
+    }
+}
@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,8 @@ import megamek.common.game.Game;
  * This is a VictoryCondition that will match when a given percentage of all enemy BV is no longer alive.
  */
 public class BVDestroyedVictoryCondition implements BVVictoryCondition {
+    @Serial
+    private static final long serialVersionUID = -4001926011631073618L;
 
     protected int destroyedPercent;
 
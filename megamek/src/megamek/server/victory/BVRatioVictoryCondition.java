@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.util.HashSet;
 import java.util.Map;
 
@@ -48,6 +49,8 @@ import megamek.common.game.Game;
  * = 0.5.
  */
 public class BVRatioVictoryCondition implements BVVictoryCondition {
+    @Serial
+    private static final long serialVersionUID = -3081472754724725234L;
 
     protected int ratio;
 
@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Map;
 
@@ -45,6 +46,8 @@ import megamek.common.game.Game;
  * not exclude gun emplacements or spawns (MekWarriors, Missiles) from the test.
  */
 public class BattlefieldControlVictory implements VictoryCondition, Serializable {
+    @Serial
+    private static final long serialVersionUID = 6077566062586341848L;
 
     @Override
     public VictoryResult checkVictory(Game game, Map<String, Object> ctx) {
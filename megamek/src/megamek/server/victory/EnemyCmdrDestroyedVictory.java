@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Map;
@@ -47,6 +48,8 @@ import megamek.common.options.OptionsConstants;
  * Implements a victory condition that checks if all enemy commanders have been killed.
  */
 public class EnemyCmdrDestroyedVictory implements VictoryCondition, Serializable {
+    @Serial
+    private static final long serialVersionUID = -879609136854569501L;
 
     @Override
     public VictoryResult checkVictory(Game game, Map<String, Object> ctx) {
@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -51,6 +52,8 @@ import megamek.common.units.Entity;
  * player/team with the highest kill count.
  */
 public class KillCountVictory implements VictoryCondition, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1176345752787233938L;
 
     protected int requiredKillCount;
 
@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,8 @@ import megamek.common.Player;
  * This class represents the player-agreed /victory through chat commands
  */
 public class PlayerAgreedVictory implements VictoryCondition, Serializable {
+    @Serial
+    private static final long serialVersionUID = -3851910828319688426L;
 
     @Override
     public VictoryResult checkVictory(Game game, Map<String, Object> ctx) {
@@ -34,6 +34,7 @@
 
 package megamek.server.victory;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +52,8 @@ import megamek.server.trigger.TriggerSituation;
  * should be resolved by storing victory conditions in Game but manage them from GameManager.
  */
 public class VictoryHelper implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 8436295047071123616L;
 
     private final boolean checkForVictory;
     private int neededVictoryConditionCount;
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.utilities;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import megamek.common.annotations.Nullable;
+import megamek.utilities.ScenarioGameRunner.GameResult;
+import megamek.utilities.ScenarioGameRunner.UnitResult;
+
+/**
+ * Writes the results of the games of an {@link AIMatchRunner} batch as each game finishes: as CSV with one row per
+ * unit and game, and as JSON Lines with one object per game. Either output is optional.
+ */
+final class AIMatchResultWriter implements Closeable {
+
+    static final String CSV_HEADER = "game,seed,finished,winning_team,rounds,duration_ms,"
+          + "unit_id,unit,owner,team,battle_value,status";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final BufferedWriter csvWriter;
+    private final BufferedWriter jsonWriter;
+
+    /**
+     * @param csvFile  the CSV file to write, or null for no CSV output
+     * @param jsonFile the JSON Lines file to write, or null for no JSON output
+     */
+    AIMatchResultWriter(@Nullable File csvFile, @Nullable File jsonFile) throws IOException {
+        csvWriter = (csvFile == null) ? null : Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8);
+        jsonWriter = (jsonFile == null) ? null : Files.newBufferedWriter(jsonFile.toPath(), StandardCharsets.UTF_8);
+        if (csvWriter != null) {
+            csvWriter.write(CSV_HEADER);
+            csvWriter.newLine();
+            csvWriter.flush();
+        }
+    }
+
+    /**
+     * Writes the result of one game and flushes it, so the results of a long batch can be inspected while it runs.
+     *
+     * @param match the game's result
+     */
+    synchronized void write(AIMatchRunner.MatchResult match) throws IOException {
+        if (csvWriter != null) {
+            for (String row : csvRows(match)) {
+                csvWriter.write(row);
+                csvWriter.newLine();
+            }
+            csvWriter.flush();
+        }
+        if (jsonWriter != null) {
+            jsonWriter.write(mapper.writeValueAsString(jsonObject(match)));
+            jsonWriter.newLine();
+            jsonWriter.flush();
+        }
+    }
+
+    /**
+     * @return the CSV rows of the given game: one per unit, or a single row without unit data if the game failed
+     */
+    static List<String> csvRows(AIMatchRunner.MatchResult match) {
+        GameResult result = match.result();
+        List<String> rows = new ArrayList<>();
+        if (result == null) {
+            rows.add(csvRow(match.gameNumber(), match.seed(), false, "", "", match.durationMillis(),
+                  "", "", "", "", "", ""));
+            return rows;
+        }
+        for (UnitResult unit : result.units()) {
+            rows.add(csvRow(match.gameNumber(), match.seed(), result.finished(), result.winningTeam(),
+                  result.rounds(), match.durationMillis(), unit.id(), unit.name(), unit.owner(), unit.team(),
+                  unit.battleValue(), unit.status()));
+        }
+        return rows;
+    }
+
+    private static String csvRow(Object... values) {
+        return Stream.of(values).map(value -> csvField(String.valueOf(value))).collect(Collectors.joining(","));
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * @return the JSON object of the given game as a map
+     */
+    static Map<String, Object> jsonObject(AIMatchRunner.MatchResult match) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("game", match.gameNumber());
+        json.put("seed", match.seed());
+        json.put("durationMillis", match.durationMillis());
+        GameResult result = match.result();
+        if (result == null) {
+            json.put("failed", true);
+            return json;
+        }
+        json.put("finished", result.finished());
+        json.put("winningTeam", result.winningTeam());
+        json.put("rounds", result.rounds());
+        json.put("battleValueDestroyed", result.battleValueDestroyedByTeam());
+        json.put("units", result.units());
+        return json;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (csvWriter != null) {
+                csvWriter.close();
+            }
+        } finally {
+            if (jsonWriter != null) {
+                jsonWriter.close();
+            }
+        }
+    }
+}
@@ -33,14 +33,25 @@
 package megamek.utilities;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import megamek.client.bot.AIType;
 import megamek.common.Player;
+import megamek.common.annotations.Nullable;
+import megamek.common.compute.Compute;
+import megamek.common.loaders.MekSummaryCache;
 import megamek.common.preference.PreferenceManager;
 import megamek.logging.MMLogger;
+import megamek.server.Server;
 
 /**
  * Runs a scenario headlessly many times and reports the win rate per team (and the {@link AIType}s on each team),
@@ -48,7 +59,14 @@ import megamek.logging.MMLogger;
  * over a batch of games. The BotLogger TSVs from every game are kept, so the battle-analyzer tooling can also
  * score decision quality per side, not just wins.
  *
- * <p>Usage: {@code AIMatchRunner <scenarioFile> [repetitions] [roundsLimit] [timeoutMinutes]}</p>
+ * <p>Several games can run concurrently in this JVM ({@code --parallel}). Each game has its own server, game manager
+ * and clients and its own RNGs, seeded from the base seed ({@code --seed}) and the game number; the unit and equipment
+ * data is loaded once and shared. The result of each game (winner, rounds, BV destroyed per team and the fate of
+ * every unit) can be written to CSV ({@code --csv}) and JSON Lines ({@code --json}) as the games finish.</p>
+ *
+ * <p>Usage: {@code AIMatchRunner [options] <scenarioFile> [repetitions] [roundsLimit] [timeoutMinutes]}; with
+ * {@code --loopback}, the clients are connected in memory instead of over sockets (see
+ * {@link ScenarioGameRunner}).</p>
  */
 public final class AIMatchRunner {
     private static final MMLogger logger = MMLogger.create(AIMatchRunner.class);
@@ -56,61 +74,189 @@ public final class AIMatchRunner {
     private static final int DEFAULT_REPETITIONS = 10;
     private static final int DEFAULT_ROUNDS_LIMIT = 12;
     private static final int DEFAULT_TIMEOUT_MINUTES = 10;
+    private static final int UNIT_CACHE_WAIT_MILLIS = 50;
+
+    /** File name stamps of concurrent games need to be finer than a second to not collide */
+    private static final String PARALLEL_STAMP_FORMAT = "_yyyy-MM-dd_HH-mm-ss-SSS";
 
     private AIMatchRunner() {}
 
-    public static void main(String[] args) {
-        if (args.length < 1) {
-            System.out.println("Usage: AIMatchRunner <scenarioFile> [repetitions] [roundsLimit] [timeoutMinutes]");
-            System.out.println(" - assign AIs to the scenario's bot factions with the 'ai:' key (e.g. ai: caspar)");
-            System.exit(1);
+    /**
+     * The outcome of one game of the batch.
+     *
+     * @param gameNumber     the number of the game in the batch, starting at 1
+     * @param seed           the seed of the game's RNG
+     * @param durationMillis the wall-clock time the game took
+     * @param teamAITypes    the AIs of each team, see {@link ScenarioGameRunner#getBotTeamAITypes()}
+     * @param result         the game's result, or null if it failed to run
+     */
+    record MatchResult(int gameNumber, long seed, long durationMillis, Map<Integer, Set<AIType>> teamAITypes,
+          @Nullable ScenarioGameRunner.GameResult result) {}
+
+    public static void main(String[] arguments) {
+        List<String> args = new ArrayList<>();
+        boolean loopback = false;
+        int parallelGames = 1;
+        long baseSeed = new Random().nextLong();
+        File csvFile = null;
+        File jsonFile = null;
+        for (int index = 0; index < arguments.length; index++) {
+            String argument = arguments[index];
+            if (!argument.startsWith("--")) {
+                args.add(argument);
+                continue;
+            }
+            if (argument.equals(ScenarioGameRunner.LOOPBACK_OPTION)) {
+                loopback = true;
+                continue;
+            }
+            if (index + 1 >= arguments.length) {
+                exitWithUsage("Missing value for " + argument);
+            }
+            String value = arguments[++index];
+            switch (argument) {
+                case "--parallel" -> parallelGames = Math.max(1, parseIntArg(value, "--parallel"));
+                case "--seed" -> baseSeed = parseLongArg(value, "--seed");
+                case "--csv" -> csvFile = new File(value);
+                case "--json" -> jsonFile = new File(value);
+                default -> exitWithUsage("Unknown option " + argument);
+            }
+        }
+        if (args.isEmpty()) {
+            exitWithUsage(null);
         }
 
-        File scenarioFile = new File(args[0]);
+        File scenarioFile = new File(args.getFirst());
         int repetitions = parseIntArg(args, 1, DEFAULT_REPETITIONS, "repetitions");
         int roundsLimit = parseIntArg(args, 2, DEFAULT_ROUNDS_LIMIT, "roundsLimit");
         int timeoutMinutes = parseIntArg(args, 3, DEFAULT_TIMEOUT_MINUTES, "timeoutMinutes");
 
         // Keep each game's logs instead of overwriting them, so per-game decision data survives the batch.
         PreferenceManager.getClientPreferences().setStampFilenames(true);
+        if (parallelGames > 1) {
+            PreferenceManager.getClientPreferences().setStampFormat(PARALLEL_STAMP_FORMAT);
+            // Each game's server must only be seen by the threads of that game
+            Server.setIsolatedInstances(true);
+        }
+        awaitUnitCache();
 
         Map<Integer, Integer> teamWins = new TreeMap<>();
         Map<Integer, Set<AIType>> teamAITypes = new TreeMap<>();
+        Map<Integer, Integer> battleValueDestroyed = new TreeMap<>();
         int draws = 0;
         int unfinished = 0;
+        int failed = 0;
+        long totalRounds = 0;
 
+        ExecutorService executor = Executors.newFixedThreadPool(parallelGames,
+              Thread.ofPlatform().name("AI Match Game ", 1).factory());
+        CompletionService<MatchResult> games = new ExecutorCompletionService<>(executor);
         for (int gameNumber = 1; gameNumber <= repetitions; gameNumber++) {
-            ScenarioGameRunner runner = null;
-            try {
-                runner = new ScenarioGameRunner(scenarioFile);
+            int number = gameNumber;
+            long seed = baseSeed + gameNumber;
+            boolean useLoopback = loopback;
+            games.submit(() -> playGame(scenarioFile, number, repetitions, seed, useLoopback, roundsLimit,
+                  timeoutMinutes));
+        }
+
+        try (AIMatchResultWriter writer = new AIMatchResultWriter(csvFile, jsonFile)) {
+            for (int count = 0; count < repetitions; count++) {
+                MatchResult match = games.take().get();
+                writer.write(match);
                 if (teamAITypes.isEmpty()) {
-                    teamAITypes = runner.getBotTeamAITypes();
+                    teamAITypes = match.teamAITypes();
+                }
+                ScenarioGameRunner.GameResult result = match.result();
+                if (result == null) {
+                    failed++;
+                    continue;
                 }
-                ScenarioGameRunner.GameResult result = runner.runGame(roundsLimit, timeoutMinutes);
+                totalRounds += result.rounds();
+                result.battleValueDestroyedByTeam().forEach((team, bv) -> battleValueDestroyed.merge(team, bv,
+                      Integer::sum));
                 if (!result.finished()) {
                     unfinished++;
-                    logger.warn("Game {}/{} did not finish within the timeout", gameNumber, repetitions);
                 } else if (result.winningTeam() == Player.TEAM_NONE) {
                     draws++;
-                    logger.info("Game {}/{}: draw (no sole surviving team)", gameNumber, repetitions);
                 } else {
                     teamWins.merge(result.winningTeam(), 1, Integer::sum);
-                    logger.info("Game {}/{}: team {} {} wins", gameNumber, repetitions, result.winningTeam(),
-                          teamAITypes.getOrDefault(result.winningTeam(), Set.of()));
-                }
-            } catch (Exception exception) {
-                logger.error(exception, "Game " + gameNumber + "/" + repetitions + " failed to run");
-            } finally {
-                if (runner != null) {
-                    runner.shutdown();
                 }
             }
+        } catch (Exception exception) {
+            logger.error(exception, "Failed to collect the game results");
+        } finally {
+            executor.shutdownNow();
         }
 
-        logger.info(formatSummary(repetitions, teamWins, teamAITypes, draws, unfinished));
+        int played = repetitions - failed;
+        logger.info(formatSummary(repetitions, teamWins, teamAITypes, draws, unfinished, failed,
+              (played == 0) ? 0 : (double) totalRounds / played, battleValueDestroyed));
         System.exit(0);
     }
 
+    /**
+     * Runs one game of the batch on the current thread. The game's RNG seed is set for this thread before the game's
+     * server and clients are started, so that each of their threads gets its own RNG seeded from it.
+     *
+     * @return the game's outcome; never throws
+     */
+    private static MatchResult playGame(File scenarioFile, int gameNumber, int repetitions, long seed,
+          boolean loopback, int roundsLimit, int timeoutMinutes) {
+        long start = System.currentTimeMillis();
+        Compute.setThreadRNGSeed(seed);
+        ScenarioGameRunner runner = null;
+        Map<Integer, Set<AIType>> teamAITypes = Map.of();
+        ScenarioGameRunner.GameResult result = null;
+        try {
+            runner = new ScenarioGameRunner(scenarioFile, loopback);
+            teamAITypes = runner.getBotTeamAITypes();
+            result = runner.runGame(roundsLimit, timeoutMinutes);
+            if (!result.finished()) {
+                logger.warn("Game {}/{} did not finish within the timeout", gameNumber, repetitions);
+            } else if (result.winningTeam() == Player.TEAM_NONE) {
+                logger.info("Game {}/{}: draw (no sole surviving team)", gameNumber, repetitions);
+            } else {
+                logger.info("Game {}/{}: team {} {} wins", gameNumber, repetitions, result.winningTeam(),
+                      teamAITypes.getOrDefault(result.winningTeam(), Set.of()));
+            }
+        } catch (Exception exception) {
+            logger.error(exception, "Game " + gameNumber + "/" + repetitions + " failed to run");
+        } finally {
+            if (runner != null) {
+                runner.shutdown();
+            }
+            Compute.clearThreadRNG();
+        }
+        return new MatchResult(gameNumber, seed, System.currentTimeMillis() - start, teamAITypes, result);
+    }
+
+    /** Loads the unit data once before the games start, so that they all share it. */
+    private static void awaitUnitCache() {
+        MekSummaryCache unitCache = MekSummaryCache.getInstance();
+        while (!unitCache.isInitialized()) {
+            try {
+                Thread.sleep(UNIT_CACHE_WAIT_MILLIS);
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    private static void exitWithUsage(@Nullable String error) {
+        if (error != null) {
+            System.out.println(error);
+        }
+        System.out.println(
+              "Usage: AIMatchRunner [options] <scenarioFile> [repetitions] [roundsLimit] [timeoutMinutes]");
+        System.out.println(" - assign AIs to the scenario's bot factions with the 'ai:' key (e.g. ai: caspar)");
+        System.out.println("Options:");
+        System.out.println(" --loopback       connect the clients in memory instead of over sockets");
+        System.out.println(" --parallel <n>   run n games concurrently (default 1)");
+        System.out.println(" --seed <seed>    base seed of the games' RNGs; game i uses seed + i (default random)");
+        System.out.println(" --csv <file>     write one row per unit and game to this CSV file");
+        System.out.println(" --json <file>    write one JSON object per game to this JSON Lines file");
+        System.exit(1);
+    }
+
     /**
      * Parses an optional integer command-line argument, or returns the default when it is not supplied. Exits
      * with a usage-style message rather than throwing if the argument is present but not an integer.
@@ -122,33 +268,52 @@ public final class AIMatchRunner {
      *
      * @return the parsed value, or {@code defaultValue} when the argument is absent
      */
-    private static int parseIntArg(String[] args, int index, int defaultValue, String argumentName) {
-        if (args.length <= index) {
+    private static int parseIntArg(List<String> args, int index, int defaultValue, String argumentName) {
+        if (args.size() <= index) {
             return defaultValue;
         }
+        return parseIntArg(args.get(index), argumentName);
+    }
+
+    private static int parseIntArg(String value, String argumentName) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            exitWithUsage("Invalid " + argumentName + ": '" + value + "' is not an integer");
+            return 0; // unreachable: System.exit does not return
+        }
+    }
+
+    private static long parseLongArg(String value, String argumentName) {
         try {
-            return Integer.parseInt(args[index]);
+            return Long.parseLong(value);
         } catch (NumberFormatException exception) {
-            System.out.println("Invalid " + argumentName + ": '" + args[index] + "' is not an integer");
-            System.exit(1);
-            return defaultValue; // unreachable: System.exit does not return
+            exitWithUsage("Invalid " + argumentName + ": '" + value + "' is not an integer");
+            return 0; // unreachable: System.exit does not return
         }
     }
 
     private static String formatSummary(int repetitions, Map<Integer, Integer> teamWins,
-          Map<Integer, Set<AIType>> teamAITypes, int draws, int unfinished) {
+          Map<Integer, Set<AIType>> teamAITypes, int draws, int unfinished, int failed, double averageRounds,
+          Map<Integer, Integer> battleValueDestroyed) {
         StringBuilder summary = new StringBuilder(
               System.lineSeparator() + "=== AI match results over " + repetitions + " game(s) ===");
         for (Map.Entry<Integer, Set<AIType>> entry : teamAITypes.entrySet()) {
             summary.append(System.lineSeparator())
                   .append("  Team ").append(entry.getKey())
                   .append(' ').append(entry.getValue())
-                  .append(": ").append(teamWins.getOrDefault(entry.getKey(), 0)).append(" win(s)");
+                  .append(": ").append(teamWins.getOrDefault(entry.getKey(), 0)).append(" win(s), ")
+                  .append(battleValueDestroyed.getOrDefault(entry.getKey(), 0)).append(" BV lost");
         }
         summary.append(System.lineSeparator()).append("  Draws: ").append(draws);
         if (unfinished > 0) {
             summary.append(System.lineSeparator()).append("  Unfinished (timeout): ").append(unfinished);
         }
+        if (failed > 0) {
+            summary.append(System.lineSeparator()).append("  Failed to run: ").append(failed);
+        }
+        summary.append(System.lineSeparator())
+              .append(String.format("  Average rounds played: %.1f", averageRounds));
         return summary.toString();
     }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import megamek.common.Hex;
+import megamek.common.board.Board;
+import megamek.common.board.BoardLocation;
+import megamek.common.board.Coords;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Entity;
+import megamek.common.util.SerializationHelper;
+import megamek.logging.MMLogger;
+
+/**
+ * Compares the size and the marshalling and unmarshalling time of the hottest packets in the Java native serialization
+ * and the compact binary packet formats (see {@link PacketMarshaller}). Without a save game, a generated 32x34 board
+ * and a set of changed hexes are used; with a save game, its boards, units, turns and reports are used instead. Use a
+ * save game from late in a large game for meaningful results.
+ * <p>
+ * Usage: PacketMarshallerBenchmark [save game file] [iterations, default 200]
+ */
+public class PacketMarshallerBenchmark {
+    private static final MMLogger logger = MMLogger.create(PacketMarshallerBenchmark.class);
+
+    public static void main(String[] args) throws Exception {
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+
+        EquipmentType.initializeTypes();
+        Map<String, List<Packet>> packets = new LinkedHashMap<>();
+        if (args.length > 0) {
+            File saveGameFile = new File(args[0]);
+            boolean compressed = saveGameFile.getName().toLowerCase().endsWith(".gz");
+            try (InputStream in = new FileInputStream(saveGameFile);
+                  InputStream gzi = compressed ? new GZIPInputStream(in) : in) {
+                addGamePackets(packets, (Game) SerializationHelper.loadSaveGame(gzi));
+            }
+        } else {
+            addGeneratedPackets(packets);
+        }
+
+        PacketMarshallerFactory factory = PacketMarshallerFactory.getInstance();
+        PacketMarshaller nativeMarshaller = factory.getMarshaller(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING);
+        PacketMarshaller compactMarshaller = factory.getMarshaller(PacketMarshaller.COMPACT_BINARY_MARSHALING);
+        logger.info("{} iterations per packet type", iterations);
+        for (Map.Entry<String, List<Packet>> entry : packets.entrySet()) {
+            Result nativeResult = measure(nativeMarshaller, entry.getValue(), iterations);
+            Result compactResult = measure(compactMarshaller, entry.getValue(), iterations);
+            logger.info("{}: native {} bytes, write {} us, read {} us | compact {} bytes, write {} us, read {} us",
+                  entry.getKey(), nativeResult.bytes, nativeResult.writeMicros(), nativeResult.readMicros(),
+                  compactResult.bytes, compactResult.writeMicros(), compactResult.readMicros());
+        }
+    }
+
+    private static void addGamePackets(Map<String, List<Packet>> packets, Game game) {
+        packets.put("SENDING_BOARD", List.of(new Packet(PacketCommand.SENDING_BOARD, new HashMap<>(game.getBoards()))));
+        packets.put("SENDING_ENTITIES",
+              List.of(new Packet(PacketCommand.SENDING_ENTITIES, new ArrayList<>(game.getEntitiesVector()))));
+        List<Packet> entityUpdates = new ArrayList<>();
+        for (Entity entity : game.getEntitiesVector()) {
+            entityUpdates.add(new Packet(PacketCommand.ENTITY_UPDATE, entity.getId(), entity, null));
+        }
+        packets.put("ENTITY_UPDATE (all units)", entityUpdates);
+        packets.put("SENDING_TURNS", List.of(new Packet(PacketCommand.SENDING_TURNS, game.getTurnsList())));
+        packets.put("SENDING_REPORTS_ALL", List.of(new Packet(PacketCommand.SENDING_REPORTS_ALL,
+              game.getAllReports())));
+    }
+
+    private static void addGeneratedPackets(Map<String, List<Packet>> packets) {
+        int width = 32;
+        int height = 34;
+        Hex[] hexes = new Hex[width * height];
+        for (int i = 0; i < hexes.length; i++) {
+            hexes[i] = switch (i % 4) {
+                case 0 -> new Hex(0);
+                case 1 -> new Hex(1, "woods:1;foliage_elev:2", null);
+                case 2 -> new Hex(-1, "water:1", null);
+                default -> new Hex(2, "rough:1", "grass");
+            };
+        }
+        Map<Integer, Board> boards = new HashMap<>();
+        boards.put(0, new Board(width, height, hexes));
+        packets.put("SENDING_BOARD", List.of(new Packet(PacketCommand.SENDING_BOARD, boards)));
+
+        Map<BoardLocation, Hex> changedHexes = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            changedHexes.put(BoardLocation.of(new Coords(i % width, i), 0),
+                  new Hex(1, "woods:1;foliage_elev:2", null));
+        }
+        packets.put("CHANGE_HEXES", List.of(new Packet(PacketCommand.CHANGE_HEXES, changedHexes)));
+    }
+
+    private static Result measure(PacketMarshaller marshaller, List<Packet> packets, int iterations)
+          throws Exception {
+        Result result = new Result(iterations);
+        // The first iteration warms up the JIT and is not counted
+        for (int i = 0; i <= iterations; i++) {
+            long bytes = 0;
+            long writeNanos = 0;
+            long readNanos = 0;
+            for (Packet packet : packets) {
+                long start = System.nanoTime();
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                marshaller.marshall(packet, out);
+                byte[] data = out.toByteArray();
+                long written = System.nanoTime();
+                marshaller.unmarshall(new ByteArrayInputStream(data));
+                long read = System.nanoTime();
+                bytes += data.length;
+                writeNanos += written - start;
+                readNanos += read - written;
+            }
+            if (i > 0) {
+                result.bytes = bytes;
+                result.writeNanos += writeNanos;
+                result.readNanos += readNanos;
+            }
+        }
+        return result;
+    }
+
+    private static final class Result {
+        private final int iterations;
+        private long bytes;
+        private long writeNanos;
+        private long readNanos;
+
+        private Result(int iterations) {
+            this.iterations = iterations;
+        }
+
+        private long writeMicros() {
+            return writeNanos / iterations / 1000;
+        }
+
+        private long readMicros() {
+            return readNanos / iterations / 1000;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.util.BinarySaveGame;
+import megamek.common.util.SerializationHelper;
+import megamek.logging.MMLogger;
+
+/**
+ * Compares saving and loading a game in the XStream XML save game format and in the {@link BinarySaveGame binary}
+ * format, including compression as done for save game files. Use a save game from late in a large game for meaningful
+ * results.
+ * <p>
+ * Usage: SaveGameBenchmark &lt;save game file&gt; [iterations, default 5]
+ */
+public class SaveGameBenchmark {
+    private static final MMLogger logger = MMLogger.create(SaveGameBenchmark.class);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            logger.error("Usage: SaveGameBenchmark <save game file> [iterations]");
+            return;
+        }
+        File saveGameFile = new File(args[0]);
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+
+        EquipmentType.initializeTypes();
+        Object game;
+        try (InputStream in = new FileInputStream(saveGameFile);
+              InputStream gzi = saveGameFile.getName().toLowerCase().endsWith(".gz") ? new GZIPInputStream(in) : in) {
+            game = SerializationHelper.loadSaveGame(gzi);
+        }
+
+        byte[] xmlSave = null;
+        byte[] binarySave = null;
+        long xmlSaveNanos = 0;
+        long xmlLoadNanos = 0;
+        long binarySaveNanos = 0;
+        long binaryLoadNanos = 0;
+        // The first iteration warms up the JIT and is not counted
+        for (int i = 0; i <= iterations; i++) {
+            long start = System.nanoTime();
+            xmlSave = saveXml(game);
+            long xmlSaved = System.nanoTime();
+            load(xmlSave);
+            long xmlLoaded = System.nanoTime();
+            binarySave = saveBinary(game);
+            long binarySaved = System.nanoTime();
+            load(binarySave);
+            long binaryLoaded = System.nanoTime();
+            if (i > 0) {
+                xmlSaveNanos += xmlSaved - start;
+                xmlLoadNanos += xmlLoaded - xmlSaved;
+                binarySaveNanos += binarySaved - xmlLoaded;
+                binaryLoadNanos += binaryLoaded - binarySaved;
+            }
+        }
+
+        logger.info("Save game {}, {} iterations", saveGameFile, iterations);
+        logger.info("XML:    save {} ms, load {} ms, {} bytes", millis(xmlSaveNanos, iterations),
+              millis(xmlLoadNanos, iterations), xmlSave.length);
+        logger.info("Binary: save {} ms, load {} ms, {} bytes", millis(binarySaveNanos, iterations),
+              millis(binaryLoadNanos, iterations), binarySave.length);
+    }
+
+    private static byte[] saveXml(Object game) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzo = new GZIPOutputStream(bytes);
+              Writer writer = new OutputStreamWriter(gzo, StandardCharsets.UTF_8)) {
+            SerializationHelper.getSaveGameXStream().toXML(game, writer);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] saveBinary(Object game) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzo = BinarySaveGame.createCompressedStream(bytes)) {
+            BinarySaveGame.write(game, gzo);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void load(byte[] saveGame) throws Exception {
+        try (InputStream gzi = new GZIPInputStream(new ByteArrayInputStream(saveGame))) {
+            SerializationHelper.loadSaveGame(gzi);
+        }
+    }
+
+    private static long millis(long nanos, int iterations) {
+        return nanos / iterations / 1_000_000;
+    }
+}
@@ -35,8 +35,11 @@ package megamek.utilities;
 import static megamek.MMConstants.LOCALHOST_IP;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.ObjectInputFilter;
+import java.net.BindException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +52,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 import megamek.MMConstants;
+import megamek.client.AbstractClient;
 import megamek.client.HeadlessClient;
 import megamek.client.bot.AIType;
 import megamek.client.bot.BotClient;
@@ -61,8 +65,10 @@ import megamek.common.event.GameListenerAdapter;
 import megamek.common.event.GamePhaseChangeEvent;
 import megamek.common.game.Game;
 import megamek.common.game.IGame;
+import megamek.common.interfaces.IEntityRemovalConditions;
 import megamek.common.jacksonAdapters.BotParser;
 import megamek.common.loaders.MekSummaryCache;
+import megamek.common.net.connections.LoopbackConnection;
 import megamek.common.net.marshalling.SanityInputFilter;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.scenario.Scenario;
@@ -83,7 +89,10 @@ import megamek.server.totalWarfare.TWGameManager;
  * <p>Intended for AI testing and decision-log generation (see {@code docs/issues/princess-work-tracker.md}):
  * bot decision data is written to the BotLogger TSV and the standard logs while the game runs.</p>
  *
- * <p>Usage: {@code ScenarioGameRunner <scenarioFile> [roundsLimit] [timeoutMinutes]}</p>
+ * <p>With the {@code --loopback} option, the clients are connected to the server in the same JVM without sockets
+ * (see {@link LoopbackConnection}), which saves the network overhead when running many games.</p>
+ *
+ * <p>Usage: {@code ScenarioGameRunner [--loopback] <scenarioFile> [roundsLimit] [timeoutMinutes]}</p>
  */
 public class ScenarioGameRunner {
     private static final MMLogger logger = MMLogger.create(ScenarioGameRunner.class);
@@ -92,6 +101,8 @@ public class ScenarioGameRunner {
     private static final int DEFAULT_TIMEOUT_MINUTES = 10;
     private static final int CONNECT_RETRY_LIMIT = 250;
     private static final int CONNECT_RETRY_SLEEP_MILLIS = 50;
+    private static final int SERVER_PORT_RETRY_LIMIT = 10;
+    static final String LOOPBACK_OPTION = "--loopback";
 
     static {
         MekSummaryCache.getInstance();
@@ -101,13 +112,21 @@ public class ScenarioGameRunner {
     private final Server server;
     private final Scenario scenario;
     private final Game game;
+    private final boolean loopback;
+    private final List<AbstractClient> clients = new ArrayList<>();
 
     public ScenarioGameRunner(File scenarioFile) throws Exception {
+        this(scenarioFile, false);
+    }
+
+    /**
+     * @param scenarioFile the scenario to run
+     * @param loopback     true to connect the clients without sockets, see {@link LoopbackConnection}
+     */
+    public ScenarioGameRunner(File scenarioFile, boolean loopback) throws Exception {
+        this.loopback = loopback;
         TWGameManager gameManager = new TWGameManager();
-        Random random = new Random();
-        server = new Server(null,
-              random.nextInt(MMConstants.MIN_PORT_FOR_QUICK_GAME, MMConstants.MAX_PORT),
-              gameManager, false, "", null, true);
+        server = createServer(gameManager);
 
         // The Server has already opened its socket and started a non-daemon thread; if the rest of construction
         // fails, tear it down so a failed runner cannot leak the port/thread and keep the JVM alive.
@@ -129,6 +148,25 @@ public class ScenarioGameRunner {
         }
     }
 
+    /**
+     * Starts the server on a random port, trying other ports when the port is taken (e.g. by the server of another
+     * game running concurrently).
+     */
+    private static Server createServer(TWGameManager gameManager) throws IOException {
+        Random random = new Random();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new Server(null,
+                      random.nextInt(MMConstants.MIN_PORT_FOR_QUICK_GAME, MMConstants.MAX_PORT),
+                      gameManager, false, "", null, true);
+            } catch (BindException exception) {
+                if (attempt >= SERVER_PORT_RETRY_LIMIT) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
     /**
      * The result of a single scenario game: whether it finished (rather than timing out) and which team won,
      * defined as the sole surviving combatant team. The unit-less headless watcher is ignored, and a game that
@@ -136,8 +174,46 @@ public class ScenarioGameRunner {
      *
      * @param finished    whether the game finished within the timeout
      * @param winningTeam the sole surviving combatant team, or {@link Player#TEAM_NONE} for a draw
+     * @param rounds      the number of the last round played
+     * @param units       the fate of every unit that was in the game when it started
+     */
+    public record GameResult(boolean finished, int winningTeam, int rounds, List<UnitResult> units) {
+
+        /**
+         * @return the total starting BV of the destroyed units of each team that lost any
+         */
+        public Map<Integer, Integer> battleValueDestroyedByTeam() {
+            Map<Integer, Integer> destroyed = new TreeMap<>();
+            for (UnitResult unit : units) {
+                if (unit.status() == UnitStatus.DESTROYED) {
+                    destroyed.merge(unit.team(), unit.battleValue(), Integer::sum);
+                }
+            }
+            return destroyed;
+        }
+    }
+
+    /** What became of a unit by the end of a game. */
+    public enum UnitStatus {
+        SURVIVED,
+        RETREATED,
+        DESTROYED
+    }
+
+    /**
+     * The fate of a single unit in a scenario game.
+     *
+     * @param id          the unit ID
+     * @param name        the unit's display name
+     * @param owner       the name of the owning player
+     * @param team        the owner's team
+     * @param battleValue the unit's BV at the start of the game
+     * @param status      what became of the unit
      */
-    public record GameResult(boolean finished, int winningTeam) {}
+    public record UnitResult(int id, String name, String owner, int team, int battleValue, UnitStatus status) {}
+
+    /** The unit data that is recorded when the game starts, as the units change (or are removed) while it runs. */
+    private record StartingUnit(int id, String name, String owner, int team, int battleValue) {}
 
     /**
      * Connects the watcher and bots, then runs the game.
@@ -155,6 +231,7 @@ public class ScenarioGameRunner {
         players.sort(Comparator.comparingInt(Player::getId));
 
         Player watcherSlot = players.getFirst();
+        List<StartingUnit> startingUnits = recordStartingUnits();
         CountDownLatch roundCounter = new CountDownLatch(roundsLimit);
 
         HeadlessClient watcher = new HeadlessClient(watcherSlot.getName(), LOCALHOST_IP, server.getPort());
@@ -180,9 +257,10 @@ public class ScenarioGameRunner {
             }
         });
 
-        if (!watcher.connect()) {
+        if (!connect(watcher)) {
             throw new IllegalStateException("Watcher client failed to connect to the local server");
         }
+        clients.add(watcher);
         waitForLocalPlayer(watcher.getName(), () -> watcher.getLocalPlayer() != null);
 
         for (Player botSlot : players.subList(1, players.size())) {
@@ -191,9 +269,10 @@ public class ScenarioGameRunner {
                   LOCALHOST_IP,
                   server.getPort(),
                   behaviorFor(botSlot.getName()));
-            if (!botClient.connect()) {
+            if (!connect(botClient)) {
                 throw new IllegalStateException("Bot failed to connect for player " + botSlot.getName());
             }
+            clients.add(botClient);
             waitForLocalPlayer(botClient.getName(), () -> botClient.getLocalPlayer() != null);
             botClient.sendPlayerInfo();
             logger.info("Connected bot for {}", botSlot.getName());
@@ -207,7 +286,49 @@ public class ScenarioGameRunner {
         } else {
             logger.error("Scenario game timed out");
         }
-        return new GameResult(finished, determineWinningTeam(watcherSlot.getTeam()));
+        return new GameResult(finished, determineWinningTeam(watcherSlot.getTeam()), game.getCurrentRound(),
+              determineUnitResults(startingUnits));
+    }
+
+    private List<StartingUnit> recordStartingUnits() {
+        List<StartingUnit> startingUnits = new ArrayList<>();
+        for (Entity entity : game.getEntitiesVector()) {
+            Player owner = entity.getOwner();
+            startingUnits.add(new StartingUnit(entity.getId(), entity.getDisplayName(),
+                  (owner == null) ? "" : owner.getName(),
+                  (owner == null) ? Player.TEAM_NONE : owner.getTeam(),
+                  entity.calculateBattleValue()));
+        }
+        return startingUnits;
+    }
+
+    /**
+     * Determines what became of the given units. Units that left the battlefield by retreating or being pushed off
+     * the board have retreated; all other units that were removed from the game were destroyed (or captured).
+     */
+    private List<UnitResult> determineUnitResults(List<StartingUnit> startingUnits) {
+        List<UnitResult> unitResults = new ArrayList<>();
+        for (StartingUnit unit : startingUnits) {
+            UnitStatus status;
+            Entity entity = game.getEntity(unit.id());
+            if (entity != null) {
+                status = (entity.isDestroyed() || entity.isDoomed()) ? UnitStatus.DESTROYED : UnitStatus.SURVIVED;
+            } else {
+                Entity removedEntity = game.getOutOfGameEntity(unit.id());
+                int removalCondition = (removedEntity == null)
+                      ? IEntityRemovalConditions.REMOVE_UNKNOWN
+                      : removedEntity.getRemovalCondition();
+                status = switch (removalCondition) {
+                    case IEntityRemovalConditions.REMOVE_IN_RETREAT, IEntityRemovalConditions.REMOVE_PUSHED ->
+                          UnitStatus.RETREATED;
+                    case IEntityRemovalConditions.REMOVE_NEVER_JOINED -> UnitStatus.SURVIVED;
+                    default -> UnitStatus.DESTROYED;
+                };
+            }
+            unitResults.add(new UnitResult(unit.id(), unit.name(), unit.owner(), unit.team(), unit.battleValue(),
+                  status));
+        }
+        return unitResults;
     }
 
     /**
@@ -229,10 +350,18 @@ public class ScenarioGameRunner {
     }
 
     /**
-     * Shuts down this runner's server, releasing its port and connections. Call between games when running many
-     * in one process.
+     * Shuts down this runner's clients and server, releasing its port, connections and threads. Call between games
+     * when running many in one process.
      */
     public void shutdown() {
+        for (AbstractClient client : clients) {
+            try {
+                client.die();
+            } catch (Exception exception) {
+                logger.warn(exception, "Failed to shut down client {}", client.getName());
+            }
+        }
+        clients.clear();
         server.die();
     }
 
@@ -279,6 +408,19 @@ public class ScenarioGameRunner {
         return teamAITypes;
     }
 
+    private boolean connect(AbstractClient client) {
+        return loopback ? client.connect(server.createLoopbackConnection()) : client.connect();
+    }
+
+    /**
+     * Removes the {@link #LOOPBACK_OPTION} from the given command-line arguments.
+     *
+     * @return the remaining arguments
+     */
+    private static String[] withoutLoopbackOption(String[] args) {
+        return Arrays.stream(args).filter(argument -> !LOOPBACK_OPTION.equals(argument)).toArray(String[]::new);
+    }
+
     private void waitForLocalPlayer(String clientName, BooleanSupplier connected) throws InterruptedException {
         int retryCount = 0;
         while (!connected.getAsBoolean() && (retryCount++ < CONNECT_RETRY_LIMIT)) {
@@ -289,9 +431,12 @@ public class ScenarioGameRunner {
         }
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] arguments) {
+        boolean loopback = Arrays.asList(arguments).contains(LOOPBACK_OPTION);
+        String[] args = withoutLoopbackOption(arguments);
         if (args.length < 1) {
-            System.out.println("Usage: ScenarioGameRunner <scenarioFile> [roundsLimit] [timeoutMinutes]");
+            System.out.println("Usage: ScenarioGameRunner [--loopback] <scenarioFile> [roundsLimit] [timeoutMinutes]");
+            System.out.println(" - --loopback: connect the clients in memory instead of over sockets");
             System.out.println(" - scenarioFile: an MMS scenario; first faction is the headless watcher,");
             System.out.println("   all other factions are played by Princess bots");
             System.out.println(" - roundsLimit: stop the game after this many rounds (default "
@@ -314,7 +459,7 @@ public class ScenarioGameRunner {
         } catch (NumberFormatException e) {
             System.out.println("roundsLimit and timeoutMinutes must be whole numbers, but got: "
                   + String.join(" ", args));
-            System.out.println("Usage: ScenarioGameRunner <scenarioFile> [roundsLimit] [timeoutMinutes]");
+            System.out.println("Usage: ScenarioGameRunner [--loopback] <scenarioFile> [roundsLimit] [timeoutMinutes]");
             System.exit(1);
         }
 
@@ -326,7 +471,7 @@ public class ScenarioGameRunner {
         int exitCode = 0;
         ScenarioGameRunner runner = null;
         try {
-            runner = new ScenarioGameRunner(scenarioFile);
+            runner = new ScenarioGameRunner(scenarioFile, loopback);
             if (!runner.runGame(roundsLimit, timeoutMinutes).finished()) {
                 exitCode = 2;
             }
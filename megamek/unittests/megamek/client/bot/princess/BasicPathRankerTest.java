@@ -46,6 +46,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -55,6 +56,7 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.function.Consumer;
 
 import megamek.client.bot.princess.FireControl.FireControlType;
 import megamek.client.bot.princess.UnitBehavior.BehaviorType;
@@ -2601,4 +2603,108 @@ class BasicPathRankerTest {
         assertEquals(4.0, testRanker.checkPathForHazards(mockPath, mockUnit, mockGame), TOLERANCE);
     }
 
+    /**
+     * Crowding counts the deployed friendly and enemy Meks and Tanks near the path's end, found through the game's
+     * position index. Outside a ranking pass, the friends and enemies are taken from the owner.
+     */
+    @Test
+    void testCalculateCrowdingTolerance() {
+        when(mockPrincess.getBehaviorSettings().getAntiCrowding()).thenReturn(5);
+        final BasicPathRanker testRanker = new BasicPathRanker(mockPrincess);
+
+        final Game mockGame = mock(Game.class);
+        final Entity self = mockUnit(BipedMek.class, 1, new Coords(10, 9), 0);
+        final MovePath mockPath = mock(MovePath.class);
+        when(mockPath.getEntity()).thenReturn(self);
+        when(mockPath.getGame()).thenReturn(mockGame);
+        when(mockPath.getFinalCoords()).thenReturn(new Coords(10, 10));
+        when(mockPath.getFinalBoardId()).thenReturn(0);
+
+        // Herding distance 7, closing distance 6
+        final Entity nearFriend = mockUnit(BipedMek.class, 2, new Coords(10, 13), 0);
+        final Entity farFriend = mockUnit(BipedMek.class, 3, new Coords(10, 19), 0);
+        final Entity friendlyInfantry = mockUnit(Infantry.class, 4, new Coords(10, 11), 0);
+        final Entity friendlyTank = mockUnit(Tank.class, 5, new Coords(11, 10), 0);
+        final Entity nearEnemy = mockUnit(BipedMek.class, 6, new Coords(10, 15), 0);
+        final Entity farEnemy = mockUnit(BipedMek.class, 7, new Coords(10, 17), 0);
+        final Entity undeployedEnemy = mockUnit(BipedMek.class, 8, new Coords(10, 12), 0);
+        when(undeployedEnemy.isDeployed()).thenReturn(false);
+        final Entity enemyOnOtherBoard = mockUnit(BipedMek.class, 9, new Coords(10, 11), 1);
+        stubPositionIndex(mockGame, List.of(self, nearFriend, farFriend, friendlyInfantry, friendlyTank, nearEnemy,
+              farEnemy, undeployedEnemy, enemyOnOtherBoard));
+        when(mockPrincess.getFriendEntities()).thenReturn(List.of(self, nearFriend, farFriend, friendlyInfantry,
+              friendlyTank));
+        when(mockPrincess.getEnemyEntities()).thenReturn(List.of(nearEnemy, farEnemy, undeployedEnemy,
+              enemyOnOtherBoard));
+
+        // 10 / (11 - 5) per unit: self, the near friend and the tank, and the near enemy
+        final double perUnit = 10.0 / 6;
+        assertEquals(4 * perUnit, testRanker.calculateCrowdingTolerance(mockPath, 10, new StringBuilder()),
+              TOLERANCE);
+
+        // The same units no longer count once they are not enemies
+        when(mockPrincess.getEnemyEntities()).thenReturn(List.of());
+        assertEquals(3 * perUnit, testRanker.calculateCrowdingTolerance(mockPath, 10, new StringBuilder()),
+              TOLERANCE);
+    }
+
+    /**
+     * The cluster anchor is the deployed enemy with the most enemy BV within the homing radius; units that are not
+     * deployed enemies do not add to a cluster even when the position index finds them.
+     */
+    @Test
+    void testHighestBvClusterPosition() {
+        final BasicPathRanker testRanker = new BasicPathRanker(mockPrincess);
+        final Game mockGame = mock(Game.class);
+
+        final Entity loneEnemy = mockUnit(BipedMek.class, 1, new Coords(5, 5), 0);
+        when(loneEnemy.calculateBattleValue()).thenReturn(1000);
+        final Entity clusterCenter = mockUnit(BipedMek.class, 2, new Coords(20, 20), 0);
+        when(clusterCenter.calculateBattleValue()).thenReturn(400);
+        final Entity clusterMember = mockUnit(BipedMek.class, 3, new Coords(22, 20), 0);
+        when(clusterMember.calculateBattleValue()).thenReturn(400);
+        final Entity otherClusterMember = mockUnit(BipedMek.class, 4, new Coords(21, 22), 0);
+        when(otherClusterMember.calculateBattleValue()).thenReturn(400);
+        final Entity friendNearLoneEnemy = mockUnit(BipedMek.class, 5, new Coords(5, 6), 0);
+        when(friendNearLoneEnemy.calculateBattleValue()).thenReturn(5000);
+        final Entity undeployedEnemy = mockUnit(BipedMek.class, 6, new Coords(6, 5), 0);
+        when(undeployedEnemy.isDeployed()).thenReturn(false);
+        when(undeployedEnemy.calculateBattleValue()).thenReturn(5000);
+        stubPositionIndex(mockGame, List.of(loneEnemy, clusterCenter, clusterMember, otherClusterMember,
+              friendNearLoneEnemy, undeployedEnemy));
+
+        final List<Entity> enemies = List.of(loneEnemy, undeployedEnemy, clusterCenter, clusterMember,
+              otherClusterMember);
+        assertEquals(new Coords(20, 20), testRanker.highestBvClusterPosition(enemies, mockGame));
+        assertNull(testRanker.highestBvClusterPosition(List.of(undeployedEnemy), mockGame));
+    }
+
+    private static Entity mockUnit(Class<? extends Entity> unitClass, int id, Coords position, int boardId) {
+        final Entity unit = mock(unitClass);
+        when(unit.getId()).thenReturn(id);
+        when(unit.getPosition()).thenReturn(position);
+        when(unit.getBoardId()).thenReturn(boardId);
+        when(unit.isDeployed()).thenReturn(true);
+        return unit;
+    }
+
+    /**
+     * Makes the mocked game's position index visit the given units, as the real index would.
+     */
+    @SuppressWarnings("unchecked")
+    private static void stubPositionIndex(Game mockGame, List<Entity> units) {
+        doAnswer(invocation -> {
+            Coords center = invocation.getArgument(0);
+            int boardId = invocation.getArgument(1);
+            int distance = invocation.getArgument(2);
+            Consumer<Entity> action = invocation.getArgument(3);
+            for (Entity unit : units) {
+                if ((unit.getBoardId() == boardId) && (unit.getPosition() != null)
+                      && (center.distance(unit.getPosition()) <= distance)) {
+                    action.accept(unit);
+                }
+            }
+            return null;
+        }).when(mockGame).forEachEntityWithin(any(Coords.class), anyInt(), anyInt(), any(Consumer.class));
+    }
 }
@@ -87,6 +87,21 @@ class BehaviorSettingsTest {
         }
     }
 
+    @Test
+    void testMovementTimeBudget() throws PrincessException {
+        BehaviorSettings behaviorSettings = new BehaviorSettings();
+        assertEquals(0, behaviorSettings.getMovementTimeBudget());
+
+        behaviorSettings.setMovementTimeBudget("30");
+        assertEquals(30, behaviorSettings.getMovementTimeBudget());
+        assertEquals(30, behaviorSettings.getCopy().getMovementTimeBudget());
+
+        behaviorSettings.setMovementTimeBudget(-5);
+        assertEquals(0, behaviorSettings.getMovementTimeBudget());
+        behaviorSettings.setMovementTimeBudget(100000);
+        assertEquals(BehaviorSettings.MAX_MOVEMENT_TIME_BUDGET, behaviorSettings.getMovementTimeBudget());
+    }
+
     @Test
     void testStrategicBuildingTargets() {
         BehaviorSettings behaviorSettings = new BehaviorSettings();
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.compute.Compute;
+import megamek.server.Server;
+import megamek.server.totalWarfare.TWGameManager;
+import megamek.utils.ServerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the tasks of games running concurrently in one JVM, as with {@link megamek.utilities.AIMatchRunner},
+ * see the server and draw from the RNGs of their own game when they run on the shared {@link BotWorkerPool}.
+ */
+class BotWorkerPoolTest {
+
+    private static final int TASKS_PER_GAME = 16;
+
+    @AfterEach
+    void tearDown() {
+        Server.setIsolatedInstances(false);
+        Compute.clearThreadRNG();
+    }
+
+    @Test
+    void testConcurrentGamesStayIsolated() throws Exception {
+        Server.setIsolatedInstances(true);
+        GameRun firstAlone = playGame(1, null);
+        GameRun secondAlone = playGame(2, null);
+
+        GameRun firstConcurrent;
+        GameRun secondConcurrent;
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService games = Executors.newFixedThreadPool(2);
+        try {
+            Future<GameRun> first = games.submit(() -> playGame(1, start));
+            Future<GameRun> second = games.submit(() -> playGame(2, start));
+            firstConcurrent = first.get(1, TimeUnit.MINUTES);
+            secondConcurrent = second.get(1, TimeUnit.MINUTES);
+        } finally {
+            games.shutdownNow();
+        }
+
+        assertTrue(firstConcurrent.ownServerOnly());
+        assertTrue(secondConcurrent.ownServerOnly());
+        // Each seeded game draws the same numbers whether or not another game runs at the same time
+        assertEquals(firstAlone.rolls(), firstConcurrent.rolls());
+        assertEquals(secondAlone.rolls(), secondConcurrent.rolls());
+        assertNotEquals(firstConcurrent.rolls(), secondConcurrent.rolls());
+    }
+
+    /**
+     * Starts a server on the current thread with the given RNG seed and rolls on it and in tasks on the worker pool.
+     */
+    private static GameRun playGame(long seed, CyclicBarrier start) throws Exception {
+        Compute.setThreadRNGSeed(seed);
+        Server server = startServer();
+        try {
+            if (start != null) {
+                start.await(1, TimeUnit.MINUTES);
+            }
+            List<Callable<TaskRun>> tasks = new ArrayList<>();
+            for (int i = 0; i < TASKS_PER_GAME; i++) {
+                tasks.add(() -> new TaskRun(Server.getServerInstance() == server, roll()));
+            }
+            boolean ownServerOnly = Server.getServerInstance() == server;
+            List<List<Integer>> rolls = new ArrayList<>();
+            for (Future<TaskRun> result : BotWorkerPool.invokeAll(tasks)) {
+                ownServerOnly &= result.get().ownServer();
+                rolls.add(result.get().rolls());
+            }
+            rolls.add(roll());
+            return new GameRun(ownServerOnly, rolls);
+        } finally {
+            server.die();
+            Compute.clearThreadRNG();
+        }
+    }
+
+    /** Starts a server, retrying when another game took the same port first. */
+    private static Server startServer() throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return ServerFactory.createServer(new TWGameManager());
+            } catch (BindException exception) {
+                if (attempt == 5) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    private static List<Integer> roll() {
+        List<Integer> rolls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rolls.add(Compute.randomInt(1000));
+        }
+        return rolls;
+    }
+
+    private record TaskRun(boolean ownServer, List<Integer> rolls) {}
+
+    private record GameRun(boolean ownServerOnly, List<List<Integer>> rolls) {}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.client.bot.princess.FireControlCache.DamageKey;
+import org.junit.jupiter.api.Test;
+
+class FireControlCacheTest {
+
+    private static final DamageKey KEY = new DamageKey(1, 0, 2, 3, 4, "None");
+
+    @Test
+    void testExpectedDamageIsCalculatedOncePerKey() {
+        FireControlCache cache = new FireControlCache();
+        AtomicInteger calculations = new AtomicInteger();
+
+        assertEquals(5f, cache.getExpectedDamage(KEY, () -> 5f + calculations.getAndIncrement()));
+        assertEquals(5f, cache.getExpectedDamage(KEY, () -> 5f + calculations.getAndIncrement()));
+        assertEquals(7f, cache.getExpectedDamage(new DamageKey(1, 0, 2, 3, 4, "Ultra"), () -> 7f));
+        assertEquals(1, calculations.get());
+
+        cache.invalidate();
+        assertEquals(6f, cache.getExpectedDamage(KEY, () -> 5f + calculations.getAndIncrement()));
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void testResultOfCalculationRunningDuringInvalidationIsDropped() {
+        FireControlCache cache = new FireControlCache();
+
+        // The game changes while the estimate is being calculated
+        cache.getExpectedDamage(KEY, () -> {
+            cache.invalidate();
+            return 5f;
+        });
+
+        assertEquals(8f, cache.getExpectedDamage(KEY, () -> 8f));
+    }
+}
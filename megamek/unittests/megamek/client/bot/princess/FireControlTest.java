@@ -49,15 +49,21 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import megamek.client.bot.princess.PathRanker.PathRankerType;
+import megamek.client.bot.princess.coverage.Builder;
 import megamek.codeUtilities.StringUtility;
 import megamek.common.CriticalSlot;
 import megamek.common.Hex;
@@ -1246,6 +1252,37 @@ class FireControlTest {
         assertEquals(mockAmmoSRM5, testFireControl.getPreferredAmmo(mockShooter, mockTarget, mockWeaponMML5));
     }
 
+    @Test
+    void testGuessToHitModifierHelperForAnyAttackIsMemoized() {
+        when(mockPrincess.getFireControlState()).thenReturn(new FireControlState());
+        when(mockShooterState.isProne()).thenReturn(false);
+        when(mockShooter.hasQuirk(eq(OptionsConstants.QUIRK_POS_ANTI_AIR))).thenReturn(false);
+        when(((Mek) mockShooter).hasAdvancedFireControl()).thenReturn(true);
+        when(mockTargetState.getMovementType()).thenReturn(EntityMovementType.MOVE_NONE);
+        when(mockTargetState.getPosition()).thenReturn(new Coords(10, 0));
+        when(mockHex.terrainLevel(Terrains.WOODS)).thenReturn(Terrain.LEVEL_NONE);
+        when(mockHex.terrainLevel(Terrains.JUNGLE)).thenReturn(Terrain.LEVEL_NONE);
+        when(mockHex.terrainLevel(Terrains.SMOKE)).thenReturn(Terrain.LEVEL_NONE);
+        when(mockPrincess.getMaxWeaponRange(any(Entity.class), anyBoolean())).thenReturn(21);
+
+        final ToHitData first = testFireControl.guessToHitModifierHelperForAnyAttack(mockShooter, mockShooterState,
+              mockTarget, mockTargetState, 10, mockGame);
+        first.addModifier(3, "added by the caller");
+        final ToHitData second = testFireControl.guessToHitModifierHelperForAnyAttack(mockShooter, mockShooterState,
+              mockTarget, mockTargetState, 10, mockGame);
+
+        // The second call is answered from the cache, and the caller's changes to the first result do not leak
+        assertToHitDataEquals(new ToHitData(), second);
+        verify(testFireControl, times(1))
+              .getAttackerMovementModifier(any(Game.class), anyInt(), nullable(EntityMovementType.class));
+
+        mockPrincess.getFireControlState().getFireControlCache().invalidate();
+        testFireControl.guessToHitModifierHelperForAnyAttack(mockShooter, mockShooterState, mockTarget,
+              mockTargetState, 10, mockGame);
+        verify(testFireControl, times(2))
+              .getAttackerMovementModifier(any(Game.class), anyInt(), nullable(EntityMovementType.class));
+    }
+
     @Test
     void testGuessToHitModifierHelperForAnyAttack() {
         // Test the most vanilla case we can.
@@ -3210,6 +3247,37 @@ class FireControlTest {
         assertFalse(targets.contains(abandonedEnemy), "an abandoned (crewless, intact) enemy should be skipped");
     }
 
+    @Test
+    void testGuessedPlanTwistsAndFlipsCopiesOfTheShooterState() {
+        // Path ranking guesses plans for the same shooter on several threads, so guessing must not twist the
+        // shooter's torso or flip its arms
+        final BipedMek shooter = mock(BipedMek.class);
+        when(shooter.getEntityType()).thenReturn(Entity.ETYPE_MEK);
+        when(shooter.canChangeSecondaryFacing()).thenReturn(true);
+        when(shooter.canFlipArms()).thenReturn(true);
+        when(shooter.getPosition()).thenReturn(mockShooterCoords);
+        when(shooter.getSecondaryFacing()).thenReturn(0);
+        final List<EntityState> guessedStates = new ArrayList<>();
+        doAnswer(invocation -> {
+            guessedStates.add(invocation.getArgument(1));
+            return new FiringPlan(mockTarget);
+        }).when(testFireControl).guessFullFiringPlan(any(Entity.class), any(EntityState.class), any(Targetable.class),
+              nullable(EntityState.class), nullable(Game.class));
+
+        final EntityState shooterState = new EntityState(shooter);
+        testFireControl.determineBestFiringPlan(new Builder().buildGuess(shooter, shooterState, mockTarget, null, 10,
+              null));
+
+        verify(shooter, never()).setSecondaryFacing(anyInt(), anyBoolean());
+        verify(shooter, never()).setArmsFlipped(anyBoolean(), anyBoolean());
+        // no twist, twist right and twist left, each with and without flipped arms
+        assertEquals(6, guessedStates.size());
+        assertEquals(3, guessedStates.stream().filter(EntityState::isArmsFlipped).count());
+        assertFalse(shooterState.isArmsFlipped());
+        assertEquals(Set.of(0, 1, 5),
+              guessedStates.stream().map(EntityState::getSecondaryFacing).collect(Collectors.toSet()));
+    }
+
     /** Builds an enemy entity that passes every targetability gate except, optionally, the abandoned check. */
     private Entity mockTargetableEnemy(final Player owner, final boolean abandoned) {
         final Entity entity = mock(Entity.class);
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import megamek.client.bot.princess.geometry.CoordFacingCombo;
+import megamek.common.GameBoardTestCase;
+import megamek.common.Player;
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.QuadMek;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link PathEnumerator#recalculateMovesFor(java.util.Collection)} finds the same paths with and without
+ * parallel enumeration.
+ */
+class PathEnumeratorParallelTest extends GameBoardTestCase {
+
+    private static final String BOARD = "PARALLEL_ENUMERATION_BOARD";
+
+    static {
+        StringBuilder builder = new StringBuilder("size 14 14\n");
+        for (int row = 1; row <= 14; row++) {
+            for (int column = 1; column <= 14; column++) {
+                int level = (column * row) % 6 == 0 ? 1 : 0;
+                String terrain = switch ((column + 3 * row) % 8) {
+                    case 1 -> "woods:1";
+                    case 4 -> "rough:1";
+                    case 6 -> "water:1";
+                    default -> "";
+                };
+                builder.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", column, row, level, terrain));
+            }
+        }
+        builder.append("end");
+        initializeBoard(BOARD, builder.toString());
+    }
+
+    private final List<Entity> units = new ArrayList<>();
+    private Princess princess;
+
+    @BeforeEach
+    void setUp() {
+        setBoard(BOARD);
+        addUnit(new BipedMek(), 1, new Coords(2, 2), 5, 3);
+        addUnit(new QuadMek(), 2, new Coords(10, 3), 4, 0);
+        addUnit(new BipedMek(), 3, new Coords(6, 11), 6, 0);
+        addUnit(new BipedMek(), 4, new Coords(12, 12), 3, 3);
+
+        // The units belong to another player, so no long-range paths are generated for them
+        Player localPlayer = mock(Player.class);
+        when(localPlayer.getId()).thenReturn(99);
+        princess = mock(Princess.class);
+        when(princess.getGame()).thenReturn(getGame());
+        when(princess.getLocalPlayer()).thenReturn(localPlayer);
+        when(princess.getUnitBehaviorTracker()).thenReturn(new UnitBehavior());
+    }
+
+    @AfterEach
+    void tearDown() {
+        PathEnumerator.setParallelEnumerationEnabled(true);
+    }
+
+    @Test
+    void testParallelEnumerationMatchesSerial() {
+        PathEnumerator.setParallelEnumerationEnabled(false);
+        PathEnumerator serial = new PathEnumerator(princess, getGame());
+        serial.recalculateMovesFor(units);
+
+        PathEnumerator.setParallelEnumerationEnabled(true);
+        PathEnumerator parallel = new PathEnumerator(princess, getGame());
+        parallel.recalculateMovesFor(units);
+
+        Map<Integer, List<String>> expected = describe(serial);
+        assertEquals(units.size(), expected.size());
+        expected.values().forEach(paths -> assertTrue(paths.size() > 1));
+        assertEquals(expected, describe(parallel));
+        assertEquals(serial.getUnitPotentialLocations(), parallel.getUnitPotentialLocations());
+        assertEquals(serial.getLastKnownLocations(), parallel.getLastKnownLocations());
+        assertEquals(serial.getUnitMovableAreas().keySet(), parallel.getUnitMovableAreas().keySet());
+    }
+
+    @Test
+    void testParallelEnumerationMatchesSingleUnitRecalculation() {
+        PathEnumerator single = new PathEnumerator(princess, getGame());
+        units.forEach(single::recalculateMovesFor);
+
+        PathEnumerator parallel = new PathEnumerator(princess, getGame());
+        parallel.recalculateMovesFor(units);
+
+        assertEquals(describe(single), describe(parallel));
+    }
+
+    @Test
+    void testEntitiesReachingFollowsCalculatedPaths() {
+        PathEnumerator pathEnumerator = new PathEnumerator(princess, getGame());
+        pathEnumerator.recalculateMovesFor(units);
+
+        // Every potential end location of a unit is a hex its paths reach
+        for (Entity unit : units) {
+            for (CoordFacingCombo location : pathEnumerator.getUnitPotentialLocations().get(unit.getId())) {
+                assertTrue(pathEnumerator.getEntitiesReaching(List.of(location.getCoords()), true)
+                      .contains(unit.getId()));
+            }
+        }
+        Set<Integer> reachingStart = pathEnumerator.getEntitiesReaching(List.of(new Coords(2, 2)), true);
+        assertTrue(reachingStart.contains(1));
+        assertFalse(reachingStart.contains(4), "The slow unit in the far corner cannot reach this hex");
+
+        pathEnumerator.forgetUnit(1);
+        assertFalse(pathEnumerator.getEntitiesReaching(List.of(new Coords(2, 2)), true).contains(1));
+        assertFalse(pathEnumerator.getUnitPaths().containsKey(1));
+    }
+
+    private void addUnit(Entity unit, int id, Coords position, int walkMP, int jumpMP) {
+        unit.setId(id);
+        unit.setWeight(50.0);
+        unit.setOriginalWalkMP(walkMP);
+        unit.setOriginalJumpMP(jumpMP);
+        getGame().addEntity(unit);
+        unit.setPosition(position);
+        unit.setFacing(id % 6);
+        units.add(unit);
+    }
+
+    private static Map<Integer, List<String>> describe(PathEnumerator pathEnumerator) {
+        Map<Integer, List<String>> result = new TreeMap<>();
+        for (Map.Entry<Integer, List<MovePath>> entry : pathEnumerator.getUnitPaths().entrySet()) {
+            List<String> paths = new ArrayList<>();
+            for (MovePath path : entry.getValue()) {
+                paths.add(path.getFinalCoords() + " f" + path.getFinalFacing() + " mp" + path.getMpUsed() + " "
+                      + path.getStepVector().stream().map(step -> step.getType().name()).toList());
+            }
+            result.put(entry.getKey(), paths);
+        }
+        return result;
+    }
+}
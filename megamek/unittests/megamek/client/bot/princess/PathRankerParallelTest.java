@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import megamek.common.GameBoardTestCase;
+import megamek.common.board.Coords;
+import megamek.common.enums.MoveStepType;
+import megamek.common.game.Game;
+import megamek.common.moves.MovePath;
+import megamek.common.pathfinder.ShortestPathFinder;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link PathRanker#rankPaths} gives the same ranking, including the order of paths of equal rank, with
+ * and without parallel ranking.
+ */
+class PathRankerParallelTest extends GameBoardTestCase {
+
+    private static final String BOARD = "PARALLEL_RANKING_BOARD";
+
+    static {
+        StringBuilder builder = new StringBuilder("size 16 16\n");
+        for (int row = 1; row <= 16; row++) {
+            for (int column = 1; column <= 16; column++) {
+                builder.append(String.format("hex %02d%02d 0 \"\" \"\"%n", column, row));
+            }
+        }
+        builder.append("end");
+        initializeBoard(BOARD, builder.toString());
+    }
+
+    private Princess princess;
+    private List<MovePath> paths;
+
+    @BeforeEach
+    void setUp() {
+        setBoard(BOARD);
+        BipedMek mek = new BipedMek();
+        getMovePathFor(mek);
+        mek.setPosition(new Coords(8, 8));
+
+        BehaviorSettings behaviorSettings = new BehaviorSettings();
+        princess = mock(Princess.class);
+        when(princess.getBehaviorSettings()).thenReturn(behaviorSettings);
+        when(princess.getPathRankerState()).thenReturn(new PathRankerState());
+        when(princess.getFireControlState()).thenReturn(new FireControlState());
+        when(princess.getUnitBehaviorTracker()).thenReturn(new UnitBehavior());
+        when(princess.getEnemyEntities()).thenReturn(new ArrayList<>());
+        when(princess.wantsToFallBack(any())).thenReturn(false);
+
+        ShortestPathFinder finder = ShortestPathFinder.newInstanceOfOneToAll(8, MoveStepType.FORWARDS, getGame());
+        finder.run(new MovePath(getGame(), mek));
+        paths = new ArrayList<>(finder.getAllComputedPathsUncategorized());
+    }
+
+    @AfterEach
+    void tearDown() {
+        PathRanker.setParallelRankingEnabled(true);
+    }
+
+    @Test
+    void testParallelRankingMatchesSerial() {
+        assertTrue(paths.size() > 200);
+
+        PathRanker.setParallelRankingEnabled(false);
+        List<String> serial = describe(new TiedRanker(princess).rankPaths(paths, getGame(), 30, 0, List.of(),
+              List.of()));
+
+        PathRanker.setParallelRankingEnabled(true);
+        List<String> parallel = describe(new TiedRanker(princess).rankPaths(paths, getGame(), 30, 0, List.of(),
+              List.of()));
+
+        assertEquals(paths.size(), serial.size());
+        assertEquals(serial, parallel);
+    }
+
+    private static List<String> describe(TreeSet<RankedPath> rankedPaths) {
+        List<String> result = new ArrayList<>();
+        for (RankedPath rankedPath : rankedPaths) {
+            result.add(rankedPath.getRank() + " " + rankedPath.getPath().getFinalCoords() + " f"
+                  + rankedPath.getPath().getFinalFacing() + " " + rankedPath.getPath().getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Gives only a handful of different ranks, so most paths are tied and their order depends on the tie-breaking.
+     */
+    private static class TiedRanker extends PathRanker {
+
+        TiedRanker(Princess princess) {
+            super(princess);
+        }
+
+        @Override
+        protected RankedPath rankPath(MovePath path, Game game, int maxRange, double fallTolerance,
+              List<Entity> enemies, Coords friendsCoords) {
+            return new RankedPath(path.getFinalCoords().getX() % 3, path, "tied");
+        }
+
+        @Override
+        protected boolean supportsParallelRanking() {
+            return true;
+        }
+
+        @Override
+        public double distanceToClosestEnemy(Entity me, Coords position, Game game) {
+            return 0;
+        }
+    }
+}
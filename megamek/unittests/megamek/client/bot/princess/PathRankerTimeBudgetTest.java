@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.client.bot.princess.UnitBehavior.BehaviorType;
+import megamek.common.GameBoardTestCase;
+import megamek.common.board.Coords;
+import megamek.common.enums.MoveStepType;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.moves.MovePath;
+import megamek.common.pathfinder.ShortestPathFinder;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Mek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the time budget of {@link PathRanker#rankPaths}: the most promising paths are ranked first and the ranking
+ * stops when the budget has run out.
+ */
+class PathRankerTimeBudgetTest extends GameBoardTestCase {
+
+    private static final String BOARD = "TIME_BUDGET_BOARD";
+    private static final Coords ENEMY_POSITION = new Coords(2, 2);
+
+    static {
+        StringBuilder builder = new StringBuilder("size 16 16\n");
+        for (int row = 1; row <= 16; row++) {
+            for (int column = 1; column <= 16; column++) {
+                builder.append(String.format("hex %02d%02d 0 \"\" \"\"%n", column, row));
+            }
+        }
+        builder.append("end");
+        initializeBoard(BOARD, builder.toString());
+    }
+
+    private Princess princess;
+    private BehaviorSettings behaviorSettings;
+    private List<MovePath> paths;
+    private List<Entity> enemies;
+
+    @BeforeEach
+    void setUp() {
+        setBoard(BOARD);
+        BipedMek mek = new BipedMek();
+        getMovePathFor(mek);
+        mek.setPosition(new Coords(8, 8));
+
+        Entity enemy = mock(Entity.class);
+        when(enemy.getPosition()).thenReturn(ENEMY_POSITION);
+        when(enemy.getBoardId()).thenReturn(mek.getBoardId());
+        enemies = List.of(enemy);
+
+        behaviorSettings = new BehaviorSettings();
+        princess = mock(Princess.class);
+        when(princess.getBehaviorSettings()).thenReturn(behaviorSettings);
+        when(princess.getPathRankerState()).thenReturn(new PathRankerState());
+        when(princess.getFireControlState()).thenReturn(new FireControlState());
+        when(princess.getUnitBehaviorTracker()).thenReturn(new UnitBehavior());
+        when(princess.getEnemyHotSpots()).thenReturn(new ArrayList<>());
+        when(princess.wantsToFallBack(any())).thenReturn(false);
+
+        ShortestPathFinder finder = ShortestPathFinder.newInstanceOfOneToAll(8, MoveStepType.FORWARDS, getGame());
+        finder.run(new MovePath(getGame(), mek));
+        paths = new ArrayList<>(finder.getAllComputedPathsUncategorized());
+    }
+
+    @Test
+    void testPathsTowardTheEnemyComeFirst() {
+        List<MovePath> ordered = new SlowRanker(princess, 0).orderByPromise(paths, enemies);
+
+        assertEquals(paths.size(), ordered.size());
+        int previousDistance = 0;
+        for (MovePath path : ordered) {
+            int distance = path.getFinalCoords().distance(ENEMY_POSITION);
+            assertTrue(distance >= previousDistance);
+            previousDistance = distance;
+        }
+    }
+
+    @Test
+    void testPathsTowardTheEnemyComeLastWhenFallingBack() {
+        when(princess.wantsToFallBack(any())).thenReturn(true);
+
+        List<MovePath> ordered = new SlowRanker(princess, 0).orderByPromise(paths, enemies);
+
+        assertTrue(ordered.getFirst().getFinalCoords().distance(ENEMY_POSITION)
+              > ordered.getLast().getFinalCoords().distance(ENEMY_POSITION));
+    }
+
+    @Test
+    void testRankingStopsWhenTheBudgetRunsOut() {
+        assertTrue(paths.size() > 200);
+        behaviorSettings.setMovementTimeBudget(1);
+
+        // At 20 ms per path, ranking all paths would take several seconds
+        TreeSet<RankedPath> rankedPaths = new SlowRanker(princess, 20).rankPaths(paths, getGame(), 30, 0, enemies,
+              List.of());
+
+        assertTrue(rankedPaths.size() >= 1);
+        assertTrue(rankedPaths.size() < paths.size());
+        int worstRankedDistance = rankedPaths.stream()
+              .mapToInt(rankedPath -> rankedPath.getPath().getFinalCoords().distance(ENEMY_POSITION))
+              .max().orElseThrow();
+        // Only the paths closest to the enemy were ranked
+        long closerPaths = paths.stream()
+              .filter(path -> path.getFinalCoords().distance(ENEMY_POSITION) < worstRankedDistance)
+              .count();
+        assertTrue(closerPaths <= rankedPaths.size());
+    }
+
+    /**
+     * When no path does damage, an engaged unit ranks its paths again to move to contact. The retry must not get a
+     * new time budget: once the first attempt has used it up, the retry only ranks its first path.
+     */
+    @Test
+    void testRetryKeepsTheOriginalDeadline() throws Exception {
+        Entity mover = paths.getFirst().getEntity();
+        mover.addEquipment(EquipmentType.get("Medium Laser"), Mek.LOC_RIGHT_ARM);
+        princess.getUnitBehaviorTracker().overrideBehaviorType(mover, BehaviorType.Engaged);
+        when(princess.getMovePathsAndSetNecessaryTargets(any(), anyBoolean())).thenReturn(paths);
+        behaviorSettings.setMovementTimeBudget(1);
+
+        SlowRanker ranker = new SlowRanker(princess, 20);
+        ranker.rankPaths(paths, getGame(), 30, 0, enemies, List.of());
+
+        assertEquals(BehaviorType.MoveToContact, princess.getUnitBehaviorTracker().getBehaviorType(mover, princess));
+        // At 20 ms per path, one second is enough for about 50 paths; a second full budget would double that
+        assertTrue(ranker.rankedPaths.get() < 75, "Ranked " + ranker.rankedPaths.get() + " paths");
+    }
+
+    /**
+     * Ranks paths by their distance to the enemy, taking the given time per path.
+     */
+    private static class SlowRanker extends PathRanker {
+        private final long millisPerPath;
+        private final AtomicInteger rankedPaths = new AtomicInteger();
+
+        SlowRanker(Princess princess, long millisPerPath) {
+            super(princess);
+            this.millisPerPath = millisPerPath;
+        }
+
+        @Override
+        protected RankedPath rankPath(MovePath path, Game game, int maxRange, double fallTolerance,
+              List<Entity> enemies, Coords friendsCoords) {
+            rankedPaths.incrementAndGet();
+            try {
+                Thread.sleep(millisPerPath);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new RankedPath(-path.getFinalCoords().distance(ENEMY_POSITION), path, "slow");
+        }
+
+        @Override
+        public double distanceToClosestEnemy(Entity me, Coords position, Game game) {
+            return 0;
+        }
+    }
+}
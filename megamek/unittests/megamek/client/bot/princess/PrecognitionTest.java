@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import megamek.common.Player;
+import megamek.common.TemporaryECMField;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.enums.GamePhase;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.event.entity.GameEntityChangeEvent;
+import megamek.common.game.Game;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks how the {@link Precognition} thread reacts to the game events of the movement phase.
+ */
+class PrecognitionTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long QUIET_MILLIS = 300;
+
+    private Precognition precognition;
+    private PathEnumerator pathEnumerator;
+    private Game game;
+    private Thread precognitionThread;
+    private final BlockingQueue<List<Entity>> recalculations = new LinkedBlockingQueue<>();
+    private Entity first;
+    private Entity second;
+    private Entity bystander;
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        precognition = new Precognition(mock(Princess.class));
+        pathEnumerator = mock(PathEnumerator.class);
+        when(pathEnumerator.getLastKnownLocations()).thenReturn(new HashMap<>());
+        // Recorded by hand: verifying with a timeout would hold the monitor of the synchronized recalculateMovesFor
+        // and block the Precognition thread until the timeout ends
+        doAnswer(invocation -> recalculations.add(new ArrayList<>(invocation.<Collection<Entity>>getArgument(0))))
+              .when(pathEnumerator).recalculateMovesFor(anyCollection());
+        precognition.setPathEnumerator(pathEnumerator);
+
+        game = precognition.getGame();
+        game.setBoard(new Board(16, 16));
+        game.addPlayer(0, new Player(0, "Player"));
+        game.setPhase(GamePhase.MOVEMENT);
+        first = addUnit(1, new Coords(2, 2));
+        second = addUnit(2, new Coords(10, 10));
+        bystander = addUnit(3, new Coords(6, 6));
+
+        precognitionThread = new Thread(precognition, "Precognition test");
+        precognitionThread.start();
+        // The phase change makes every unit dirty
+        assertNotNull(recalculations.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        precognition.signalDone();
+        precognition.unPause();
+        precognitionThread.join(TIMEOUT_MILLIS);
+    }
+
+    private Entity addUnit(int id, Coords position) {
+        Entity unit = new BipedMek();
+        unit.setId(id);
+        game.addEntity(unit);
+        unit.setOwnerId(0);
+        unit.setPosition(position);
+        unit.setDeployed(true);
+        when(pathEnumerator.getLastKnownCoords(id)).thenReturn(position);
+        return unit;
+    }
+
+    private void move(Entity unit, Coords position) {
+        unit.setPosition(position);
+        game.processGameEvent(new GameEntityChangeEvent(this, unit));
+    }
+
+    @Test
+    void burstOfUnitUpdatesIsRecalculatedOnce() throws InterruptedException {
+        when(pathEnumerator.getEntitiesReaching(anyCollection(), eq(true))).thenReturn(Set.of(bystander.getId()));
+
+        // A single move sends several updates of the moving unit, and other units may move at the same time
+        move(first, new Coords(2, 3));
+        move(first, new Coords(2, 4));
+        move(second, new Coords(10, 11));
+        move(first, new Coords(2, 5));
+
+        List<Entity> recalculated = recalculations.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(recalculated);
+        assertEquals(Set.of(first.getId(), second.getId(), bystander.getId()),
+              recalculated.stream().map(Entity::getId).collect(Collectors.toSet()));
+        assertNull(recalculations.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+        verify(pathEnumerator).getEntitiesReaching(anyCollection(), eq(true));
+    }
+
+    @Test
+    void changedECMFieldRefreshesECMInfoWithoutDirtyingPaths() throws InterruptedException {
+        TemporaryECMField empField = TemporaryECMField.fromEMPMine(new Coords(8, 8), 1, 0);
+        game.addTemporaryECMField(empField);
+
+        // The unit has not moved, so only the ECM cache is affected by its update
+        game.processGameEvent(new GameEntityChangeEvent(this, first));
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!precognition.getECMInfo().contains(empField.toECMInfo())
+              && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertTrue(precognition.getECMInfo().contains(empField.toECMInfo()));
+        assertNull(recalculations.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+        verify(pathEnumerator, never()).getEntitiesReaching(anyCollection(), eq(true));
+    }
+}
@@ -154,6 +154,22 @@ class RankedPathTest {
               "The earliest-created path must win a tie on every ranking key");
     }
 
+    @Test
+    void renewedCreationOrderDecidesTies() {
+        // Parallel ranking creates RankedPaths out of order and renews them in candidate order afterwards
+        RankedPath secondCandidate = rankedPath(50.0, 4, 7.0);
+        RankedPath firstCandidate = rankedPath(50.0, 4, 7.0);
+        firstCandidate.renewCreationOrder();
+        secondCandidate.renewCreationOrder();
+
+        TreeSet<RankedPath> reverseOrdered = new TreeSet<>(Collections.reverseOrder());
+        reverseOrdered.add(secondCandidate);
+        reverseOrdered.add(firstCandidate);
+
+        assertSame(firstCandidate, reverseOrdered.first(),
+              "The path renewed first must win a tie on every ranking key");
+    }
+
     @Test
     void reverseOrderedTreeSetSelectsHighestRankFirst() {
         // Mirrors PathRanker.getBestPath, which reads the first element of a reverse-ordered TreeSet.
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ratgenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import megamek.utilities.xml.MMXMLUtility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+
+class EraSnapshotTest {
+
+    private static final String ERA_XML = String.join(System.lineSeparator(),
+          "<?xml version='1.0' encoding='UTF-8'?>",
+          "<ratgen>",
+          "    <factions>",
+          "        <faction key='LA'>",
+          "            <pctOmni unitType='AeroSpaceFighter'>0,0,10</pctOmni>",
+          "            <salvage pct='10'>FS:4,DC:10</salvage>",
+          "        </faction>",
+          "    </factions>",
+          "    <units>",
+          "        <chassis name='Archer' unitType='Mek'>",
+          "            <availability>LA:6,FS:4+:3052</availability>",
+          "            <model name='ARC-2R' mechanized='true'>",
+          "                <roles>fire_support</roles>",
+          "                <availability>General:6</availability>",
+          "            </model>",
+          "        </chassis>",
+          "        <chassis name='Mad Cat' unitType='Mek' omni='Clan'>",
+          "            <availability>CW:9</availability>",
+          "        </chassis>",
+          "    </units>",
+          "</ratgen>");
+
+    @TempDir
+    File tempDir;
+
+    private static EraNode parse(String xml) throws Exception {
+        Element element = MMXMLUtility.newSafeDocumentBuilder()
+              .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+              .getDocumentElement();
+        element.normalize();
+        return EraNode.of(element);
+    }
+
+    private File writeEraFile(int era, String xml) throws IOException {
+        File file = new File(tempDir, era + ".xml");
+        Files.writeString(file.toPath(), xml);
+        return file;
+    }
+
+    private static void assertSameTree(EraNode expected, EraNode actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getAttributes(), actual.getAttributes());
+        assertEquals(expected.getText(), actual.getText());
+        assertEquals(expected.getChildren().size(), actual.getChildren().size());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertSameTree(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+
+    @Test
+    void convertsElementsAttributesAndLeafText() throws Exception {
+        EraNode root = parse(ERA_XML);
+
+        assertEquals("ratgen", root.getName());
+        EraNode faction = root.getChildren().get(0).getChildren().get(0);
+        assertEquals("LA", faction.getAttribute("key"));
+        assertEquals("", faction.getText());
+        EraNode salvage = faction.getChildren().get(1);
+        assertEquals("10", salvage.getAttribute("pct"));
+        assertEquals("FS:4,DC:10", salvage.getText());
+        EraNode madCat = root.getChildren().get(1).getChildren().get(1);
+        assertEquals("Clan", madCat.getAttribute("omni"));
+        assertNull(madCat.getAttribute("mechanized"));
+    }
+
+    @Test
+    void savedErasAreReadBackUnchanged() throws Exception {
+        File source = writeEraFile(3050, ERA_XML);
+        EraNode root = parse(ERA_XML);
+        EraSnapshot snapshot = EraSnapshot.load(tempDir);
+        assertNull(snapshot.getEra(3050, source));
+
+        snapshot.putEra(3050, source, root);
+        snapshot.saveIfChanged();
+        assertTrue(new File(tempDir, EraSnapshot.FILE_NAME).isFile());
+
+        EraNode reloaded = EraSnapshot.load(tempDir).getEra(3050, source);
+        assertNotNull(reloaded);
+        assertSameTree(root, reloaded);
+    }
+
+    @Test
+    void changedEraFileIsNotTakenFromTheSnapshot() throws Exception {
+        File source = writeEraFile(3050, ERA_XML);
+        EraSnapshot snapshot = EraSnapshot.load(tempDir);
+        snapshot.putEra(3050, source, parse(ERA_XML));
+        snapshot.saveIfChanged();
+
+        writeEraFile(3050, ERA_XML.replace("LA:6", "LA:7"));
+        assertTrue(source.setLastModified(source.lastModified() + 2000));
+
+        assertNull(EraSnapshot.load(tempDir).getEra(3050, source));
+    }
+
+    @Test
+    void unreadableSnapshotIsTreatedAsEmpty() throws Exception {
+        File source = writeEraFile(3050, ERA_XML);
+        Files.write(new File(tempDir, EraSnapshot.FILE_NAME).toPath(), new byte[] { 1, 2, 3 });
+
+        assertNull(EraSnapshot.load(tempDir).getEra(3050, source));
+    }
+}
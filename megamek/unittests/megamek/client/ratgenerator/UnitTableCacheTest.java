@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ratgenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.units.EntityWeightClass;
+import megamek.common.units.UnitType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exercises the shared table cache of {@link UnitTable} against the Force Generator test data set.
+ */
+class UnitTableCacheTest {
+
+    private static final int ERA = 3050;
+
+    private static RATGenerator ratGenerator;
+
+    @BeforeAll
+    static void loadForceGeneratorFromTestData() throws Exception {
+        ratGenerator = ForceGeneratorTestFixture.loadFromTestData(ERA);
+    }
+
+    @AfterAll
+    static void clearSharedSingletons() throws Exception {
+        ForceGeneratorTestFixture.reset();
+    }
+
+    @BeforeEach
+    @AfterEach
+    void resetCache() {
+        UnitTable.setCacheSize(UnitTable.DEFAULT_CACHE_SIZE);
+        UnitTable.clearCache();
+    }
+
+    private static Parameters lyranMeks(List<Integer> weightClasses) {
+        FactionRecord lyrans = ratGenerator.getFaction("LA");
+        return new Parameters(lyrans, UnitType.MEK, ERA, null, weightClasses, ModelRecord.NETWORK_NONE, null, null,
+              0, lyrans);
+    }
+
+    @Test
+    void concurrentRequestsShareOneTable() throws Exception {
+        Parameters params = lyranMeks(null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<UnitTable>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> UnitTable.findTable(params.copy())));
+            }
+            UnitTable first = results.get(0).get(30, TimeUnit.SECONDS);
+            assertTrue(first.hasUnits());
+            for (Future<UnitTable> result : results) {
+                assertSame(first, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedTableIsEvicted() {
+        UnitTable.setCacheSize(1);
+        Parameters allWeights = lyranMeks(null);
+        Parameters assaults = lyranMeks(List.of(EntityWeightClass.WEIGHT_ASSAULT));
+
+        UnitTable table = UnitTable.findTable(allWeights);
+        assertSame(table, UnitTable.findTable(allWeights));
+        UnitTable.findTable(assaults);
+
+        assertNotSame(table, UnitTable.findTable(allWeights));
+        assertEquals(1, UnitTable.getCacheSize());
+    }
+
+    @Test
+    void warmUpFillsTheCache() throws Exception {
+        Parameters params = lyranMeks(null);
+        assertFalse(UnitTable.isCached(params));
+        UnitTable.warmUp(List.of(params, lyranMeks(List.of(EntityWeightClass.WEIGHT_ASSAULT))))
+              .get(30, TimeUnit.SECONDS);
+
+        assertTrue(UnitTable.isCached(params));
+        UnitTable table = UnitTable.findTable(params);
+        assertTrue(table.hasUnits());
+        assertSame(table, UnitTable.findTable(params));
+    }
+
+    @Test
+    void warmUpDoesNotEvictUsedTables() throws Exception {
+        UnitTable.setCacheSize(2);
+        Parameters allWeights = lyranMeks(null);
+        UnitTable table = UnitTable.findTable(allWeights);
+        Parameters assaults = lyranMeks(List.of(EntityWeightClass.WEIGHT_ASSAULT));
+        Parameters heavyAndAssaults = lyranMeks(List.of(EntityWeightClass.WEIGHT_HEAVY,
+              EntityWeightClass.WEIGHT_ASSAULT));
+
+        UnitTable.warmUp(List.of(allWeights, assaults, heavyAndAssaults)).get(30, TimeUnit.SECONDS);
+
+        // Only one table fits next to the used one; the used one is neither evicted nor generated again
+        assertTrue(UnitTable.isCached(assaults));
+        assertFalse(UnitTable.isCached(heavyAndAssaults));
+        assertSame(table, UnitTable.findTable(allWeights));
+    }
+}
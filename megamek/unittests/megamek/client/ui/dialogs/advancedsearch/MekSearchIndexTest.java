@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.client.ui.dialogs.advancedsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import megamek.common.Configuration;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class MekSearchIndexTest {
+
+    private static MekSummary[] units;
+    private static List<String> equipmentNames;
+
+    @BeforeAll
+    static void setUpAll() {
+        Configuration.setDataDir(new File("testresources/data"));
+        EquipmentType.initializeTypes();
+        File[] unitFiles = new File("testresources/data/mekfiles").listFiles(
+              (directory, name) -> name.endsWith(".mtf") || name.endsWith(".blk"));
+        List<MekSummary> summaries = new ArrayList<>();
+        TreeSet<String> names = new TreeSet<>();
+        for (File unitFile : unitFiles) {
+            MekSummary summary = MekSummaryCache.getSummaryFromFile(unitFile);
+            if (summary != null) {
+                summaries.add(summary);
+                names.addAll(summary.getEquipmentNames());
+            }
+        }
+        units = summaries.toArray(new MekSummary[0]);
+        equipmentNames = new ArrayList<>(names);
+    }
+
+    /** An enabled filter without criteria; see MekSearchFilterTest. */
+    private static MekSearchFilter passThroughFilter() throws IllegalAccessException {
+        MekSearchFilter filter = new MekSearchFilter();
+        filter.isDisabled = false;
+        for (Field field : MekSearchFilter.class.getDeclaredFields()) {
+            if ((field.getType() == String.class) && (field.get(filter) == null)) {
+                field.set(filter, "");
+            }
+        }
+        return filter;
+    }
+
+    private static List<MekSummary> linearMatches(MekSearchFilter filter) {
+        return Arrays.stream(units).filter(mek -> MekSearchFilter.isMatch(mek, filter)).toList();
+    }
+
+    private static MekSearchFilter randomFilter(Random random) throws IllegalAccessException {
+        MekSearchFilter filter = passThroughFilter();
+        filter.iOmni = random.nextInt(3);
+        filter.iCanon = random.nextInt(3);
+        filter.iClanEngine = random.nextInt(3);
+        if (random.nextBoolean()) {
+            filter.sStartWalk = String.valueOf(random.nextInt(6));
+        }
+        if (random.nextBoolean()) {
+            filter.sEndTons = String.valueOf(20 + random.nextInt(80));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.sStartYear = String.valueOf(2700 + random.nextInt(400));
+            filter.sEndYear = String.valueOf(3000 + random.nextInt(200));
+        }
+        if (random.nextInt(3) == 0) {
+            filter.sStartBV = String.valueOf(random.nextInt(1500));
+        }
+        if (random.nextInt(4) == 0) {
+            filter.techBase.add(random.nextBoolean() ? "Clan" : "Inner Sphere");
+        }
+        if (random.nextInt(4) == 0) {
+            filter.engineTypeExclude.add(units[random.nextInt(units.length)].getEngineType());
+        }
+        if (random.nextInt(4) == 0) {
+            filter.filterMek = 1 + random.nextInt(2);
+        }
+        if (random.nextInt(4) == 0) {
+            filter.filterTank = 1 + random.nextInt(2);
+        }
+        if (random.nextBoolean()) {
+            filter.equipmentCriteria = new ExpressionTree(randomExpression(random, 2));
+            filter.checkEquipment = true;
+        }
+        return filter;
+    }
+
+    private static ExpNode randomExpression(Random random, int depth) {
+        if ((depth == 0) || random.nextBoolean()) {
+            boolean atLeast = random.nextInt(4) != 0;
+            if (random.nextInt(3) == 0) {
+                AdvancedSearchEquipmentClass[] classes = AdvancedSearchEquipmentClass.values();
+                return new ExpNode(classes[random.nextInt(classes.length)], random.nextInt(4), atLeast);
+            }
+            return new ExpNode(equipmentNames.get(random.nextInt(equipmentNames.size())), 1 + random.nextInt(2),
+                  atLeast);
+        }
+        ExpNode node = new ExpNode();
+        node.operation = random.nextBoolean() ? MekSearchFilter.BoolOp.AND : MekSearchFilter.BoolOp.OR;
+        for (int i = 0; i < 2 + random.nextInt(2); i++) {
+            ExpNode child = randomExpression(random, depth - 1);
+            child.parent = node;
+            node.children.add(child);
+        }
+        return node;
+    }
+
+    @Test
+    void testQueriesMatchLinearFiltering() throws IllegalAccessException {
+        MekSearchIndex index = MekSearchIndex.of(units);
+        Random random = new Random(17);
+        int nonEmptyResults = 0;
+        for (int i = 0; i < 400; i++) {
+            MekSearchFilter filter = randomFilter(random);
+            List<MekSummary> expected = linearMatches(filter);
+            assertEquals(expected, index.findMatches(filter), () -> "Filter " + filter.getEquipmentExpression());
+            if (!expected.isEmpty()) {
+                nonEmptyResults++;
+            }
+        }
+        // Make sure the random filters are not all too strict to prove anything
+        assertFalse(nonEmptyResults < 50);
+    }
+
+    @Test
+    void testUnitTypeAndEquipmentQuery() throws IllegalAccessException {
+        MekSearchFilter filter = passThroughFilter();
+        filter.filterMek = 1;
+        String equipment = units[0].getEquipmentNames().getFirst();
+        filter.equipmentCriteria = new ExpressionTree(new ExpNode(equipment, 1, true));
+        filter.checkEquipment = true;
+
+        List<MekSummary> matches = MekSearchIndex.of(units).findMatches(filter);
+        assertEquals(linearMatches(filter), matches);
+        for (MekSummary mek : matches) {
+            assertFalse((mek.getEntityType() & Entity.ETYPE_MEK) == 0);
+        }
+    }
+
+    @Test
+    void testDisabledFilterMatchesAll() {
+        MekSearchFilter filter = new MekSearchFilter();
+        assertEquals(units.length, MekSearchIndex.of(units).query(filter).cardinality());
+    }
+
+    @Test
+    void testIndexIsReusedForTheSameUnits() {
+        assertSame(MekSearchIndex.of(units), MekSearchIndex.of(units));
+    }
+}
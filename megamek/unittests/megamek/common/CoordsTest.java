@@ -34,9 +34,16 @@ package megamek.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -243,6 +250,46 @@ class CoordsTest {
         testAllAtDistanceOrLessAlignedCorrectly(centroid);
     }
 
+    @Test
+    void testForEachAtDistanceMatchesAllAtDistance() {
+        for (Coords center : List.of(new Coords(6, 7), new Coords(7, 7), new Coords(0, 0))) {
+            for (int distance = -1; distance <= 4; distance++) {
+                List<Coords> visited = new ArrayList<>();
+                center.forEachAtDistance(distance, visited::add);
+                assertEquals(center.allAtDistance(distance), visited);
+
+                visited.clear();
+                center.forEachAtDistanceOrLess(distance, visited::add);
+                assertEquals(center.allAtDistanceOrLess(distance), visited);
+            }
+        }
+    }
+
+    @Test
+    void testSharedCoords() {
+        assertSame(Coords.of(12, 30), Coords.of(12, 30));
+        assertSame(Coords.of(-3, 0), Coords.of(-3, 0));
+        assertSame(Coords.of(5, 4), new Coords(5, 5).translated(0));
+        assertSame(Coords.of(6, 6), new Coords(5, 5).translated(2));
+        assertEquals(new Coords(12, 30), Coords.of(12, 30));
+
+        // Far outside any board, Coords are still correct but not shared
+        Coords remote = Coords.of(-1000, 5000);
+        assertEquals(new Coords(-1000, 5000), remote);
+        assertNotSame(remote, Coords.of(-1000, 5000));
+    }
+
+    @Test
+    void testDeserializedCoordsAreShared() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new Coords(9, 14));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(Coords.of(9, 14), in.readObject());
+        }
+    }
+
     @Test
     void testTranslation() {
         Coords center = new Coords(8, 9);
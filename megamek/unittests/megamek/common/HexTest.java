@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
+import java.util.Set;
+
+import megamek.common.board.Coords;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import megamek.common.util.SerializationHelper;
+import org.junit.jupiter.api.Test;
+
+class HexTest {
+
+    /**
+     * A Java serialized hex as written by the former map-based Hex: level 2 at (3, 4), theme "snow", woods 2 with
+     * terrain factor 45, road 1 with exits 9 and water 1
+     */
+    private static final String LEGACY_SERIALIZED_HEX = "rO0ABXNyABJtZWdhbWVrLmNvbW1vbi5IZXgBJQp+EnUemgIABkkACGZpcmVU"
+          + "dXJuSQAFbGV2ZWxMAAZjb29yZHN0AB1MbWVnYW1lay9jb21tb24vYm9hcmQvQ29vcmRzO0wADW9yaWdpbmFsVGhlbWV0ABJMamF2YS9s"
+          + "YW5nL1N0cmluZztMAAh0ZXJyYWluc3QAD0xqYXZhL3V0aWwvTWFwO0wABXRoZW1lcQB+AAJ4cAAAAAAAAAACc3IAG21lZ2FtZWsuY29t"
+          + "bW9uLmJvYXJkLkNvb3Jkc8I59YTH6ZKqAgADSQAEaGFzaEkAAXhJAAF5eHAAAAAAAAAAAwAAAAR0AARzbm93c3IAEWphdmEudXRpbC5I"
+          + "YXNoTWFwBQfawcMWYNEDAAJGAApsb2FkRmFjdG9ySQAJdGhyZXNob2xkeHA/QAAAAAAAA3cIAAAABAAAAANzcgARamF2YS5sYW5nLklu"
+          + "dGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAAAXNyABxtZWdhbWVrLmNvbW1v"
+          + "bi51bml0cy5UZXJyYWluli+natmkxa8CAAVJAAVleGl0c1oADmV4aXRzU3BlY2lmaWVkSQAFbGV2ZWxJAA10ZXJyYWluRmFjdG9ySQAE"
+          + "dHlwZXhwAAAAAAAAAAACAAAALQAAAAFzcQB+AAoAAAANc3EAfgANAAAACQEAAAABAAAAlgAAAA1zcQB+AAoAAAACc3EAfgANAAAAAAAA"
+          + "AAABAAAAAAAAAAJ4cQB+AAc=";
+
+    /** The same hex as written to a save game by XStream's reflection converter for the former map-based Hex */
+    private static final String LEGACY_XML_HEX = """
+          <megamek.common.Hex id="1">
+            <coords id="2"><x>3</x><y>4</y><hash>0</hash></coords>
+            <level>2</level>
+            <terrains id="3">
+              <entry><int>1</int><megamek.common.units.Terrain id="4"><type>1</type><level>2</level>\
+          <exitsSpecified>false</exitsSpecified><exits>0</exits><terrainFactor>45</terrainFactor>\
+          </megamek.common.units.Terrain></entry>
+              <entry><int>13</int><megamek.common.units.Terrain id="5"><type>13</type><level>1</level>\
+          <exitsSpecified>true</exitsSpecified><exits>9</exits><terrainFactor>150</terrainFactor>\
+          </megamek.common.units.Terrain></entry>
+              <entry><int>2</int><megamek.common.units.Terrain id="6"><type>2</type><level>1</level>\
+          <exitsSpecified>false</exitsSpecified><exits>0</exits><terrainFactor>0</terrainFactor>\
+          </megamek.common.units.Terrain></entry>
+            </terrains>
+            <theme>snow</theme>
+            <originalTheme>snow</originalTheme>
+            <fireTurn>0</fireTurn>
+          </megamek.common.Hex>""";
+
+    private static Hex sampleHex() {
+        Hex hex = new Hex(2, "woods:2;road:1:9;water:1", "snow", new Coords(3, 4));
+        hex.getTerrain(Terrains.WOODS).setTerrainFactor(45);
+        return hex;
+    }
+
+    private static void assertSampleHex(Hex hex) {
+        assertEquals(new Coords(3, 4), hex.getCoords());
+        assertEquals(2, hex.getLevel());
+        assertEquals("snow", hex.getTheme());
+        assertEquals("snow", hex.getOriginalTheme());
+        assertArrayEquals(new int[] { Terrains.WOODS, Terrains.WATER, Terrains.ROAD }, hex.getTerrainTypes());
+        assertEquals(2, hex.terrainLevel(Terrains.WOODS));
+        assertEquals(45, hex.getTerrain(Terrains.WOODS).getTerrainFactor());
+        assertEquals(1, hex.terrainLevel(Terrains.WATER));
+        assertTrue(hex.containsTerrainExit(Terrains.ROAD, 0));
+        assertTrue(hex.containsTerrainExit(Terrains.ROAD, 3));
+        assertFalse(hex.containsTerrainExit(Terrains.ROAD, 1));
+        assertTrue(hex.getTerrain(Terrains.ROAD).hasExitsSpecified());
+    }
+
+    @Test
+    void allTerrainTypesFitTheTerrainMask() {
+        assertTrue(Terrains.SIZE <= Long.SIZE, "Hex keeps one bit per terrain type in a long");
+        Hex hex = new Hex();
+        for (int type = 1; type < Terrains.SIZE; type++) {
+            hex.addTerrain(new Terrain(type, 1));
+        }
+        assertEquals(Terrains.SIZE - 1, hex.terrainsPresent());
+        assertTrue(hex.containsTerrain(Terrains.SIZE - 1));
+    }
+
+    @Test
+    void terrainLookups() {
+        Hex hex = sampleHex();
+        assertEquals(3, hex.terrainsPresent());
+        assertTrue(hex.containsTerrain(Terrains.WOODS));
+        assertTrue(hex.containsTerrain(Terrains.WOODS, 2));
+        assertFalse(hex.containsTerrain(Terrains.WOODS, 1));
+        assertFalse(hex.containsTerrain(Terrains.BUILDING));
+        assertFalse(hex.containsTerrain(-1));
+        assertFalse(hex.containsTerrain(Long.SIZE));
+        assertEquals(Terrain.LEVEL_NONE, hex.terrainLevel(Terrains.BUILDING));
+        assertNull(hex.getTerrain(Terrains.BUILDING));
+        assertTrue(hex.containsAnyTerrainOf(Set.of(Terrains.ROUGH, Terrains.ROAD)));
+        assertFalse(hex.containsAnyTerrainOf(Set.of(Terrains.ROUGH, Terrains.BUILDING)));
+        assertTrue(hex.containsAllTerrainsOf(Terrains.WOODS, Terrains.WATER));
+        assertEquals(Set.of(Terrains.WOODS, Terrains.WATER, Terrains.ROAD), hex.getTerrainTypesSet());
+        assertTrue(hex.containsExit(0));
+        assertFalse(hex.containsExit(1));
+    }
+
+    @Test
+    void addReplaceAndRemoveTerrains() {
+        Hex hex = sampleHex();
+        Terrain rough = new Terrain(Terrains.ROUGH, 1);
+        hex.addTerrain(rough);
+        assertSame(rough, hex.getTerrain(Terrains.ROUGH));
+        assertArrayEquals(new int[] { Terrains.WOODS, Terrains.WATER, Terrains.ROUGH, Terrains.ROAD },
+              hex.getTerrainTypes());
+
+        hex.addTerrain(new Terrain(Terrains.WOODS, 1));
+        assertEquals(4, hex.terrainsPresent());
+        assertEquals(1, hex.terrainLevel(Terrains.WOODS));
+
+        hex.removeTerrain(Terrains.WATER);
+        assertFalse(hex.containsTerrain(Terrains.WATER));
+        assertEquals(1, hex.terrainLevel(Terrains.ROUGH));
+        assertSame(rough, hex.getTerrain(Terrains.ROUGH));
+        assertArrayEquals(new int[] { Terrains.WOODS, Terrains.ROUGH, Terrains.ROAD }, hex.getTerrainTypes());
+
+        hex.removeTerrain(Terrains.BUILDING);
+        assertEquals(3, hex.terrainsPresent());
+
+        hex.removeAllTerrains();
+        assertEquals(0, hex.terrainsPresent());
+        assertEquals(0, hex.getTerrainTypes().length);
+        assertFalse(hex.containsTerrain(Terrains.ROAD));
+    }
+
+    @Test
+    void terrainChangesChangeTheRevision() {
+        Hex hex = sampleHex();
+        long revision = hex.getTerrainRevision();
+        assertEquals(revision, hex.getTerrainRevision());
+        hex.addTerrain(new Terrain(Terrains.ROUGH, 1));
+        long added = hex.getTerrainRevision();
+        assertNotEquals(revision, added);
+        hex.removeTerrain(Terrains.ROUGH);
+        assertNotEquals(added, hex.getTerrainRevision());
+    }
+
+    @Test
+    void duplicateCopiesTheTerrains() {
+        Hex hex = sampleHex();
+        Hex copy = hex.duplicate();
+        assertSampleHex(copy);
+        copy.getTerrain(Terrains.WOODS).setTerrainFactor(10);
+        copy.removeTerrain(Terrains.WATER);
+        assertEquals(45, hex.getTerrain(Terrains.WOODS).getTerrainFactor());
+        assertTrue(hex.containsTerrain(Terrains.WATER));
+    }
+
+    @Test
+    void readsLegacySerializedHex() throws IOException, ClassNotFoundException {
+        byte[] bytes = Base64.getDecoder().decode(LEGACY_SERIALIZED_HEX);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            assertSampleHex((Hex) in.readObject());
+        }
+    }
+
+    @Test
+    void serializationRoundTrip() throws IOException, ClassNotFoundException {
+        Hex hex = sampleHex();
+        hex.setTheme("lunar");
+        hex.incrementFireTurn();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(hex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Hex restored = (Hex) in.readObject();
+            assertEquals("lunar", restored.getTheme());
+            assertEquals(1, restored.getFireTurn());
+            restored.resetTheme();
+            assertSampleHex(restored);
+        }
+    }
+
+    @Test
+    void readsLegacySaveGameXml() {
+        assertSampleHex((Hex) SerializationHelper.getLoadSaveGameXStream().fromXML(LEGACY_XML_HEX));
+    }
+
+    @Test
+    void saveGameXmlRoundTrip() {
+        Hex hex = sampleHex();
+        hex.setTheme("lunar");
+        hex.incrementFireTurn();
+        String xml = SerializationHelper.getSaveGameXStream().toXML(hex);
+        assertTrue(xml.contains("<terrains"), "Hexes must keep their former XML form");
+        assertFalse(xml.contains("serialization=\"custom\""), "Hexes must keep their former XML form");
+
+        Hex restored = (Hex) SerializationHelper.getLoadSaveGameXStream().fromXML(xml);
+        assertEquals("lunar", restored.getTheme());
+        assertEquals(1, restored.getFireTurn());
+        restored.resetTheme();
+        assertSampleHex(restored);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import megamek.common.Hex;
+import megamek.common.board.LosTerrainCache.HexTerrain;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.Test;
+
+class LosTerrainCacheTest {
+
+    @Test
+    void testInterveningMatchesCoords() {
+        Board board = createBoard();
+        LosTerrainCache cache = board.getLosTerrainCache();
+
+        for (int x1 = 0; x1 < board.getWidth(); x1++) {
+            for (int y1 = 0; y1 < board.getHeight(); y1++) {
+                for (int x2 = 0; x2 < board.getWidth(); x2++) {
+                    for (int y2 = 0; y2 < board.getHeight(); y2++) {
+                        Coords source = new Coords(x1, y1);
+                        Coords destination = new Coords(x2, y2);
+                        for (boolean split : new boolean[] { false, true }) {
+                            List<Coords> path = cache.getIntervening(source, destination, split);
+                            assertEquals(Coords.intervening(source, destination, split), path);
+                            assertSame(path, cache.getIntervening(source, destination, split));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOffBoardInterveningIsNotCached() {
+        Board board = createBoard();
+        Coords source = new Coords(-2, 1);
+        Coords destination = new Coords(3, 3);
+
+        assertEquals(Coords.intervening(source, destination, false),
+              board.getLosTerrainCache().getIntervening(source, destination, false));
+    }
+
+    @Test
+    void testHexTerrainMatchesHex() {
+        Board board = createBoard();
+        LosTerrainCache cache = board.getLosTerrainCache();
+
+        HexTerrain woods = cache.getHexTerrain(new Coords(1, 0), board.getHex(1, 0));
+        assertTrue(woods.hasFoliage());
+        assertEquals(2, woods.woodsLevel());
+        assertEquals(Terrain.LEVEL_NONE, woods.buildingElevation());
+
+        HexTerrain building = cache.getHexTerrain(new Coords(2, 0), board.getHex(2, 0));
+        assertFalse(building.hasFoliage());
+        assertEquals(2, building.buildingElevation());
+        assertEquals(40, building.buildingCF());
+
+        HexTerrain water = cache.getHexTerrain(new Coords(3, 0), board.getHex(3, 0));
+        assertTrue(water.hasWater());
+        assertEquals(1, water.waterLevel());
+    }
+
+    @Test
+    void testReplacedHexIsReread() {
+        Board board = createBoard();
+        Coords coords = new Coords(0, 0);
+        assertFalse(board.getLosTerrainCache().getHexTerrain(coords, board.getHex(coords)).hasFoliage());
+
+        board.setHex(coords, new Hex(0, "woods:1", null));
+
+        HexTerrain terrain = board.getLosTerrainCache().getHexTerrain(coords, board.getHex(coords));
+        assertTrue(terrain.hasFoliage());
+        assertEquals(1, terrain.woodsLevel());
+    }
+
+    @Test
+    void testChangedTerrainIsReread() {
+        Board board = createBoard();
+        Coords coords = new Coords(1, 0);
+        Hex hex = board.getHex(coords);
+        assertTrue(board.getLosTerrainCache().getHexTerrain(coords, hex).hasFoliage());
+
+        // Changed in place without a board event, as the server does when woods burn down
+        hex.removeTerrain(Terrains.WOODS);
+        hex.addTerrain(new Terrain(Terrains.SCREEN, 1));
+
+        HexTerrain terrain = board.getLosTerrainCache().getHexTerrain(coords, hex);
+        assertFalse(terrain.hasFoliage());
+        assertTrue(terrain.hasScreen());
+    }
+
+    private static Board createBoard() {
+        Hex[] hexes = new Hex[16];
+        for (int i = 0; i < hexes.length; i++) {
+            hexes[i] = switch (i % 4) {
+                case 0 -> new Hex(0);
+                case 1 -> new Hex(0, "woods:2;foliage_elev:2", null);
+                case 2 -> new Hex(0, "bldg_elev:2;building:2;bldg_cf:40", null);
+                default -> new Hex(0, "water:1", null);
+            };
+        }
+        return new Board(4, 4, hexes);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import megamek.common.Hex;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Tank;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TerrainCostCacheTest {
+
+    @BeforeAll
+    static void initialize() {
+        EquipmentType.initializeTypes();
+    }
+
+    @Test
+    void testCostsMatchHexMovementCost() {
+        Board board = createBoard();
+        Entity mek = createUnit(new BipedMek(), board);
+        Entity tank = createUnit(new Tank(), board);
+        TerrainCostCache cache = board.getTerrainCostCache();
+
+        for (Entity entity : new Entity[] { mek, tank }) {
+            TerrainCostProfile profile = TerrainCostProfile.of(entity);
+            for (int round = 0; round < 2; round++) {
+                for (int x = 0; x < board.getWidth(); x++) {
+                    for (int y = 0; y < board.getHeight(); y++) {
+                        Coords coords = new Coords(x, y);
+                        Hex hex = board.getHex(coords);
+                        assertEquals(hex.movementCost(entity), cache.getMovementCost(coords, hex, entity, profile));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReplacedHexIsRecomputed() {
+        Board board = createBoard();
+        Entity mek = createUnit(new BipedMek(), board);
+        TerrainCostProfile profile = TerrainCostProfile.of(mek);
+        Coords coords = new Coords(0, 0);
+        assertEquals(0, board.getTerrainCostCache().getMovementCost(coords, board.getHex(coords), mek, profile));
+
+        board.setHex(coords, new Hex(0, "woods:2", null));
+
+        assertEquals(2, board.getTerrainCostCache().getMovementCost(coords, board.getHex(coords), mek, profile));
+    }
+
+    @Test
+    void testChangedTerrainIsRecomputed() {
+        Board board = createBoard();
+        Entity mek = createUnit(new BipedMek(), board);
+        TerrainCostProfile profile = TerrainCostProfile.of(mek);
+        Coords coords = new Coords(0, 0);
+        Hex hex = board.getHex(coords);
+        long revision = hex.getTerrainRevision();
+        assertEquals(0, board.getTerrainCostCache().getMovementCost(coords, hex, mek, profile));
+
+        // Changed in place without a board event, as the server does
+        hex.addTerrain(new Terrain(Terrains.ROUGH, 1));
+
+        assertNotEquals(revision, hex.getTerrainRevision());
+        assertEquals(1, board.getTerrainCostCache().getMovementCost(coords, hex, mek, profile));
+    }
+
+    private static Board createBoard() {
+        Hex[] hexes = new Hex[16];
+        for (int i = 0; i < hexes.length; i++) {
+            hexes[i] = switch (i % 4) {
+                case 0 -> new Hex(0);
+                case 1 -> new Hex(0, "woods:1", null);
+                case 2 -> new Hex(0, "rough:2", null);
+                default -> new Hex(0, "swamp:1", null);
+            };
+        }
+        return new Board(4, 4, hexes);
+    }
+
+    private static Entity createUnit(Entity entity, Board board) {
+        Game game = new Game();
+        game.setBoard(board);
+        entity.setGame(game);
+        return entity;
+    }
+}
@@ -36,11 +36,13 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import megamek.common.ECMInfo;
 import megamek.common.Player;
@@ -96,6 +98,11 @@ class ComputeC3SpotterTest {
         when(mockGame.getPlanetaryConditions()).thenReturn(new PlanetaryConditions());
         when(mockGame.getSmokeCloudList()).thenReturn(new ArrayList<>());
         when(mockGame.getEntitiesVector()).thenReturn(gameEntities);
+        doAnswer(invocation -> {
+            Consumer<Entity> action = invocation.getArgument(1);
+            gameEntities.forEach(action);
+            return null;
+        }).when(mockGame).forEachEntityOnBoard(anyInt(), any());
         when(mockGame.isOnGroundMap(any(Entity.class))).thenReturn(true);
         when(mockGame.onConnectedBoards(any(Entity.class), any(Targetable.class))).thenReturn(true);
         when(mockGame.onTheSameBoard(any(Entity.class), any(Entity.class))).thenReturn(true);
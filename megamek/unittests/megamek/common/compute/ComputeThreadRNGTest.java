@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.compute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ComputeThreadRNGTest {
+
+    @AfterEach
+    void tearDown() {
+        Compute.clearThreadRNG();
+    }
+
+    @Test
+    void testSeededThreadRNGRepeats() {
+        Compute.setThreadRNGSeed(1234);
+        List<Integer> firstRolls = roll();
+
+        Compute.setThreadRNGSeed(1234);
+        assertEquals(firstRolls, roll());
+    }
+
+    @Test
+    void testThreadsDrawFromTheirOwnRNGs() throws Exception {
+        List<List<Integer>> firstRun = rollOnTwoThreads();
+        List<List<Integer>> secondRun = rollOnTwoThreads();
+
+        // The started thread draws from its own RNG, so the threads draw the same numbers however they interleave
+        assertEquals(firstRun, secondRun);
+        assertNotEquals(firstRun.get(0), firstRun.get(1));
+        Compute.setThreadRNGSeed(1234);
+        assertEquals(roll(), firstRun.get(0));
+    }
+
+    @Test
+    void testWrappedTasksDrawTheSameNumbersOnAnyThread() throws Exception {
+        Compute.setThreadRNGSeed(1234);
+        List<Integer> inOrder = runTasks(false);
+
+        Compute.setThreadRNGSeed(1234);
+        assertEquals(inOrder, runTasks(true));
+    }
+
+    private static List<List<Integer>> rollOnTwoThreads() throws Exception {
+        Compute.setThreadRNGSeed(1234);
+        List<Integer> childRolls = new ArrayList<>();
+        Thread thread = new Thread(() -> childRolls.addAll(roll()));
+        thread.start();
+        List<Integer> parentRolls = roll();
+        thread.join();
+        return List.of(parentRolls, childRolls);
+    }
+
+    /**
+     * Wraps one task per slot in order and runs them on a single pool thread, in order or in reverse order.
+     */
+    private static List<Integer> runTasks(boolean reversed) throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(Compute.withThreadRNG(() -> Compute.randomInt(1000)));
+        }
+        List<Integer> order = new ArrayList<>(List.of(0, 1, 2, 3, 4));
+        if (reversed) {
+            order = order.reversed();
+        }
+        Integer[] results = new Integer[tasks.size()];
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int index : order) {
+                Future<Integer> result = executor.submit(tasks.get(index));
+                results[index] = result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return List.of(results);
+    }
+
+    private static List<Integer> roll() {
+        List<Integer> rolls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rolls.add(Compute.randomInt(1000));
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import megamek.common.board.Coords;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Mek;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the position index of {@link Game} follows units as they are added, moved, replaced and removed, and that
+ * its range queries find the same units as checking every unit.
+ */
+class EntityPositionIndexTest {
+
+    private Game game;
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+    }
+
+    private Mek addMek(int id, Coords position, int boardId) {
+        Mek mek = new BipedMek();
+        mek.setId(id);
+        mek.setPosition(position);
+        mek.setBoardId(boardId);
+        mek.setDeployed(true);
+        game.addEntity(mek, false);
+        return mek;
+    }
+
+    private List<Integer> idsAt(Coords coords, int boardId) {
+        List<Integer> ids = new ArrayList<>();
+        game.forEachEntityAt(coords, boardId, entity -> ids.add(entity.getId()));
+        return ids;
+    }
+
+    @Test
+    void followsMovesAndRemovals() {
+        Mek mek = addMek(1, new Coords(3, 4), 0);
+        addMek(2, new Coords(3, 4), 0);
+        assertEquals(List.of(1, 2), idsAt(new Coords(3, 4), 0));
+
+        mek.setPosition(new Coords(5, 5));
+        assertEquals(List.of(2), idsAt(new Coords(3, 4), 0));
+        assertEquals(List.of(1), idsAt(new Coords(5, 5), 0));
+        assertEquals(List.of(mek), game.getEntitiesVector(new Coords(5, 5), true));
+
+        game.removeEntity(1, 0);
+        assertTrue(idsAt(new Coords(5, 5), 0).isEmpty());
+        assertTrue(game.getEntitiesVector(new Coords(5, 5), true).isEmpty());
+    }
+
+    @Test
+    void keepsBoardsApart() {
+        Mek mek = addMek(1, new Coords(3, 4), 0);
+        addMek(2, new Coords(3, 4), 1);
+        assertEquals(List.of(1), idsAt(new Coords(3, 4), 0));
+        assertEquals(List.of(2), idsAt(new Coords(3, 4), 1));
+        assertEquals(2, game.getEntitiesVector(new Coords(3, 4), true).size());
+
+        mek.setBoardId(1);
+        assertTrue(idsAt(new Coords(3, 4), 0).isEmpty());
+        assertEquals(List.of(1, 2), idsAt(new Coords(3, 4), 1));
+        assertEquals(List.of(1, 2),
+              game.getEntitiesVector(new Coords(3, 4), 1, true).stream().map(Entity::getId).toList());
+    }
+
+    @Test
+    void indexesAllHexesOfUnitsWithSecondaryPositions() {
+        Mek mek = addMek(1, new Coords(5, 5), 0);
+        mek.getSecondaryPositions().put(0, new Coords(5, 5));
+        mek.getSecondaryPositions().put(1, new Coords(5, 4));
+        game.updateEntityPositionLookup(mek);
+        assertEquals(List.of(1), idsAt(new Coords(5, 4), 0));
+        assertEquals(Set.of(new Coords(5, 5), new Coords(5, 4)), game.getEntityPositions(mek));
+
+        mek.getSecondaryPositions().clear();
+        game.updateEntityPositionLookup(mek);
+        assertTrue(idsAt(new Coords(5, 4), 0).isEmpty());
+        assertEquals(Set.of(new Coords(5, 5)), game.getEntityPositions(mek));
+    }
+
+    @Test
+    void replacedUnitObjectIsReturned() {
+        addMek(1, new Coords(3, 4), 0);
+        Mek replacement = new BipedMek();
+        replacement.setId(1);
+        replacement.setPosition(new Coords(3, 4));
+        game.setEntity(1, replacement);
+
+        assertSame(replacement, game.getEntitiesVector(new Coords(3, 4), true).get(0));
+    }
+
+    @Test
+    void ignoresUnitsThatAreNotPartOfTheGame() {
+        addMek(1, new Coords(3, 4), 0);
+        Mek copy = new BipedMek();
+        copy.setId(1);
+        copy.setGame(game);
+        copy.setPosition(new Coords(8, 8));
+
+        assertEquals(List.of(1), idsAt(new Coords(3, 4), 0));
+        assertTrue(idsAt(new Coords(8, 8), 0).isEmpty());
+    }
+
+    @Test
+    void rebuildsAfterReset() {
+        addMek(1, new Coords(3, 4), 0);
+        game.reset();
+        assertTrue(idsAt(new Coords(3, 4), 0).isEmpty());
+
+        addMek(1, new Coords(6, 2), 0);
+        assertEquals(List.of(1), idsAt(new Coords(6, 2), 0));
+    }
+
+    @Test
+    void rangeQueryMatchesCheckingEveryUnit() {
+        Random random = new Random(7);
+        for (int id = 1; id <= 200; id++) {
+            addMek(id, new Coords(random.nextInt(70) - 5, random.nextInt(70) - 5), random.nextInt(2));
+        }
+        for (int query = 0; query < 100; query++) {
+            Coords center = new Coords(random.nextInt(80) - 10, random.nextInt(80) - 10);
+            int boardId = random.nextInt(2);
+            int distance = random.nextInt(20);
+
+            Set<Entity> expected = new HashSet<>();
+            for (Entity entity : game.getEntitiesVector()) {
+                if ((entity.getBoardId() == boardId) && (center.distance(entity.getPosition()) <= distance)) {
+                    expected.add(entity);
+                }
+            }
+            Set<Entity> found = new HashSet<>();
+            game.forEachEntityWithin(center, boardId, distance, entity -> assertTrue(found.add(entity)));
+
+            assertEquals(expected, found, "Units within " + distance + " of " + center + " on board " + boardId);
+        }
+    }
+
+    @Test
+    void boardIterationIsInIdOrder() {
+        addMek(7, new Coords(1, 1), 0);
+        addMek(3, new Coords(20, 2), 0);
+        addMek(5, new Coords(2, 30), 1);
+        addMek(4, new Coords(9, 9), 0);
+
+        List<Integer> ids = new ArrayList<>();
+        game.forEachEntityOnBoard(0, entity -> ids.add(entity.getId()));
+        assertEquals(List.of(3, 4, 7), ids);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import megamek.common.Configuration;
+import megamek.common.equipment.EquipmentType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class UnitFileParserTest {
+
+    @BeforeAll
+    static void setUpAll() {
+        Configuration.setDataDir(new File("testresources/data"));
+        EquipmentType.initializeTypes();
+    }
+
+    private static List<File> unitFiles() throws Exception {
+        try (Stream<Path> paths = Files.walk(new File("testresources/data/mekfiles").toPath())) {
+            return paths.map(Path::toFile)
+                  .filter(file -> file.getName().endsWith(".mtf") || file.getName().endsWith(".blk"))
+                  .sorted()
+                  .toList();
+        }
+    }
+
+    @Test
+    void testResultsArriveInSubmissionOrder() throws Exception {
+        List<File> files = unitFiles();
+        assertFalse(files.isEmpty());
+        List<UnitFileParser.ParsedUnit> results = new ArrayList<>();
+
+        try (UnitFileParser parser = new UnitFileParser(3, () -> false, results::add)) {
+            for (File file : files) {
+                assertTrue(parser.submit(UnitFileParser.UnitSource.ofFile(file)));
+            }
+            assertTrue(parser.finish());
+            assertEquals(files.size(), parser.getParsedUnitCount());
+        }
+
+        assertEquals(files, results.stream().map(result -> result.source().file()).toList());
+        for (UnitFileParser.ParsedUnit result : results) {
+            assertNotNull(result.summary(), () -> "Failed to parse " + result.source().file());
+            assertNull(result.failure());
+        }
+    }
+
+    @Test
+    void testZipEntryDataIsParsed() throws Exception {
+        File file = unitFiles().getFirst();
+        byte[] data = Files.readAllBytes(file.toPath());
+        List<UnitFileParser.ParsedUnit> results = new ArrayList<>();
+
+        try (UnitFileParser parser = new UnitFileParser(2, () -> false, results::add)) {
+            File zipFile = new File("units.zip");
+            parser.submit(UnitFileParser.UnitSource.ofZipEntry(zipFile, "folder/" + file.getName(), data));
+            parser.submit(UnitFileParser.UnitSource.ofZipEntry(zipFile, "broken.blk", new byte[] { 1, 2, 3 }));
+            assertTrue(parser.finish());
+        }
+
+        assertEquals(2, results.size());
+        MekSummary summary = results.get(0).summary();
+        assertNotNull(summary);
+        assertEquals("folder/" + file.getName(), summary.getEntryName());
+        assertNull(results.get(1).summary());
+        assertNotNull(results.get(1).failure());
+    }
+
+    @Test
+    void testStopDropsPendingFiles() throws Exception {
+        List<File> files = unitFiles();
+        List<UnitFileParser.ParsedUnit> results = new ArrayList<>();
+
+        try (UnitFileParser parser = new UnitFileParser(1, () -> results.size() >= 2, results::add)) {
+            boolean accepted = true;
+            for (File file : files) {
+                accepted = parser.submit(UnitFileParser.UnitSource.ofFile(file));
+                if (!accepted) {
+                    break;
+                }
+            }
+            assertFalse(accepted && parser.finish());
+        }
+
+        assertEquals(2, results.size());
+    }
+}
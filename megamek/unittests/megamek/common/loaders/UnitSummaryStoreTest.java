@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.Configuration;
+import megamek.common.equipment.EquipmentType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UnitSummaryStoreTest {
+
+    private static final List<MekSummary> UNITS = new ArrayList<>();
+
+    @BeforeAll
+    static void setUpAll() {
+        Configuration.setDataDir(new File("testresources/data"));
+        EquipmentType.initializeTypes();
+        File[] unitFiles = new File("testresources/data/mekfiles").listFiles(
+              (directory, name) -> name.endsWith(".mtf") || name.endsWith(".blk"));
+        assertNotNull(unitFiles);
+        for (File unitFile : unitFiles) {
+            MekSummary summary = MekSummaryCache.getSummaryFromFile(unitFile);
+            if (summary != null) {
+                UNITS.add(summary);
+            }
+        }
+        MekSummary zipEntry = MekSummaryCache.getSummaryFromFile(unitFiles[0]);
+        assertNotNull(zipEntry);
+        zipEntry.setEntryName("folder/" + unitFiles[0].getName());
+        UNITS.add(zipEntry);
+    }
+
+    @Test
+    void testColumnsMatchTheSummaries(@TempDir Path directory) throws IOException {
+        File file = directory.resolve("units.cache").toFile();
+        UnitSummaryStore.write(file, UNITS);
+        UnitSummaryStore store = UnitSummaryStore.open(file);
+
+        assertEquals(UNITS.size(), store.size());
+        for (int row = 0; row < UNITS.size(); row++) {
+            MekSummary unit = UNITS.get(row);
+            assertEquals(unit.getName(), store.getName(row));
+            assertEquals(unit.getChassis(), store.getChassis(row));
+            assertEquals(unit.getModel(), store.getModel(row));
+            assertEquals(unit.getUnitType(), store.getUnitType(row));
+            assertEquals(unit.getTechBase(), store.getTechBase(row));
+            assertEquals(unit.getSourceFile(), store.getSourceFile(row));
+            assertEquals(unit.getEntryName(), store.getEntryName(row));
+            assertEquals(unit.getTons(), store.getTons(row));
+            assertEquals(unit.getBV(), store.getBV(row));
+            assertEquals(unit.getCost(), store.getCost(row));
+            assertEquals(unit.getYear(), store.getYear(row));
+            assertEquals(unit.getWalkMp(), store.getWalkMp(row));
+            assertEquals(unit.getJumpMp(), store.getJumpMp(row));
+            assertEquals(unit.getEquipmentNames().size(), store.getEquipmentCount(row));
+            for (int i = 0; i < store.getEquipmentCount(row); i++) {
+                assertEquals(unit.getEquipmentNames().get(i), store.getEquipmentName(row, i));
+                assertEquals(unit.getEquipmentQuantities().get(i), store.getEquipmentQuantity(row, i));
+            }
+        }
+        assertNull(store.getEntryName(0));
+    }
+
+    @Test
+    void testSummariesAreReadOnceOnAccess(@TempDir Path directory) throws IOException {
+        File file = directory.resolve("units.cache").toFile();
+        UnitSummaryStore.write(file, UNITS);
+        UnitCatalog catalog = UnitCatalog.of(UnitSummaryStore.open(file));
+
+        MekSummary first = catalog.get(1);
+        assertNotNull(first);
+        assertEquals(UNITS.get(1), first);
+        assertEquals(UNITS.get(1).getEquipmentNames(), first.getEquipmentNames());
+        assertSame(first, catalog.get(1));
+
+        MekSummary[] all = catalog.getAll();
+        assertArrayEquals(UNITS.toArray(), all);
+        assertSame(first, all[1]);
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir Path directory) throws IOException {
+        // A units.cache in the previous format, a stream of serialized summaries
+        File file = directory.resolve("units.cache").toFile();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(UNITS.size());
+            for (MekSummary unit : UNITS) {
+                out.writeObject(unit);
+            }
+        }
+        assertThrows(IOException.class, () -> UnitSummaryStore.open(file));
+    }
+}
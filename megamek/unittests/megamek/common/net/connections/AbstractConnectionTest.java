@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.events.PacketReceivedEvent;
+import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class AbstractConnectionTest {
+
+    @Test
+    void testSmallPacketsAreNotCompressed() throws Exception {
+        AbstractConnection sender = new DataStreamConnection("localhost", 0, 1);
+
+        SendPacket packet = new SendPacket(new Packet(PacketCommand.ROUND_UPDATE, 3), sender);
+
+        assertEquals(INetworkPacket.COMPRESSION_NONE, packet.compression());
+        assertEquals(1.0, sender.getCompressionRatio());
+    }
+
+    @Test
+    void testGzipCompressionRoundTrip() throws Exception {
+        assertRoundTrip(false);
+    }
+
+    @Test
+    void testStreamCompressionRoundTrip() throws Exception {
+        assertRoundTrip(true);
+    }
+
+    /**
+     * The persistent deflate stream must compress a run of similar packets better than compressing each on its own.
+     */
+    @Test
+    void testStreamCompressionBeatsGzipOnSimilarPackets() throws Exception {
+        AbstractConnection gzipSender = new DataStreamConnection("localhost", 0, 1);
+        AbstractConnection streamSender = new DataStreamConnection("localhost", 0, 1);
+        streamSender.setStreamCompression(true);
+
+        for (Packet packet : createPackets()) {
+            new SendPacket(packet, gzipSender);
+            new SendPacket(packet, streamSender);
+        }
+
+        assertEquals(gzipSender.getUncompressedBytesSent(), streamSender.getUncompressedBytesSent());
+        assertTrue(streamSender.getBytesSent() < gzipSender.getBytesSent() / 2);
+        assertTrue(streamSender.getCompressionRatio() < 1);
+    }
+
+    /**
+     * A queued packet is marshalled when it is queued, so changes to its contents before the flush are not sent.
+     */
+    @Test
+    void testQueuedPacketKeepsItsStateUntilFlushed() throws Exception {
+        List<NetworkPacket> written = new ArrayList<>();
+        AbstractConnection sender = new AbstractConnection("localhost", 0, 1) {
+            @Override
+            protected INetworkPacket readNetworkPacket() {
+                return null;
+            }
+
+            @Override
+            protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) {
+                written.add(new NetworkPacket(compression, marshallingType, data));
+            }
+        };
+        ArrayList<String> contents = new ArrayList<>(List.of("first"));
+
+        sender.queue(new SharedPacket(new Packet(PacketCommand.CHAT, contents)));
+        contents.add("second");
+        assertTrue(written.isEmpty());
+        sender.flush();
+
+        AbstractConnection receiver = new DataStreamConnection("localhost", 0, 2);
+        List<Packet> received = new ArrayList<>();
+        receiver.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent event) {
+                received.add(event.getPacket());
+            }
+        });
+        receiver.processPacket(written.get(0));
+
+        assertEquals(1, written.size());
+        assertEquals(List.of("first"), received.get(0).getObject(0));
+    }
+
+    /**
+     * A packet that cannot be marshalled is not queued, so it neither reaches the wire nor blocks the packets after it.
+     */
+    @Test
+    void testFailedPacketIsNotQueued() {
+        List<PacketCommand> written = new ArrayList<>();
+        AbstractConnection sender = new AbstractConnection("localhost", 0, 1) {
+            @Override
+            protected INetworkPacket readNetworkPacket() {
+                return null;
+            }
+
+            @Override
+            protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected void sendNetworkPackets(List<SendPacket> packets) {
+                packets.forEach(packet -> written.add(packet.getCommand()));
+            }
+        };
+
+        // A plain Object is not serializable
+        sender.send(new Packet(PacketCommand.ENTITY_UPDATE, new Object()));
+        sender.send(new Packet(PacketCommand.CHAT, "next"));
+
+        assertEquals(List.of(PacketCommand.CHAT), written);
+    }
+
+    /**
+     * While sends are held, flushing writes nothing; releasing the hold writes all queued packets in one call, and a
+     * packet sent through the hold is written right away after the queued ones.
+     */
+    @Test
+    void testHeldPacketsAreWrittenTogether() {
+        List<List<PacketCommand>> writes = new ArrayList<>();
+        AbstractConnection sender = new AbstractConnection("localhost", 0, 1) {
+            @Override
+            protected INetworkPacket readNetworkPacket() {
+                return null;
+            }
+
+            @Override
+            protected void sendNetworkPacket(byte[] data, int compression, int marshallingType) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected void sendNetworkPackets(List<SendPacket> packets) {
+                writes.add(packets.stream().map(SendPacket::getCommand).toList());
+            }
+        };
+
+        sender.holdSends();
+        sender.send(new Packet(PacketCommand.CHAT, "first"));
+        sender.flush();
+        sender.queue(new SharedPacket(new Packet(PacketCommand.ROUND_UPDATE, 2)));
+        sender.flush();
+        assertTrue(writes.isEmpty());
+
+        sender.sendThroughHold(new Packet(PacketCommand.CLIENT_FEEDBACK_REQUEST));
+        assertEquals(List.of(List.of(PacketCommand.CHAT, PacketCommand.ROUND_UPDATE,
+              PacketCommand.CLIENT_FEEDBACK_REQUEST)), writes);
+
+        sender.send(new Packet(PacketCommand.CHAT, "second"));
+        sender.queue(new SharedPacket(new Packet(PacketCommand.CHAT, "third")));
+        assertEquals(1, writes.size());
+
+        sender.releaseSends();
+        assertEquals(List.of(PacketCommand.CHAT, PacketCommand.CHAT), writes.get(1));
+        sender.send(new Packet(PacketCommand.CHAT, "fourth"));
+        assertEquals(3, writes.size());
+    }
+
+    private static void assertRoundTrip(boolean streamCompression) throws Exception {
+        AbstractConnection sender = new DataStreamConnection("localhost", 0, 1);
+        sender.setStreamCompression(streamCompression);
+        AbstractConnection receiver = new DataStreamConnection("localhost", 0, 2);
+        List<Packet> received = new ArrayList<>();
+        receiver.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent event) {
+                received.add(event.getPacket());
+            }
+        });
+
+        List<Packet> packets = createPackets();
+        for (Packet packet : packets) {
+            SendPacket sendPacket = new SendPacket(packet, sender);
+            receiver.processPacket(new NetworkPacket(sendPacket.compression(), sendPacket.marshallingType(),
+                  sendPacket.data()));
+        }
+
+        assertEquals(packets.size(), received.size());
+        for (int i = 0; i < packets.size(); i++) {
+            assertEquals(packets.get(i).getStringValue(0), received.get(i).getStringValue(0));
+        }
+        assertEquals(sender.getUncompressedBytesSent(), receiver.getUncompressedBytesReceived());
+        assertEquals(sender.getBytesSent(), receiver.getBytesReceived());
+        assertTrue(sender.getCompressionNanos() > 0);
+    }
+
+    private static List<Packet> createPackets() {
+        List<Packet> packets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            packets.add(new Packet(PacketCommand.CHAT, "Unit " + i + " moves " + "forward and fires. ".repeat(20)));
+        }
+        return packets;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.events.PacketReceivedEvent;
+import megamek.common.net.factories.ConnectionFactory;
+import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class ChannelConnectionTest {
+
+    @Test
+    void testChannelServerWithStreamClient() throws Exception {
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()
+              .bind(new InetSocketAddress("127.0.0.1", 0))) {
+            int port = serverChannel.socket().getLocalPort();
+            AbstractConnection client = new DataStreamConnection("127.0.0.1", port, 1);
+            assertTrue(client.open());
+            exchangePackets(serverChannel, client);
+        }
+    }
+
+    @Test
+    void testChannelServerWithChannelClient() throws Exception {
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()
+              .bind(new InetSocketAddress("127.0.0.1", 0))) {
+            int port = serverChannel.socket().getLocalPort();
+            AbstractConnection client = new ChannelConnection("127.0.0.1", port, 1);
+            assertTrue(client.open());
+            client.setMarshallingType(PacketMarshaller.COMPACT_BINARY_MARSHALING);
+            exchangePackets(serverChannel, client);
+        }
+    }
+
+    /**
+     * A header announcing more data than any packet may have closes the connection instead of allocating the buffer.
+     */
+    @Test
+    void testOversizedPacketClosesConnection() throws Exception {
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()
+              .bind(new InetSocketAddress("127.0.0.1", 0));
+              Socket client = new Socket("127.0.0.1", serverChannel.socket().getLocalPort())) {
+            AbstractConnection server = new ChannelConnection(serverChannel.accept(), 7);
+            server.open();
+
+            DataOutputStream out = new DataOutputStream(client.getOutputStream());
+            out.writeByte(INetworkPacket.COMPRESSION_NONE);
+            out.writeInt(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING);
+            out.writeInt(ChannelConnection.MAX_PACKET_LENGTH + 1);
+            out.flush();
+            server.update();
+
+            assertTrue(server.isClosed());
+        }
+    }
+
+    private static void exchangePackets(ServerSocketChannel serverChannel, AbstractConnection client)
+          throws Exception {
+        Socket accepted = serverChannel.socket().accept();
+        AbstractConnection server = ConnectionFactory.getInstance().createServerConnection(accepted, 7);
+        assertInstanceOf(ChannelConnection.class, server);
+        server.open();
+
+        BlockingQueue<Packet> serverReceived = listen(server);
+        BlockingQueue<Packet> clientReceived = listen(client);
+        Thread.ofVirtual().start(server::update);
+        Thread.ofVirtual().start(client::update);
+
+        try {
+            client.send(new Packet(PacketCommand.CHAT, "Hello"));
+            // An empty packet has a header only
+            client.send(new Packet(PacketCommand.SERVER_VERSION_CHECK));
+            // Held packets go out in one gathering write
+            server.holdSends();
+            server.send(new Packet(PacketCommand.ROUND_UPDATE, 4));
+            server.send(new Packet(PacketCommand.CHAT, "x".repeat(200_000)));
+            server.releaseSends();
+
+            Packet chat = serverReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(chat);
+            assertEquals("Hello", chat.getStringValue(0));
+            Packet versionCheck = serverReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(versionCheck);
+            assertEquals(PacketCommand.SERVER_VERSION_CHECK, versionCheck.command());
+
+            Packet roundUpdate = clientReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(roundUpdate);
+            assertEquals(4, roundUpdate.getIntValue(0));
+            Packet largeChat = clientReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(largeChat);
+            assertEquals(200_000, largeChat.getStringValue(0).length());
+        } finally {
+            client.close();
+            server.close();
+        }
+    }
+
+    private static BlockingQueue<Packet> listen(AbstractConnection connection) {
+        BlockingQueue<Packet> received = new LinkedBlockingQueue<>();
+        connection.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent event) {
+                received.add(event.getPacket());
+            }
+        });
+        return received;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.events.DisconnectedEvent;
+import megamek.common.net.events.PacketReceivedEvent;
+import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class LoopbackConnectionTest {
+
+    @Test
+    void testPacketsArePassedAsCopiesWithoutCompression() throws Exception {
+        LoopbackConnection server = new LoopbackConnection(7);
+        LoopbackConnection client = server.createClientEnd();
+        assertTrue(server.isServer());
+        assertFalse(client.isServer());
+        assertTrue(server.open());
+        assertTrue(client.open());
+
+        BlockingQueue<Packet> serverReceived = listen(server);
+        BlockingQueue<Packet> clientReceived = listen(client);
+        Thread.ofVirtual().start(() -> updateUntilClosed(server));
+        Thread.ofVirtual().start(() -> updateUntilClosed(client));
+
+        try {
+            List<String> payload = new ArrayList<>(List.of("Hello", "x".repeat(10_000)));
+            server.send(new Packet(PacketCommand.CHAT, payload));
+            client.send(new Packet(PacketCommand.ROUND_UPDATE, 4));
+
+            Packet chat = clientReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(chat);
+            assertEquals(payload, chat.getObject(0));
+            assertNotSame(payload, chat.getObject(0), "Client and server must not share objects");
+            Packet roundUpdate = serverReceived.poll(10, TimeUnit.SECONDS);
+            assertNotNull(roundUpdate);
+            assertEquals(4, roundUpdate.getIntValue(0));
+
+            assertEquals(server.getUncompressedBytesSent(), server.getBytesSent());
+            assertEquals(server.getBytesSent(), client.getBytesReceived());
+        } finally {
+            client.close();
+            server.close();
+        }
+    }
+
+    @Test
+    void testClosingOneEndDisconnectsTheOther() throws Exception {
+        LoopbackConnection server = new LoopbackConnection(3);
+        LoopbackConnection client = server.createClientEnd();
+        CountDownLatch serverDisconnected = new CountDownLatch(1);
+        server.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void disconnected(DisconnectedEvent event) {
+                serverDisconnected.countDown();
+            }
+        });
+        Thread.ofVirtual().start(() -> updateUntilClosed(server));
+
+        client.close();
+
+        assertTrue(serverDisconnected.await(10, TimeUnit.SECONDS));
+        assertTrue(server.isClosed());
+        assertFalse(server.open());
+        assertThrows(IllegalStateException.class, server::createClientEnd);
+    }
+
+    private static void updateUntilClosed(AbstractConnection connection) {
+        while (!connection.isClosed()) {
+            connection.update();
+        }
+    }
+
+    private static BlockingQueue<Packet> listen(AbstractConnection connection) {
+        BlockingQueue<Packet> received = new LinkedBlockingQueue<>();
+        connection.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent event) {
+                received.add(event.getPacket());
+            }
+        });
+        return received;
+    }
+}
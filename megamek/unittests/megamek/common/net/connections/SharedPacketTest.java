@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class SharedPacketTest {
+
+    @Test
+    void testMarshalledOncePerMarshallingType() throws Exception {
+        SharedPacket sharedPacket = new SharedPacket(new Packet(PacketCommand.CHAT, "Shared"));
+        AbstractConnection first = new DataStreamConnection("localhost", 0, 1);
+        AbstractConnection second = new DataStreamConnection("localhost", 0, 2);
+        AbstractConnection compact = new DataStreamConnection("localhost", 0, 3);
+        compact.setMarshallingType(PacketMarshaller.COMPACT_BINARY_MARSHALING);
+
+        byte[] firstData = sharedPacket.getMarshalledData(first.getMarshallingType(), first.marshaller);
+        byte[] secondData = sharedPacket.getMarshalledData(second.getMarshallingType(), second.marshaller);
+        byte[] compactData = sharedPacket.getMarshalledData(compact.getMarshallingType(), compact.marshaller);
+
+        assertSame(firstData, secondData);
+        assertNotSame(firstData, compactData);
+    }
+
+    @Test
+    void testSendPacketsFromSharedPacketMatch() throws Exception {
+        SharedPacket sharedPacket = new SharedPacket(new Packet(PacketCommand.CHAT, "x".repeat(1000)));
+        AbstractConnection first = new DataStreamConnection("localhost", 0, 1);
+        AbstractConnection second = new DataStreamConnection("localhost", 0, 2);
+
+        SendPacket firstPacket = new SendPacket(sharedPacket, first);
+        SendPacket secondPacket = new SendPacket(sharedPacket, second);
+
+        assertEquals(PacketCommand.CHAT, firstPacket.getCommand());
+        assertEquals(first.getUncompressedBytesSent(), second.getUncompressedBytesSent());
+        assertEquals(firstPacket.data().length, secondPacket.data().length);
+    }
+}
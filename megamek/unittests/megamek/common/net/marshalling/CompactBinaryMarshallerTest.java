@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.Report;
+import megamek.common.board.Board;
+import megamek.common.board.BoardLocation;
+import megamek.common.board.Coords;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.Test;
+
+class CompactBinaryMarshallerTest {
+
+    private final PacketMarshaller compact = new CompactBinaryMarshaller();
+    private final PacketMarshaller nativeMarshaller = new NativeSerializationMarshaller();
+
+    @Test
+    void testPrimitivesRoundTrip() throws Exception {
+        Packet result = roundTrip(new Packet(PacketCommand.ENTITY_ATTACK, 17, -3, Integer.MIN_VALUE, true, false,
+              1234567890123L, 2.5, "Héllo", null, new int[] { 1, -1, 300 }));
+
+        assertEquals(PacketCommand.ENTITY_ATTACK, result.command());
+        assertEquals(17, result.getIntValue(0));
+        assertEquals(-3, result.getIntValue(1));
+        assertEquals(Integer.MIN_VALUE, result.getIntValue(2));
+        assertTrue(result.getBooleanValue(3));
+        assertEquals(Boolean.FALSE, result.getObject(4));
+        assertEquals(1234567890123L, result.getObject(5));
+        assertEquals(2.5, result.getObject(6));
+        assertEquals("Héllo", result.getStringValue(7));
+        assertNull(result.getObject(8));
+        assertArrayEquals(new int[] { 1, -1, 300 }, (int[]) result.getObject(9));
+    }
+
+    @Test
+    void testEmptyPacketRoundTrip() throws Exception {
+        Packet result = roundTrip(new Packet(PacketCommand.SERVER_VERSION_CHECK));
+
+        assertEquals(PacketCommand.SERVER_VERSION_CHECK, result.command());
+        assertEquals(0, result.data().length);
+    }
+
+    @Test
+    void testCollectionsKeepTheirTypes() throws Exception {
+        Vector<Coords> coordsVector = new Vector<>(List.of(new Coords(1, 2), new Coords(-4, 7)));
+        HashSet<Coords> coordsSet = new HashSet<>(coordsVector);
+        HashMap<BoardLocation, Integer> locationMap = new HashMap<>();
+        locationMap.put(BoardLocation.of(new Coords(3, 3), 2), 5);
+        locationMap.put(BoardLocation.NO_LOCATION, 6);
+
+        Packet result = roundTrip(new Packet(PacketCommand.SENDING_ILLUMINATED_HEXES, coordsVector, coordsSet,
+              locationMap, new ArrayList<>(List.of(1, 2, 3))));
+
+        assertInstanceOf(Vector.class, result.getObject(0));
+        assertEquals(coordsVector, result.getObject(0));
+        assertInstanceOf(HashSet.class, result.getObject(1));
+        assertEquals(coordsSet, result.getObject(1));
+        assertEquals(locationMap, result.getBoardLocationIntegerMap(2));
+        assertInstanceOf(ArrayList.class, result.getObject(3));
+        assertEquals(List.of(1, 2, 3), result.getIntList(3));
+    }
+
+    @Test
+    void testChangeHexesRoundTrip() throws Exception {
+        Map<BoardLocation, Hex> hexes = new HashMap<>();
+        Hex woods = new Hex(2, "woods:2;foliage_elev:2", "snow", new Coords(4, 5));
+        woods.setTheme("lunar");
+        woods.incrementFireTurn();
+        woods.addTerrain(new Terrain(Terrains.ROAD, 1, true, 9));
+        hexes.put(BoardLocation.of(new Coords(4, 5), 0), woods);
+        hexes.put(BoardLocation.of(new Coords(0, 0), 1), new Hex(-1));
+
+        Packet result = roundTrip(new Packet(PacketCommand.CHANGE_HEXES, hexes));
+        Map<BoardLocation, Hex> received = result.getBoardLocationHexMap(0);
+
+        assertEquals(2, received.size());
+        assertHexEquals(woods, received.get(BoardLocation.of(new Coords(4, 5), 0)));
+        assertHexEquals(new Hex(-1), received.get(BoardLocation.of(new Coords(0, 0), 1)));
+    }
+
+    @Test
+    void testBoardHexesRoundTrip() throws Exception {
+        Board board = createBoard(16, 17);
+        Map<Integer, Board> boards = new HashMap<>();
+        boards.put(0, board);
+
+        Packet result = roundTrip(new Packet(PacketCommand.SENDING_BOARD, boards));
+        Board received = ((Map<?, ?>) result.getObject(0)).values().stream()
+              .map(Board.class::cast).findFirst().orElseThrow();
+
+        assertEquals(board.getWidth(), received.getWidth());
+        assertEquals(board.getHeight(), received.getHeight());
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                assertHexEquals(board.getHex(x, y), received.getHex(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testSerializedObjectsRoundTrip() throws Exception {
+        Report report = new Report(3000);
+        report.add("Atlas");
+        report.add(42);
+        Vector<Report> reports = new Vector<>(List.of(report, report));
+
+        Packet result = roundTrip(new Packet(PacketCommand.SENDING_REPORTS, reports));
+        List<Report> received = result.getReportList(0);
+
+        assertEquals(2, received.size());
+        assertEquals(3000, received.get(0).messageId);
+        assertEquals(2, received.get(0).dataCount());
+        // Both list entries refer to the same report, which must survive the shared serialized section
+        assertTrue(received.get(0) == received.get(1));
+    }
+
+    @Test
+    void testMultiPacketRoundTrip() throws Exception {
+        List<Packet> included = new ArrayList<>();
+        included.add(new Packet(PacketCommand.ROUND_UPDATE, 3));
+        included.add(new Packet(PacketCommand.CHAT, "Ready"));
+
+        Packet result = roundTrip(new Packet(PacketCommand.MULTI_PACKET, included));
+        List<?> receivedPackets = (List<?>) result.getObject(0);
+
+        assertEquals(2, receivedPackets.size());
+        Packet first = (Packet) receivedPackets.get(0);
+        Packet second = (Packet) receivedPackets.get(1);
+        assertEquals(PacketCommand.ROUND_UPDATE, first.command());
+        assertEquals(3, first.getIntValue(0));
+        assertEquals(PacketCommand.CHAT, second.command());
+        assertEquals("Ready", second.getStringValue(0));
+    }
+
+    @Test
+    void testOversizedLengthIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = packetStart(bytes, 1);
+        out.writeByte(17); // byte array
+        CompactBinaryMarshaller.writeVarInt(out, 1_000_000_000);
+        out.write(new byte[10]);
+
+        assertThrows(IOException.class, () -> compact.unmarshall(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testNegativeLengthIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = packetStart(bytes, 1);
+        out.writeByte(11); // ArrayList
+        CompactBinaryMarshaller.writeVarInt(out, -7);
+
+        assertThrows(IOException.class, () -> compact.unmarshall(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testDeepNestingIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = packetStart(bytes, 1);
+        for (int i = 0; i < 100_000; i++) {
+            out.writeByte(15); // packet
+            CompactBinaryMarshaller.writeVarInt(out, PacketCommand.CHAT.ordinal());
+            CompactBinaryMarshaller.writeVarInt(out, 1);
+        }
+        out.writeByte(0);
+
+        assertThrows(IOException.class, () -> compact.unmarshall(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testNestingUpToTheLimitIsRead() throws Exception {
+        Packet packet = new Packet(PacketCommand.CHAT, "Innermost");
+        for (int i = 1; i < CompactBinaryMarshaller.MAX_NESTING_DEPTH; i++) {
+            packet = new Packet(PacketCommand.MULTI_PACKET, packet);
+        }
+
+        assertEquals(PacketCommand.MULTI_PACKET, roundTrip(packet).command());
+    }
+
+    /**
+     * Writes the start of a compact packet without serialized section and with the given number of values.
+     */
+    private static DataOutputStream packetStart(ByteArrayOutputStream bytes, int valueCount) throws IOException {
+        DataOutputStream out = new DataOutputStream(bytes);
+        CompactBinaryMarshaller.writeVarInt(out, PacketCommand.CHAT.ordinal());
+        CompactBinaryMarshaller.writeVarInt(out, 0);
+        CompactBinaryMarshaller.writeVarInt(out, valueCount);
+        return out;
+    }
+
+    /**
+     * Size comparison against Java native serialization for the board and hex packets; the compact encoding must be
+     * considerably smaller.
+     */
+    @Test
+    void testCompactEncodingIsSmallerThanNative() throws Exception {
+        Map<Integer, Board> boards = new HashMap<>();
+        boards.put(0, createBoard(32, 34));
+        Packet boardPacket = new Packet(PacketCommand.SENDING_BOARD, boards);
+
+        Map<BoardLocation, Hex> hexes = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            hexes.put(BoardLocation.of(new Coords(i, i), 0), new Hex(1, "woods:1;foliage_elev:2", null));
+        }
+        Packet hexPacket = new Packet(PacketCommand.CHANGE_HEXES, hexes);
+
+        assertTrue(marshall(compact, boardPacket).length < marshall(nativeMarshaller, boardPacket).length / 2);
+        assertTrue(marshall(compact, hexPacket).length < marshall(nativeMarshaller, hexPacket).length / 4);
+    }
+
+    private static Board createBoard(int width, int height) {
+        Hex[] hexes = new Hex[width * height];
+        for (int i = 0; i < hexes.length; i++) {
+            hexes[i] = switch (i % 4) {
+                case 0 -> new Hex(0);
+                case 1 -> new Hex(1, "woods:1;foliage_elev:2", null);
+                case 2 -> new Hex(-1, "water:1", null);
+                default -> new Hex(2, "rough:1", "grass");
+            };
+        }
+        return new Board(width, height, hexes);
+    }
+
+    private Packet roundTrip(Packet packet) throws Exception {
+        return compact.unmarshall(new ByteArrayInputStream(marshall(compact, packet)));
+    }
+
+    private static byte[] marshall(PacketMarshaller marshaller, Packet packet) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshall(packet, out);
+        return out.toByteArray();
+    }
+
+    private static void assertHexEquals(Hex expected, Hex actual) {
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getTheme(), actual.getTheme());
+        assertEquals(expected.getOriginalTheme(), actual.getOriginalTheme());
+        assertEquals(expected.getFireTurn(), actual.getFireTurn());
+        assertEquals(expected.getCoords(), actual.getCoords());
+        assertEquals(expected.getTerrainTypesSet(), actual.getTerrainTypesSet());
+        for (int type : expected.getTerrainTypes()) {
+            Terrain expectedTerrain = expected.getTerrain(type);
+            Terrain actualTerrain = actual.getTerrain(type);
+            assertEquals(expectedTerrain, actualTerrain);
+            assertEquals(expectedTerrain.getExits(), actualTerrain.getExits());
+            assertEquals(expectedTerrain.hasExitsSpecified(), actualTerrain.hasExitsSpecified());
+            assertEquals(expectedTerrain.getTerrainFactor(), actualTerrain.getTerrainFactor());
+        }
+    }
+}
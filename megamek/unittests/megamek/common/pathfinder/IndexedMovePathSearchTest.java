@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.pathfinder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import megamek.common.GameBoardTestCase;
+import megamek.common.board.Coords;
+import megamek.common.enums.MoveStepType;
+import megamek.common.moves.MovePath;
+import megamek.common.units.BipedMek;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the {@link IndexedMovePathSearch} finds exactly the same paths, in the same order, as the generic search
+ * of {@link AbstractPathFinder}.
+ */
+class IndexedMovePathSearchTest extends GameBoardTestCase {
+
+    private static final String BOARD = "INDEXED_SEARCH_BOARD";
+
+    static {
+        StringBuilder builder = new StringBuilder("size 12 12\n");
+        for (int row = 1; row <= 12; row++) {
+            for (int column = 1; column <= 12; column++) {
+                int level = (column * row) % 5 == 0 ? 1 : 0;
+                String terrain = switch ((column + 2 * row) % 7) {
+                    case 1 -> "woods:1";
+                    case 3 -> "rough:1";
+                    case 5 -> "water:1";
+                    default -> "";
+                };
+                builder.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", column, row, level, terrain));
+            }
+        }
+        builder.append("end");
+        initializeBoard(BOARD, builder.toString());
+    }
+
+    private BipedMek mek;
+
+    @BeforeEach
+    void setUp() {
+        setBoard(BOARD);
+        mek = new BipedMek();
+        getMovePathFor(mek);
+        mek.setPosition(new Coords(5, 6));
+        mek.setFacing(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MovePathFinder.setIndexedSearchEnabled(true);
+    }
+
+    @Test
+    void testOneToAllMatchesGenericSearch() {
+        assertSameResults(() -> ShortestPathFinder.newInstanceOfOneToAll(8, MoveStepType.FORWARDS, getGame()),
+              MoveStepType.FORWARDS);
+        assertSameResults(() -> ShortestPathFinder.newInstanceOfOneToAll(5, MoveStepType.BACKWARDS, getGame()),
+              MoveStepType.BACKWARDS);
+    }
+
+    @Test
+    void testAStarMatchesGenericSearch() {
+        for (Coords destination : List.of(new Coords(0, 0), new Coords(11, 11), new Coords(2, 9))) {
+            assertSameResults(() -> ShortestPathFinder.newInstanceOfAStar(destination, MoveStepType.FORWARDS,
+                  getGame(), 0), MoveStepType.FORWARDS);
+        }
+    }
+
+    @Test
+    void testGreedyMatchesGenericSearch() {
+        assertSameResults(() -> ShortestPathFinder.newInstanceOfGreedy(new Coords(10, 1), MoveStepType.FORWARDS,
+              getGame()), MoveStepType.FORWARDS);
+    }
+
+    @Test
+    void testFinderIsReusable() {
+        ShortestPathFinder finder = ShortestPathFinder.newInstanceOfAStar(new Coords(7, 3), MoveStepType.FORWARDS,
+              getGame(), 0);
+        finder.run(new MovePath(getGame(), mek));
+        List<String> first = describe(finder.getAllComputedPathsUncategorized());
+        finder.run(new MovePath(getGame(), mek));
+
+        assertTrue(first.size() > 1);
+        assertEquals(first, describe(finder.getAllComputedPathsUncategorized()));
+        assertNotNull(finder.getComputedPath(new Coords(7, 3)));
+    }
+
+    private void assertSameResults(Supplier<ShortestPathFinder> finderFactory, MoveStepType stepType) {
+        MovePathFinder.setIndexedSearchEnabled(false);
+        ShortestPathFinder generic = finderFactory.get();
+        generic.run(new MovePath(getGame(), mek));
+
+        MovePathFinder.setIndexedSearchEnabled(true);
+        ShortestPathFinder indexed = finderFactory.get();
+        indexed.run(new MovePath(getGame(), mek));
+
+        List<String> expected = describe(generic.getAllComputedPathsUncategorized());
+        assertTrue(expected.size() > 1);
+        assertEquals(expected, describe(indexed.getAllComputedPathsUncategorized()), "Step type " + stepType);
+    }
+
+    private static List<String> describe(Collection<MovePath> paths) {
+        List<String> result = new ArrayList<>();
+        for (MovePath path : paths) {
+            result.add(path.getFinalCoords() + " f" + path.getFinalFacing() + " mp" + path.getMpUsed() + " "
+                  + path.getStepVector().stream().map(step -> step.getType().name()).toList());
+        }
+        return result;
+    }
+}
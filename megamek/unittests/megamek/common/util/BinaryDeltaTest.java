@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BinaryDeltaTest {
+
+    @Test
+    void testChangedValuesRoundTrip() throws IOException {
+        byte[] base = randomBytes(4000, 1);
+        byte[] target = base.clone();
+        target[17] ^= 1;
+        target[2500] = 42;
+        target[3999] = 7;
+
+        byte[] delta = BinaryDelta.create(base, target);
+
+        assertArrayEquals(target, BinaryDelta.apply(base, delta));
+        assertTrue(delta.length < target.length / 10);
+    }
+
+    @Test
+    void testShiftedContentRoundTrip() throws IOException {
+        byte[] base = randomBytes(3000, 2);
+        byte[] target = new byte[base.length + 5];
+        System.arraycopy(base, 0, target, 0, 1000);
+        System.arraycopy(new byte[] { 1, 2, 3, 4, 5 }, 0, target, 1000, 5);
+        System.arraycopy(base, 1000, target, 1005, base.length - 1000);
+
+        byte[] delta = BinaryDelta.create(base, target);
+
+        assertArrayEquals(target, BinaryDelta.apply(base, delta));
+        assertTrue(delta.length < target.length / 10);
+    }
+
+    @Test
+    void testIndexedBaseIsReused() throws IOException {
+        byte[] base = randomBytes(5000, 6);
+        BinaryDelta.Base indexedBase = new BinaryDelta.Base(base);
+
+        for (int i = 0; i < 3; i++) {
+            byte[] target = base.clone();
+            target[1000 * (i + 1)] ^= 1;
+            byte[] delta = BinaryDelta.create(indexedBase, target);
+
+            assertArrayEquals(delta, BinaryDelta.create(base, target));
+            assertArrayEquals(target, BinaryDelta.apply(base, delta));
+            assertTrue(delta.length < 100);
+        }
+    }
+
+    @Test
+    void testEmptyAndUnrelatedInputs() throws IOException {
+        byte[] data = randomBytes(100, 3);
+
+        assertArrayEquals(data, BinaryDelta.apply(new byte[0], BinaryDelta.create(new byte[0], data)));
+        assertArrayEquals(new byte[0], BinaryDelta.apply(data, BinaryDelta.create(data, new byte[0])));
+        byte[] other = randomBytes(50, 4);
+        assertArrayEquals(other, BinaryDelta.apply(data, BinaryDelta.create(data, other)));
+    }
+
+    @Test
+    void testDeltaAgainstWrongBaseIsRejected() {
+        byte[] base = randomBytes(1000, 5);
+        byte[] target = Arrays.copyOf(base, 1200);
+        byte[] delta = BinaryDelta.create(base, target);
+
+        assertThrows(IOException.class, () -> BinaryDelta.apply(new byte[10], delta));
+        assertThrows(IOException.class, () -> BinaryDelta.apply(base, new byte[] { 9 }));
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] result = new byte[length];
+        new Random(seed).nextBytes(result);
+        return result;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.Player;
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.board.Board;
+import megamek.common.equipment.Engine;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.units.AeroSpaceFighter;
+import megamek.common.units.BipedMek;
+import megamek.common.units.ConvInfantry;
+import megamek.common.units.Mek;
+import megamek.common.units.Tank;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class BinarySaveGameTest {
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @Test
+    void testBinaryRoundTrip() throws Exception {
+        Game game = createGame();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinarySaveGame.write(game, bytes);
+
+        Object loaded = SerializationHelper.loadSaveGame(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertGameLoaded(loaded);
+    }
+
+    @Test
+    void testXmlSaveGamesStillLoad() throws Exception {
+        String xml = SerializationHelper.getSaveGameXStream().toXML(createGame());
+
+        Object loaded = SerializationHelper.loadSaveGame(
+              new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertGameLoaded(loaded);
+    }
+
+    @Test
+    void testUnknownChunksAreSkipped() throws Exception {
+        byte[] serializedGame = BinarySaveGame.serialize(createGame());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out, BinarySaveGame.FORMAT_VERSION);
+        out.writeInt(99);
+        out.writeInt(3);
+        out.write(new byte[] { 1, 2, 3 });
+        out.write(serializedGame);
+
+        assertGameLoaded(BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testSchemaListsTheSavedClasses() throws Exception {
+        Map<String, Long> schema = readSchema(BinarySaveGame.serialize(createGame()));
+
+        assertEquals(ObjectStreamClass.lookup(Game.class).getSerialVersionUID(), schema.get(Game.class.getName()));
+        assertTrue(schema.containsKey(BipedMek.class.getName()));
+        assertTrue(schema.keySet().stream().allMatch(name -> name.contains("megamek.")));
+    }
+
+    /**
+     * Classes without a declared serialVersionUID get one computed from their members, so any change to them would
+     * make all existing binary save games unreadable.
+     */
+    @Test
+    void testSavedClassesDeclareSerialVersionUID() throws Exception {
+        Map<String, Long> schema = readSchema(BinarySaveGame.serialize(createMixedGame()));
+
+        List<String> missing = new ArrayList<>();
+        for (String className : schema.keySet()) {
+            Class<?> savedClass = Class.forName(className);
+            // The serialVersionUID of arrays, enums and records is not compared when loading
+            if (savedClass.isArray() || Enum.class.isAssignableFrom(savedClass) || savedClass.isRecord()) {
+                continue;
+            }
+            try {
+                savedClass.getDeclaredField("serialVersionUID");
+            } catch (NoSuchFieldException ex) {
+                missing.add(className);
+            }
+        }
+        assertTrue(missing.isEmpty(), "Saved classes without a declared serialVersionUID: " + missing);
+    }
+
+    @Test
+    void testMixedGameRoundTrip() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinarySaveGame.write(createMixedGame(), bytes);
+
+        Game game = assertInstanceOf(Game.class,
+              BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(6, game.getEntitiesVector().size());
+        assertEquals(16, game.getBoard().getWidth());
+        assertEquals("Medium Laser", game.getEntity(5).getWeaponList().getFirst().getType().getName());
+    }
+
+    @Test
+    void testOtherVersionWithSameSchemaLoads() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        // The header written by writeHeader names the MegaMek version "test"
+        writeHeader(out, BinarySaveGame.FORMAT_VERSION);
+        out.write(BinarySaveGame.serialize(createGame()));
+
+        assertGameLoaded(BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testChangedSchemaIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out, BinarySaveGame.FORMAT_VERSION);
+        ByteArrayOutputStream schema = new ByteArrayOutputStream();
+        DataOutputStream schemaOut = new DataOutputStream(schema);
+        schemaOut.writeInt(2);
+        schemaOut.writeUTF(Game.class.getName());
+        schemaOut.writeLong(ObjectStreamClass.lookup(Game.class).getSerialVersionUID() + 1);
+        schemaOut.writeUTF("megamek.common.NoSuchClass");
+        schemaOut.writeLong(1);
+        out.writeInt(BinarySaveGame.CHUNK_SCHEMA);
+        out.writeInt(schema.size());
+        out.write(schema.toByteArray());
+        out.writeInt(BinarySaveGame.CHUNK_END);
+        out.writeInt(0);
+
+        IOException exception = assertThrows(IOException.class,
+              () -> BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+        assertTrue(exception.getMessage().contains("MegaMek test"));
+        assertTrue(exception.getMessage().contains(Game.class.getName()));
+        assertTrue(exception.getMessage().contains("megamek.common.NoSuchClass"));
+    }
+
+    @Test
+    void testFormatWithoutSchemaLoads() throws Exception {
+        ByteArrayOutputStream gameBytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream gameOut = new ObjectOutputStream(gameBytes)) {
+            gameOut.writeObject(createGame());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out, 1);
+        out.writeInt(BinarySaveGame.CHUNK_GAME);
+        out.writeInt(gameBytes.size());
+        out.write(gameBytes.toByteArray());
+        out.writeInt(BinarySaveGame.CHUNK_END);
+        out.writeInt(0);
+
+        assertGameLoaded(BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testNewerFormatIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out, BinarySaveGame.FORMAT_VERSION + 1);
+        out.writeInt(BinarySaveGame.CHUNK_END);
+        out.writeInt(0);
+
+        assertThrows(IOException.class, () -> BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void testMissingGameIsRejected() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeHeader(out, BinarySaveGame.FORMAT_VERSION);
+        out.writeInt(BinarySaveGame.CHUNK_END);
+        out.writeInt(0);
+
+        assertThrows(IOException.class, () -> BinarySaveGame.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static Map<String, Long> readSchema(byte[] serializedGame) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(serializedGame));
+        assertEquals(BinarySaveGame.CHUNK_SCHEMA, in.readInt());
+        in.readInt();
+        Map<String, Long> schema = new HashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            schema.put(in.readUTF(), in.readLong());
+        }
+        return schema;
+    }
+
+    private static void writeHeader(DataOutputStream out, int formatVersion) throws IOException {
+        out.write(BinarySaveGame.MAGIC);
+        out.writeShort(formatVersion);
+        out.writeUTF("test");
+    }
+
+    private static Game createGame() {
+        Game game = new Game();
+        Player player = new Player(0, "Tester");
+        game.addPlayer(0, player);
+        BipedMek mek = new BipedMek();
+        mek.setChassis("Test Chassis");
+        mek.setModel("TST-1");
+        mek.setOwner(player);
+        mek.setId(5);
+        game.addEntity(mek);
+        return game;
+    }
+
+    /**
+     * @return a game with a board and units of several types carrying equipment, so that its save game holds most of
+     *       the classes that make up a game
+     */
+    private static Game createMixedGame() throws Exception {
+        Game game = createGame();
+        game.setBoard(new Board(16, 17));
+        Player player = game.getPlayer(0);
+
+        Mek mek = (Mek) game.getEntity(5);
+        mek.setWeight(50.0);
+        mek.setEngine(new Engine(250, Engine.NORMAL_ENGINE, 0));
+        mek.addCockpit();
+        mek.addGyro();
+        mek.addEngineCrits();
+        mek.autoSetInternal();
+        mek.addEquipment(EquipmentType.get("Medium Laser"), Mek.LOC_RIGHT_ARM);
+        mek.addEquipment(EquipmentType.get("ISUltraAC5"), Mek.LOC_RIGHT_TORSO);
+        mek.addEquipment(EquipmentType.get("ISUltraAC5 Ammo"), Mek.LOC_LEFT_TORSO);
+
+        int id = 6;
+        for (var unit : List.of(new Tank(), new ConvInfantry(), new BattleArmor(), new AeroSpaceFighter())) {
+            unit.setChassis("Test Unit");
+            unit.setModel(unit.getClass().getSimpleName());
+            unit.setOwner(player);
+            unit.setId(id++);
+            game.addEntity(unit);
+        }
+        return game;
+    }
+
+    private static void assertGameLoaded(Object loaded) {
+        Game game = assertInstanceOf(Game.class, loaded);
+        assertEquals("Tester", game.getPlayer(0).getName());
+        assertEquals(1, game.getEntitiesVector().size());
+        assertEquals("Test Chassis", game.getEntity(5).getChassis());
+        assertEquals("TST-1", game.getEntity(5).getModel());
+    }
+}
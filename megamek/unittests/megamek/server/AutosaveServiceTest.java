@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import megamek.MMConstants;
+import megamek.common.Player;
+import megamek.common.game.Game;
+import megamek.common.preference.ClientPreferences;
+import megamek.common.preference.PreferenceManager;
+import megamek.common.util.SerializationHelper;
+import megamek.server.totalWarfare.TWGameManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AutosaveServiceTest {
+
+    @TempDir
+    File saveDirectory;
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void testAutosaveIsWrittenInBackground(boolean binary) throws Exception {
+        ClientPreferences preferences = PreferenceManager.getClientPreferences();
+        boolean binarySaveGames = preferences.binarySaveGames();
+        preferences.setBinarySaveGames(binary);
+        try {
+            AutosaveService autosaveService = createAutosaveService("Autosaver", saveDirectory);
+            autosaveService.performAutosave("autosave-service-test", false);
+
+            assertTrue(autosaveService.awaitPendingSaves(30, TimeUnit.SECONDS));
+            File saveFile = new File(saveDirectory, "autosave-service-test" + MMConstants.SAVE_FILE_EXT + ".gz");
+            assertTrue(saveFile.exists());
+            try (InputStream in = new GZIPInputStream(new FileInputStream(saveFile))) {
+                Game game = assertInstanceOf(Game.class, SerializationHelper.loadSaveGame(in));
+                assertEquals("Autosaver", game.getPlayer(0).getName());
+            }
+            assertEquals(1, autosaveService.getSnapshotCount());
+            assertTrue(autosaveService.getLastSnapshotNanos() > 0);
+            assertEquals(autosaveService.getLastSnapshotNanos(), autosaveService.getMaxSnapshotNanos());
+        } finally {
+            preferences.setBinarySaveGames(binarySaveGames);
+        }
+    }
+
+    @Test
+    void testGamesSaveIndependently() throws Exception {
+        File firstDirectory = new File(saveDirectory, "first");
+        File secondDirectory = new File(saveDirectory, "second");
+        AutosaveService first = createAutosaveService("First", firstDirectory);
+        AutosaveService second = createAutosaveService("Second", secondDirectory);
+
+        first.performAutosave("game", false);
+        second.performAutosave("game", false);
+
+        assertTrue(first.awaitPendingSaves(30, TimeUnit.SECONDS));
+        assertTrue(new File(firstDirectory, "game" + MMConstants.SAVE_FILE_EXT + ".gz").exists());
+        assertTrue(second.awaitPendingSaves(30, TimeUnit.SECONDS));
+        assertTrue(new File(secondDirectory, "game" + MMConstants.SAVE_FILE_EXT + ".gz").exists());
+    }
+
+    private static AutosaveService createAutosaveService(String playerName, File saveDirectory) {
+        Game game = new Game();
+        game.addPlayer(0, new Player(0, playerName));
+        TWGameManager gameManager = new TWGameManager();
+        gameManager.setGame(game);
+        AutosaveService autosaveService = gameManager.getAutoSaveService();
+        autosaveService.setSaveDirectory(saveDirectory);
+        return autosaveService;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import megamek.client.EntityDeltaReceiver;
+import megamek.common.board.Coords;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.net.packets.Packet;
+import megamek.common.equipment.Engine;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Mek;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Round trips of unit updates between the server side {@link EntityDeltaTracker} and the client side
+ * {@link EntityDeltaReceiver}.
+ */
+class EntityDeltaTrackerTest {
+
+    private static final int PLAYER_ID = 3;
+    private static final int ENTITY_ID = 7;
+
+    private EntityDeltaTracker tracker;
+    private EntityDeltaReceiver receiver;
+    private BipedMek unit;
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        tracker = new EntityDeltaTracker();
+        receiver = new EntityDeltaReceiver();
+        unit = new BipedMek();
+        unit.setId(ENTITY_ID);
+        unit.setChassis("Test Chassis");
+        unit.setModel("TST-1");
+    }
+
+    private Packet update() throws IOException {
+        return tracker.createUpdatePacket(PLAYER_ID, ENTITY_ID, EntityDeltaTracker.serialize(unit), null);
+    }
+
+    @Test
+    void testFirstUpdateIsFullAndLaterUpdatesAreDeltas() throws Exception {
+        Packet first = update();
+        Entity received = receiver.receive(first);
+
+        assertTrue(first.getBooleanValue(1));
+        assertNotNull(received);
+        assertEquals("TST-1", received.getModel());
+
+        unit.setModel("TST-2");
+        Packet second = update();
+        received = receiver.receive(second);
+
+        assertFalse(second.getBooleanValue(1));
+        assertTrue(((byte[]) second.getObject(2)).length < ((byte[]) first.getObject(2)).length / 4);
+        assertNotNull(received);
+        assertEquals("TST-2", received.getModel());
+        assertEquals(ENTITY_ID, received.getId());
+    }
+
+    /**
+     * Moving a fully built Mek and damaging its armor changes only a few values of its serialized form, so the update
+     * is a small fraction of the full unit.
+     */
+    @Test
+    void testMovementAndArmorDamageOfRealMekGiveSmallDelta() throws Exception {
+        unit.setWeight(50.0);
+        unit.setEngine(new Engine(250, Engine.NORMAL_ENGINE, 0));
+        unit.addCockpit();
+        unit.addGyro();
+        unit.addEngineCrits();
+        unit.autoSetInternal();
+        for (int location = 0; location < unit.locations(); location++) {
+            unit.initializeArmor(12, location);
+        }
+        unit.addEquipment(EquipmentType.get("Medium Laser"), Mek.LOC_RIGHT_ARM);
+        unit.addEquipment(EquipmentType.get("ISUltraAC5"), Mek.LOC_RIGHT_TORSO);
+        unit.addEquipment(EquipmentType.get("ISUltraAC5 Ammo"), Mek.LOC_LEFT_TORSO);
+        unit.setPosition(new Coords(3, 4));
+        Packet full = update();
+        receiver.receive(full);
+
+        unit.setPosition(new Coords(5, 6));
+        unit.setArmor(7, Mek.LOC_CENTER_TORSO);
+        Packet delta = update();
+        Entity received = receiver.receive(delta);
+
+        int fullLength = ((byte[]) full.getObject(2)).length;
+        int deltaLength = ((byte[]) delta.getObject(2)).length;
+        assertFalse(delta.getBooleanValue(1));
+        assertTrue(deltaLength < fullLength / 20, "Delta of " + deltaLength + " bytes for " + fullLength);
+        assertNotNull(received);
+        assertEquals(new Coords(5, 6), received.getPosition());
+        assertEquals(7, received.getArmor(Mek.LOC_CENTER_TORSO));
+        assertEquals("Medium Laser", received.getWeaponList().getFirst().getType().getName());
+    }
+
+    @Test
+    void testDeltaWithoutBaselineIsRejected() throws Exception {
+        update();
+        unit.setModel("TST-2");
+        Packet delta = update();
+
+        // A fresh receiver, e.g. a reconnected client, has no baseline for the delta
+        assertNull(receiver.receive(delta));
+    }
+
+    @Test
+    void testBaselineMismatchIsRejected() throws Exception {
+        receiver.receive(update());
+
+        // The server's baseline differs from the client's, e.g. after a lost update
+        unit.setModel("TST-2 Extended Range Variant");
+        update();
+        unit.setModel("TST-3");
+        Packet delta = update();
+
+        assertNull(receiver.receive(delta));
+    }
+
+    @Test
+    void testCorruptDeltaIsRejected() throws Exception {
+        receiver.receive(update());
+        unit.setModel("TST-2");
+        Packet delta = update();
+        byte[] data = (byte[]) delta.getObject(2);
+        byte[] corrupt = Arrays.copyOf(data, data.length);
+        corrupt[corrupt.length - 1] ^= 0x55;
+
+        assertNull(receiver.receive(new Packet(delta.command(), ENTITY_ID, false, corrupt, delta.getIntValue(3),
+              null)));
+    }
+
+    @Test
+    void testResyncSendsFullUpdateThatRestoresTheBaseline() throws Exception {
+        receiver.receive(update());
+        unit.setModel("TST-2 Extended Range Variant");
+        update();
+        unit.setModel("TST-3");
+        assertNull(receiver.receive(update()));
+
+        // The client requests a resync; the next update is full and later deltas apply again
+        tracker.resync(PLAYER_ID, ENTITY_ID);
+        Packet full = update();
+        Entity received = receiver.receive(full);
+
+        assertTrue(full.getBooleanValue(1));
+        assertNotNull(received);
+        assertEquals("TST-3", received.getModel());
+
+        unit.setModel("TST-4");
+        Packet delta = update();
+        received = receiver.receive(delta);
+
+        assertFalse(delta.getBooleanValue(1));
+        assertNotNull(received);
+        assertEquals("TST-4", received.getModel());
+    }
+
+    @Test
+    void testBaselinesAreEvicted() throws Exception {
+        update();
+        tracker.createUpdatePacket(PLAYER_ID, ENTITY_ID + 1, EntityDeltaTracker.serialize(unit), null);
+        tracker.createUpdatePacket(PLAYER_ID + 1, ENTITY_ID, EntityDeltaTracker.serialize(unit), null);
+        assertEquals(2, tracker.baselineCount(PLAYER_ID));
+
+        // The second unit has left the game
+        tracker.retainEntities(entityId -> entityId == ENTITY_ID);
+        assertEquals(1, tracker.baselineCount(PLAYER_ID));
+        assertEquals(1, tracker.baselineCount(PLAYER_ID + 1));
+        assertFalse(update().getBooleanValue(1));
+
+        // The second player has disconnected
+        tracker.clearPlayer(PLAYER_ID + 1);
+        assertEquals(0, tracker.baselineCount(PLAYER_ID + 1));
+        assertEquals(1, tracker.baselineCount(PLAYER_ID));
+    }
+
+    @Test
+    void testReceiverBaselinesOfRemovedUnitsAreEvicted() throws Exception {
+        receiver.receive(update());
+        receiver.receive(tracker.createUpdatePacket(PLAYER_ID, ENTITY_ID + 1, EntityDeltaTracker.serialize(unit),
+              null));
+        receiver.receive(tracker.createUpdatePacket(PLAYER_ID, ENTITY_ID + 2, EntityDeltaTracker.serialize(unit),
+              null));
+        assertEquals(3, receiver.baselineCount());
+
+        // The second unit has been removed from the game
+        receiver.remove(List.of(ENTITY_ID + 1));
+        assertEquals(2, receiver.baselineCount());
+
+        // A new list of all units no longer contains the third unit
+        receiver.retainEntities(entityId -> entityId == ENTITY_ID);
+        assertEquals(1, receiver.baselineCount());
+
+        // The remaining unit still receives deltas
+        unit.setModel("TST-2");
+        Packet delta = update();
+        Entity received = receiver.receive(delta);
+        assertFalse(delta.getBooleanValue(1));
+        assertNotNull(received);
+        assertEquals("TST-2", received.getModel());
+    }
+
+    @Test
+    void testReconnectStartsOverOnBothSides() throws Exception {
+        receiver.receive(update());
+        assertEquals(1, receiver.baselineCount());
+
+        // The player reconnects; the server and the client drop their baselines
+        tracker.clearPlayer(PLAYER_ID);
+        receiver.clear();
+        assertEquals(0, receiver.baselineCount());
+
+        unit.setModel("TST-2");
+        Packet full = update();
+        Entity received = receiver.receive(full);
+        assertTrue(full.getBooleanValue(1));
+        assertNotNull(received);
+        assertEquals("TST-2", received.getModel());
+        assertEquals(1, receiver.baselineCount());
+    }
+}
@@ -191,7 +191,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(1).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         assertEquals(startingPos, mek.getPosition(),
@@ -261,7 +261,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         // Sanity: the climbing branch in processSteps MUST have run (one PSR call per
@@ -334,7 +334,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords waterHex = new Coords(0, 1);
@@ -419,7 +419,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords cliffHex = new Coords(0, 1);
@@ -467,7 +467,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords waterHex = new Coords(0, 1);
@@ -512,7 +512,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         // 2-level climb-down from water surface (elev 0) lands at water floor (elev -2).
@@ -567,7 +567,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords cliffHex = new Coords(0, 1);
@@ -609,7 +609,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         doReturn(0).when(gameManager).doSkillCheckWhileMoving(any(Entity.class), anyInt(),
               any(Coords.class), any(Coords.class), any(PilotingRollData.class), anyBoolean());
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords buildingHex = new Coords(0, 1);
@@ -661,7 +661,7 @@ public class MovePathHandlerClimbingTest extends GameBoardTestCase {
         movePath.addStep(MoveStepType.CLIMB_MODE_ON);
         movePath.addStep(MoveStepType.FORWARDS);
 
-        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, mek, movePath);
         handler.processMovement();
 
         Coords groundHex = new Coords(0, 0);
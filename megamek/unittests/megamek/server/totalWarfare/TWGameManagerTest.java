@@ -331,7 +331,7 @@ class TWGameManagerTest {
         // Create MovePath
         MovePath movePath = new MovePath(game, carrier);
         movePath.addStep(MoveStepType.UNLOAD, unit, position);
-        MovePathHandler handler = new MovePathHandler(gameManager, carrier, movePath, null);
+        MovePathHandler handler = new MovePathHandler(gameManager, carrier, movePath);
         handler.processMovement();
 
         assertTrue(unit.isDeployed());
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.Player;
+import megamek.common.board.Coords;
+import megamek.common.compute.Compute;
+import megamek.common.enums.GamePhase;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.event.board.BoardEvent;
+import megamek.common.game.Game;
+import megamek.common.options.OptionsConstants;
+import megamek.common.planetaryConditions.Light;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Crew;
+import megamek.common.units.CrewType;
+import megamek.common.units.Entity;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import megamek.utils.BoardLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the {@link VisibilityEngine} gives the same results as {@link Compute} and that its cached results
+ * follow changes of the game.
+ */
+class VisibilityEngineTest {
+
+    private Game game;
+    private final List<Entity> units = new ArrayList<>();
+
+    @BeforeAll
+    static void initializeEquipment() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringBuilder board = new StringBuilder("size 30 12\n");
+        for (int row = 1; row <= 12; row++) {
+            for (int column = 1; column <= 30; column++) {
+                String terrain = ((column == 8) && (row > 3)) ? "woods:2" : "";
+                int level = ((column == 15) && (row < 8)) ? 3 : 0;
+                board.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", column, row, level, terrain));
+            }
+        }
+        board.append("end");
+        game = new Game();
+        game.setBoard(BoardLoader.initializeBoard(board.toString()));
+        game.setPhase(GamePhase.MOVEMENT);
+        game.getOptions().getOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS).setValue(true);
+
+        Player first = new Player(0, "First");
+        first.setTeam(1);
+        Player second = new Player(1, "Second");
+        second.setTeam(2);
+        game.addPlayer(0, first);
+        game.addPlayer(1, second);
+
+        units.clear();
+        addUnit(first, 2, 2);
+        addUnit(first, 4, 9);
+        addUnit(first, 20, 3);
+        addUnit(second, 10, 6);
+        addUnit(second, 18, 2);
+        addUnit(second, 27, 10);
+    }
+
+    private void addUnit(Player owner, int x, int y) {
+        BipedMek mek = new BipedMek();
+        mek.setChassis("Test");
+        mek.setModel("Spotter");
+        mek.setWeight(50.0);
+        mek.setCrew(new Crew(CrewType.SINGLE));
+        mek.setId(units.size() + 1);
+        mek.setOwner(owner);
+        game.addEntity(mek);
+        mek.setPosition(new Coords(x, y));
+        units.add(mek);
+    }
+
+    private void assertMatchesCompute(VisibilityEngine.Pass pass) {
+        for (Entity spotter : units) {
+            for (Entity target : units) {
+                if (spotter == target) {
+                    continue;
+                }
+                String pair = spotter.getId() + " -> " + target.getId();
+                assertEquals(Compute.canSee(game, spotter, target, false, null, null),
+                      pass.canSee(spotter, target, false), pair);
+                assertEquals(Compute.canSee(game, spotter, target, true, null, null),
+                      pass.canSee(spotter, target, true), pair);
+                assertEquals(Compute.inSensorRange(game, spotter, target, null),
+                      pass.canDetect(spotter, target), pair);
+            }
+        }
+    }
+
+    @Test
+    void testResultsMatchCompute() {
+        assertMatchesCompute(new VisibilityEngine().startPass(game));
+    }
+
+    @Test
+    void testResultsMatchComputeAtNight() {
+        game.getPlanetaryConditions().setLight(Light.PITCH_BLACK);
+        game.getOptions().getOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS).setValue(false);
+        VisibilityEngine engine = new VisibilityEngine();
+        assertMatchesCompute(engine.startPass(game));
+        // Most pairs are out of visual range in the dark and are decided without a cache entry
+        assertTrue(engine.size() < units.size() * (units.size() - 1));
+    }
+
+    @Test
+    void testResultsMatchComputeAtNightWithSensors() {
+        game.getPlanetaryConditions().setLight(Light.PITCH_BLACK);
+        assertMatchesCompute(new VisibilityEngine().startPass(game));
+    }
+
+    @Test
+    void testCandidateSpottersExcludeUnitsOutOfRange() {
+        game.getPlanetaryConditions().setLight(Light.PITCH_BLACK);
+        game.getOptions().getOption(OptionsConstants.ADVANCED_TAC_OPS_SENSORS).setValue(false);
+        VisibilityEngine.Pass pass = new VisibilityEngine().startPass(game);
+        Entity target = units.get(0);
+
+        List<Entity> candidates = pass.candidateSpotters(target);
+
+        assertTrue(candidates.contains(target));
+        assertFalse(candidates.contains(units.get(5)));
+        for (Entity spotter : units) {
+            if (!candidates.contains(spotter)) {
+                assertFalse(Compute.canSee(game, spotter, target, true, null, null));
+            }
+        }
+        List<Entity> ordered = new ArrayList<>(game.getEntitiesVector());
+        ordered.retainAll(candidates);
+        assertEquals(ordered, candidates);
+    }
+
+    @Test
+    void testMovedUnitIsRecomputed() {
+        VisibilityEngine engine = new VisibilityEngine();
+        assertMatchesCompute(engine.startPass(game));
+        int cachedPairs = engine.size();
+
+        assertMatchesCompute(engine.startPass(game));
+        assertEquals(cachedPairs, engine.size());
+
+        units.get(3).setPosition(new Coords(3, 3));
+        units.get(0).setPosition(new Coords(16, 9));
+        assertMatchesCompute(engine.startPass(game));
+    }
+
+    @Test
+    void testPhaseChangeClearsCache() {
+        VisibilityEngine engine = new VisibilityEngine();
+        assertMatchesCompute(engine.startPass(game));
+        assertTrue(engine.size() > 0);
+
+        game.setPhase(GamePhase.FIRING);
+        engine.startPass(game);
+
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void testUnchangedGameKeepsCache() {
+        VisibilityEngine engine = new VisibilityEngine();
+        assertMatchesCompute(engine.startPass(game));
+        int cached = engine.size();
+
+        engine.startPass(game);
+
+        assertTrue(cached > 0);
+        assertEquals(cached, engine.size());
+    }
+
+    @Test
+    void testChangedTerrainClearsCache() {
+        VisibilityEngine engine = new VisibilityEngine();
+        assertMatchesCompute(engine.startPass(game));
+
+        Coords changed = new Coords(8, 1);
+        game.getBoard().getHex(changed).addTerrain(new Terrain(Terrains.WOODS, 3));
+        // Like the server, report the hex changed in place
+        game.getBoard().processBoardEvent(new BoardEvent(game.getBoard(), changed, BoardEvent.BOARD_CHANGED_HEX));
+        VisibilityEngine.Pass pass = engine.startPass(game);
+
+        assertEquals(0, engine.size());
+        assertMatchesCompute(pass);
+    }
+
+    @Test
+    void testTeamResultsAreShared() {
+        VisibilityEngine.Pass pass = new VisibilityEngine().startPass(game);
+        List<Entity> spotters = units.subList(0, 3);
+        for (Entity target : units.subList(3, 6)) {
+            boolean expected = spotters.stream().anyMatch(spotter -> Compute.canSee(game, spotter, target, true,
+                  null, null));
+            assertEquals(expected, pass.isSeenByGroup(1, spotters, target));
+            // The group result is kept for the rest of the pass
+            assertEquals(expected, pass.isSeenByGroup(1, List.of(), target));
+        }
+    }
+}
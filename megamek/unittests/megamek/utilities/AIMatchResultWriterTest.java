@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import megamek.client.bot.AIType;
+import megamek.utilities.ScenarioGameRunner.GameResult;
+import megamek.utilities.ScenarioGameRunner.UnitResult;
+import megamek.utilities.ScenarioGameRunner.UnitStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AIMatchResultWriterTest {
+
+    private static final GameResult RESULT = new GameResult(true, 2, 7, List.of(
+          new UnitResult(1, "Atlas AS7-D", "Alice, the Bold", 1, 1897, UnitStatus.DESTROYED),
+          new UnitResult(2, "Locust LCT-1V", "Alice, the Bold", 1, 432, UnitStatus.RETREATED),
+          new UnitResult(3, "Marauder MAD-3R", "Bob", 2, 1363, UnitStatus.SURVIVED),
+          new UnitResult(4, "Stinger STG-3R", "Bob", 2, 359, UnitStatus.DESTROYED)));
+
+    @Test
+    void testBattleValueDestroyedByTeam() {
+        assertEquals(Map.of(1, 1897, 2, 359), RESULT.battleValueDestroyedByTeam());
+    }
+
+    @Test
+    void testCsvRowsPerUnit() {
+        AIMatchRunner.MatchResult match = new AIMatchRunner.MatchResult(3, 42L, 1500, Map.of(), RESULT);
+        List<String> rows = AIMatchResultWriter.csvRows(match);
+        assertEquals(4, rows.size());
+        assertEquals("3,42,true,2,7,1500,1,Atlas AS7-D,\"Alice, the Bold\",1,1897,DESTROYED", rows.getFirst());
+        assertEquals("3,42,true,2,7,1500,3,Marauder MAD-3R,Bob,2,1363,SURVIVED", rows.get(2));
+
+        AIMatchRunner.MatchResult failed = new AIMatchRunner.MatchResult(4, 43L, 10, Map.of(), null);
+        assertEquals(List.of("4,43,false,,,10,,,,,,"), AIMatchResultWriter.csvRows(failed));
+    }
+
+    @Test
+    void testWritesCsvAndJsonLines(@TempDir Path directory) throws Exception {
+        File csvFile = directory.resolve("results.csv").toFile();
+        File jsonFile = directory.resolve("results.jsonl").toFile();
+        try (AIMatchResultWriter writer = new AIMatchResultWriter(csvFile, jsonFile)) {
+            writer.write(new AIMatchRunner.MatchResult(1, 7L, 100, Map.of(1, Set.of(AIType.PRINCESS)), RESULT));
+            writer.write(new AIMatchRunner.MatchResult(2, 8L, 5, Map.of(), null));
+        }
+
+        List<String> csvLines = Files.readAllLines(csvFile.toPath());
+        assertEquals(AIMatchResultWriter.CSV_HEADER, csvLines.getFirst());
+        assertEquals(1 + 4 + 1, csvLines.size());
+
+        List<String> jsonLines = Files.readAllLines(jsonFile.toPath());
+        assertEquals(2, jsonLines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode game = mapper.readTree(jsonLines.getFirst());
+        assertEquals(2, game.get("winningTeam").asInt());
+        assertEquals(7, game.get("rounds").asInt());
+        assertEquals(1897, game.get("battleValueDestroyed").get("1").asInt());
+        assertEquals(4, game.get("units").size());
+        assertEquals("RETREATED", game.get("units").get(1).get("status").asText());
+        assertTrue(mapper.readTree(jsonLines.get(1)).get("failed").asBoolean());
+    }
+}